@@ -26,6 +26,7 @@
  */
 package org.jorlib.frameworks.columnGeneration.branchAndPrice;
 
+import java.io.IOException;
 import java.util.*;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.*;
@@ -34,12 +35,18 @@ import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.io.jfr.JFREvents;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.master.columnManagement.ColumnManager;
+import org.jorlib.frameworks.columnGeneration.metrics.MetricsRegistry;
 import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
 import org.jorlib.frameworks.columnGeneration.pricing.*;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.pricing.execution.PricingExecutor;
+import org.jorlib.frameworks.columnGeneration.pricing.scheduling.AbstractSolverScheduler;
+import org.jorlib.frameworks.columnGeneration.pricing.stabilization.AbstractDualStabilizer;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
 import org.jorlib.frameworks.columnGeneration.util.MathProgrammingUtil;
 import org.slf4j.Logger;
@@ -75,13 +82,31 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	protected final PricingProblemManager<T, U, V> pricingProblemManager;
 	/** Defines whether the master problem is a minimization or a maximization problem **/
 	protected final OptimizationSense optimizationSenseMaster;
+	/** Stabilizes the dual values passed from the master problem to the pricing problems (optional) **/
+	protected AbstractDualStabilizer<T, V> dualStabilizer=null;
+	/** Evicts inactive columns from the master problem (optional) **/
+	protected ColumnManager<T, U, V> columnManager=null;
+	/** Pool of columns shared among all nodes of the Branch-and-Price tree (optional) **/
+	protected GlobalColumnPool<T, U, V> globalColumnPool=null;
+	/** Schedules the pricing problem solvers based on their performance in all nodes of the Branch-and-Price tree (optional) **/
+	protected AbstractSolverScheduler<T, U, V> solverScheduler=null;
+	/** Registry in which the latencies of the master problem, pricing problems, cut generators, node switches and branching are recorded (optional) **/
+	protected MetricsRegistry metricsRegistry=null;
 
 	/** Stores the objective of the best (integer) solution **/
-	protected int objectiveIncumbentSolution;
+	protected double objectiveIncumbentSolution;
 	/** List containing the columns corresponding to the best integer solution (empty list when no feasible solution has been found) **/
 	protected List<U> incumbentSolution =new ArrayList<>();
 	/** Indicator whether the best solution is optimal **/
 	protected boolean isOptimal=false;
+	/** Indicates whether every integer solution has an integral objective value, in which case the bounds of the nodes are rounded before they are compared against the incumbent solution **/
+	protected boolean integralObjective=true;
+	/** The search terminates as soon as the absolute difference between the incumbent solution and the bound of the open nodes does not exceed this limit (0 to disable) **/
+	protected double absoluteGapLimit=0;
+	/** The search terminates as soon as the difference between the incumbent solution and the bound of the open nodes, relative to the incumbent solution, does not exceed this limit (0 to disable) **/
+	protected double relativeGapLimit=0;
+	/** The search terminates as soon as this number of nodes has been processed **/
+	protected int nodeLimit=Integer.MAX_VALUE;
 
 	/** Special class which manages the Branch-and-Price tree **/
 	protected GraphManipulator graphManipulator;
@@ -89,13 +114,27 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	protected Queue<BAPNode<T,U>> queue;
 	/** Counter used to provide a unique ID for each node (counter gets incremented each time a new node is created) **/
 	protected int nodeCounter=0;
+	/** Amount by which the nodeCounter is incremented. Workers of a {@link DistributedBranchAndPrice} search use disjoint, interleaved sequences of node IDs **/
+	int nodeIDStride=1;
 	/** A reference to the root node in the tree **/
 	protected BAPNode<T,U> rootNode;
+	/** Indicates whether child nodes inherit the columns of their parent lazily, i.e. when they are processed rather than when they are created **/
+	protected boolean lazyColumnInheritance=false;
+	/** Primal heuristics invoked in the fractional nodes **/
+	protected final List<AbstractPrimalHeuristic<T, U, V>> primalHeuristics=new ArrayList<>();
+	/** Reduced cost fixers invoked in the fractional nodes **/
+	protected final List<AbstractReducedCostFixer<T, U, V, ?>> reducedCostFixers=new ArrayList<>();
+	/** Writes periodic checkpoints of the search, or null when no checkpoints are written **/
+	protected CheckpointManager<T, U, V> checkpointManager=null;
+	/** Parallel search of which this instance is a worker, or null when this instance searches the tree by itself **/
+	ParallelBranchAndPrice<T, U, V> parallelBranchAndPrice=null;
 
 	/** Upper bound on the optimal solution **/
 	protected double upperBoundOnObjective=Double.MAX_VALUE;
 	/** Lower bound on the optimal solution **/
 	protected double lowerBoundOnObjective=-Double.MAX_VALUE;
+	/** Future point in time by which the node being processed must be finished **/
+	protected long timeLimit=Long.MAX_VALUE;
 	/** Number of nodes fully explored (including pruned nodes) **/
 	protected int nodesProcessed=0;
 	/** Total time spent solving master problems **/
@@ -132,19 +171,17 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		this.branchCreators=branchCreators;
 		this.pricingProblems=pricingProblems;
 		this.solvers=solvers;
-		queue =new PriorityQueue<>(new DFSbapNodeComparator());
-		this.objectiveIncumbentSolution=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Integer.MAX_VALUE : -Integer.MAX_VALUE);
+		queue =new OpenNodeQueue<>(new DFSbapNodeComparator(), optimizationSenseMaster);
+		this.objectiveIncumbentSolution=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Double.MAX_VALUE : -Double.MAX_VALUE);
 		this.lowerBoundOnObjective=lowerBoundOnObjective;
 		this.upperBoundOnObjective=upperBoundOnObjective;
 		
 		//Create the root node
-		List<Integer> rootPath=new ArrayList<>();
-		int nodeID=nodeCounter++;
-		rootPath.add(nodeID);
+		NodePath rootPath=NodePath.root(nodeCounter++);
 		if(optimizationSenseMaster==OptimizationSense.MINIMIZE)
-			rootNode=new BAPNode<>(nodeID, rootPath, new ArrayList<>(), new ArrayList<>(), lowerBoundOnObjective, Collections.emptyList());
+			rootNode=new BAPNode<>(rootPath, new ArrayList<>(), new ArrayList<>(), lowerBoundOnObjective);
 		else
-			rootNode=new BAPNode<>(nodeID, rootPath, new ArrayList<>(), new ArrayList<>(), upperBoundOnObjective, Collections.emptyList());
+			rootNode=new BAPNode<>(rootPath, new ArrayList<>(), new ArrayList<>(), upperBoundOnObjective);
 		queue.add(rootNode);
 		graphManipulator=new GraphManipulator(rootNode);
 		
@@ -202,7 +239,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 * @param objectiveInitialSolution objective value of the initial solution
 	 * @param initialSolution columns constituting the initial solution
 	 */
-	public void warmStart(int objectiveInitialSolution, List<U> initialSolution){
+	public void warmStart(double objectiveInitialSolution, List<U> initialSolution){
 		rootNode=queue.peek();
 		if(rootNode.nodeID != 0)
 			throw new RuntimeException("This method can only be invoked at the start of the Branch-and-Price procedure, before runBranchAndPrice is invoked");
@@ -216,7 +253,9 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	}
 
 	/**
-	 * Starts running the Branch-and-Price algorithm.
+	 * Starts running the Branch-and-Price algorithm. The algorithm terminates when all nodes have been processed, when the time limit is exceeded, when the node limit set through
+	 * {@link #setNodeLimit(int)} is reached, or when the gap between the incumbent solution and the bound of the open nodes is within the limits set through
+	 * {@link #setAbsoluteGapLimit(double)} and {@link #setRelativeGapLimit(double)}.
 	 * Note: In the current version of the code, one should not invoke this function multiple times on the same instance!
 	 * @param timeLimit Future point in time by which the algorithm should finish
 	 */
@@ -226,81 +265,22 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 
 		//Check whether an warm start is provided, if not, invoke generateInitialFeasibleSolution
 		BAPNode<T, U> rootNode = queue.peek();
-		if(rootNode.getInitialColumns().isEmpty())
+		if(rootNode != null && rootNode.nodeID == 0 && rootNode.getInitialColumns().isEmpty())
 			rootNode.addInitialColumns(this.generateInitialFeasibleSolution(rootNode));
+		if(checkpointManager != null)
+			checkpointManager.start();
 
-		//Start processing nodes until the queue is empty
-		while(!queue.isEmpty()){
+		//Start processing nodes until the queue is empty, or until the gap is sufficiently small
+		while(!queue.isEmpty() && nodesProcessed < nodeLimit && !this.gapLimitReached(this.getBoundOpenNodes())){
 			BAPNode<T, U> bapNode = queue.poll();
-			notifier.fireNextNodeEvent(bapNode);
-
-			//Prune this node if its bound is worse than the best found solution. Since all solutions are integral, we may round up/down, depending on the optimization sense
-			if(this.nodeCanBePruned(bapNode)){
-				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
-				nodesProcessed++;
-				continue;
-			}
-			
-			graphManipulator.next(bapNode); //Prepare data structures for the next node
-
-			//Generate an initial solution for this node to guarantee that the master problem is feasible
-			if(bapNode.nodeID != 0){
-				bapNode.addInitialColumns(this.generateInitialFeasibleSolution(bapNode));
-			}
-
-			//Solve the next BAPNode
 			try {
-				this.solveBAPNode(bapNode, timeLimit);
+				this.processNode(bapNode, timeLimit);
 			} catch (TimeLimitExceededException e) {
 				queue.add(bapNode);
-				notifier.fireTimeOutEvent(bapNode);
 				break;
 			}
-
-			//Prune this node if its bound is worse than the best found solution. Since all solutions are integral, we may round up/down, depending on the optimization sense
-			if(this.nodeCanBePruned(bapNode)){
-				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
-				nodesProcessed++;
-				continue;
-			}
-			
-			//Check whether the node is infeasible, i.e. whether there are artifical columns in the solution. If so, ignore it and continue with the next node.
-			if(this.isInfeasibleNode(bapNode)){
-				notifier.fireNodeIsInfeasibleEvent(bapNode);
-				nodesProcessed++;
-				continue;
-			}
-
-			//If solution is integral, check whether it is better than the current best solution
-			if(this.isIntegerNode(bapNode)){
-				int integerObjective=MathProgrammingUtil.doubleToInt(bapNode.objective);
-				notifier.fireNodeIsIntegerEvent(bapNode, bapNode.bound, integerObjective);
-				if(optimizationSenseMaster == OptimizationSense.MINIMIZE && integerObjective < this.upperBoundOnObjective){
-					this.objectiveIncumbentSolution = integerObjective;
-					this.upperBoundOnObjective = integerObjective;
-					this.incumbentSolution =bapNode.solution;
-				}else if(optimizationSenseMaster == OptimizationSense.MAXIMIZE && integerObjective > this.lowerBoundOnObjective){
-					this.objectiveIncumbentSolution = integerObjective;
-					this.lowerBoundOnObjective = integerObjective;
-					this.incumbentSolution =bapNode.solution;
-				}
-			}else{ //We need to branch
-				notifier.fireNodeIsFractionalEvent(bapNode, bapNode.bound, bapNode.objective);
-				List<BAPNode<T, U>> newBranches=new ArrayList<>();
-				for(AbstractBranchCreator<T, U, V> bc : branchCreators){
-					newBranches.addAll(bc.branch(bapNode));
-					if(!newBranches.isEmpty()) break;
-				}
-				
-				if(newBranches.isEmpty())
-					throw new RuntimeException("BAP encountered fractional solution, but non of the BranchCreators produced any new branches?");
-				else {
-					queue.addAll(newBranches);
-					notifier.fireBranchEvent(bapNode, Collections.unmodifiableList(newBranches));
-				}
-			}
-
-			nodesProcessed++;
+			if(checkpointManager != null)
+				checkpointManager.checkpointIfDue(this);
 		}
 		
 		//Update statistics
@@ -312,20 +292,215 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 				this.upperBoundOnObjective=this.objectiveIncumbentSolution;
 		}else{ //Problem NOT solved to optimality
 			this.isOptimal=false;
-			if(optimizationSenseMaster == OptimizationSense.MINIMIZE) {
-				lowerBoundOnObjective = queue.peek().bound;
-				for (BAPNode bapNode : queue) {
-					lowerBoundOnObjective = Math.min(lowerBoundOnObjective, bapNode.bound);
-				}
-			}else{
-				upperBoundOnObjective = queue.peek().bound;
-				for (BAPNode bapNode : queue) {
-					upperBoundOnObjective = Math.max(upperBoundOnObjective, bapNode.bound);
-				}
-			}
+			if(optimizationSenseMaster == OptimizationSense.MINIMIZE)
+				lowerBoundOnObjective = this.getBoundOpenNodes();
+			else
+				upperBoundOnObjective = this.getBoundOpenNodes();
 		}
+		if(checkpointManager != null) //Write the final state of the search, such that it can be resumed with a larger time limit
+			checkpointManager.checkpoint(this, true);
 		notifier.fireStopBAPEvent(); //Signal that BAP has been completed
 		this.runtime=System.currentTimeMillis()-runtime;
+		notifier.getEventDispatcher().flush(); //Wait until all events have been delivered
+	}
+
+	/**
+	 * Resumes a search from a checkpoint which has been written by a {@link CheckpointManager}. This instance must have been created in the same way as the instance which wrote the checkpoint,
+	 * and must not have been run before. The open nodes, the incumbent solution, the bounds, the statistics and the columns in the {@link GlobalColumnPool} are restored, after which the search
+	 * continues through {@link #runBranchAndPrice(long)}. The checkpoint manager is registered with this instance (see {@link #setCheckpointManager(CheckpointManager)}), so the resumed search
+	 * writes its checkpoints to the same file.
+	 * @param checkpointManager checkpoint manager providing the checkpoint
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 * @throws IOException if the checkpoint cannot be read
+	 */
+	public void resume(CheckpointManager<T, U, V> checkpointManager, long timeLimit) throws IOException {
+		checkpointManager.restore(this);
+		this.setCheckpointManager(checkpointManager);
+		this.runBranchAndPrice(timeLimit);
+	}
+
+	/**
+	 * Processes a single node of the Branch-and-Price tree: the node is pruned, or solved through Column Generation, after which the node is either pruned, found to be infeasible,
+	 * yields a new incumbent solution, or is branched on. The child nodes are added to the queue.
+	 * @param bapNode node in Branch-and-Price tree
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException. The node has not been processed, and should be processed again when the search is resumed.
+	 */
+	protected void processNode(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException {
+		this.timeLimit=timeLimit;
+		notifier.fireNextNodeEvent(bapNode);
+
+		this.synchronizeIncumbent();
+		//Prune this node if its bound is worse than the best found solution. When all solutions are integral, we may round up/down, depending on the optimization sense
+		if(this.nodeCanBePruned(bapNode)){
+			bapNode.discardInheritedColumns();
+			notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+			this.nodeProcessed(bapNode, false);
+			return;
+		}
+		bapNode.inheritColumns();
+		
+		long start=System.nanoTime();
+		graphManipulator.next(bapNode); //Prepare data structures for the next node
+		if(metricsRegistry != null)
+			metricsRegistry.histogram(MetricsRegistry.NODE_SWITCH, "depth", String.valueOf(bapNode.getNodeDepth())).record(System.nanoTime()-start);
+
+		//Generate an initial solution for this node to guarantee that the master problem is feasible
+		if(bapNode.nodeID != 0){
+			bapNode.addInitialColumns(this.generateInitialFeasibleSolution(bapNode));
+		}
+
+		//Solve the next BAPNode
+		try {
+			this.solveBAPNode(bapNode, timeLimit);
+		} catch (TimeLimitExceededException e) {
+			notifier.fireTimeOutEvent(bapNode);
+			throw e;
+		}
+
+		this.synchronizeIncumbent();
+		//Prune this node if its bound is worse than the best found solution. When all solutions are integral, we may round up/down, depending on the optimization sense
+		if(this.nodeCanBePruned(bapNode)){
+			notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+			this.nodeProcessed(bapNode, false);
+			return;
+		}
+		
+		//Check whether the node is infeasible, i.e. whether there are artifical columns in the solution. If so, ignore it and continue with the next node.
+		if(this.isInfeasibleNode(bapNode)){
+			notifier.fireNodeIsInfeasibleEvent(bapNode);
+			this.nodeProcessed(bapNode, false);
+			return;
+		}
+
+		//If solution is integral, check whether it is better than the current best solution
+		if(this.isIntegerNode(bapNode)){
+			double integerObjective=this.roundObjective(bapNode.objective);
+			notifier.fireNodeIsIntegerEvent(bapNode, bapNode.bound, integerObjective);
+			this.updateIncumbent(integerObjective, bapNode.solution);
+		}else{ //We need to branch
+			notifier.fireNodeIsFractionalEvent(bapNode, bapNode.bound, bapNode.objective);
+			//Eliminate elements from the subtree of this node while the pricing problems still hold the dual values of this node
+			for(AbstractReducedCostFixer<T, U, V, ?> reducedCostFixer : reducedCostFixers)
+				reducedCostFixer.fix(bapNode);
+			//Search for integer solutions. A new incumbent solution may render branching unnecessary
+			if(this.runPrimalHeuristics(bapNode, timeLimit) && this.nodeCanBePruned(bapNode)){
+				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+				this.nodeProcessed(bapNode, false);
+				return;
+			}
+			List<BAPNode<T, U>> newBranches=new ArrayList<>();
+			for(AbstractBranchCreator<T, U, V> bc : branchCreators){
+				start=System.nanoTime();
+				newBranches.addAll(bc.branch(bapNode));
+				if(metricsRegistry != null)
+					metricsRegistry.histogram(MetricsRegistry.BRANCHING, "branchCreator", bc.getClass().getSimpleName(), "depth", String.valueOf(bapNode.getNodeDepth())).record(System.nanoTime()-start);
+				if(!newBranches.isEmpty()) break;
+			}
+			
+			if(newBranches.isEmpty())
+				throw new RuntimeException("BAP encountered fractional solution, but non of the BranchCreators produced any new branches?");
+			else {
+				this.enqueueNodes(newBranches);
+				notifier.fireBranchEvent(bapNode, Collections.unmodifiableList(newBranches));
+			}
+		}
+
+		this.nodeProcessed(bapNode, true);
+	}
+
+	/**
+	 * Registers that a node has been processed, and informs the branch creators
+	 * @param bapNode node which has been processed
+	 * @param solved true if the node is integer or fractional, false if the node has been pruned or is infeasible
+	 */
+	private void nodeProcessed(BAPNode<T,U> bapNode, boolean solved){
+		for(AbstractBranchCreator<T, U, V> bc : branchCreators)
+			bc.nodeProcessed(bapNode, solved);
+		nodesProcessed++;
+	}
+
+	/**
+	 * Invokes the primal heuristics which are scheduled to run in the given node (see {@link AbstractPrimalHeuristic}). Heuristics may solve the master problem for other nodes, thereby changing
+	 * the values of the columns in the solution of the given node; these values are restored afterwards, since the branch creators depend on them. A heuristic which exceeds its time budget is interrupted;
+	 * when the time limit of the search is exceeded, the remaining heuristics are skipped.
+	 * @param bapNode node which has been solved to a fractional solution
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return true if the incumbent solution has been improved
+	 */
+	protected boolean runPrimalHeuristics(BAPNode<T,U> bapNode, long timeLimit){
+		if(primalHeuristics.isEmpty())
+			return false;
+		double objective=objectiveIncumbentSolution;
+		double[] values=new double[bapNode.solution.size()];
+		for(int i=0; i<values.length; i++)
+			values[i]=bapNode.solution.get(i).value;
+		for(AbstractPrimalHeuristic<T, U, V> heuristic : primalHeuristics){
+			try {
+				heuristic.invoke(bapNode, nodesProcessed, timeLimit);
+			} catch (TimeLimitExceededException e) { //The time budget of the heuristic, or the time limit of the search, has been exceeded
+				if(System.currentTimeMillis() >= timeLimit)
+					break;
+			}
+		}
+		for(int i=0; i<values.length; i++)
+			bapNode.solution.get(i).value=values[i];
+		return objectiveIncumbentSolution != objective;
+	}
+
+	/**
+	 * Adds the child nodes created by branching to the queue. When this instance is a worker of a {@link ParallelBranchAndPrice} search, the nodes are added to the queue shared by all workers.
+	 * @param nodes child nodes
+	 */
+	protected void enqueueNodes(List<BAPNode<T,U>> nodes){
+		if(parallelBranchAndPrice != null)
+			parallelBranchAndPrice.enqueueNodes(this, nodes);
+		else
+			queue.addAll(nodes);
+	}
+
+	/**
+	 * Replaces the incumbent solution if the given solution is better. When this instance is a worker of a {@link ParallelBranchAndPrice} search, the solution is offered to the
+	 * incumbent shared by all workers as well.
+	 * @param objective objective value of the solution
+	 * @param solution columns constituting the solution
+	 */
+	protected void updateIncumbent(double objective, List<U> solution){
+		if(parallelBranchAndPrice != null)
+			parallelBranchAndPrice.updateIncumbent(objective, solution);
+		if(optimizationSenseMaster == OptimizationSense.MINIMIZE && objective < this.upperBoundOnObjective){
+			this.objectiveIncumbentSolution = objective;
+			this.upperBoundOnObjective = objective;
+			this.incumbentSolution =solution;
+		}else if(optimizationSenseMaster == OptimizationSense.MAXIMIZE && objective > this.lowerBoundOnObjective){
+			this.objectiveIncumbentSolution = objective;
+			this.lowerBoundOnObjective = objective;
+			this.incumbentSolution =solution;
+		}
+	}
+
+	/**
+	 * When this instance is a worker of a {@link ParallelBranchAndPrice} search, tightens the bounds of this instance with the objective of the incumbent shared by all workers, such that
+	 * nodes are pruned as soon as any of the workers finds a better solution. The columns of the shared incumbent are not copied: {@link #getSolution()} returns the best solution found by this worker.
+	 */
+	protected void synchronizeIncumbent(){
+		if(parallelBranchAndPrice == null)
+			return;
+		this.tightenIncumbentBound(parallelBranchAndPrice.getObjective());
+	}
+
+	/**
+	 * Tightens the bounds of this instance with the objective of a solution found elsewhere, e.g. by another worker, without replacing the columns of the incumbent solution
+	 * @param objective objective value of the solution
+	 */
+	void tightenIncumbentBound(double objective){
+		if(optimizationSenseMaster == OptimizationSense.MINIMIZE && objective < this.upperBoundOnObjective){
+			this.objectiveIncumbentSolution = objective;
+			this.upperBoundOnObjective = objective;
+		}else if(optimizationSenseMaster == OptimizationSense.MAXIMIZE && objective > this.lowerBoundOnObjective){
+			this.objectiveIncumbentSolution = objective;
+			this.lowerBoundOnObjective = objective;
+		}
 	}
 
 	/**
@@ -336,11 +511,22 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 */
 	protected void solveBAPNode(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException {
 		ColGen<T,U,V> cg=null;
+		long start=System.nanoTime();
+		Object jfrEvent=JFREvents.beginNodeProcessing();
 		try {
 			cg = new ColGen<>(dataModel, master, pricingProblems, solvers, pricingProblemManager, bapNode.initialColumns, objectiveIncumbentSolution, bapNode.getBound()); //Solve the node
 			for(CGListener listener : columnGenerationEventListeners) cg.addCGEventListener(listener);
+			cg.setEventDispatcher(notifier.getEventDispatcher());
+			cg.setIntegralObjective(integralObjective);
+			cg.setDualStabilizer(dualStabilizer);
+			cg.setColumnManager(columnManager);
+			cg.setGlobalColumnPool(globalColumnPool);
+			cg.setSolverScheduler(solverScheduler);
+			cg.setMetricsRegistry(metricsRegistry);
 			cg.solve(timeLimit);
 		}finally{
+			if(metricsRegistry != null)
+				metricsRegistry.histogram(MetricsRegistry.NODE_SOLVE, "depth", String.valueOf(bapNode.getNodeDepth())).record(System.nanoTime()-start);
 			//Update statistics
 			if(cg != null) {
 				timeSolvingMaster += cg.getMasterSolveTime();
@@ -348,24 +534,65 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 				totalNrIterations += cg.getNumberOfIterations();
 				totalGeneratedColumns += cg.getNrGeneratedColumns();
 				notifier.fireFinishCGEvent(bapNode, cg.getBound(), cg.getObjective(), cg.getNumberOfIterations(), cg.getMasterSolveTime(), cg.getPricingSolveTime(), cg.getNrGeneratedColumns());
+				if(jfrEvent != null)
+					JFREvents.commitNodeProcessing(jfrEvent, bapNode.nodeID, bapNode.getNodeDepth(), cg.getNumberOfIterations(), cg.getObjective(), cg.getBound(), cg.getNrGeneratedColumns());
 			}
 		}
 		bapNode.storeSolution(cg.getObjective(), cg.getBound(), cg.getSolution(), cg.getCuts());
 	}
 
+	/**
+	 * Evaluates a node without processing it, e.g. to assess a branching candidate through strong branching (see {@link AbstractStrongBranchCreator}): the data structures are
+	 * prepared for the node, after which its master problem is solved through at most maxNrIterations column generation iterations. Apart from inheriting the columns of its parent
+	 * (see {@link BAPNode#inheritColumns()}), the node itself is not modified; its initial columns are complemented by an initial feasible solution (see {@link #generateInitialFeasibleSolution(BAPNode)}) for the purpose of this evaluation only.
+	 * @param bapNode node in Branch-and-Price tree
+	 * @param maxNrIterations maximum number of column generation iterations
+	 * @param cutoffValue the evaluation terminates as soon as the bound on the node is worse than the cutoff value
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @return the Column Generation instance which solved the master problem of the node
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected ColGen<T,U,V> evaluateNode(BAPNode<T,U> bapNode, int maxNrIterations, double cutoffValue, long timeLimit) throws TimeLimitExceededException {
+		bapNode.inheritColumns();
+		graphManipulator.next(bapNode);
+		List<U> initialColumns=new ArrayList<>(bapNode.initialColumns);
+		initialColumns.addAll(this.generateInitialFeasibleSolution(bapNode));
+		ColGen<T,U,V> cg=new ColGen<>(dataModel, master, pricingProblems, solvers, pricingProblemManager, initialColumns, cutoffValue, bapNode.getBound());
+		cg.setDualStabilizer(dualStabilizer);
+		cg.setColumnManager(columnManager);
+		cg.setGlobalColumnPool(globalColumnPool);
+		cg.setSolverScheduler(solverScheduler);
+		cg.setMetricsRegistry(metricsRegistry);
+		cg.setMaxNrIterations(maxNrIterations);
+		cg.setIntegralObjective(integralObjective);
+		try {
+			cg.solve(timeLimit);
+		}finally{
+			timeSolvingMaster += cg.getMasterSolveTime();
+			timeSolvingPricing += cg.getPricingSolveTime();
+			totalNrIterations += cg.getNumberOfIterations();
+			totalGeneratedColumns += cg.getNrGeneratedColumns();
+		}
+		return cg;
+	}
+
 	/**
 	 * Returns a unique node ID. The internal nodeCounter is incremented by one each time this method is invoked.
 	 * @return returns a unique node ID for the purpose of creating new BAPNodes, thereby guaranteeing that none of the nodes in the Branch-and-Price tree have this ID.
 	 */
 	protected int getUniqueNodeID(){
-		return  nodeCounter++;
+		if(parallelBranchAndPrice != null)
+			return parallelBranchAndPrice.getUniqueNodeID();
+		int nodeID=nodeCounter;
+		nodeCounter+=nodeIDStride;
+		return nodeID;
 	}
 	
 	/**
 	 * Returns the objective value of the best solution found
 	 * @return the objective of the best integer solution found during the Branch-and-Price search
 	 */
-	public int getObjective(){
+	public double getObjective(){
 		return this.objectiveIncumbentSolution;
 	}
 
@@ -410,6 +637,14 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		return nodesProcessed;
 	}
 
+	/**
+	 * Returns the number of open nodes, i.e. the nodes which have been created but not processed
+	 * @return the number of open nodes
+	 */
+	public int getNumberOfOpenNodes(){
+		return queue.size();
+	}
+
 	/**
 	 * Total time spent solving the Branch-and-Price problem.
 	 * @return total time spent solving the Branch-and-Price problem. This time should equal {@link #getMasterSolveTime()}+{@link #getPricingSolveTime()}+overhead due to branching;
@@ -479,7 +714,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 * final solution obtained when the Master problem terminates, we have a proof that the BAPNode is infeasible. Finally note that artificial columns are volatile: they are never passed from
 	 * a parent node to any of its children!
 	 *
-	 * Note 1: This function is not invoked at the root node whenever a {@link #warmStart(int objectiveInitialSolution, List initialSolution) warmStart} is provided.
+	 * Note 1: This function is not invoked at the root node whenever a {@link #warmStart(double objectiveInitialSolution, List initialSolution) warmStart} is provided.
 	 * Note 2: execution of this method is delayed as much as possible so safe computational effort.
 	 * @param node node
 	 * @return List of columns used to initialize the given BAPNode
@@ -494,13 +729,60 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	protected abstract boolean isIntegerNode(BAPNode<T,U> node);
 
 	/**
-	 * Test whether the given node can be pruned based on this bounds
+	 * Test whether the given node can be pruned based on this bounds. When the objective is integral (see {@link #setIntegralObjective(boolean)}), the bound of the node is rounded up (minimization)
+	 * or down (maximization) first.
 	 * @param node node
 	 * @return true if the node can be pruned
 	 */
 	protected boolean nodeCanBePruned(BAPNode<T,U> node){
-		return (optimizationSenseMaster == OptimizationSense.MINIMIZE && Math.ceil(node.bound-config.PRECISION) >= upperBoundOnObjective ||
-				optimizationSenseMaster == OptimizationSense.MAXIMIZE && Math.floor(node.bound+config.PRECISION) <= lowerBoundOnObjective);
+		double bound=this.roundBound(node.bound);
+		return (optimizationSenseMaster == OptimizationSense.MINIMIZE && bound >= upperBoundOnObjective-config.PRECISION ||
+				optimizationSenseMaster == OptimizationSense.MAXIMIZE && bound <= lowerBoundOnObjective+config.PRECISION);
+	}
+
+	/**
+	 * Rounds a bound on the objective value. When the objective is integral (see {@link #setIntegralObjective(boolean)}), a lower bound (minimization) is rounded up and an upper bound
+	 * (maximization) is rounded down. Otherwise, the bound is returned unchanged.
+	 * @param bound bound on the objective value
+	 * @return rounded bound
+	 */
+	protected double roundBound(double bound){
+		if(!integralObjective)
+			return bound;
+		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.ceil(bound-config.PRECISION) : Math.floor(bound+config.PRECISION));
+	}
+
+	/**
+	 * Rounds the objective value of an integer solution to the nearest integer when the objective is integral (see {@link #setIntegralObjective(boolean)}). Otherwise, the objective is returned unchanged.
+	 * @param objective objective value of an integer solution
+	 * @return rounded objective value
+	 */
+	protected double roundObjective(double objective){
+		return (integralObjective ? MathProgrammingUtil.doubleToRoundedDouble(objective) : objective);
+	}
+
+	/**
+	 * Tests whether the gap between the incumbent solution and the given bound is within the limits set through {@link #setAbsoluteGapLimit(double)} and {@link #setRelativeGapLimit(double)}
+	 * @param bound bound on the objective of the open nodes
+	 * @return true if an incumbent solution is available, and the absolute or relative gap does not exceed its limit
+	 */
+	protected boolean gapLimitReached(double bound){
+		return gapLimitReached(objectiveIncumbentSolution, this.roundBound(bound), absoluteGapLimit, relativeGapLimit);
+	}
+
+	/**
+	 * Tests whether the gap between an incumbent solution and a bound is within the given limits. The relative gap equals {@code |incumbent-bound|/|incumbent|}.
+	 * @param incumbent objective of the incumbent solution
+	 * @param bound bound on the objective
+	 * @param absoluteGapLimit limit on the absolute gap, or 0 if there is no limit
+	 * @param relativeGapLimit limit on the relative gap, or 0 if there is no limit
+	 * @return true if the absolute or relative gap does not exceed its limit
+	 */
+	static boolean gapLimitReached(double incumbent, double bound, double absoluteGapLimit, double relativeGapLimit){
+		if(Math.abs(incumbent) == Double.MAX_VALUE || Double.isNaN(bound)) //No incumbent solution, or no open nodes
+			return false;
+		double gap=Math.abs(incumbent-bound);
+		return (absoluteGapLimit > 0 && gap <= absoluteGapLimit) || (relativeGapLimit > 0 && gap <= relativeGapLimit*Math.abs(incumbent));
 	}
 
 	/**
@@ -518,23 +800,249 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 
 	/**
 	 * Define how the nodes in the Branch-and-Price tree are processed. By default, the tree is processed in a Depth-First-Search manner but any other (custom)
-	 * approach may be specified. This method may also be invoked during the search. The nodes already present in the queue will be reordered. As an example, one could prefer to
+	 * approach may be specified, e.g. the {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestBoundbapNodeComparator} or the
+	 * {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestEstimatebapNodeComparator}. This method may also be invoked during the search. The nodes already present in the queue will be reordered. As an example, one could prefer to
 	 * process the first layers of the Branch-and-Price tree in a Breath-First-Search manner, thereby improving the bound of the nodes and then process the remaining nodes in a DFS manner.
 	 * This example can also be achieved throuh a custom comparator.
 	 * @param comparator comparator
 	 */
 	public void setNodeOrdering(Comparator<BAPNode> comparator){
-		Queue<BAPNode<T,U>> newQueue=new PriorityQueue<>(comparator);
-		newQueue.addAll(queue);
+		this.setNodeOrdering(comparator, 0);
+	}
+
+	/**
+	 * Define how the nodes in the Branch-and-Price tree are processed, see {@link #setNodeOrdering(Comparator)}. Whenever a node has been branched on, the search dives into
+	 * one of its children, until maxDiveDepth nodes have been processed consecutively while diving, or until a node without children is encountered; the next node is then selected through
+	 * the comparator (see {@link OpenNodeQueue}). Together with the {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestBoundbapNodeComparator}, this yields
+	 * a dive-then-best-bound strategy.
+	 * @param comparator comparator
+	 * @param maxDiveDepth maximum number of nodes processed consecutively while diving, or 0 to disable diving
+	 */
+	public void setNodeOrdering(Comparator<BAPNode> comparator, int maxDiveDepth){
+		this.setNodeQueue(new OpenNodeQueue<>(comparator, optimizationSenseMaster, maxDiveDepth));
+	}
+
+	/**
+	 * Replaces the queue containing the open nodes, e.g. by a {@link SpillingNodeQueue} which keeps the memory consumed by the open nodes within a budget. The nodes already present in the queue
+	 * are moved to the new queue. Note that {@link #setNodeOrdering(Comparator)} replaces the queue by a regular {@link OpenNodeQueue}; to change the order of a {@link SpillingNodeQueue}, provide
+	 * the comparator to a new SpillingNodeQueue instead.
+	 * @param newQueue queue
+	 */
+	public void setNodeQueue(OpenNodeQueue<T,U> newQueue){
+		SpillingNodeQueue<T,U,?> spillingQueue=this.getSpillingQueue();
+		if(spillingQueue != null){ //The spilled nodes are read back one at a time
+			while(!spillingQueue.isEmpty())
+				newQueue.add(spillingQueue.poll());
+			spillingQueue.close();
+		}else{
+			newQueue.addAll(queue);
+		}
 		this.queue=newQueue;
 	}
 
 	/**
-	 * Destroy both the master problem and pricing problems. A CutHandler which has been provided to the Constructor will not be destroyed by this method.
+	 * Returns the queue containing the open nodes if it is a {@link SpillingNodeQueue}. The type of the pricing problems of the queue is not known, but the queue stores the
+	 * nodes of this Branch-and-Price instance, and hence it holds the same type of columns.
+	 * @return the queue containing the open nodes, or null if the queue is not a SpillingNodeQueue
+	 */
+	SpillingNodeQueue<T,U,?> getSpillingQueue(){
+		return (queue instanceof SpillingNodeQueue ? (SpillingNodeQueue<T,U,?>) queue : null);
+	}
+
+	/**
+	 * Enables or disables lazy column inheritance. By default, a child node copies the columns of its parent which are compatible with its branching decision when the child is created
+	 * (see {@link AbstractBranchCreator#createBranch createBranch}). In lazy mode, the children merely keep a reference to the solution of their parent,
+	 * and the columns are filtered when the child is taken from the queue. Children which are pruned by bound before they are solved never copy any columns. This reduces the memory
+	 * footprint of the open nodes when the queue is large, e.g. when the tree is searched in best-bound order.
+	 * @param lazyColumnInheritance true to enable lazy column inheritance
+	 */
+	public void setLazyColumnInheritance(boolean lazyColumnInheritance){
+		this.lazyColumnInheritance=lazyColumnInheritance;
+	}
+
+	/**
+	 * Declares whether every integer solution has an integral objective value (default: true). When the objective is integral, the bounds of the nodes are rounded up (minimization) or down
+	 * (maximization) before they are compared against the incumbent solution, which allows nodes to be pruned earlier. Models with fractional costs must set this to false; otherwise the
+	 * objective of an integer node which is not near an integer value results in an exception.
+	 * @param integralObjective true if the objective of every integer solution is integral
+	 */
+	public void setIntegralObjective(boolean integralObjective){
+		this.integralObjective=integralObjective;
+	}
+
+	/**
+	 * Terminates the search as soon as the absolute gap between the incumbent solution and the bound of the open nodes does not exceed the given limit. The solution is then not necessarily optimal
+	 * (see {@link #isOptimal()}), but {@link #getBound()} returns a valid bound.
+	 * @param absoluteGapLimit absolute gap limit, or 0 to disable the limit
+	 */
+	public void setAbsoluteGapLimit(double absoluteGapLimit){
+		if(absoluteGapLimit < 0)
+			throw new IllegalArgumentException("Gap limit cannot be negative");
+		this.absoluteGapLimit=absoluteGapLimit;
+	}
+
+	/**
+	 * Terminates the search as soon as the gap between the incumbent solution and the bound of the open nodes, relative to the incumbent solution, does not exceed the given limit. E.g. a limit
+	 * of 0.005 terminates the search at a gap of 0.5%. The solution is then not necessarily optimal (see {@link #isOptimal()}), but {@link #getBound()} returns a valid bound.
+	 * @param relativeGapLimit relative gap limit, or 0 to disable the limit
+	 */
+	public void setRelativeGapLimit(double relativeGapLimit){
+		if(relativeGapLimit < 0)
+			throw new IllegalArgumentException("Gap limit cannot be negative");
+		this.relativeGapLimit=relativeGapLimit;
+	}
+
+	/**
+	 * Terminates the search as soon as the given number of nodes has been processed (see {@link #getNumberOfProcessedNodes()}). The nodes of a search which is resumed from a checkpoint
+	 * include the nodes processed before the checkpoint was written. The open nodes remain in the queue, so a search which writes checkpoints can be resumed with a larger node limit.
+	 * @param nodeLimit maximum number of processed nodes
+	 */
+	public void setNodeLimit(int nodeLimit){
+		if(nodeLimit < 1)
+			throw new IllegalArgumentException("Node limit must be at least 1");
+		this.nodeLimit=nodeLimit;
+	}
+
+	/**
+	 * Adds a primal heuristic, which searches for integer solutions in the fractional nodes of the tree according to its schedule (see {@link AbstractPrimalHeuristic}). The heuristics are
+	 * invoked in the order in which they have been added.
+	 * @param primalHeuristic primal heuristic
+	 */
+	public void addPrimalHeuristic(AbstractPrimalHeuristic<T, U, V> primalHeuristic){
+		primalHeuristic.registerBAP(this);
+		primalHeuristics.add(primalHeuristic);
+	}
+
+	/**
+	 * Adds a reduced cost fixer, which eliminates elements of the original problem from the subtrees of the fractional nodes (see {@link AbstractReducedCostFixer}). The fixers are invoked in
+	 * the order in which they have been added.
+	 * @param reducedCostFixer reduced cost fixer
+	 */
+	public void addReducedCostFixer(AbstractReducedCostFixer<T, U, V, ?> reducedCostFixer){
+		reducedCostFixer.registerBAP(this);
+		reducedCostFixers.add(reducedCostFixer);
+	}
+
+	/**
+	 * Registers a checkpoint manager which periodically writes the state of the search to disk while {@link #runBranchAndPrice(long)} is running. The search can be resumed from the
+	 * checkpoint through {@link #resume(CheckpointManager, long)}. Checkpoints are not written by the workers of a {@link ParallelBranchAndPrice} search.
+	 * @param checkpointManager checkpoint manager, or null to disable checkpoints
+	 */
+	public void setCheckpointManager(CheckpointManager<T, U, V> checkpointManager){
+		this.checkpointManager=checkpointManager;
+	}
+
+	/**
+	 * Returns the best bound of the unexplored nodes in the queue, i.e. the lowest bound if the master problem is a minimization problem, or the highest bound if the master
+	 * problem is a maximization problem. The bound is queried in O(log n) time from the {@link OpenNodeQueue}; if the queue has been replaced by a different type of queue, the queue is scanned.
+	 * @return best bound of the unexplored nodes, or NaN if the queue is empty
+	 */
+	protected double getBoundOpenNodes(){
+		if(queue instanceof OpenNodeQueue)
+			return ((OpenNodeQueue<T,U>) queue).getBound();
+		double bound=Double.NaN;
+		for(BAPNode<T,U> bapNode : queue){
+			if(Double.isNaN(bound))
+				bound=bapNode.bound;
+			else
+				bound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(bound, bapNode.bound) : Math.max(bound, bapNode.bound));
+		}
+		return bound;
+	}
+
+	/**
+	 * Sets a dual stabilizer which is used by the Column Generation procedure in every node of the Branch-and-Price tree.
+	 * @param dualStabilizer dual stabilizer, or null to disable stabilization
+	 */
+	public void setDualStabilizer(AbstractDualStabilizer<T, V> dualStabilizer){
+		this.dualStabilizer=dualStabilizer;
+	}
+
+	/**
+	 * Sets a column manager which is used by the Column Generation procedure in every node of the Branch-and-Price tree. The column pool of the column manager
+	 * (if any) is shared among all nodes, and is registered as a BranchingDecisionListener, such that columns which are incompatible with a branching decision are discarded.
+	 * @param columnManager column manager, or null to disable column management
+	 */
+	public void setColumnManager(ColumnManager<T, U, V> columnManager){
+		if(this.columnManager != null && this.columnManager.getColumnPool() != null)
+			this.removeBranchingDecisionListener(this.columnManager.getColumnPool());
+		this.columnManager=columnManager;
+		if(columnManager != null && columnManager.getColumnPool() != null)
+			this.addBranchingDecisionListener(columnManager.getColumnPool());
+	}
+
+	/**
+	 * Sets a column pool which is shared among all nodes of the Branch-and-Price tree. Before solving the pricing problems, the Column Generation procedure scans
+	 * the pool for attractive columns which are compatible with the branching decisions of the node. The pool is registered as a BranchingDecisionListener.
+	 * @param globalColumnPool column pool, or null to disable the pool
+	 */
+	public void setGlobalColumnPool(GlobalColumnPool<T, U, V> globalColumnPool){
+		if(this.globalColumnPool != null)
+			this.removeBranchingDecisionListener(this.globalColumnPool);
+		this.globalColumnPool=globalColumnPool;
+		if(globalColumnPool != null)
+			this.addBranchingDecisionListener(globalColumnPool);
+	}
+
+	/**
+	 * Returns the column pool shared among the nodes of the Branch-and-Price tree, e.g. to query its hit/miss statistics.
+	 * @return the column pool, or null if no pool has been set
+	 */
+	public GlobalColumnPool<T, U, V> getGlobalColumnPool(){
+		return globalColumnPool;
+	}
+
+	/**
+	 * Sets a scheduler for the pricing problem solvers which is used by the Column Generation procedure in every node of the Branch-and-Price tree. The scheduler
+	 * is shared among all nodes, i.e. the performance of the solvers in previous nodes is taken into account.
+	 * @param solverScheduler scheduler, or null to invoke the solvers in the order in which they have been registered
+	 */
+	public void setSolverScheduler(AbstractSolverScheduler<T, U, V> solverScheduler){
+		this.solverScheduler=solverScheduler;
+	}
+
+	/**
+	 * Sets the registry in which the latencies of the master problem, the pricing problems and the cut generators are recorded in every node of the Branch-and-Price tree
+	 * (see {@link ColGen#setMetricsRegistry(MetricsRegistry)}), together with the time required to prepare the data structures for every node (see {@link MetricsRegistry#NODE_SWITCH}),
+	 * to solve every node (see {@link MetricsRegistry#NODE_SOLVE}) and to branch (see {@link MetricsRegistry#BRANCHING}). These metrics are tagged by node depth.
+	 * @param metricsRegistry registry, or null to disable the metrics
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry){
+		this.metricsRegistry=metricsRegistry;
+	}
+
+	/**
+	 * Returns the registry in which the metrics are recorded
+	 * @return the registry, or null if no registry has been set
+	 */
+	public MetricsRegistry getMetricsRegistry(){
+		return metricsRegistry;
+	}
+
+	/**
+	 * Sets the executor which executes the pricing problem solvers in every node of the Branch-and-Price tree, see {@link PricingExecutor}. The executor may be shared among
+	 * many Branch-and-Price instances, and is not shut down when this instance is closed. By default, a fixed thread pool consisting of {@link Configuration#MAXTHREADS} threads is used.
+	 * @param pricingExecutor executor
+	 */
+	public void setPricingExecutor(PricingExecutor pricingExecutor){
+		pricingProblemManager.setPricingExecutor(pricingExecutor);
+	}
+
+	/**
+	 * Destroy both the master problem and pricing problems, and release the resources held by the branch creators, the primal heuristics, the checkpoint manager and the node queue. A CutHandler which has been provided to the Constructor will not be destroyed by this method.
 	 */
 	public void close(){
 		master.close();
 		pricingProblemManager.close();
+		for(AbstractBranchCreator<T, U, V> bc : branchCreators)
+			bc.close();
+		for(AbstractPrimalHeuristic<T, U, V> heuristic : primalHeuristics)
+			heuristic.close();
+		if(checkpointManager != null)
+			checkpointManager.close();
+		SpillingNodeQueue<T,U,?> spillingQueue=this.getSpillingQueue();
+		if(spillingQueue != null)
+			spillingQueue.close();
 	}
 
 
@@ -585,21 +1093,35 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	 * @param listener listener
 	 */
 	public void removeColumnGenerationEventListener(CGListener listener){
-		this.columnGenerationEventListeners.add(listener);
+		this.columnGenerationEventListeners.remove(listener);
+	}
+
+	/**
+	 * Sets the dispatcher which delivers the events to the BAPListeners and CGListeners, e.g. an {@link AsyncEventDispatcher} which delivers the events on a background thread.
+	 * By default, events are delivered synchronously, see {@link EventDispatcher#SYNCHRONOUS}. The Branch-and-Price procedure waits until all events have been delivered before
+	 * {@link #runBranchAndPrice(long)} returns. The dispatcher is not closed by this class.
+	 * @param eventDispatcher dispatcher
+	 */
+	public void setEventDispatcher(EventDispatcher eventDispatcher){
+		notifier.setEventDispatcher(eventDispatcher);
 	}
 
 	/**
-	 * Inner Class which notifies BAPListeners
+	 * Inner Class which notifies BAPListeners. Events are only created when at least one listener is interested in them (see {@link SelectiveListener}), and are delivered by an
+	 * {@link EventDispatcher}.
 	 */
 	protected class BAPNotifier{
 		/** Listeners **/
-		private Set<BAPListener> listeners;
+		private volatile ListenerSet<BAPListener> listeners;
+		/** Dispatcher which delivers the events **/
+		private EventDispatcher eventDispatcher;
 
 		/**
 		 * Creates a new BAPNotifier
 		 */
 		public BAPNotifier(){
-			listeners=new LinkedHashSet<>();
+			listeners=ListenerSet.empty();
+			eventDispatcher=EventDispatcher.SYNCHRONOUS;
 		}
 
 		/**
@@ -607,7 +1129,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param listener listener
 		 */
 		public void addListener(BAPListener listener){
-			this.listeners.add(listener);
+			this.listeners=listeners.with(listener);
 		}
 
 		/**
@@ -615,31 +1137,39 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param listener listener
 		 */
 		public void removeListener(BAPListener listener){
-			this.listeners.remove(listener);
+			this.listeners=listeners.without(listener);
+		}
+
+		/**
+		 * Sets the dispatcher which delivers the events
+		 * @param eventDispatcher dispatcher
+		 */
+		public void setEventDispatcher(EventDispatcher eventDispatcher){
+			this.eventDispatcher=eventDispatcher;
+		}
+
+		/**
+		 * Returns the dispatcher which delivers the events
+		 * @return dispatcher
+		 */
+		public EventDispatcher getEventDispatcher(){
+			return eventDispatcher;
 		}
 
 		/**
 		 * Fires a StartEvent
 		 */
 		public void fireStartBAPEvent(){
-			StartEvent startEvent =null;
-			for(BAPListener listener : listeners){
-				if(startEvent ==null)
-					startEvent =new StartEvent(AbstractBranchAndPrice.this, dataModel.getName(), objectiveIncumbentSolution);
-				listener.startBAP(startEvent);
-			}
+			if(listeners.isInterested(EventType.START_BAP))
+				eventDispatcher.publish(EventType.START_BAP, new StartEvent(AbstractBranchAndPrice.this, dataModel.getName(), objectiveIncumbentSolution), listeners);
 		}
 
 		/**
 		 * Fires a FinishEvent
 		 */
 		public void fireStopBAPEvent(){
-			FinishEvent finishEvent =null;
-			for(BAPListener listener : listeners){
-				if(finishEvent ==null)
-					finishEvent =new FinishEvent(AbstractBranchAndPrice.this);
-				listener.finishBAP(finishEvent);
-			}
+			if(listeners.isInterested(EventType.FINISH_BAP))
+				eventDispatcher.publish(EventType.FINISH_BAP, new FinishEvent(AbstractBranchAndPrice.this), listeners);
 		}
 
 		/**
@@ -649,12 +1179,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param nodeValue Objective value of the node
 		 */
 		public void fireNodeIsFractionalEvent(BAPNode node, double nodeBound, double nodeValue){
-			NodeIsFractionalEvent nodeIsFractionalEvent=null;
-			for(BAPListener listener : listeners){
-				if(nodeIsFractionalEvent==null)
-					nodeIsFractionalEvent=new NodeIsFractionalEvent(AbstractBranchAndPrice.this, node, nodeBound, nodeValue);
-				listener.nodeIsFractional(nodeIsFractionalEvent);
-			}
+			if(listeners.isInterested(EventType.NODE_IS_FRACTIONAL))
+				eventDispatcher.publish(EventType.NODE_IS_FRACTIONAL, new NodeIsFractionalEvent(AbstractBranchAndPrice.this, node, nodeBound, nodeValue), listeners);
 		}
 
 		/**
@@ -663,13 +1189,9 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param nodeBound Bound on the node
 		 * @param nodeValue Objective value of the node
 		 */
-		public void fireNodeIsIntegerEvent(BAPNode node, double nodeBound, int nodeValue){
-			NodeIsIntegerEvent nodeIsIntegerEvent=null;
-			for(BAPListener listener : listeners){
-				if(nodeIsIntegerEvent==null)
-					nodeIsIntegerEvent=new NodeIsIntegerEvent(AbstractBranchAndPrice.this, node, nodeBound, nodeValue);
-				listener.nodeIsInteger(nodeIsIntegerEvent);
-			}
+		public void fireNodeIsIntegerEvent(BAPNode node, double nodeBound, double nodeValue){
+			if(listeners.isInterested(EventType.NODE_IS_INTEGER))
+				eventDispatcher.publish(EventType.NODE_IS_INTEGER, new NodeIsIntegerEvent(AbstractBranchAndPrice.this, node, nodeBound, nodeValue), listeners);
 		}
 
 		/**
@@ -677,12 +1199,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param node Node which is infeasible
 		 */
 		public void fireNodeIsInfeasibleEvent(BAPNode node){
-			NodeIsInfeasibleEvent nodeIsInfeasibleEvent=null;
-			for(BAPListener listener : listeners){
-				if(nodeIsInfeasibleEvent==null)
-					nodeIsInfeasibleEvent=new NodeIsInfeasibleEvent(AbstractBranchAndPrice.this, node);
-				listener.nodeIsInfeasible(nodeIsInfeasibleEvent);
-			}
+			if(listeners.isInterested(EventType.NODE_IS_INFEASIBLE))
+				eventDispatcher.publish(EventType.NODE_IS_INFEASIBLE, new NodeIsInfeasibleEvent(AbstractBranchAndPrice.this, node), listeners);
 		}
 
 		/**
@@ -691,12 +1209,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param nodeBound Bound on the node
 		 */
 		public void firePruneNodeEvent(BAPNode node, double nodeBound){
-			PruneNodeEvent pruneNodeEvent=null;
-			for(BAPListener listener : listeners){
-				if(pruneNodeEvent==null)
-					pruneNodeEvent=new PruneNodeEvent(AbstractBranchAndPrice.this, node, nodeBound, objectiveIncumbentSolution);
-				listener.pruneNode(pruneNodeEvent);
-			}
+			if(listeners.isInterested(EventType.PRUNE_NODE))
+				eventDispatcher.publish(EventType.PRUNE_NODE, new PruneNodeEvent(AbstractBranchAndPrice.this, node, nodeBound, objectiveIncumbentSolution), listeners);
 		}
 
 		/**
@@ -704,11 +1218,14 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param node Node which will be processed
 		 */
 		public  void fireNextNodeEvent(BAPNode node){
-			ProcessingNextNodeEvent processingNextNodeEvent=null;
-			for(BAPListener listener : listeners){
-				if(processingNextNodeEvent==null)
-					processingNextNodeEvent=new ProcessingNextNodeEvent(AbstractBranchAndPrice.this, node, queue.size(), objectiveIncumbentSolution);
-				listener.processNextNode(processingNextNodeEvent);
+			if(listeners.isInterested(EventType.PROCESSING_NEXT_NODE)){
+				//The global bound is the best bound of the node being processed and the nodes in the queue
+				double globalBound=getBoundOpenNodes();
+				if(Double.isNaN(globalBound))
+					globalBound=node.bound;
+				else
+					globalBound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(globalBound, node.bound) : Math.max(globalBound, node.bound));
+				eventDispatcher.publish(EventType.PROCESSING_NEXT_NODE, new ProcessingNextNodeEvent(AbstractBranchAndPrice.this, node, queue.size(), objectiveIncumbentSolution, globalBound), listeners);
 			}
 		}
 
@@ -723,12 +1240,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param nrGeneratedColumns Total number of columns generated for this node
 		 */
 		public void fireFinishCGEvent(BAPNode node, double nodeBound, double nodeValue, int numberOfCGIterations, long masterSolveTime, long pricingSolveTime, int nrGeneratedColumns){
-			FinishProcessingNodeEvent finishProcessingNodeEvent =null;
-			for(BAPListener listener : listeners){
-				if(finishProcessingNodeEvent ==null)
-					finishProcessingNodeEvent =new FinishProcessingNodeEvent(AbstractBranchAndPrice.this, node, nodeBound, nodeValue, numberOfCGIterations, masterSolveTime, pricingSolveTime, nrGeneratedColumns);
-				listener.finishedColumnGenerationForNode(finishProcessingNodeEvent);
-			}
+			if(listeners.isInterested(EventType.FINISH_PROCESSING_NODE))
+				eventDispatcher.publish(EventType.FINISH_PROCESSING_NODE, new FinishProcessingNodeEvent(AbstractBranchAndPrice.this, node, nodeBound, nodeValue, numberOfCGIterations, masterSolveTime, pricingSolveTime, nrGeneratedColumns), listeners);
 		}
 
 		/**
@@ -737,12 +1250,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param childNodes Child nodes spawned from the branching process
 		 */
 		public void fireBranchEvent(BAPNode parentNode, List<BAPNode> childNodes){
-			BranchEvent branchEvent=null;
-			for(BAPListener listener : listeners){
-				if(branchEvent==null)
-					branchEvent=new BranchEvent(AbstractBranchAndPrice.this, childNodes.size(), parentNode, childNodes);
-				listener.branchCreated(branchEvent);
-			}
+			if(listeners.isInterested(EventType.BRANCH_CREATED))
+				eventDispatcher.publish(EventType.BRANCH_CREATED, new BranchEvent(AbstractBranchAndPrice.this, childNodes.size(), parentNode, childNodes), listeners);
 		}
 
 		/**
@@ -750,12 +1259,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		 * @param node Node which was being processed when the event occurred
 		 */
 		public  void fireTimeOutEvent(BAPNode node){
-			TimeLimitExceededEvent timeLimitExceededEvent =null;
-			for(BAPListener listener : listeners){
-				if(timeLimitExceededEvent ==null)
-					timeLimitExceededEvent =new TimeLimitExceededEvent(AbstractBranchAndPrice.this, node);
-				listener.timeLimitExceeded(timeLimitExceededEvent);
-			}
+			if(listeners.isInterested(EventType.BAP_TIME_LIMIT_EXCEEDED))
+				eventDispatcher.publish(EventType.BAP_TIME_LIMIT_EXCEEDED, new TimeLimitExceededEvent(AbstractBranchAndPrice.this, node), listeners);
 		}
 	}
 }
@@ -117,7 +117,8 @@ public abstract class AbstractBranchCreator<T,U extends AbstractColumn<T, V>,V e
 	protected abstract List<BAPNode<T,U>> getBranches(BAPNode<T,U> parentNode);
 
 	/**
-	 * Helper method which creates a new child node from a given parent node and a BranchingDecision
+	 * Helper method which creates a new child node from a given parent node and a BranchingDecision. The child carries the fixing decisions of the parent node (see {@link BAPNode#addFixing}). When lazy column inheritance is enabled (see {@link AbstractBranchAndPrice#setLazyColumnInheritance(boolean)}),
+	 * the columns of the solution are not filtered until the child node is processed.
 	 * @param parentNode Fractional node on which we branch
 	 * @param branchingDecision Branching decision (i.e the edge between the parent node and its child node)
 	 * @param solution Fractional solution
@@ -127,16 +128,33 @@ public abstract class AbstractBranchCreator<T,U extends AbstractColumn<T, V>,V e
 	 */
 	protected <B extends BranchingDecision<T,U>> BAPNode<T,U> createBranch(BAPNode<T,U> parentNode, B branchingDecision, List<U> solution, List<AbstractInequality> inequalities){
 		int childNodeID= bap.getUniqueNodeID();
-		List<Integer> rootPath1=new ArrayList<>(parentNode.rootPath);
-		rootPath1.add(childNodeID);
-		//Copy columns from the parent to the child. The columns need to comply with the Branching Decision. Artificial columns are ignored
-		List<U> initSolution= solution.stream().filter(column -> !column.isArtificialColumn && branchingDecision.columnIsCompatibleWithBranchingDecision(column)).collect(Collectors.toList());
 		//Copy inequalities to the child node whenever applicable
 		List<AbstractInequality> initCuts= inequalities.stream().filter(inequality -> branchingDecision.inEqualityIsCompatibleWithBranchingDecision(inequality)).collect(Collectors.toList());
 
-		List<BranchingDecision> branchingDecisions=new ArrayList<>(parentNode.branchingDecisions);
-		branchingDecisions.add(branchingDecision);
-		return new BAPNode<>(childNodeID, rootPath1, initSolution, initCuts, parentNode.bound, branchingDecisions);
+		NodePath childPath=parentNode.path.createChild(childNodeID, branchingDecision, new ArrayList<>(parentNode.fixings));
+
+		if(bap.lazyColumnInheritance){
+			//Defer copying the columns until the child is processed; the child only keeps a reference to the solution
+			BAPNode<T,U> childNode=new BAPNode<>(childPath, new ArrayList<>(), initCuts, parentNode.bound);
+			childNode.setInheritedColumns(solution);
+			return childNode;
+		}
+		//Copy columns from the parent to the child. The columns need to comply with the Branching Decision and the fixings. Artificial columns are ignored
+		List<U> initSolution= solution.stream().filter(column -> !column.isArtificialColumn && childPath.columnIsCompatible(column)).collect(Collectors.toList());
+		return new BAPNode<>(childPath, initSolution, initCuts, parentNode.bound);
+	}
+
+	/**
+	 * Invoked whenever a node has been processed, e.g. to learn from the effect of the branching decisions that lead to the node. The default implementation does nothing.
+	 * @param node node which has been processed
+	 * @param solved true if the master problem of the node has been solved and the node is feasible, i.e. the node is either integer or fractional; false if the node has been pruned or is infeasible
+	 */
+	protected void nodeProcessed(BAPNode<T,U> node, boolean solved){
 	}
 
+	/**
+	 * Releases the resources held by this branch creator. This method is invoked when the Branch-and-Price instance is closed. The default implementation does nothing.
+	 */
+	public void close(){
+	}
 }
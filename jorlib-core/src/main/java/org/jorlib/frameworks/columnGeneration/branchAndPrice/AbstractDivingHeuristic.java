@@ -0,0 +1,167 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractDivingHeuristic.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Diving heuristic (fix-and-price): starting from the node which has just been solved, the heuristic repeatedly fixes part of the fractional solution through a branching decision,
+ * and re-solves the master problem of the resulting node through column generation, until the solution becomes integral, or until the dive fails. Implementing classes define which
+ * decisions may be taken in a node (see {@link #getDivingDecisions(BAPNode)}), e.g. fixing the variable with the largest fractional value to 1.
+ * <p>
+ * The decisions returned for a node are tried in order. When the node resulting from a decision is infeasible, or can be pruned by bound, the heuristic backtracks, i.e. it tries the next
+ * decision for the same node. The total number of backtracks in a single dive is limited (see {@link #setMaxNrBacktracks(int)}); once the limit is exceeded, the dive is abandoned. The dive is
+ * also abandoned when it reaches the maximum dive depth (see {@link #setMaxDiveDepth(int)}). The nodes of a dive are never added to the Branch-and-Price tree. Their master problems
+ * are solved through at most {@link #setMaxNrIterations(int) maxNrIterations} column generation iterations; since the solution of a node is feasible for the restricted master problem, an integral
+ * solution is a feasible solution even if the master problem has not been solved to optimality.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public abstract class AbstractDivingHeuristic<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>> extends AbstractPrimalHeuristic<T,U,V> {
+
+	/** Maximum number of decisions taken in a single dive **/
+	protected int maxDiveDepth=50;
+	/** Maximum number of backtracks in a single dive **/
+	protected int maxNrBacktracks=2;
+	/** Maximum number of column generation iterations performed to solve the master problem of a node in the dive **/
+	protected int maxNrIterations=Integer.MAX_VALUE;
+
+	/**
+	 * Creates a new diving heuristic
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 */
+	public AbstractDivingHeuristic(T dataModel, List<V> pricingProblems){
+		super(dataModel, pricingProblems);
+	}
+
+	/**
+	 * Dives from the given node until an integral solution is found, or until the dive is abandoned
+	 * @param bapNode node which has been solved to a fractional solution
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	@Override
+	protected void run(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException {
+		BAPNode<T,U> currentNode=bapNode;
+		int nrBacktracks=0;
+		for(int depth=0; depth<maxDiveDepth; depth++){
+			BAPNode<T,U> nextNode=null;
+			for(BranchingDecision<T,U> divingDecision : this.getDivingDecisions(currentNode)){
+				BAPNode<T,U> child=this.createChild(currentNode, divingDecision);
+				ColGen<T,U,V> cg=bap.evaluateNode(child, maxNrIterations, bap.objectiveIncumbentSolution, timeLimit);
+				child.storeSolution(cg.getObjective(), cg.getBound(), cg.getSolution(), cg.getCuts());
+				if(!bap.isInfeasibleNode(child) && !bap.nodeCanBePruned(child)){
+					nextNode=child;
+					break;
+				}
+				if(++nrBacktracks > maxNrBacktracks)
+					return;
+			}
+			if(nextNode == null) //No decision left
+				return;
+			if(bap.isIntegerNode(nextNode)){
+				this.submitSolution(bap.roundObjective(nextNode.objective), nextNode.solution);
+				return;
+			}
+			currentNode=nextNode;
+		}
+	}
+
+	/**
+	 * Returns the decisions which may be taken in a node of the dive, in the order in which they are tried. Typically, every decision fixes part of the fractional solution of the node,
+	 * e.g. the variable with the largest fractional value.
+	 * @param bapNode node of the dive which has been solved to a fractional solution
+	 * @return the decisions, or an empty list if no decision can be taken
+	 */
+	protected abstract List<BranchingDecision<T,U>> getDivingDecisions(BAPNode<T,U> bapNode);
+
+	/**
+	 * Creates a node of the dive. The node carries the fixing decisions of its parent, and inherits the columns and inequalities of its parent which comply with the decision.
+	 * @param parentNode parent node
+	 * @param divingDecision decision
+	 * @return the child node
+	 */
+	private BAPNode<T,U> createChild(BAPNode<T,U> parentNode, BranchingDecision<T,U> divingDecision){
+		NodePath path=parentNode.path.createChild(bap.getUniqueNodeID(), divingDecision, new ArrayList<>(parentNode.fixings));
+		List<U> initialColumns=new ArrayList<>();
+		for(U column : parentNode.solution){
+			if(!column.isArtificialColumn && path.columnIsCompatible(column))
+				initialColumns.add(column);
+		}
+		List<AbstractInequality> initialInequalities=new ArrayList<>();
+		for(AbstractInequality inequality : parentNode.inequalities){
+			if(divingDecision.inEqualityIsCompatibleWithBranchingDecision(inequality))
+				initialInequalities.add(inequality);
+		}
+		return new BAPNode<>(path, initialColumns, initialInequalities, parentNode.bound);
+	}
+
+	/**
+	 * Sets the maximum number of decisions taken in a single dive
+	 * @param maxDiveDepth maximum dive depth (default: 50)
+	 */
+	public void setMaxDiveDepth(int maxDiveDepth){
+		if(maxDiveDepth < 1)
+			throw new IllegalArgumentException("The maximum dive depth must be positive");
+		this.maxDiveDepth=maxDiveDepth;
+	}
+
+	/**
+	 * Sets the maximum number of times the dive backtracks, i.e. the number of decisions which may fail in a single dive
+	 * @param maxNrBacktracks maximum number of backtracks (default: 2)
+	 */
+	public void setMaxNrBacktracks(int maxNrBacktracks){
+		if(maxNrBacktracks < 0)
+			throw new IllegalArgumentException("The maximum number of backtracks cannot be negative");
+		this.maxNrBacktracks=maxNrBacktracks;
+	}
+
+	/**
+	 * Sets the maximum number of column generation iterations performed to solve the master problem of a node in the dive
+	 * @param maxNrIterations maximum number of iterations (default: Integer.MAX_VALUE)
+	 */
+	public void setMaxNrIterations(int maxNrIterations){
+		if(maxNrIterations < 1)
+			throw new IllegalArgumentException("The maximum number of iterations must be positive");
+		this.maxNrIterations=maxNrIterations;
+	}
+}
@@ -0,0 +1,247 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractPrimalHeuristic.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Primal heuristic which attempts to find integer solutions while the Branch-and-Price tree is searched. Without primal heuristics, new incumbent solutions are only found when the
+ * solution of a node happens to be integral, in which case nodes can only be pruned by bound late in the search. Heuristics are registered through
+ * {@link AbstractBranchAndPrice#addPrimalHeuristic(AbstractPrimalHeuristic)}, and are invoked after the master problem of a node has been solved to a fractional solution, before the
+ * node is branched on. Every solution found is reported through {@link #submitSolution(double, List)}. An improving solution immediately becomes the incumbent solution, thereby tightening the
+ * bound used to prune nodes; the node which is being processed is pruned when its bound is no longer better than the new incumbent.
+ * <p>
+ * When a heuristic is invoked is defined by its schedule:
+ * <ul>
+ * <li>the heuristic is invoked in the root node, unless disabled through {@link #setRunAtRoot(boolean)};</li>
+ * <li>the heuristic is invoked in every k-th node which is processed (see {@link #setNodeFrequency(int)});</li>
+ * <li>the heuristic is invoked in the nodes of which the depth is a multiple of d (see {@link #setDepthFrequency(int)});</li>
+ * <li>the heuristic is never invoked in nodes deeper than the maximum depth (see {@link #setMaxDepth(int)}).</li>
+ * </ul>
+ * Every invocation receives a time budget (see {@link #setTimeBudget(long)}); the time limit passed to {@link #run(BAPNode, long)} is the earliest of the end of the budget and the time limit of the search.
+ * This class offers three templates: {@link AbstractRestrictedMasterHeuristic}, {@link AbstractDivingHeuristic} and {@link AbstractRoundingHeuristic}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public abstract class AbstractPrimalHeuristic<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(AbstractPrimalHeuristic.class);
+
+	/** Data model **/
+	protected final T dataModel;
+	/** Pricing problems **/
+	protected final List<V> pricingProblems;
+	/** Branch-and-Price class **/
+	protected AbstractBranchAndPrice<T,U,V> bap=null;
+
+	/** Indicates whether the heuristic is invoked in the root node **/
+	private boolean runAtRoot=true;
+	/** The heuristic is invoked in every nodeFrequency-th node which is processed; 0 if the heuristic is not invoked periodically **/
+	private int nodeFrequency=0;
+	/** The heuristic is invoked in the nodes of which the depth is a multiple of depthFrequency; 0 if the heuristic is not invoked based on the depth **/
+	private int depthFrequency=0;
+	/** The heuristic is never invoked in nodes deeper than maxDepth **/
+	private int maxDepth=Integer.MAX_VALUE;
+	/** Maximum time spent in a single invocation (ms) **/
+	private long timeBudget=1000;
+
+	/** Number of times the heuristic has been invoked **/
+	private int nrCalls=0;
+	/** Number of solutions found which improved the incumbent solution **/
+	private int nrImprovingSolutions=0;
+	/** Total time spent in this heuristic (ms) **/
+	private long totalTime=0;
+
+	/**
+	 * Creates a new primal heuristic
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 */
+	public AbstractPrimalHeuristic(T dataModel, List<V> pricingProblems){
+		this.dataModel=dataModel;
+		this.pricingProblems=pricingProblems;
+	}
+
+	/**
+	 * Registers the Branch-and-Price problem for which this heuristic finds solutions.
+	 * @param bap Branch-and-Price class
+	 */
+	protected void registerBAP(AbstractBranchAndPrice<T,U,V> bap){
+		if(this.bap != null)
+			throw new RuntimeException("This class can only be associated with a Branch-and-Price problem once!");
+		this.bap=bap;
+	}
+
+	/**
+	 * Searches for integer solutions. Every solution found must be reported through {@link #submitSolution(double, List)}. This method is invoked after the master problem of the node
+	 * has been solved; the solution of the node is available through {@link BAPNode#getSolution()}.
+	 * @param bapNode node which has been solved to a fractional solution
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected abstract void run(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException;
+
+	/**
+	 * Reports an integer solution to the Branch-and-Price instance. If the solution is better than the incumbent solution, it becomes the new incumbent solution.
+	 * @param objective objective value of the solution
+	 * @param solution columns constituting the solution
+	 * @return true if the solution improved the incumbent solution
+	 */
+	protected boolean submitSolution(double objective, List<U> solution){
+		boolean improving=(bap.optimizationSenseMaster == OptimizationSense.MINIMIZE ? objective < bap.upperBoundOnObjective : objective > bap.lowerBoundOnObjective);
+		if(improving){
+			logger.debug("Primal heuristic {} found a new incumbent solution with objective {}", this.getClass().getSimpleName(), objective);
+			nrImprovingSolutions++;
+			bap.updateIncumbent(objective, solution);
+		}
+		return improving;
+	}
+
+	/**
+	 * Invokes the heuristic if it is scheduled to run in the given node, and maintains the statistics
+	 * @param bapNode node
+	 * @param nodeIndex number of nodes processed before this node
+	 * @param timeLimit time limit of the search
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	void invoke(BAPNode<T,U> bapNode, int nodeIndex, long timeLimit) throws TimeLimitExceededException {
+		if(!this.isScheduled(bapNode, nodeIndex))
+			return;
+		long start=System.currentTimeMillis();
+		nrCalls++;
+		try {
+			this.run(bapNode, Math.min(timeLimit, start+timeBudget));
+		}finally{
+			totalTime+=System.currentTimeMillis()-start;
+		}
+	}
+
+	/**
+	 * Returns true if the heuristic is scheduled to run in the given node
+	 * @param bapNode node
+	 * @param nodeIndex number of nodes processed before this node
+	 * @return true if the heuristic should be invoked
+	 */
+	public boolean isScheduled(BAPNode<T,U> bapNode, int nodeIndex){
+		int depth=bapNode.getNodeDepth();
+		if(depth == 0 && runAtRoot)
+			return true;
+		if(depth > maxDepth)
+			return false;
+		return (nodeFrequency > 0 && nodeIndex % nodeFrequency == 0) || (depthFrequency > 0 && depth % depthFrequency == 0);
+	}
+
+	/**
+	 * Defines whether the heuristic is invoked in the root node
+	 * @param runAtRoot true if the heuristic is invoked in the root node (default: true)
+	 */
+	public void setRunAtRoot(boolean runAtRoot){
+		this.runAtRoot=runAtRoot;
+	}
+
+	/**
+	 * Invokes the heuristic in every k-th node which is processed
+	 * @param nodeFrequency frequency k, or 0 to disable periodic invocation (default: 0)
+	 */
+	public void setNodeFrequency(int nodeFrequency){
+		if(nodeFrequency < 0)
+			throw new IllegalArgumentException("The node frequency cannot be negative");
+		this.nodeFrequency=nodeFrequency;
+	}
+
+	/**
+	 * Invokes the heuristic in the nodes of which the depth is a multiple of d
+	 * @param depthFrequency frequency d, or 0 to disable depth-based invocation (default: 0)
+	 */
+	public void setDepthFrequency(int depthFrequency){
+		if(depthFrequency < 0)
+			throw new IllegalArgumentException("The depth frequency cannot be negative");
+		this.depthFrequency=depthFrequency;
+	}
+
+	/**
+	 * Sets the maximum depth of the nodes in which the heuristic is invoked. The root node is not affected by this setting.
+	 * @param maxDepth maximum depth (default: Integer.MAX_VALUE)
+	 */
+	public void setMaxDepth(int maxDepth){
+		this.maxDepth=maxDepth;
+	}
+
+	/**
+	 * Sets the maximum time spent in a single invocation of the heuristic
+	 * @param timeBudget time budget in ms (default: 1000)
+	 */
+	public void setTimeBudget(long timeBudget){
+		if(timeBudget < 1)
+			throw new IllegalArgumentException("The time budget must be positive");
+		this.timeBudget=timeBudget;
+	}
+
+	/**
+	 * Returns the number of times the heuristic has been invoked
+	 * @return the number of calls
+	 */
+	public int getNrCalls(){
+		return nrCalls;
+	}
+
+	/**
+	 * Returns the number of solutions found by the heuristic which improved the incumbent solution
+	 * @return the number of improving solutions
+	 */
+	public int getNrImprovingSolutions(){
+		return nrImprovingSolutions;
+	}
+
+	/**
+	 * Returns the total time spent in this heuristic
+	 * @return total time (ms)
+	 */
+	public long getTotalTime(){
+		return totalTime;
+	}
+
+	/**
+	 * Releases the resources held by this heuristic. Invoked by {@link AbstractBranchAndPrice#close()}.
+	 */
+	public void close(){
+	}
+}
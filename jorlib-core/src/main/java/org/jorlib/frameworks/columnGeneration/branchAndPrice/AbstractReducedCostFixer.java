@@ -0,0 +1,197 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractReducedCostFixer.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.FixingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Eliminates elements of the original problem, e.g. the arcs of the graph searched by the pricing problems, or the items which may be packed, from the subtree of a node through reduced cost fixing.
+ * Once Column Generation has converged in a node, the bound of the node is a valid Lagrangian bound with respect to the final dual values. If the bound plus the reduced cost of an element, i.e. a
+ * bound on the reduced cost of any column which uses the element, is not better than the incumbent solution, no improving solution in the subtree of the node uses the element.
+ * <p>
+ * Fixers are registered through {@link AbstractBranchAndPrice#addReducedCostFixer(AbstractReducedCostFixer)}, and are invoked after the master problem of a node has been solved to a fractional
+ * solution, before the primal heuristics are invoked and before the node is branched on. At that point, the pricing problems still hold the dual values of the node. The elements which are eliminated
+ * are recorded in a {@link FixingDecision}, which is carried by the children of the node (see {@link BAPNode#addFixing(BranchingDecision)}), and delivered to the {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener}s
+ * by the {@link GraphManipulator} whenever a node in the subtree is processed. Pricing problem solvers should therefore skip the fixed elements, such that pricing searches a smaller graph.
+ * Fixings are not preserved when nodes are copied between the workers of a {@link ParallelBranchAndPrice} search, or restored from a checkpoint; these nodes are solved without the fixings.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ * @param <E> Elements of the original problem
+ */
+public abstract class AbstractReducedCostFixer<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>,E> {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(AbstractReducedCostFixer.class);
+	/** Configuration file **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Data model **/
+	protected final T dataModel;
+	/** Pricing problems **/
+	protected final List<V> pricingProblems;
+	/** Branch-and-Price class **/
+	protected AbstractBranchAndPrice<T,U,V> bap=null;
+
+	/** Number of times the fixer has been invoked **/
+	private int nrCalls=0;
+	/** Total number of elements which have been fixed **/
+	private int nrFixedElements=0;
+	/** Total time spent in this fixer (ms) **/
+	private long totalTime=0;
+
+	/**
+	 * Creates a new reduced cost fixer
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 */
+	public AbstractReducedCostFixer(T dataModel, List<V> pricingProblems){
+		this.dataModel=dataModel;
+		this.pricingProblems=pricingProblems;
+	}
+
+	/**
+	 * Registers the Branch-and-Price problem for which this class fixes elements.
+	 * @param bap Branch-and-Price class
+	 */
+	protected void registerBAP(AbstractBranchAndPrice<T,U,V> bap){
+		if(this.bap != null)
+			throw new RuntimeException("This class can only be associated with a Branch-and-Price problem once!");
+		this.bap=bap;
+	}
+
+	/**
+	 * Returns the elements which are candidates for fixing in the given node. Elements which have been fixed in any of the ancestors of the node are skipped automatically.
+	 * @param bapNode node of which the master problem has been solved
+	 * @return elements of the original problem
+	 */
+	protected abstract Collection<E> getElements(BAPNode<T,U> bapNode);
+
+	/**
+	 * Returns the reduced cost of an element with respect to the dual values of the master problem of the given node, which are held by the pricing problems. For a minimization problem, the reduced cost
+	 * must be a lower bound on the reduced cost of any column which uses the element; for a maximization problem, it must be an upper bound.
+	 * @param bapNode node of which the master problem has been solved
+	 * @param element element
+	 * @return reduced cost of the element
+	 */
+	protected abstract double getReducedCost(BAPNode<T,U> bapNode, E element);
+
+	/**
+	 * Tests whether a column uses any of the given elements. Columns which use a fixed element are removed from the master problem in the subtree of the node.
+	 * @param column column
+	 * @param fixedElements fixed elements
+	 * @return true if the column uses at least one of the elements
+	 */
+	public abstract boolean usesFixedElement(U column, Set<E> fixedElements);
+
+	/**
+	 * Determines the elements which can be eliminated from the subtree of the given node, and records them in the node (see {@link BAPNode#addFixing(BranchingDecision)}). No elements are fixed when no incumbent
+	 * solution is available, or when Column Generation has not converged, i.e. when the objective of the node differs from its bound.
+	 * @param bapNode node which has been solved to a fractional solution
+	 * @return the number of elements which have been fixed
+	 */
+	int fix(BAPNode<T,U> bapNode){
+		if(Math.abs(bap.objectiveIncumbentSolution) == Double.MAX_VALUE || Math.abs(bapNode.objective-bapNode.bound) > config.PRECISION)
+			return 0;
+		long start=System.currentTimeMillis();
+		nrCalls++;
+		Set<E> previouslyFixed=this.getFixedElements(bapNode.path);
+		Set<E> fixedElements=new HashSet<>();
+		for(E element : this.getElements(bapNode)){
+			if(previouslyFixed.contains(element))
+				continue;
+			double bound=bap.roundBound(bapNode.bound+this.getReducedCost(bapNode, element));
+			if(bap.optimizationSenseMaster == OptimizationSense.MINIMIZE ? bound >= bap.upperBoundOnObjective-config.PRECISION : bound <= bap.lowerBoundOnObjective+config.PRECISION)
+				fixedElements.add(element);
+		}
+		if(!fixedElements.isEmpty()){
+			bapNode.addFixing(new FixingDecision<>(this, fixedElements));
+			logger.debug("Reduced cost fixing eliminated {} elements in node {}", fixedElements.size(), bapNode.nodeID);
+		}
+		nrFixedElements+=fixedElements.size();
+		totalTime+=System.currentTimeMillis()-start;
+		return fixedElements.size();
+	}
+
+	/**
+	 * Collects the elements which have been fixed by this fixer on the given path
+	 * @param path path from the root to a node
+	 * @return the elements which are fixed in the node
+	 */
+	@SuppressWarnings("unchecked")
+	protected Set<E> getFixedElements(NodePath path){
+		Set<E> fixedElements=new HashSet<>();
+		for(; path != null; path=path.getParent()){
+			for(BranchingDecision fixing : path.getFixings()){
+				if(fixing instanceof FixingDecision && ((FixingDecision) fixing).fixer == this)
+					fixedElements.addAll(((FixingDecision<T,U,V,E>) fixing).fixedElements);
+			}
+		}
+		return fixedElements;
+	}
+
+	/**
+	 * Returns the number of times the fixer has been invoked
+	 * @return the number of invocations
+	 */
+	public int getNrCalls(){
+		return nrCalls;
+	}
+
+	/**
+	 * Returns the total number of elements which have been fixed, summed over all nodes
+	 * @return the number of fixed elements
+	 */
+	public int getNrFixedElements(){
+		return nrFixedElements;
+	}
+
+	/**
+	 * Returns the total time spent in this fixer
+	 * @return total time (ms)
+	 */
+	public long getTotalTime(){
+		return totalTime;
+	}
+}
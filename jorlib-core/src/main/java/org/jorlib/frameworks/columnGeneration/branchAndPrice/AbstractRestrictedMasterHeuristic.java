@@ -0,0 +1,88 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractRestrictedMasterHeuristic.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Restricted master heuristic: the master problem, restricted to the columns generated so far, is solved as an integer program. The columns are the non-artificial columns of the
+ * master problem of the node which has just been solved, i.e. the columns which comply with the branching decisions of the node. Since the master problem is implemented by the user,
+ * e.g. through a MIP solver, solving the integer program is delegated to {@link #solveRestrictedMasterIP(List, int, long)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public abstract class AbstractRestrictedMasterHeuristic<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>> extends AbstractPrimalHeuristic<T,U,V> {
+
+	/**
+	 * Creates a new restricted master heuristic
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 */
+	public AbstractRestrictedMasterHeuristic(T dataModel, List<V> pricingProblems){
+		super(dataModel, pricingProblems);
+	}
+
+	/**
+	 * Collects the columns of the master problem, and solves the restricted master problem as an integer program
+	 * @param bapNode node which has been solved to a fractional solution
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	@Override
+	protected void run(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException {
+		List<U> columns=new ArrayList<>();
+		for(V pricingProblem : pricingProblems){
+			for(U column : bap.master.getColumns(pricingProblem)){
+				if(!column.isArtificialColumn)
+					columns.add(column);
+			}
+		}
+		if(!columns.isEmpty())
+			this.solveRestrictedMasterIP(columns, bap.objectiveIncumbentSolution, timeLimit);
+	}
+
+	/**
+	 * Solves the master problem, restricted to the given columns, as an integer program. Every solution found must be reported through {@link #submitSolution(double, List)}.
+	 * Solutions which are not better than the cutoff value are of no use.
+	 * @param columns columns of the restricted master problem
+	 * @param cutoffValue objective of the incumbent solution
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	protected abstract void solveRestrictedMasterIP(List<U> columns, double cutoffValue, long timeLimit) throws TimeLimitExceededException;
+}
@@ -0,0 +1,127 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractRoundingHeuristic.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+
+/**
+ * Rounding heuristic: the fractional solution of a node is rounded to an integer solution. Every column in the solution is first rounded down. As long as the rounded solution is infeasible,
+ * the fractional column with the largest fractional part which has not been rounded up yet is rounded up. This strategy suits covering problems, e.g. the cutting stock problem, where
+ * rounding up never renders a solution infeasible. Since feasibility and the objective of a rounded solution depend on the model, they are defined by the implementing class,
+ * see {@link #isFeasible(List, int[])} and {@link #getObjective(List, int[])}.
+ * <p>
+ * The values of the columns (see {@link AbstractColumn#value}) are not modified by this heuristic: the rounded values are passed separately, and the solution which is reported is
+ * created by {@link #createSolution(List, int[])}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public abstract class AbstractRoundingHeuristic<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>> extends AbstractPrimalHeuristic<T,U,V> {
+
+	/** Configuration file for this class **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/**
+	 * Creates a new rounding heuristic
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 */
+	public AbstractRoundingHeuristic(T dataModel, List<V> pricingProblems){
+		super(dataModel, pricingProblems);
+	}
+
+	/**
+	 * Rounds the fractional solution of the node
+	 * @param bapNode node which has been solved to a fractional solution
+	 * @param timeLimit future point in time by which the method must be finished
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	@Override
+	protected void run(BAPNode<T,U> bapNode, long timeLimit) throws TimeLimitExceededException {
+		List<U> columns=new ArrayList<>(bapNode.solution);
+		for(U column : columns){
+			if(column.isArtificialColumn)
+				return;
+		}
+		//Round down, and order the fractional columns by decreasing fractional part
+		int[] values=new int[columns.size()];
+		List<Integer> fractionalColumns=new ArrayList<>();
+		for(int i=0; i<columns.size(); i++){
+			double value=columns.get(i).value;
+			values[i]=(int)Math.floor(value+config.PRECISION);
+			if(value-values[i] > config.PRECISION)
+				fractionalColumns.add(i);
+		}
+		fractionalColumns.sort(Comparator.comparingDouble(i -> -(columns.get(i).value-values[i])));
+
+		//Round up until the solution is feasible
+		for(int i=0; !this.isFeasible(columns, values); i++){
+			if(i == fractionalColumns.size())
+				return;
+			if(System.currentTimeMillis() > timeLimit)
+				throw new TimeLimitExceededException();
+			values[fractionalColumns.get(i)]++;
+		}
+		this.submitSolution(this.getObjective(columns, values), this.createSolution(columns, values));
+	}
+
+	/**
+	 * Returns true if the rounded solution is feasible
+	 * @param columns columns of the fractional solution
+	 * @param values rounded values of the columns
+	 * @return true if the rounded solution is feasible
+	 */
+	protected abstract boolean isFeasible(List<U> columns, int[] values);
+
+	/**
+	 * Returns the objective of a feasible rounded solution
+	 * @param columns columns of the fractional solution
+	 * @param values rounded values of the columns
+	 * @return the objective of the rounded solution
+	 */
+	protected abstract double getObjective(List<U> columns, int[] values);
+
+	/**
+	 * Creates the solution which is reported to the Branch-and-Price instance from a feasible rounded solution, e.g. by copying the columns with a positive value, and assigning their rounded values.
+	 * @param columns columns of the fractional solution
+	 * @param values rounded values of the columns
+	 * @return the columns constituting the solution
+	 */
+	protected abstract List<U> createSolution(List<U> columns, int[] values);
+}
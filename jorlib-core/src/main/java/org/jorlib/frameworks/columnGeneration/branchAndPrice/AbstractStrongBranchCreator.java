@@ -0,0 +1,483 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractStrongBranchCreator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching.BranchingCandidate;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching.PseudoCosts;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Branch creator which selects the candidate to branch on through reliability branching. Implementing classes only have to define the candidates on which can be branched (see
+ * {@link #getCandidates(List)}); this class selects the most promising candidate as follows:
+ * <ol>
+ * <li>Every candidate is scored by its pseudo-costs (see {@link PseudoCosts}): the estimated gain of each child node is the pseudo-cost of its branching decision times its distance.</li>
+ * <li>Candidates are unreliable when one of their branching decisions has been observed fewer than {@link #setReliabilityThreshold(int) reliabilityThreshold} times. The unreliable candidates
+ * with the highest pseudo-cost scores, at most {@link #setMaxNrCandidates(int) maxNrCandidates}, are evaluated through strong branching: the master problem of each child node is solved through
+ * a limited number of column generation iterations (see {@link #setMaxNrIterations(int)}). The observed gains replace the pseudo-cost estimates, and are used to update the pseudo-costs.</li>
+ * <li>The candidate with the highest score is selected. The score of a candidate is the product of the gains of its child nodes.</li>
+ * </ol>
+ * A reliability threshold of 0 yields pure pseudo-cost branching, whereas a threshold of Integer.MAX_VALUE yields strong branching on the best maxNrCandidates candidates in every node.
+ * When the selected candidate has been evaluated through strong branching, the child nodes inherit the columns generated during the evaluation, as well as the strengthened bounds. The
+ * estimates of the child nodes (see {@link BAPNode#getEstimate()}) are set to the objective of the evaluated child, or to the objective of the parent plus the pseudo-cost estimate of the gain.
+ * The latter child nodes are registered with the pseudo-costs: once they are solved, the observed gain is recorded.
+ * <p>
+ * By default, the candidates are evaluated sequentially, using the master problem and pricing problems of the Branch-and-Price instance to which this branch creator belongs. Since a master problem
+ * can only solve a single node at a time, parallel evaluation (see {@link #setParallelEvaluation(BAPWorkerFactory, int)}) requires additional Branch-and-Price instances, the evaluators,
+ * which are created by a {@link BAPWorkerFactory}. The child nodes are copied to the evaluators, and the columns generated by the evaluators are copied back. Statistics, such as the time spent
+ * solving master problems, are maintained by the instance evaluating the node.
+ * <p>
+ * When this branch creator is used by the workers of a {@link ParallelBranchAndPrice} search, the workers should share a single {@link PseudoCosts} instance (see {@link #setPseudoCosts(PseudoCosts)}).
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public abstract class AbstractStrongBranchCreator<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>> extends AbstractBranchCreator<T,U,V> {
+
+	/** Lower bound on the gain of a child node used in the product score, such that a zero gain in one child does not annihilate the gain in the other children **/
+	private static final double EPSILON=1e-6;
+	/** Counter used to name the threads **/
+	private static final AtomicInteger threadCounter=new AtomicInteger();
+
+	/** Pseudo-costs **/
+	protected PseudoCosts pseudoCosts=null;
+	/** Optimization sense of the master problem **/
+	protected OptimizationSense optimizationSense;
+	/** Number of observations after which a branching decision is considered to be reliable **/
+	protected int reliabilityThreshold=4;
+	/** Maximum number of candidates evaluated through strong branching in a single node **/
+	protected int maxNrCandidates=8;
+	/** Maximum number of column generation iterations performed to evaluate a child node **/
+	protected int maxNrIterations=10;
+	/** Number of child nodes evaluated through strong branching **/
+	protected int nrEvaluatedNodes=0;
+
+	/** Candidates of the node being branched on **/
+	private List<BranchingCandidate<T,U>> candidates;
+	/** Factory which created the evaluators, or null when the candidates are evaluated sequentially **/
+	private BAPWorkerFactory<T,U,V> factory=null;
+	/** Executes the evaluations in parallel **/
+	private ExecutorService executorService=null;
+	/** Evaluators which are currently idle **/
+	private BlockingQueue<AbstractBranchAndPrice<T,U,V>> evaluators=null;
+
+	/**
+	 * Creates a new BranchCreator
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 */
+	public AbstractStrongBranchCreator(T dataModel, V pricingProblem){
+		super(dataModel, pricingProblem);
+	}
+
+	/**
+	 * Creates a new BranchCreator
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 */
+	public AbstractStrongBranchCreator(T dataModel, List<V> pricingProblems){
+		super(dataModel, pricingProblems);
+	}
+
+	/**
+	 * Registers the Branch-and-Price problem for which this class creates branches. If no pseudo-costs have been provided, a new set of pseudo-costs is created.
+	 * @param bap Branch-and-Price class
+	 */
+	@Override
+	protected void registerBAP(AbstractBranchAndPrice bap){
+		super.registerBAP(bap);
+		this.optimizationSense=bap.optimizationSenseMaster;
+		if(pseudoCosts == null)
+			pseudoCosts=new PseudoCosts(optimizationSense);
+	}
+
+	/**
+	 * Returns the candidates on which can be branched, given a fractional solution. The pseudo-costs of a candidate are identified by its key, and by the class of its branching decisions.
+	 * @param solution Fractional column generation solution
+	 * @return the candidates on which can be branched, or an empty list if no branches can be created
+	 */
+	protected abstract List<BranchingCandidate<T,U>> getCandidates(List<U> solution);
+
+	/**
+	 * Determines the candidates on which can be branched
+	 * @param solution Fractional column generation solution
+	 * @return Returns true if there is at least one candidate, false otherwise
+	 */
+	@Override
+	protected boolean canPerformBranching(List<U> solution){
+		candidates=this.getCandidates(solution);
+		return !candidates.isEmpty();
+	}
+
+	/**
+	 * Selects the most promising candidate (see the description of this class), and returns the child nodes obtained by branching on it
+	 * @param parentNode Fractional node on which we branch
+	 * @return List of child nodes
+	 */
+	@Override
+	protected List<BAPNode<T,U>> getBranches(BAPNode<T,U> parentNode){
+		List<BranchingCandidate<T,U>> candidates=this.candidates;
+		this.candidates=null;
+
+		//1. Score the candidates by their pseudo-costs
+		double[] scores=new double[candidates.size()];
+		List<Integer> unreliableCandidates=new ArrayList<>();
+		for(int i=0; i<candidates.size(); i++){
+			scores[i]=this.getPseudoCostScore(candidates.get(i));
+			if(!this.isReliable(candidates.get(i)))
+				unreliableCandidates.add(i);
+		}
+
+		//2. Evaluate the most promising unreliable candidates through strong branching
+		unreliableCandidates.sort((i, j) -> Double.compare(scores[j], scores[i]));
+		unreliableCandidates=unreliableCandidates.subList(0, Math.min(maxNrCandidates, unreliableCandidates.size()));
+		List<BAPNode<T,U>> children=new ArrayList<>();
+		for(int i : unreliableCandidates)
+			children.addAll(this.createChildren(parentNode, candidates.get(i)));
+		List<Evaluation<U>> evaluations=this.evaluate(children);
+		Map<Integer, List<BAPNode<T,U>>> evaluatedChildren=new HashMap<>();
+		int index=0;
+		for(int i : unreliableCandidates){
+			int nrChildren=candidates.get(i).getBranchingDecisions().size();
+			List<BAPNode<T,U>> candidateChildren=children.subList(index, index+nrChildren);
+			List<Evaluation<U>> candidateEvaluations=evaluations.subList(index, index+nrChildren);
+			index+=nrChildren;
+			if(!candidateEvaluations.contains(null)){ //The evaluation may have been interrupted by the time limit, in which case the pseudo-cost score is retained
+				scores[i]=this.processEvaluations(parentNode, candidates.get(i), candidateChildren, candidateEvaluations);
+				evaluatedChildren.put(i, candidateChildren);
+			}
+		}
+
+		//3. Select the candidate with the highest score
+		int best=0;
+		for(int i=1; i<candidates.size(); i++){
+			if(scores[i] > scores[best])
+				best=i;
+		}
+		BranchingCandidate<T,U> candidate=candidates.get(best);
+		logger.debug("Branching on {} with score {}", candidate, scores[best]);
+		if(evaluatedChildren.containsKey(best))
+			return new ArrayList<>(evaluatedChildren.get(best));
+
+		List<BAPNode<T,U>> newBranches=this.createChildren(parentNode, candidate);
+		for(int i=0; i<newBranches.size(); i++){
+			BAPNode<T,U> child=newBranches.get(i);
+			Class<?> type=candidate.getBranchingDecisions().get(i).getClass();
+			double gain=pseudoCosts.getPseudoCost(type, candidate.getKey())*candidate.getDistance(i);
+			child.setEstimate(optimizationSense == OptimizationSense.MINIMIZE ? parentNode.getObjective()+gain : parentNode.getObjective()-gain);
+			pseudoCosts.registerChild(child.nodeID, type, candidate.getKey(), candidate.getDistance(i), parentNode.getObjective());
+		}
+		return newBranches;
+	}
+
+	/**
+	 * Creates the child nodes of a candidate
+	 * @param parentNode Fractional node on which we branch
+	 * @param candidate candidate
+	 * @return the child nodes, one for every branching decision of the candidate
+	 */
+	private List<BAPNode<T,U>> createChildren(BAPNode<T,U> parentNode, BranchingCandidate<T,U> candidate){
+		List<BAPNode<T,U>> children=new ArrayList<>();
+		for(BranchingDecision<T,U> branchingDecision : candidate.getBranchingDecisions())
+			children.add(this.createBranch(parentNode, branchingDecision, parentNode.getSolution(), parentNode.getInequalities()));
+		return children;
+	}
+
+	/**
+	 * Tests whether the pseudo-costs of all branching decisions of a candidate are reliable
+	 * @param candidate candidate
+	 * @return true if the candidate is reliable
+	 */
+	private boolean isReliable(BranchingCandidate<T,U> candidate){
+		for(BranchingDecision<T,U> branchingDecision : candidate.getBranchingDecisions()){
+			if(pseudoCosts.getNrObservations(branchingDecision.getClass(), candidate.getKey()) < reliabilityThreshold)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the score of a candidate from its pseudo-costs
+	 * @param candidate candidate
+	 * @return the pseudo-cost score of the candidate
+	 */
+	private double getPseudoCostScore(BranchingCandidate<T,U> candidate){
+		double score=1;
+		for(int i=0; i<candidate.getBranchingDecisions().size(); i++)
+			score*=Math.max(EPSILON, pseudoCosts.getPseudoCost(candidate.getBranchingDecisions().get(i).getClass(), candidate.getKey())*candidate.getDistance(i));
+		return score;
+	}
+
+	/**
+	 * Records the outcome of the strong branching evaluation of a candidate: the pseudo-costs are updated, and the child nodes inherit the bounds and columns of the evaluation.
+	 * Child nodes which are infeasible, or which can be pruned, are assigned an infinite gain.
+	 * @param parentNode Fractional node on which we branch
+	 * @param candidate candidate
+	 * @param children child nodes of the candidate
+	 * @param evaluations evaluations of the child nodes
+	 * @return the score of the candidate
+	 */
+	@SuppressWarnings("unchecked")
+	private double processEvaluations(BAPNode<T,U> parentNode, BranchingCandidate<T,U> candidate, List<BAPNode<T,U>> children, List<Evaluation<U>> evaluations){
+		double score=1;
+		for(int i=0; i<children.size(); i++){
+			BAPNode<T,U> child=children.get(i);
+			Evaluation<U> evaluation=evaluations.get(i);
+			if(optimizationSense == OptimizationSense.MINIMIZE)
+				child.setBound(Math.max(child.getBound(), evaluation.bound));
+			else
+				child.setBound(Math.min(child.getBound(), evaluation.bound));
+			child.addInitialColumns(evaluation.columns);
+
+			double gain;
+			if(evaluation.infeasible || bap.nodeCanBePruned(child)){
+				gain=Double.POSITIVE_INFINITY;
+			}else{
+				gain=pseudoCosts.computeGain(parentNode.getObjective(), evaluation.objective);
+				pseudoCosts.update(candidate.getBranchingDecisions().get(i).getClass(), candidate.getKey(), candidate.getDistance(i), gain);
+				child.setEstimate(evaluation.objective);
+			}
+			score*=Math.max(EPSILON, gain);
+		}
+		return score;
+	}
+
+	/**
+	 * Evaluates the child nodes through a limited number of column generation iterations. When the time limit is exceeded, the remaining child nodes are not evaluated.
+	 * @param children child nodes
+	 * @return the evaluation of every child node; the evaluation is null when the child has not been evaluated
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Evaluation<U>> evaluate(List<BAPNode<T,U>> children){
+		AbstractBranchAndPrice<T,U,V> branchAndPrice=(AbstractBranchAndPrice<T,U,V>)bap;
+		double cutoffValue=branchAndPrice.objectiveIncumbentSolution;
+		long timeLimit=branchAndPrice.timeLimit;
+		List<Evaluation<U>> evaluations=new ArrayList<>(children.size());
+
+		if(executorService == null){ //Evaluate the children sequentially
+			for(BAPNode<T,U> child : children){
+				try {
+					ColGen<T,U,V> cg=branchAndPrice.evaluateNode(child, maxNrIterations, cutoffValue, timeLimit);
+					evaluations.add(this.createEvaluation(cg, null));
+				} catch (TimeLimitExceededException e) {
+					logger.debug("Time limit exceeded during strong branching");
+					break;
+				}
+			}
+		}else{ //Evaluate the children in parallel
+			List<Future<Evaluation<U>>> futures=new ArrayList<>(children.size());
+			for(BAPNode<T,U> child : children){
+				futures.add(executorService.submit(() -> {
+					AbstractBranchAndPrice<T,U,V> evaluator=evaluators.take();
+					try{
+						BAPNode<T,U> copy=factory.copyNode(child, branchAndPrice.pricingProblems, evaluator.pricingProblems);
+						ColGen<T,U,V> cg=evaluator.evaluateNode(copy, maxNrIterations, cutoffValue, timeLimit);
+						return this.createEvaluation(cg, evaluator);
+					}finally{
+						evaluators.add(evaluator);
+					}
+				}));
+			}
+			for(Future<Evaluation<U>> future : futures){
+				try {
+					evaluations.add(future.get());
+				} catch (ExecutionException e) {
+					if(!(e.getCause() instanceof TimeLimitExceededException))
+						throw new RuntimeException("Strong branching evaluation failed", e.getCause());
+					logger.debug("Time limit exceeded during strong branching");
+					evaluations.add(null);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					futures.forEach(f -> f.cancel(true));
+					break;
+				}
+			}
+		}
+		while(evaluations.size() < children.size())
+			evaluations.add(null);
+		return evaluations;
+	}
+
+	/**
+	 * Creates the evaluation of a child node
+	 * @param cg Column Generation instance which evaluated the child node
+	 * @param evaluator Branch-and-Price instance which evaluated the child node, or null if the child has been evaluated by the Branch-and-Price instance to which this branch creator belongs
+	 * @return the evaluation
+	 */
+	private Evaluation<U> createEvaluation(ColGen<T,U,V> cg, AbstractBranchAndPrice<T,U,V> evaluator){
+		boolean infeasible=false;
+		List<U> columns=new ArrayList<>();
+		for(U column : cg.getSolution()){
+			if(column.isArtificialColumn)
+				infeasible=!cg.isIterationLimitReached(); //Artificial columns may remain in the solution when the evaluation terminates prematurely
+			else if(evaluator == null)
+				columns.add(column);
+			else
+				columns.add(factory.copyColumn(column, pricingProblems.get(evaluator.pricingProblems.indexOf(column.associatedPricingProblem))));
+		}
+		synchronized (this){
+			nrEvaluatedNodes++;
+		}
+		return new Evaluation<>(cg.getObjective(), cg.getBound(), infeasible, columns);
+	}
+
+	/**
+	 * Removes the pending registration of a node from the pseudo-costs, and records its gain if it has been solved
+	 * @param node node which has been processed
+	 * @param solved true if the node has been solved
+	 */
+	@Override
+	protected void nodeProcessed(BAPNode<T,U> node, boolean solved){
+		if(solved)
+			pseudoCosts.childSolved(node.nodeID, node.getObjective());
+		else
+			pseudoCosts.childDiscarded(node.nodeID);
+	}
+
+	/**
+	 * Evaluates the candidates in parallel. The factory creates nrEvaluators Branch-and-Price instances which solve the child nodes. The evaluators are only used to solve master problems;
+	 * their branch creators are never invoked. The evaluators are destroyed when this branch creator is closed (see {@link #close()}).
+	 * @param factory factory which creates the evaluators
+	 * @param nrEvaluators number of evaluators, i.e. the number of child nodes evaluated in parallel
+	 */
+	public void setParallelEvaluation(BAPWorkerFactory<T,U,V> factory, int nrEvaluators){
+		if(nrEvaluators < 1)
+			throw new IllegalArgumentException("At least one evaluator is required");
+		if(this.factory != null)
+			throw new IllegalStateException("Parallel evaluation has already been configured");
+		this.factory=factory;
+		evaluators=new LinkedBlockingQueue<>();
+		for(int i=0; i<nrEvaluators; i++)
+			evaluators.add(factory.createWorker(i));
+		executorService=Executors.newFixedThreadPool(nrEvaluators, r -> {
+			Thread thread=new Thread(r, "jorlib-strong-branching-"+threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Sets the pseudo-costs. A single instance may be shared among several branch creators, e.g. among the workers of a {@link ParallelBranchAndPrice} search.
+	 * @param pseudoCosts pseudo-costs
+	 */
+	public void setPseudoCosts(PseudoCosts pseudoCosts){
+		this.pseudoCosts=pseudoCosts;
+	}
+
+	/**
+	 * Returns the pseudo-costs
+	 * @return the pseudo-costs
+	 */
+	public PseudoCosts getPseudoCosts(){
+		return pseudoCosts;
+	}
+
+	/**
+	 * Sets the number of observations after which a branching decision is considered to be reliable. A threshold of 0 yields pure pseudo-cost branching.
+	 * @param reliabilityThreshold reliability threshold (default: 4)
+	 */
+	public void setReliabilityThreshold(int reliabilityThreshold){
+		if(reliabilityThreshold < 0)
+			throw new IllegalArgumentException("Reliability threshold cannot be negative");
+		this.reliabilityThreshold=reliabilityThreshold;
+	}
+
+	/**
+	 * Sets the maximum number of candidates evaluated through strong branching in a single node
+	 * @param maxNrCandidates maximum number of candidates (default: 8)
+	 */
+	public void setMaxNrCandidates(int maxNrCandidates){
+		if(maxNrCandidates < 1)
+			throw new IllegalArgumentException("Maximum number of candidates must be at least 1");
+		this.maxNrCandidates=maxNrCandidates;
+	}
+
+	/**
+	 * Sets the maximum number of column generation iterations performed to evaluate a child node
+	 * @param maxNrIterations maximum number of iterations (default: 10)
+	 */
+	public void setMaxNrIterations(int maxNrIterations){
+		if(maxNrIterations < 1)
+			throw new IllegalArgumentException("Maximum number of iterations must be at least 1");
+		this.maxNrIterations=maxNrIterations;
+	}
+
+	/**
+	 * Returns the number of child nodes evaluated through strong branching
+	 * @return the number of evaluated child nodes
+	 */
+	public synchronized int getNrEvaluatedNodes(){
+		return nrEvaluatedNodes;
+	}
+
+	/**
+	 * Shuts down the evaluators
+	 */
+	@Override
+	public void close(){
+		if(executorService != null){
+			executorService.shutdownNow();
+			for(AbstractBranchAndPrice<T,U,V> evaluator : evaluators)
+				evaluator.close();
+			executorService=null;
+		}
+	}
+
+	/**
+	 * Outcome of the evaluation of a child node
+	 */
+	private static final class Evaluation<U> {
+		/** Objective of the master problem of the child node **/
+		private final double objective;
+		/** Bound on the objective of the child node **/
+		private final double bound;
+		/** Indicates whether the child node is infeasible **/
+		private final boolean infeasible;
+		/** Columns generated for the child node **/
+		private final List<U> columns;
+
+		private Evaluation(double objective, double bound, boolean infeasible, List<U> columns){
+			this.objective=objective;
+			this.bound=bound;
+			this.infeasible=infeasible;
+			this.columns=columns;
+		}
+	}
+}
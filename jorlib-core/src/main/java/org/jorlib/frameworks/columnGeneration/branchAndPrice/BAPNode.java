@@ -47,14 +47,14 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 
 	/** Unique node ID **/
 	public final int nodeID;
-	/** Sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to this node. rootPath[0]=0, rootPath[last(rootPath)]=this.nodeID **/
-	protected final List<Integer> rootPath;
-	/** List of branching decisions that lead to this node. **/
-	protected final List<BranchingDecision> branchingDecisions;
+	/** Path from the root of the BAP tree to this node, including the branching decisions that lead to this node. The path shares its prefix with the path of the parent node **/
+	protected final NodePath path;
 	/** Columns used to initialize the master problem **/
 	protected final List<U> initialColumns;
 	/** Valid inequalities used to initialize the master problem of this node **/
 	protected final List<AbstractInequality> initialInequalities;
+	/** Solution of the parent node from which the initial columns are inherited when this node is processed, or null if the columns have been inherited already **/
+	protected List<U> inheritedColumns=null;
 
 
 	//Data after solving the node:
@@ -63,27 +63,29 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	/** Bound on the optimum solution of this node. If the bound of this node exceeds the best incumbent int solution, this node will be pruned.
 	 * If this node is solved to optimality, this.objective and this.bound must be equal **/
 	protected double bound;
+	/** Estimate of the objective of the best integer solution in the subtree rooted at this node. By default, the estimate equals the bound **/
+	protected double estimate;
 	/** List of columns constituting the solution after solving this node; Typically, only non-zero columns are stored **/
 	protected List<U> solution;
 	/** List of inequalities in the master problem after solving this node **/
 	protected List<AbstractInequality> inequalities;
+	/** Fixing decisions derived after solving this node, e.g. through reduced cost fixing. The fixings are carried by the children of this node, and hence apply to its entire subtree **/
+	protected final List<BranchingDecision> fixings=new ArrayList<>();
 
 	/**
 	 * Creates a new BAPNode
-	 * @param nodeID ID of the Node
-	 * @param rootPath Sequence of the IDs of the nodes encountered while walking from the root of the BAP tree to this node. rootPath[0]=0, rootPath[last(rootPath)]=this.nodeID
+	 * @param path Path from the root of the BAP tree to this node. The ID of the node is the ID of the last node on the path.
 	 * @param initialColumns Columns used to initialize the master problem
 	 * @param initialInequalities Valid inequalities used to initialize the master problem of this node
 	 * @param bound Bound on the optimum solution of this node. If the bound of this node exceeds the best incumbent integer solution, this node will be pruned. The bound may be inherited from the parent.
-	 * @param branchingDecisions List of branching decisions that lead to this node.
 	 */
-	public BAPNode(int nodeID, List<Integer> rootPath, List<U> initialColumns, List<AbstractInequality> initialInequalities, double bound, List<BranchingDecision> branchingDecisions){
-		this.nodeID=nodeID;
+	public BAPNode(NodePath path, List<U> initialColumns, List<AbstractInequality> initialInequalities, double bound){
+		this.nodeID=path.getNodeID();
 		this.initialColumns = initialColumns;
 		this.initialInequalities = initialInequalities;
-		this.branchingDecisions=branchingDecisions;
-		this.rootPath=rootPath;
+		this.path=path;
 		this.bound=bound;
+		this.estimate=bound;
 		this.solution=new ArrayList<>();
 		this.inequalities =new ArrayList<>();
 	}
@@ -95,10 +97,10 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	 * @return ID of parent node, or -1 if this is the root node
 	 */
 	public int getParentID(){
-		if(nodeID == 0)
+		if(path.getParent() == null)
 			return -1;
 		else
-			return rootPath.get(rootPath.size()-2);
+			return path.getParent().getNodeID();
 	}
 
 	/**
@@ -106,10 +108,23 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	 * @return The branching decision that links this node to its parent, or null if this node is the root node
 	 */
 	public BranchingDecision getBranchingDecision(){
-		if(nodeID == 0)
-			return null;
-		else
-			return branchingDecisions.get(branchingDecisions.size()-1);
+		return path.getBranchingDecision();
+	}
+
+	/**
+	 * Returns the path from the root of the Branch-and-Price tree to this node
+	 * @return the path from the root of the Branch-and-Price tree to this node
+	 */
+	public NodePath getPath(){
+		return path;
+	}
+
+	/**
+	 * Returns the branching decisions that lead to this node. Note that the list is created from the path of the node, which takes time proportional to the depth of the node.
+	 * @return the branching decisions that lead to this node, in the order in which they have been made
+	 */
+	public List<BranchingDecision> getBranchingDecisions(){
+		return path.getBranchingDecisions();
 	}
 
 	/**
@@ -121,6 +136,56 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 		initialColumns.addAll(additionalColumns);
 	}
 
+	/**
+	 * Defers the inheritance of columns from the parent node: instead of storing the columns which are compatible with the branching decision of this node, the node only keeps a
+	 * reference to the solution of its parent, which is shared by all its siblings. The compatible columns are added to the initial columns of this node when the node is
+	 * processed (see {@link #inheritColumns()}), after which the reference is released. Once all children have been processed or discarded, the solution of the parent can be garbage collected.
+	 * @param parentSolution solution of the parent node
+	 */
+	public void setInheritedColumns(List<U> parentSolution){
+		this.inheritedColumns=parentSolution;
+	}
+
+	/**
+	 * Adds the columns of the parent node which are compatible with the branching decision of this node, and which are not artificial, to the initial columns of this node, and
+	 * releases the reference to the solution of the parent node. This method is invoked by the framework before the node is solved; it has no effect if the columns have already
+	 * been inherited, or if the columns were inherited when the node was created.
+	 */
+	@SuppressWarnings("unchecked")
+	public void inheritColumns(){
+		if(inheritedColumns == null)
+			return;
+		for(U column : inheritedColumns){
+			if(!column.isArtificialColumn && path.columnIsCompatible(column))
+				initialColumns.add(column);
+		}
+		inheritedColumns=null;
+	}
+
+	/**
+	 * Releases the reference to the solution of the parent node without inheriting any columns, e.g. because this node is pruned before it is solved
+	 */
+	public void discardInheritedColumns(){
+		inheritedColumns=null;
+	}
+
+	/**
+	 * Adds a fixing decision to this node, e.g. the elements eliminated through reduced cost fixing (see {@link AbstractReducedCostFixer}). The fixing applies to the subtree of this node:
+	 * it is carried by the children which are created afterwards, and is executed, together with their branching decisions, whenever these children are processed.
+	 * @param fixing fixing decision
+	 */
+	public void addFixing(BranchingDecision fixing){
+		fixings.add(fixing);
+	}
+
+	/**
+	 * Returns the fixing decisions which apply to the subtree of this node, see {@link #addFixing(BranchingDecision)}
+	 * @return the fixing decisions derived after solving this node
+	 */
+	public List<BranchingDecision> getFixings(){
+		return Collections.unmodifiableList(fixings);
+	}
+
 	/**
 	 * Adds initial inequalities to this node. When the node is solved, these inequalities will be added to the master problem.
 	 * This method may be invoked multiple times to add additional inequalities.
@@ -162,7 +227,7 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 
 	/**
 	 * Returns a set of columns which are used to initialize the master problem when this node is being solved.These columns are usually
-	 * inherited from the parent of this node.
+	 * inherited from the parent of this node. Columns which are inherited lazily (see {@link #setInheritedColumns(List)}) are not included until the node is processed.
 	 * @return a set of columns which are used to initialize the master problem when this node is being solved.
 	 */
 	public List<U> getInitialColumns(){
@@ -194,6 +259,23 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 		return bound;
 	}
 
+	/**
+	 * Gets the estimate of the objective of the best integer solution in the subtree rooted at this node, used by the {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestEstimatebapNodeComparator}.
+	 * @return the estimate of the objective of the best integer solution in the subtree rooted at this node. Unless an estimate has been set, the estimate equals the bound of the node when it was created.
+	 */
+	public double getEstimate(){
+		return estimate;
+	}
+
+	/**
+	 * Sets the estimate of the objective of the best integer solution in the subtree rooted at this node, e.g. the objective of the parent node plus the pseudo-costs of the
+	 * branching decision. The estimate must not be changed while the node is waiting in the queue.
+	 * @param estimate estimate of the objective of the best integer solution in the subtree rooted at this node
+	 */
+	public void setEstimate(double estimate){
+		this.estimate=estimate;
+	}
+
 	/**
 	 * Returns a list of columns constituting the solution of this node.
 	 * @return a list of columns constituting the solution of this node.
@@ -215,7 +297,7 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 	 * @return Depth of node in the Branch-and-Price tree
 	 */
 	public int getNodeDepth(){
-		return rootPath.size();
+		return path.getDepth();
 	}
 
 	/**
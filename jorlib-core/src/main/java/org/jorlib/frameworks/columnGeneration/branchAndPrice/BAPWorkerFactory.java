@@ -0,0 +1,105 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPWorkerFactory.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Interface which has to be implemented by a factory class which produces the workers of a {@link ParallelBranchAndPrice} search. Every worker is a complete
+ * Branch-and-Price instance, with its own master problem, pricing problems, pricing problem solvers and branch creators: pricing problems store the dual values of the master problem
+ * of the node being solved, and master problems and pricing problems are modified by the branching decisions of that node, so none of these objects may be shared among workers.
+ * <p>
+ * Columns and branching decisions refer to the pricing problems of the worker which created them. Whenever a worker processes a node created by another worker, the columns and branching
+ * decisions of that node are copied by this factory, thereby replacing the pricing problems of the other worker by the pricing problems of the worker processing the node. The pricing problems
+ * of all workers are matched by their position in the list of pricing problems.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public interface BAPWorkerFactory<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/**
+	 * Creates a new worker. Every invocation must return a new Branch-and-Price instance, with its own master problem, pricing problems and branch creators. The workers must
+	 * define their pricing problems in the same order.
+	 * @param workerID ID of the worker, ranging from 0 to the number of workers-1
+	 * @return a new Branch-and-Price instance
+	 */
+	AbstractBranchAndPrice<T, U, V> createWorker(int workerID);
+
+	/**
+	 * Creates a copy of the given column which belongs to the given pricing problem. The value of the copy must equal the value of the given column.
+	 * @param column column
+	 * @param pricingProblem pricing problem to which the copy belongs
+	 * @return copy of the column
+	 */
+	U copyColumn(U column, V pricingProblem);
+
+	/**
+	 * Creates a copy of the given branching decision, in which every pricing problem referred to by the branching decision is replaced by its counterpart.
+	 * @param branchingDecision branching decision
+	 * @param pricingProblemMap maps every pricing problem referred to by the branching decision to its counterpart
+	 * @return copy of the branching decision
+	 */
+	BranchingDecision<T, U> copyBranchingDecision(BranchingDecision<T, U> branchingDecision, Function<V, V> pricingProblemMap);
+
+	/**
+	 * Creates a copy of the given node, in which the columns and branching decisions refer to the target pricing problems instead of the source pricing problems. The pricing problems
+	 * are matched by their position in the lists. Valid inequalities are not copied. Columns which are inherited lazily from the parent node are inherited before the node is copied.
+	 * @param bapNode node
+	 * @param sourcePricingProblems pricing problems referred to by the node
+	 * @param targetPricingProblems pricing problems referred to by the copy
+	 * @return copy of the node
+	 */
+	@SuppressWarnings("unchecked")
+	default BAPNode<T, U> copyNode(BAPNode<T, U> bapNode, List<V> sourcePricingProblems, List<V> targetPricingProblems){
+		bapNode.inheritColumns();
+		Map<V, V> pricingProblemMap=new IdentityHashMap<>();
+		for(int i=0; i<sourcePricingProblems.size(); i++)
+			pricingProblemMap.put(sourcePricingProblems.get(i), targetPricingProblems.get(i));
+
+		List<U> initialColumns=new ArrayList<>(bapNode.initialColumns.size());
+		for(U column : bapNode.initialColumns)
+			initialColumns.add(this.copyColumn(column, pricingProblemMap.get(column.associatedPricingProblem)));
+		NodePath path=bapNode.path.copy(branchingDecision -> this.copyBranchingDecision(branchingDecision, pricingProblemMap::get));
+		BAPNode<T, U> copy=new BAPNode<>(path, initialColumns, new ArrayList<>(), bapNode.bound);
+		copy.estimate=bapNode.estimate;
+		return copy;
+	}
+}
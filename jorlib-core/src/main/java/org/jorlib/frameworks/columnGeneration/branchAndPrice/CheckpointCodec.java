@@ -0,0 +1,87 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CheckpointCodec.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Interface which has to be implemented to write the columns and branching decisions of a Branch-and-Price instance to a checkpoint (see {@link CheckpointManager}), and to read them back.
+ * The framework records the pricing problem to which every column belongs; the codec only needs to write the contents of the column. Branching decisions which refer to pricing problems
+ * should write the position of the pricing problem in the list of pricing problems: when a checkpoint is read, the branching decisions are restored with the pricing problems of the
+ * Branch-and-Price instance which resumes the search.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public interface CheckpointCodec<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/**
+	 * Writes a column
+	 * @param column column
+	 * @param out output to which the column is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeColumn(U column, DataOutput out) throws IOException;
+
+	/**
+	 * Reads a column which has been written by {@link #writeColumn(AbstractColumn, DataOutput)}
+	 * @param in input from which the column is read
+	 * @param pricingProblem pricing problem to which the column belongs
+	 * @return the column
+	 * @throws IOException if an I/O error occurs
+	 */
+	U readColumn(DataInput in, V pricingProblem) throws IOException;
+
+	/**
+	 * Writes a branching decision
+	 * @param branchingDecision branching decision
+	 * @param out output to which the branching decision is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeBranchingDecision(BranchingDecision<T, U> branchingDecision, DataOutput out) throws IOException;
+
+	/**
+	 * Reads a branching decision which has been written by {@link #writeBranchingDecision(BranchingDecision, DataOutput)}
+	 * @param in input from which the branching decision is read
+	 * @param pricingProblems pricing problems of the Branch-and-Price instance which resumes the search
+	 * @return the branching decision
+	 * @throws IOException if an I/O error occurs
+	 */
+	BranchingDecision<T, U> readBranchingDecision(DataInput in, List<V> pricingProblems) throws IOException;
+}
@@ -0,0 +1,513 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CheckpointManager.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically writes a checkpoint of a Branch-and-Price search to disk, such that an interrupted search can be resumed (see {@link AbstractBranchAndPrice#resume(CheckpointManager, long)}).
+ * A checkpoint is a compact binary snapshot which contains the open nodes, the incumbent solution, the bounds, the node counters and statistics, and the columns in the
+ * {@link GlobalColumnPool}. Every column and every node path prefix is written only once, regardless of the number of nodes referring to it.
+ * The columns of nodes which have been spilled by a {@link SpillingNodeQueue} are copied from the spill file in their encoded form, without decoding them; they are decoded one node at a time when
+ * the checkpoint is restored, so the queue can spill them again. The contents of the columns and branching decisions are
+ * written by a {@link CheckpointCodec}. Valid inequalities are not part of the checkpoint; they are separated again when the nodes are solved.
+ * <p>
+ * The snapshot is encoded in memory on the thread which runs the search, in between two nodes, after which it is written to disk on a background thread. The file is replaced atomically,
+ * so a crash while writing leaves the previous checkpoint intact. To bound the cost of checkpointing, the time in between two checkpoints is at least the interval (see {@link #setInterval(long)}),
+ * and is extended when encoding the snapshot takes more than a fraction of that time (see {@link #setMaxOverhead(double)}). When the previous checkpoint is still being written, the checkpoint is postponed.
+ * Once the search terminates, a final checkpoint is written. Checkpoints are not supported for the workers of a {@link ParallelBranchAndPrice} search.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public final class CheckpointManager<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	private static final Logger logger = LoggerFactory.getLogger(CheckpointManager.class);
+	/** Identifies a checkpoint file **/
+	private static final int MAGIC=0x4A4F524C;
+	/** Version of the file format **/
+	private static final int VERSION=2;
+	/** Counter used to name the threads **/
+	private static final AtomicInteger threadCounter=new AtomicInteger();
+
+	/** File to which the checkpoints are written **/
+	private final File file;
+	/** Writes and reads columns and branching decisions **/
+	private final CheckpointCodec<T, U, V> codec;
+	/** Minimum time in between two checkpoints (ms) **/
+	private long interval=600000;
+	/** Maximum fraction of the time spent on encoding checkpoints **/
+	private double maxOverhead=0.05;
+
+	/** Point in time at which the next checkpoint is due **/
+	private long nextCheckpoint=Long.MAX_VALUE;
+	/** Thread which writes the checkpoints to disk **/
+	private ExecutorService writer=null;
+	/** Checkpoint which is being written, or null **/
+	private Future<?> pendingWrite=null;
+	/** Number of checkpoints which have been taken **/
+	private int nrCheckpoints=0;
+	/** Total time spent encoding checkpoints (ms) **/
+	private long encodingTime=0;
+
+	/**
+	 * Creates a new checkpoint manager
+	 * @param file file to which the checkpoints are written, and from which a search is resumed
+	 * @param codec writes and reads the columns and branching decisions
+	 */
+	public CheckpointManager(File file, CheckpointCodec<T, U, V> codec){
+		this.file=file;
+		this.codec=codec;
+	}
+
+	/**
+	 * Sets the minimum time in between two checkpoints
+	 * @param interval interval in ms (default: 10 minutes)
+	 */
+	public void setInterval(long interval){
+		if(interval < 1)
+			throw new IllegalArgumentException("Interval must be positive");
+		this.interval=interval;
+	}
+
+	/**
+	 * Sets the maximum fraction of time spent on encoding checkpoints. If encoding a checkpoint takes d ms, the next checkpoint is taken after at least d/maxOverhead ms.
+	 * @param maxOverhead fraction in between 0 (exclusive) and 1 (inclusive) (default: 0.05)
+	 */
+	public void setMaxOverhead(double maxOverhead){
+		if(maxOverhead <= 0 || maxOverhead > 1)
+			throw new IllegalArgumentException("Maximum overhead must be in between 0 and 1");
+		this.maxOverhead=maxOverhead;
+	}
+
+	/**
+	 * Returns the file to which the checkpoints are written
+	 * @return the checkpoint file
+	 */
+	public File getFile(){
+		return file;
+	}
+
+	/**
+	 * Returns the number of checkpoints which have been taken
+	 * @return the number of checkpoints
+	 */
+	public int getNrCheckpoints(){
+		return nrCheckpoints;
+	}
+
+	/**
+	 * Returns the total time spent encoding checkpoints on the thread running the search
+	 * @return encoding time (ms)
+	 */
+	public long getEncodingTime(){
+		return encodingTime;
+	}
+
+	/**
+	 * Starts the countdown to the first checkpoint. Invoked when the search starts.
+	 */
+	void start(){
+		nextCheckpoint=System.currentTimeMillis()+interval;
+	}
+
+	/**
+	 * Takes a checkpoint if it is due, and if the previous checkpoint has been written
+	 * @param bap Branch-and-Price instance
+	 */
+	void checkpointIfDue(AbstractBranchAndPrice<T, U, V> bap){
+		if(System.currentTimeMillis() < nextCheckpoint || (pendingWrite != null && !pendingWrite.isDone()))
+			return;
+		this.checkpoint(bap, false);
+	}
+
+	/**
+	 * Takes a checkpoint. I/O errors are logged; they do not interrupt the search.
+	 * @param bap Branch-and-Price instance
+	 * @param wait if true, this method waits until the checkpoint has been written to disk
+	 */
+	void checkpoint(AbstractBranchAndPrice<T, U, V> bap, boolean wait){
+		long start=System.currentTimeMillis();
+		byte[] snapshot;
+		try {
+			snapshot=this.encode(bap);
+		} catch (IOException e) {
+			logger.error("Failed to encode checkpoint", e);
+			return;
+		}
+		long duration=System.currentTimeMillis()-start;
+		encodingTime+=duration;
+		nextCheckpoint=System.currentTimeMillis()+Math.max(interval, (long)(duration/maxOverhead));
+		logger.debug("Encoded checkpoint of {} bytes in {} ms", snapshot.length, duration);
+
+		this.waitForPendingWrite();
+		if(writer == null){
+			writer=Executors.newSingleThreadExecutor(r -> {
+				Thread thread=new Thread(r, "jorlib-checkpoint-"+threadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		pendingWrite=writer.submit(() -> this.write(snapshot));
+		nrCheckpoints++;
+		if(wait)
+			this.waitForPendingWrite();
+	}
+
+	/**
+	 * Writes a snapshot to a temporary file, and replaces the checkpoint file by the temporary file
+	 * @param snapshot encoded checkpoint
+	 */
+	private void write(byte[] snapshot){
+		File tmpFile=new File(file.getPath()+".tmp");
+		try {
+			try(FileOutputStream out=new FileOutputStream(tmpFile)){
+				out.write(snapshot);
+				out.getFD().sync();
+			}
+			try {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) { //The file system does not support atomic moves
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			logger.error("Failed to write checkpoint to "+file, e);
+		}
+	}
+
+	/**
+	 * Waits until the checkpoint which is being written has been written
+	 */
+	private void waitForPendingWrite(){
+		if(pendingWrite == null)
+			return;
+		try {
+			pendingWrite.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.error("Failed to write checkpoint to "+file, e.getCause());
+		}
+		pendingWrite=null;
+	}
+
+	/**
+	 * Waits until the last checkpoint has been written, and stops the background thread
+	 */
+	public void close(){
+		this.waitForPendingWrite();
+		if(writer != null){
+			writer.shutdown();
+			writer=null;
+		}
+	}
+
+	/**
+	 * Encodes the state of a Branch-and-Price instance
+	 * @param bap Branch-and-Price instance
+	 * @return encoded checkpoint
+	 * @throws IOException if the codec fails to write a column or branching decision
+	 */
+	private byte[] encode(AbstractBranchAndPrice<T, U, V> bap) throws IOException {
+		//1. Collect the columns, the lists of columns which are inherited lazily, and the paths of the open nodes
+		List<BAPNode<T, U>> nodes=new ArrayList<>(bap.queue);
+		SpillingNodeQueue<T, U, ?> spillingQueue=bap.getSpillingQueue();
+		Map<U, Integer> columnIndices=new IdentityHashMap<>();
+		List<U> columns=new ArrayList<>();
+		Map<List<U>, Integer> listIndices=new IdentityHashMap<>();
+		List<List<U>> lists=new ArrayList<>();
+		Map<NodePath, Integer> pathIndices=new IdentityHashMap<>();
+		List<NodePath> paths=new ArrayList<>();
+		for(BAPNode<T, U> bapNode : nodes){
+			this.registerPath(bapNode.path, pathIndices, paths);
+			for(U column : bapNode.initialColumns) //The initial columns of a spilled node are not in memory
+				this.registerColumn(column, columnIndices, columns);
+			if(bapNode.inheritedColumns != null && !listIndices.containsKey(bapNode.inheritedColumns)){
+				listIndices.put(bapNode.inheritedColumns, lists.size());
+				lists.add(bapNode.inheritedColumns);
+				for(U column : bapNode.inheritedColumns)
+					this.registerColumn(column, columnIndices, columns);
+			}
+		}
+		for(U column : bap.incumbentSolution)
+			this.registerColumn(column, columnIndices, columns);
+		List<U> poolColumns=(bap.globalColumnPool == null ? Collections.emptyList() : new ArrayList<>(bap.globalColumnPool.columns.keySet()));
+		for(U column : poolColumns)
+			this.registerColumn(column, columnIndices, columns);
+
+		//2. Write the checkpoint
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream out=new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(bap.pricingProblems.size());
+		out.writeInt(bap.nodeCounter);
+		out.writeInt(bap.nodesProcessed);
+		out.writeDouble(bap.objectiveIncumbentSolution);
+		out.writeDouble(bap.upperBoundOnObjective);
+		out.writeDouble(bap.lowerBoundOnObjective);
+		out.writeDouble(bap.rootNode.bound);
+		out.writeLong(bap.timeSolvingMaster);
+		out.writeLong(bap.timeSolvingPricing);
+		out.writeInt(bap.totalGeneratedColumns);
+		out.writeInt(bap.totalNrIterations);
+
+		out.writeInt(columns.size());
+		for(U column : columns){
+			out.writeInt(this.indexOf(bap.pricingProblems, column.associatedPricingProblem));
+			codec.writeColumn(column, out);
+		}
+		out.writeInt(lists.size());
+		for(List<U> list : lists)
+			this.writeColumnIndices(list, columnIndices, out);
+		out.writeInt(paths.size());
+		for(NodePath path : paths){
+			out.writeInt(path.getNodeID());
+			if(path.getParent() == null){
+				out.writeInt(-1);
+			}else{
+				out.writeInt(pathIndices.get(path.getParent()));
+				this.writeBranchingDecision(path, out);
+			}
+		}
+		out.writeInt(nodes.size());
+		for(BAPNode<T, U> bapNode : nodes){
+			out.writeInt(pathIndices.get(bapNode.path));
+			out.writeDouble(bapNode.bound);
+			out.writeDouble(bapNode.estimate);
+			boolean spilled=(spillingQueue != null && spillingQueue.isSpilled(bapNode));
+			out.writeBoolean(spilled);
+			if(spilled)
+				spillingQueue.writeSpilledColumns(bapNode, out);
+			else
+				this.writeColumnIndices(bapNode.initialColumns, columnIndices, out);
+			out.writeInt(bapNode.inheritedColumns == null ? -1 : listIndices.get(bapNode.inheritedColumns));
+		}
+		this.writeColumnIndices(bap.incumbentSolution, columnIndices, out);
+		this.writeColumnIndices(poolColumns, columnIndices, out);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Restores the state of a Branch-and-Price instance from the checkpoint file. The Branch-and-Price instance must have been created in the same way as the instance which wrote
+	 * the checkpoint, i.e. with the same pricing problems, in the same order. The data structures are reverted to the root node, the queue is replaced by the open nodes of the checkpoint,
+	 * and the incumbent solution, bounds, counters and statistics are restored. If the Branch-and-Price instance has a {@link GlobalColumnPool}, the pool is replaced by the columns of the checkpoint.
+	 * @param bap Branch-and-Price instance
+	 * @throws IOException if the checkpoint cannot be read
+	 */
+	void restore(AbstractBranchAndPrice<T, U, V> bap) throws IOException {
+		try(DataInputStream in=new DataInputStream(new BufferedInputStream(new FileInputStream(file)))){
+			if(in.readInt() != MAGIC)
+				throw new IOException(file+" is not a checkpoint file");
+			int version=in.readInt();
+			if(version != VERSION)
+				throw new IOException("Unsupported checkpoint version: "+version);
+			int nrPricingProblems=in.readInt();
+			if(nrPricingProblems != bap.pricingProblems.size())
+				throw new IOException("Checkpoint has been created for "+nrPricingProblems+" pricing problems, but the Branch-and-Price instance has "+bap.pricingProblems.size()+" pricing problems");
+			int nodeCounter=in.readInt();
+			int nodesProcessed=in.readInt();
+			double objectiveIncumbentSolution=in.readDouble();
+			double upperBoundOnObjective=in.readDouble();
+			double lowerBoundOnObjective=in.readDouble();
+			double rootBound=in.readDouble();
+			long timeSolvingMaster=in.readLong();
+			long timeSolvingPricing=in.readLong();
+			int totalGeneratedColumns=in.readInt();
+			int totalNrIterations=in.readInt();
+
+			List<U> columns=new ArrayList<>();
+			int nrColumns=in.readInt();
+			for(int i=0; i<nrColumns; i++)
+				columns.add(codec.readColumn(in, bap.pricingProblems.get(in.readInt())));
+			List<List<U>> lists=new ArrayList<>();
+			int nrLists=in.readInt();
+			for(int i=0; i<nrLists; i++)
+				lists.add(this.readColumns(columns, in));
+			NodePath[] paths=new NodePath[in.readInt()];
+			for(int i=0; i<paths.length; i++){
+				int nodeID=in.readInt();
+				int parentIndex=in.readInt();
+				paths[i]=(parentIndex == -1 ? NodePath.root(nodeID) : paths[parentIndex].createChild(nodeID, codec.readBranchingDecision(in, bap.pricingProblems)));
+			}
+			List<BAPNode<T, U>> nodes=new ArrayList<>();
+			Map<BAPNode<T, U>, byte[]> spilledColumns=new IdentityHashMap<>(); //Encoded initial columns of the nodes which had been spilled
+			int nrNodes=in.readInt();
+			for(int i=0; i<nrNodes; i++){
+				NodePath path=paths[in.readInt()];
+				double bound=in.readDouble();
+				double estimate=in.readDouble();
+				BAPNode<T, U> bapNode;
+				if(in.readBoolean()){
+					byte[] encodedColumns=new byte[in.readInt()];
+					in.readFully(encodedColumns);
+					bapNode=new BAPNode<>(path, new ArrayList<>(), new ArrayList<>(), bound);
+					spilledColumns.put(bapNode, encodedColumns);
+				}else{
+					bapNode=new BAPNode<>(path, this.readColumns(columns, in), new ArrayList<>(), bound);
+				}
+				bapNode.setEstimate(estimate);
+				int listIndex=in.readInt();
+				if(listIndex != -1)
+					bapNode.setInheritedColumns(lists.get(listIndex));
+				nodes.add(bapNode);
+			}
+			List<U> incumbentSolution=this.readColumns(columns, in);
+			List<U> poolColumns=this.readColumns(columns, in);
+
+			//Restore the state of the Branch-and-Price instance
+			bap.graphManipulator.restore();
+			bap.queue.clear();
+			for(BAPNode<T, U> bapNode : nodes){ //Decode the columns of the spilled nodes one node at a time, such that a SpillingNodeQueue can spill them again
+				byte[] encodedColumns=spilledColumns.remove(bapNode);
+				if(encodedColumns != null)
+					bapNode.addInitialColumns(SpillingNodeQueue.readColumns(new DataInputStream(new ByteArrayInputStream(encodedColumns)), codec, bap.pricingProblems));
+				bap.queue.add(bapNode);
+			}
+			bap.nodeCounter=nodeCounter;
+			bap.nodesProcessed=nodesProcessed;
+			bap.objectiveIncumbentSolution=objectiveIncumbentSolution;
+			bap.incumbentSolution=incumbentSolution;
+			bap.upperBoundOnObjective=upperBoundOnObjective;
+			bap.lowerBoundOnObjective=lowerBoundOnObjective;
+			bap.rootNode.bound=rootBound;
+			bap.timeSolvingMaster=timeSolvingMaster;
+			bap.timeSolvingPricing=timeSolvingPricing;
+			bap.totalGeneratedColumns=totalGeneratedColumns;
+			bap.totalNrIterations=totalNrIterations;
+			if(bap.globalColumnPool != null){
+				bap.globalColumnPool.clear();
+				bap.globalColumnPool.addColumns(poolColumns);
+			}
+			logger.debug("Restored {} open nodes from {}", nodes.size(), file);
+		}
+	}
+
+	/**
+	 * Assigns an index to a path and to all its prefixes which have not been assigned an index yet. Prefixes are assigned a lower index than the paths extending them.
+	 * @param path path
+	 * @param pathIndices index of every path
+	 * @param paths paths ordered by index
+	 */
+	private void registerPath(NodePath path, Map<NodePath, Integer> pathIndices, List<NodePath> paths){
+		Deque<NodePath> newPaths=new ArrayDeque<>();
+		for(NodePath prefix=path; prefix != null && !pathIndices.containsKey(prefix); prefix=prefix.getParent())
+			newPaths.push(prefix);
+		for(NodePath prefix : newPaths){
+			pathIndices.put(prefix, paths.size());
+			paths.add(prefix);
+		}
+	}
+
+	/**
+	 * Assigns an index to a column, unless the column has been assigned an index already
+	 * @param column column
+	 * @param columnIndices index of every column
+	 * @param columns columns ordered by index
+	 */
+	private void registerColumn(U column, Map<U, Integer> columnIndices, List<U> columns){
+		if(!columnIndices.containsKey(column)){
+			columnIndices.put(column, columns.size());
+			columns.add(column);
+		}
+	}
+
+	/**
+	 * Writes the branching decision of a path. A path stores its branching decision as a raw type, since the paths are shared by all workers of a search; the branching
+	 * decisions on the paths of this Branch-and-Price instance have been created by its branch creators, and hence match the type parameters of the codec.
+	 * @param path path which is not the root path
+	 * @param out output
+	 * @throws IOException if the codec fails to write the branching decision
+	 */
+	@SuppressWarnings("unchecked")
+	private void writeBranchingDecision(NodePath path, DataOutput out) throws IOException {
+		codec.writeBranchingDecision((BranchingDecision<T, U>) path.getBranchingDecision(), out);
+	}
+
+	/**
+	 * Writes a list of columns as a list of column indices
+	 * @param list columns
+	 * @param columnIndices index of every column
+	 * @param out output
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeColumnIndices(List<U> list, Map<U, Integer> columnIndices, DataOutput out) throws IOException {
+		out.writeInt(list.size());
+		for(U column : list)
+			out.writeInt(columnIndices.get(column));
+	}
+
+	/**
+	 * Reads a list of columns which has been written as a list of column indices
+	 * @param columns columns ordered by index
+	 * @param in input
+	 * @return list of columns
+	 * @throws IOException if an I/O error occurs
+	 */
+	private List<U> readColumns(List<U> columns, DataInput in) throws IOException {
+		int size=in.readInt();
+		List<U> list=new ArrayList<>(size);
+		for(int i=0; i<size; i++)
+			list.add(columns.get(in.readInt()));
+		return list;
+	}
+
+	/**
+	 * Returns the position of a pricing problem in the list of pricing problems
+	 * @param pricingProblems pricing problems
+	 * @param pricingProblem pricing problem
+	 * @return the position of the pricing problem
+	 */
+	private int indexOf(List<V> pricingProblems, V pricingProblem){
+		for(int i=0; i<pricingProblems.size(); i++){
+			if(pricingProblems.get(i) == pricingProblem)
+				return i;
+		}
+		throw new IllegalStateException("Column belongs to an unknown pricing problem: "+pricingProblem);
+	}
+}
@@ -0,0 +1,65 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DistributedBAPFactory.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Interface which has to be implemented by a factory class which produces the workers of a {@link DistributedBranchAndPrice} search. Every worker runs in its own JVM, in which
+ * the factory is instantiated through its public constructor with a single {@code String[]} parameter, which receives the factory arguments of the {@link DistributedBranchAndPrice} search,
+ * or, if there are no factory arguments, through its public no-argument constructor. The factory therefore has to load or construct the data model itself, e.g. from the file named by its arguments. Every worker is a complete Branch-and-Price
+ * instance, typically an instance of the same {@link AbstractBranchAndPrice} subclass which is used to solve the problem in a single JVM, with its own master problem, pricing problems,
+ * pricing problem solvers and branch creators.
+ * <p>
+ * Nodes are transferred between the workers as their branching decisions and initial columns, which are written and read by the codec. Branching decisions which refer to pricing problems
+ * should write the position of the pricing problem in the list of pricing problems, see {@link CheckpointCodec}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public interface DistributedBAPFactory<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/**
+	 * Creates the Branch-and-Price instance of a worker. The instance may be warm started (see {@link AbstractBranchAndPrice#warmStart(double, java.util.List)}); its incumbent solution is shared with
+	 * the other workers. The workers must define their pricing problems in the same order.
+	 * @param workerID ID of the worker, ranging from 0 to the number of workers-1
+	 * @return a new Branch-and-Price instance
+	 */
+	AbstractBranchAndPrice<T, U, V> createWorker(int workerID);
+
+	/**
+	 * Creates the codec which writes and reads the columns and branching decisions of the nodes which are transferred between the workers
+	 * @return codec
+	 */
+	CheckpointCodec<T, U, V> createCodec();
+}
@@ -0,0 +1,320 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DistributedBAPProtocol.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Messages exchanged between the coordinator of a {@link DistributedBranchAndPrice} search and its workers (see {@link DistributedBAPWorker}). Every message is a frame consisting of
+ * a type, the length of the payload, and the payload, so messages can be read without decoding their payload. The coordinator never decodes nodes: a list of nodes is written as
+ * the number of nodes, followed by the bound, the length and the encoding of every node. A node is encoded as the IDs of the nodes on its path, the branching decisions on its path,
+ * its bound and estimate, and its initial columns. Fixing decisions (see {@link NodePath#getFixings()}) and inequalities are not encoded.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+final class DistributedBAPProtocol<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Worker to coordinator: ID of the worker, optimization sense, number of pricing problems, rounded bound of the root node, and the incumbent solution of the worker **/
+	static final byte HELLO=1;
+	/** Coordinator to worker: time limit, number of workers and objective of the incumbent solution **/
+	static final byte CONFIG=2;
+	/** Worker to coordinator: rounded bound of the nodes of the worker (NaN if the worker is idle), number of open nodes, and number of processed nodes **/
+	static final byte STATUS=3;
+	/** Coordinator to worker: nodes to process. Worker to coordinator: nodes given up in reply to a STEAL message (possibly none) **/
+	static final byte NODES=4;
+	/** Coordinator to worker: request to give up at most the given number of open nodes **/
+	static final byte STEAL=5;
+	/** Worker to coordinator: a new incumbent solution. Coordinator to worker: objective of a new incumbent solution **/
+	static final byte INCUMBENT=6;
+	/** Coordinator to worker: stop processing nodes **/
+	static final byte STOP=7;
+	/** Worker to coordinator: statistics of the worker, and the rounded bound of its remaining open nodes (NaN if there are none) **/
+	static final byte FINISHED=8;
+	/** Placeholder for a connection which has been closed; never sent **/
+	static final byte CLOSED=9;
+
+	/**
+	 * A message received from a worker or from the coordinator
+	 */
+	static final class Message{
+		/** ID of the worker which sent the message, or -1 if the message was sent by the coordinator **/
+		final int sender;
+		/** Type of the message **/
+		final byte type;
+		/** Payload of the message **/
+		final byte[] payload;
+
+		Message(int sender, byte type, byte[] payload){
+			this.sender=sender;
+			this.type=type;
+			this.payload=payload;
+		}
+
+		/**
+		 * Returns an input from which the payload is read
+		 * @return input
+		 */
+		DataInputStream input(){
+			return new DataInputStream(new ByteArrayInputStream(payload));
+		}
+	}
+
+	/**
+	 * A node which has been encoded, together with its bound
+	 */
+	static final class EncodedNode{
+		/** Bound of the node, rounded by the worker which encoded the node **/
+		final double bound;
+		/** Encoding of the node **/
+		final byte[] bytes;
+
+		EncodedNode(double bound, byte[] bytes){
+			this.bound=bound;
+			this.bytes=bytes;
+		}
+	}
+
+	/** Writes and reads columns and branching decisions **/
+	private final CheckpointCodec<T, U, V> codec;
+	/** Pricing problems of the Branch-and-Price instance encoding and decoding the nodes **/
+	private final List<V> pricingProblems;
+
+	/**
+	 * Creates a new protocol instance
+	 * @param codec writes and reads columns and branching decisions
+	 * @param pricingProblems pricing problems to which the columns belong
+	 */
+	DistributedBAPProtocol(CheckpointCodec<T, U, V> codec, List<V> pricingProblems){
+		this.codec=codec;
+		this.pricingProblems=pricingProblems;
+	}
+
+	/**
+	 * Sends a message
+	 * @param out output stream of the connection
+	 * @param type type of the message
+	 * @param payload payload of the message
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void send(DataOutputStream out, byte type, byte[] payload) throws IOException {
+		out.writeByte(type);
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.flush();
+	}
+
+	/**
+	 * Receives a message, blocking until the message is available
+	 * @param in input stream of the connection
+	 * @param sender ID of the sender of the message
+	 * @return the message, or a message of type {@link #CLOSED} if the connection has been closed
+	 * @throws IOException if an I/O error occurs
+	 */
+	static Message receive(DataInputStream in, int sender) throws IOException {
+		int type=in.read();
+		if(type == -1)
+			return new Message(sender, CLOSED, new byte[0]);
+		byte[] payload=new byte[in.readInt()];
+		in.readFully(payload);
+		return new Message(sender, (byte) type, payload);
+	}
+
+	/**
+	 * Writes a list of encoded nodes
+	 * @param nodes encoded nodes
+	 * @return payload of a {@link #NODES} message
+	 */
+	static byte[] writeEncodedNodes(List<EncodedNode> nodes){
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		try(DataOutputStream out=new DataOutputStream(bytes)){
+			out.writeInt(nodes.size());
+			for(EncodedNode node : nodes){
+				out.writeDouble(node.bound);
+				out.writeInt(node.bytes.length);
+				out.write(node.bytes);
+			}
+		} catch (IOException e) { //Cannot occur when writing to a byte array
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Reads a list of encoded nodes, without decoding the nodes
+	 * @param payload payload of a {@link #NODES} message
+	 * @return encoded nodes
+	 * @throws IOException if the payload is malformed
+	 */
+	static List<EncodedNode> readEncodedNodes(byte[] payload) throws IOException {
+		DataInputStream in=new DataInputStream(new ByteArrayInputStream(payload));
+		int nrNodes=in.readInt();
+		List<EncodedNode> nodes=new ArrayList<>(nrNodes);
+		for(int i=0; i<nrNodes; i++){
+			double bound=in.readDouble();
+			byte[] bytes=new byte[in.readInt()];
+			in.readFully(bytes);
+			nodes.add(new EncodedNode(bound, bytes));
+		}
+		return nodes;
+	}
+
+	/**
+	 * Encodes a node. The columns which the node inherits from its parent (see {@link BAPNode#setInheritedColumns(List)}) must have been inherited.
+	 * @param bapNode node
+	 * @param bound bound of the node, rounded by the Branch-and-Price instance which created the node
+	 * @return the encoded node
+	 * @throws IOException if the codec fails to write a column or branching decision
+	 */
+	@SuppressWarnings("unchecked")
+	EncodedNode encode(BAPNode<T, U> bapNode, double bound) throws IOException {
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream out=new DataOutputStream(bytes);
+		int[] nodeIDs=bapNode.path.toArray();
+		out.writeInt(nodeIDs.length);
+		for(int nodeID : nodeIDs)
+			out.writeInt(nodeID);
+		for(BranchingDecision branchingDecision : bapNode.path.getBranchingDecisions())
+			codec.writeBranchingDecision(branchingDecision, out);
+		out.writeDouble(bapNode.bound);
+		out.writeDouble(bapNode.estimate);
+		this.writeColumns(bapNode.initialColumns, out);
+		out.flush();
+		return new EncodedNode(bound, bytes.toByteArray());
+	}
+
+	/**
+	 * Decodes a node which has been encoded by {@link #encode(BAPNode, double)}
+	 * @param node encoded node
+	 * @return the node; its branching decisions and columns refer to the pricing problems of this protocol instance
+	 * @throws IOException if the codec fails to read a column or branching decision
+	 */
+	BAPNode<T, U> decode(EncodedNode node) throws IOException {
+		DataInputStream in=new DataInputStream(new ByteArrayInputStream(node.bytes));
+		int[] nodeIDs=new int[in.readInt()];
+		for(int i=0; i<nodeIDs.length; i++)
+			nodeIDs[i]=in.readInt();
+		List<BranchingDecision<T, U>> branchingDecisions=new ArrayList<>(nodeIDs.length-1);
+		for(int i=1; i<nodeIDs.length; i++)
+			branchingDecisions.add(codec.readBranchingDecision(in, pricingProblems));
+		double bound=in.readDouble();
+		double estimate=in.readDouble();
+		BAPNode<T, U> bapNode=new BAPNode<>(NodePath.of(nodeIDs, branchingDecisions), this.readColumns(in), new ArrayList<>(), bound);
+		bapNode.setEstimate(estimate);
+		return bapNode;
+	}
+
+	/**
+	 * Encodes a solution
+	 * @param objective objective value of the solution
+	 * @param solution columns constituting the solution
+	 * @return the encoded solution
+	 * @throws IOException if the codec fails to write a column
+	 */
+	byte[] encodeSolution(double objective, List<U> solution) throws IOException {
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream out=new DataOutputStream(bytes);
+		out.writeDouble(objective);
+		this.writeColumns(solution, out);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Reads the objective of a solution which has been encoded by {@link #encodeSolution(double, List)}, without decoding its columns
+	 * @param solution encoded solution
+	 * @return objective value of the solution
+	 * @throws IOException if the solution is malformed
+	 */
+	static double readObjective(byte[] solution) throws IOException {
+		return new DataInputStream(new ByteArrayInputStream(solution)).readDouble();
+	}
+
+	/**
+	 * Decodes the columns of a solution which has been encoded by {@link #encodeSolution(double, List)}
+	 * @param solution encoded solution
+	 * @return columns constituting the solution
+	 * @throws IOException if the codec fails to read a column
+	 */
+	List<U> decodeSolution(byte[] solution) throws IOException {
+		DataInputStream in=new DataInputStream(new ByteArrayInputStream(solution));
+		in.readDouble();
+		return this.readColumns(in);
+	}
+
+	/**
+	 * Writes a list of columns, together with the pricing problems to which they belong
+	 * @param columns columns
+	 * @param out output
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeColumns(List<U> columns, DataOutput out) throws IOException {
+		out.writeInt(columns.size());
+		for(U column : columns){
+			out.writeInt(this.indexOf(column.associatedPricingProblem));
+			codec.writeColumn(column, out);
+		}
+	}
+
+	/**
+	 * Reads a list of columns which has been written by {@link #writeColumns(List, DataOutput)}
+	 * @param in input
+	 * @return columns
+	 * @throws IOException if an I/O error occurs
+	 */
+	private List<U> readColumns(DataInput in) throws IOException {
+		int nrColumns=in.readInt();
+		List<U> columns=new ArrayList<>(nrColumns);
+		for(int i=0; i<nrColumns; i++)
+			columns.add(codec.readColumn(in, pricingProblems.get(in.readInt())));
+		return columns;
+	}
+
+	/**
+	 * Returns the position of a pricing problem in the list of pricing problems
+	 * @param pricingProblem pricing problem
+	 * @return the position of the pricing problem
+	 */
+	private int indexOf(V pricingProblem){
+		for(int i=0; i<pricingProblems.size(); i++){
+			if(pricingProblems.get(i) == pricingProblem)
+				return i;
+		}
+		throw new IllegalStateException("Column belongs to an unknown pricing problem: "+pricingProblem);
+	}
+}
@@ -0,0 +1,302 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DistributedBAPWorker.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocol.EncodedNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocol.Message;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Worker process of a {@link DistributedBranchAndPrice} search. The worker connects to the coordinator, creates its Branch-and-Price instance through a {@link DistributedBAPFactory}, and processes
+ * the nodes it receives from the coordinator, together with their descendants, in the order defined by the node queue of the Branch-and-Price instance. In between two nodes, the worker
+ * handles the messages of the coordinator: it adds the nodes it receives to its queue, tightens its bounds with the incumbent solutions found by the other workers, and gives up half of its open
+ * nodes when the coordinator asks to steal work for an idle worker. The nodes which are given up are the nodes closest to the root, since these nodes are expected to have the largest subtrees.
+ * <p>
+ * The node IDs of the workers are interleaved: worker i assigns the IDs i+1, i+1+n, i+1+2n, ..., where n is the number of workers, so the IDs of the nodes remain unique over all workers.
+ * This class is started by the coordinator; it is not meant to be started by hand.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public final class DistributedBAPWorker<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	private static final Logger logger = LoggerFactory.getLogger(DistributedBAPWorker.class);
+
+	/** ID of this worker **/
+	private final int workerID;
+	/** Branch-and-Price instance which processes the nodes **/
+	private final AbstractBranchAndPrice<T, U, V> bap;
+	/** Encodes and decodes nodes and solutions **/
+	private final DistributedBAPProtocol<T, U, V> protocol;
+	/** Output stream of the connection **/
+	private final DataOutputStream out;
+	/** Input stream of the connection **/
+	private final DataInputStream in;
+	/** Messages received from the coordinator which have not been handled yet **/
+	private final BlockingQueue<Message> inbox=new LinkedBlockingQueue<>();
+
+	/** Future point in time by which the search should finish **/
+	private long timeLimit=Long.MAX_VALUE;
+	/** Indicates whether the time limit has been exceeded while processing a node **/
+	private boolean timeLimitExceeded=false;
+	/** Indicates whether the coordinator has asked this worker to stop **/
+	private boolean stopped=false;
+
+	/**
+	 * Creates a new worker
+	 * @param factory factory which creates the Branch-and-Price instance and the codec
+	 * @param workerID ID of the worker
+	 * @param socket connection to the coordinator
+	 * @throws IOException if the connection fails
+	 */
+	private DistributedBAPWorker(DistributedBAPFactory<T, U, V> factory, int workerID, Socket socket) throws IOException {
+		this.workerID=workerID;
+		this.bap=factory.createWorker(workerID);
+		this.protocol=new DistributedBAPProtocol<>(factory.createCodec(), bap.pricingProblems);
+		out=new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		in=new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+	}
+
+	/**
+	 * Starts a worker. The worker exits with status 0 when the coordinator stops the search, and with status 1 when the worker fails.
+	 * @param args host and port of the coordinator, name of the factory class, the ID of the worker, and the arguments of the factory
+	 */
+	@SuppressWarnings("unchecked")
+	public static void main(String[] args){
+		if(args.length < 4){
+			logger.error("Usage: DistributedBAPWorker <host> <port> <factory class> <worker ID> [factory arguments]");
+			System.exit(1);
+		}
+		try(Socket socket=new Socket(args[0], Integer.parseInt(args[1]))){
+			socket.setTcpNoDelay(true);
+			DistributedBAPFactory factory=(DistributedBAPFactory) DistributedBranchAndPrice.instantiateFactory(Class.forName(args[2]), Arrays.copyOfRange(args, 4, args.length));
+			DistributedBAPWorker worker=new DistributedBAPWorker(factory, Integer.parseInt(args[3]), socket);
+			try{
+				worker.run();
+			}finally{
+				worker.bap.close();
+			}
+		} catch (Throwable t) {
+			logger.error("Worker "+args[3]+" failed", t);
+			System.exit(1);
+		}
+		System.exit(0); //Terminate the threads of the pricing problem solvers
+	}
+
+	/**
+	 * Registers with the coordinator, and processes nodes until the coordinator asks this worker to stop
+	 * @throws IOException if the connection fails
+	 */
+	private void run() throws IOException {
+		//1. Register with the coordinator, and receive the configuration of the search
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream hello=new DataOutputStream(bytes);
+		hello.writeInt(workerID);
+		hello.writeInt(bap.optimizationSenseMaster.ordinal());
+		hello.writeInt(bap.pricingProblems.size());
+		hello.writeDouble(bap.roundBound(bap.rootNode.bound));
+		byte[] solution=protocol.encodeSolution(bap.objectiveIncumbentSolution, bap.incumbentSolution);
+		hello.writeInt(solution.length);
+		hello.write(solution);
+		DistributedBAPProtocol.send(out, DistributedBAPProtocol.HELLO, bytes.toByteArray());
+		Message config=DistributedBAPProtocol.receive(in, -1);
+		if(config.type != DistributedBAPProtocol.CONFIG)
+			throw new IOException("Expected the configuration of the search, but received message of type "+config.type);
+		DataInputStream configInput=config.input();
+		timeLimit=configInput.readLong();
+		int nrWorkers=configInput.readInt();
+		bap.tightenIncumbentBound(configInput.readDouble());
+		bap.nodeCounter=workerID+1;
+		bap.nodeIDStride=nrWorkers;
+		bap.queue.clear(); //The root node is provided by the coordinator
+
+		//2. Receive messages on a separate thread, such that they can be handled in between two nodes
+		Thread reader=new Thread(this::receiveMessages, "jorlib-bap-worker-"+workerID+"-reader");
+		reader.setDaemon(true);
+		reader.start();
+
+		//3. Process nodes
+		bap.notifier.fireStartBAPEvent();
+		bap.runtime=System.currentTimeMillis();
+		boolean idle=true; //The coordinator considers a worker to be idle until it has received its first node
+		try{
+			while(true){
+				for(Message message=inbox.poll(); message != null; message=inbox.poll())
+					this.handle(message);
+				if(stopped)
+					break;
+				if(bap.queue.isEmpty() || timeLimitExceeded){
+					if(!idle && !timeLimitExceeded){
+						this.sendStatus(Double.NaN);
+						idle=true;
+					}
+					this.handle(inbox.take());
+					continue;
+				}
+				idle=false;
+				BAPNode<T, U> bapNode=bap.queue.poll();
+				double bound=bapNode.bound;
+				if(!bap.queue.isEmpty())
+					bound=(bap.optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(bound, bap.getBoundOpenNodes()) : Math.max(bound, bap.getBoundOpenNodes()));
+				this.sendStatus(bap.roundBound(bound));
+				double objective=bap.objectiveIncumbentSolution;
+				try {
+					bap.processNode(bapNode, timeLimit);
+				} catch (TimeLimitExceededException e) {
+					bap.queue.add(bapNode);
+					timeLimitExceeded=true; //Wait until the coordinator stops the search
+				}
+				if(bap.objectiveIncumbentSolution != objective)
+					DistributedBAPProtocol.send(out, DistributedBAPProtocol.INCUMBENT, protocol.encodeSolution(bap.objectiveIncumbentSolution, bap.incumbentSolution));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}finally{
+			bap.notifier.fireStopBAPEvent();
+			bap.runtime=System.currentTimeMillis()-bap.runtime;
+			bap.notifier.getEventDispatcher().flush();
+		}
+
+		//4. Report the statistics of this worker
+		bytes=new ByteArrayOutputStream();
+		DataOutputStream finished=new DataOutputStream(bytes);
+		finished.writeInt(bap.nodesProcessed);
+		finished.writeLong(bap.timeSolvingMaster);
+		finished.writeLong(bap.timeSolvingPricing);
+		finished.writeInt(bap.totalGeneratedColumns);
+		finished.writeInt(bap.totalNrIterations);
+		finished.writeDouble(bap.queue.isEmpty() ? Double.NaN : bap.roundBound(bap.getBoundOpenNodes()));
+		DistributedBAPProtocol.send(out, DistributedBAPProtocol.FINISHED, bytes.toByteArray());
+	}
+
+	/**
+	 * Receives the messages of the coordinator, until the connection is closed
+	 */
+	private void receiveMessages(){
+		try {
+			Message message;
+			do{
+				message=DistributedBAPProtocol.receive(in, -1);
+				inbox.add(message);
+			}while(message.type != DistributedBAPProtocol.CLOSED);
+		} catch (IOException e) {
+			inbox.add(new Message(-1, DistributedBAPProtocol.CLOSED, new byte[0]));
+		}
+	}
+
+	/**
+	 * Handles a message of the coordinator
+	 * @param message message
+	 * @throws IOException if the connection fails, or if the message is malformed
+	 */
+	private void handle(Message message) throws IOException {
+		switch (message.type){
+			case DistributedBAPProtocol.NODES:
+				for(EncodedNode node : DistributedBAPProtocol.readEncodedNodes(message.payload)){
+					BAPNode<T, U> bapNode=protocol.decode(node);
+					if(bapNode.nodeID == 0){ //The root node, with the columns of the warm start of this worker
+						bapNode=bap.rootNode;
+						if(bapNode.getInitialColumns().isEmpty())
+							bapNode.addInitialColumns(bap.generateInitialFeasibleSolution(bapNode));
+					}
+					bap.queue.add(bapNode);
+				}
+				break;
+			case DistributedBAPProtocol.INCUMBENT:
+				bap.tightenIncumbentBound(message.input().readDouble());
+				break;
+			case DistributedBAPProtocol.STEAL:
+				DistributedBAPProtocol.send(out, DistributedBAPProtocol.NODES, DistributedBAPProtocol.writeEncodedNodes(this.giveUpNodes()));
+				break;
+			case DistributedBAPProtocol.STOP:
+				stopped=true;
+				break;
+			case DistributedBAPProtocol.CLOSED:
+				throw new IOException("The coordinator closed the connection");
+			default:
+				throw new IOException("Unexpected message of type "+message.type);
+		}
+	}
+
+	/**
+	 * Removes half of the open nodes from the queue, preferring the nodes closest to the root, and encodes them
+	 * @return the encoded nodes
+	 * @throws IOException if the codec fails to write a column or branching decision
+	 */
+	private List<EncodedNode> giveUpNodes() throws IOException {
+		SpillingNodeQueue<T, U, ?> spillingQueue=bap.getSpillingQueue();
+		List<BAPNode<T, U>> candidates=new ArrayList<>(bap.queue);
+		candidates.sort(Comparator.comparingInt(BAPNode::getNodeDepth));
+		List<EncodedNode> nodes=new ArrayList<>();
+		for(BAPNode<T, U> bapNode : candidates.subList(0, candidates.size()/2)){
+			if(spillingQueue != null && spillingQueue.isSpilled(bapNode)){
+				List<U> columns=spillingQueue.readInitialColumns(bapNode);
+				bap.queue.remove(bapNode);
+				bapNode.addInitialColumns(columns);
+			}else{
+				bap.queue.remove(bapNode);
+			}
+			bapNode.inheritColumns();
+			nodes.add(protocol.encode(bapNode, bap.roundBound(bapNode.bound)));
+		}
+		return nodes;
+	}
+
+	/**
+	 * Informs the coordinator about the state of this worker
+	 * @param bound rounded bound of the nodes of this worker, or NaN if this worker is idle
+	 * @throws IOException if the connection fails
+	 */
+	private void sendStatus(double bound) throws IOException {
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream status=new DataOutputStream(bytes);
+		status.writeDouble(bound);
+		status.writeInt(bap.queue.size());
+		status.writeInt(bap.nodesProcessed);
+		DistributedBAPProtocol.send(out, DistributedBAPProtocol.STATUS, bytes.toByteArray());
+	}
+}
@@ -0,0 +1,649 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DistributedBranchAndPrice.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocol.EncodedNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocol.Message;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches the Branch-and-Price tree with a number of worker processes, which run on the same machine as this coordinator and communicate with the coordinator over local TCP connections.
+ * Every worker runs in its own JVM (see {@link DistributedBAPWorker}), and is a complete Branch-and-Price instance created by a {@link DistributedBAPFactory}; the workers are started by
+ * {@link #runBranchAndPrice(long)}, with the class path of this JVM. In contrast to a {@link ParallelBranchAndPrice} search, the workers do not share a heap, so the search is not limited by the memory of a single JVM,
+ * and a master problem or pricing problem solver which is not thread-safe can be used by every worker.
+ * <p>
+ * Every worker processes the subtrees of the nodes it receives in the order defined by its own node queue. The coordinator keeps a pool of nodes which have not been assigned to a worker,
+ * ordered by their bound, and hands a node to every idle worker. When the pool is empty, the coordinator steals work for the idle workers: it asks the busy worker with the largest number of open nodes
+ * to give up half of its open nodes, which are added to the pool. Nodes are transferred as their node IDs, branching decisions and initial columns, which are written by the codec of the factory;
+ * fixing decisions and valid inequalities are not transferred, they are derived again by the worker processing the node. Whenever a worker finds a better solution, its objective is broadcast to the other workers,
+ * which use it to prune their nodes; the columns of the solution are kept by the coordinator in encoded form.
+ * <p>
+ * The search terminates when all nodes have been processed, when the time limit is exceeded, or when the gap limits are reached (see {@link #setAbsoluteGapLimit(double)} and {@link #setRelativeGapLimit(double)}).
+ * The workers finish the nodes they are processing, report their statistics and exit.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public final class DistributedBranchAndPrice<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	private static final Logger logger = LoggerFactory.getLogger(DistributedBranchAndPrice.class);
+	/** Maximum time the coordinator waits until all workers have connected (ms) **/
+	private static final int CONNECT_TIMEOUT=60000;
+
+	/**
+	 * State of a worker process, as far as known to the coordinator
+	 */
+	private static final class Worker{
+		/** Worker process **/
+		Process process;
+		/** Connection to the worker **/
+		Socket socket;
+		/** Output stream of the connection **/
+		DataOutputStream out;
+		/** Indicates whether the worker has nodes to process **/
+		boolean busy=false;
+		/** Rounded bound of the nodes of the worker, as reported by the worker **/
+		double bound=Double.NaN;
+		/** Number of open nodes in the queue of the worker, as reported by the worker **/
+		int nrOpenNodes=0;
+		/** Indicates whether the worker has been asked to give up nodes, and has not replied yet **/
+		boolean stealPending=false;
+		/** Indicates whether the worker has reported its final statistics **/
+		boolean finished=false;
+		/** Number of nodes processed by the worker **/
+		int nodesProcessed=0;
+		/** Time spent by the worker on solving master problems **/
+		long timeSolvingMaster=0;
+		/** Time spent by the worker on solving pricing problems **/
+		long timeSolvingPricing=0;
+		/** Number of columns generated by the worker **/
+		int totalGeneratedColumns=0;
+		/** Number of column generation iterations made by the worker **/
+		int totalNrIterations=0;
+	}
+
+	/** Factory class, which is instantiated by every worker process **/
+	private final Class<? extends DistributedBAPFactory<T, U, V>> factoryClass;
+	/** Arguments which are passed to the constructor of the factory in every worker process **/
+	private final List<String> factoryArguments;
+	/** Codec used to decode the incumbent solution **/
+	private final CheckpointCodec<T, U, V> codec;
+	/** Workers **/
+	private final Worker[] workers;
+	/** Additional arguments of the JVMs of the workers **/
+	private List<String> jvmArguments=Collections.emptyList();
+	/** Messages received from the workers which have not been handled yet **/
+	private final BlockingQueue<Message> inbox=new LinkedBlockingQueue<>();
+	/** Defines whether the master problem is a minimization or a maximization problem **/
+	private OptimizationSense optimizationSenseMaster=OptimizationSense.MINIMIZE;
+	/** Nodes which have not been assigned to a worker, ordered by their bound **/
+	private PriorityQueue<EncodedNode> pool;
+
+	/** Stores the objective of the best (integer) solution **/
+	private double objectiveIncumbentSolution=Double.MAX_VALUE;
+	/** Encoded columns of the best integer solution, or null if no feasible solution has been found **/
+	private byte[] incumbentSolution=null;
+	/** Bound on the objective, available after the search has terminated **/
+	private double bound=Double.NaN;
+	/** Indicator whether the best solution is optimal **/
+	private boolean isOptimal=false;
+	/** Total runtime **/
+	private long runtime=0;
+	/** Number of nodes which have been stolen from the workers **/
+	private int nrStolenNodes=0;
+	/** The search terminates as soon as the absolute gap between the incumbent solution and the bound does not exceed this limit (0 to disable) **/
+	private double absoluteGapLimit=0;
+	/** The search terminates as soon as the relative gap between the incumbent solution and the bound does not exceed this limit (0 to disable) **/
+	private double relativeGapLimit=0;
+
+	/**
+	 * Creates a new distributed Branch-and-Price search
+	 * @param factoryClass class of the factory which creates the Branch-and-Price instances of the workers. The class must be public, and must have a public constructor without arguments.
+	 * @param nrWorkers number of worker processes
+	 */
+	public DistributedBranchAndPrice(Class<? extends DistributedBAPFactory<T, U, V>> factoryClass, int nrWorkers){
+		this(factoryClass, nrWorkers, Collections.<String>emptyList());
+	}
+
+	/**
+	 * Creates a new distributed Branch-and-Price search, in which every worker passes the given arguments to the constructor of its factory, e.g. the name of the file which contains
+	 * the data model. The arguments are passed to the workers on their command line.
+	 * @param factoryClass class of the factory which creates the Branch-and-Price instances of the workers. The class must be public, and must have a public constructor with a single
+	 * {@code String[]} parameter, or, if there are no factory arguments, a public constructor without arguments.
+	 * @param nrWorkers number of worker processes
+	 * @param factoryArguments arguments which are passed to the constructor of the factory
+	 */
+	public DistributedBranchAndPrice(Class<? extends DistributedBAPFactory<T, U, V>> factoryClass, int nrWorkers, List<String> factoryArguments){
+		if(nrWorkers < 1)
+			throw new IllegalArgumentException("At least one worker is required");
+		this.factoryClass=factoryClass;
+		this.factoryArguments=new ArrayList<>(factoryArguments);
+		this.codec=instantiateFactory(factoryClass, this.factoryArguments.toArray(new String[0])).createCodec();
+		workers=new Worker[nrWorkers];
+	}
+
+	/**
+	 * Instantiates a factory through its public constructor with a single {@code String[]} parameter. If the factory does not have such a constructor, and no arguments are
+	 * provided, the factory is instantiated through its public constructor without arguments.
+	 * @param factoryClass class of the factory
+	 * @param arguments arguments of the factory
+	 * @param <F> type of the factory
+	 * @return a new factory
+	 */
+	static <F> F instantiateFactory(Class<F> factoryClass, String[] arguments){
+		try {
+			try {
+				return factoryClass.getConstructor(String[].class).newInstance((Object) arguments);
+			} catch (NoSuchMethodException e) {
+				if(arguments.length > 0)
+					throw e;
+				return factoryClass.getConstructor().newInstance();
+			}
+		} catch (InvocationTargetException e) {
+			throw new IllegalArgumentException("The constructor of factory "+factoryClass.getName()+" failed", e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException("Failed to instantiate factory "+factoryClass.getName()+"; the factory must be a public class with a public constructor with a single String[] parameter,"
+					+ " or, if there are no factory arguments, a public constructor without arguments", e);
+		}
+	}
+
+	/**
+	 * Sets additional arguments of the JVMs of the workers, e.g. their maximum heap size
+	 * @param jvmArguments JVM arguments, e.g. {@code -Xmx4g}
+	 */
+	public void setJvmArguments(List<String> jvmArguments){
+		this.jvmArguments=new ArrayList<>(jvmArguments);
+	}
+
+	/**
+	 * Starts the workers and runs the distributed Branch-and-Price search. This method returns when all workers have exited. When the thread invoking this method is interrupted,
+	 * the workers finish the nodes they are processing, and stop.
+	 * Note: In the current version of the code, one should not invoke this function multiple times on the same instance!
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 */
+	public void runBranchAndPrice(long timeLimit){
+		this.runtime=System.currentTimeMillis();
+		try(ServerSocket serverSocket=new ServerSocket(0, workers.length, InetAddress.getLoopbackAddress())){
+			double rootBound=this.startWorkers(serverSocket, timeLimit);
+
+			//The pool initially contains the root node. The workers replace it by their own root node, which contains the columns of their warm start.
+			pool=new PriorityQueue<>(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Comparator.comparingDouble((EncodedNode node) -> node.bound) : Comparator.comparingDouble((EncodedNode node) -> -node.bound));
+			BAPNode<T, U> rootNode=new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), rootBound);
+			pool.add(new DistributedBAPProtocol<>(codec, Collections.<V>emptyList()).encode(rootNode, rootBound));
+
+			this.coordinate(timeLimit);
+			this.stopWorkers();
+		} catch (IOException e) {
+			throw new RuntimeException("Distributed Branch-and-Price search failed", e);
+		} finally {
+			for(Worker worker : workers){
+				if(worker == null)
+					continue;
+				if(worker.process.isAlive())
+					worker.process.destroy();
+				try {
+					if(worker.socket != null)
+						worker.socket.close();
+				} catch (IOException e) {
+					logger.debug("Failed to close connection", e);
+				}
+			}
+			this.runtime=System.currentTimeMillis()-runtime;
+		}
+	}
+
+	/**
+	 * Starts the worker processes, waits until all workers have registered, and sends them the configuration of the search
+	 * @param serverSocket socket to which the workers connect
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 * @return rounded bound of the root node
+	 * @throws IOException if a worker fails to connect
+	 */
+	private double startWorkers(ServerSocket serverSocket, long timeLimit) throws IOException {
+		for(int i=0; i<workers.length; i++){
+			List<String> command=new ArrayList<>();
+			command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+			command.addAll(jvmArguments);
+			command.add("-cp");
+			command.add(System.getProperty("java.class.path"));
+			command.add(DistributedBAPWorker.class.getName());
+			command.add(serverSocket.getInetAddress().getHostAddress());
+			command.add(String.valueOf(serverSocket.getLocalPort()));
+			command.add(factoryClass.getName());
+			command.add(String.valueOf(i));
+			command.addAll(factoryArguments);
+			workers[i]=new Worker();
+			workers[i].process=new ProcessBuilder(command).inheritIO().start();
+		}
+
+		//Accept the connections of the workers. The workers identify themselves through their HELLO message.
+		serverSocket.setSoTimeout(CONNECT_TIMEOUT);
+		double rootBound=Double.NaN;
+		int nrPricingProblems=-1;
+		for(int i=0; i<workers.length; i++){
+			Socket socket=serverSocket.accept();
+			socket.setTcpNoDelay(true);
+			DataInputStream in=new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			Message hello=DistributedBAPProtocol.receive(in, -1);
+			if(hello.type != DistributedBAPProtocol.HELLO)
+				throw new IOException("Expected a worker to register, but received message of type "+hello.type);
+			DataInputStream helloInput=hello.input();
+			int workerID=helloInput.readInt();
+			Worker worker=workers[workerID];
+			if(worker.socket != null)
+				throw new IOException("Worker "+workerID+" registered twice");
+			worker.socket=socket;
+			worker.out=new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			OptimizationSense optimizationSense=OptimizationSense.values()[helloInput.readInt()];
+			int nrPricingProblemsWorker=helloInput.readInt();
+			if(i == 0){
+				optimizationSenseMaster=optimizationSense;
+				nrPricingProblems=nrPricingProblemsWorker;
+				objectiveIncumbentSolution=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Double.MAX_VALUE : -Double.MAX_VALUE);
+			}else if(optimizationSense != optimizationSenseMaster || nrPricingProblemsWorker != nrPricingProblems){
+				throw new IllegalArgumentException("All workers must solve the same problem: the optimization sense and the number of pricing problems of the workers differ");
+			}
+			if(workerID == 0)
+				rootBound=helloInput.readDouble();
+			else
+				helloInput.readDouble();
+			byte[] solution=new byte[helloInput.readInt()];
+			helloInput.readFully(solution);
+			this.updateIncumbent(solution);
+
+			Thread reader=new Thread(() -> this.receiveMessages(workerID, in), "jorlib-bap-coordinator-reader-"+workerID);
+			reader.setDaemon(true);
+			reader.start();
+		}
+
+		//Send the configuration of the search
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream config=new DataOutputStream(bytes);
+		config.writeLong(timeLimit);
+		config.writeInt(workers.length);
+		config.writeDouble(objectiveIncumbentSolution);
+		for(Worker worker : workers)
+			DistributedBAPProtocol.send(worker.out, DistributedBAPProtocol.CONFIG, bytes.toByteArray());
+		return rootBound;
+	}
+
+	/**
+	 * Receives the messages of a worker, until the connection is closed
+	 * @param workerID ID of the worker
+	 * @param in input stream of the connection
+	 */
+	private void receiveMessages(int workerID, DataInputStream in){
+		try {
+			Message message;
+			do{
+				message=DistributedBAPProtocol.receive(in, workerID);
+				inbox.add(message);
+			}while(message.type != DistributedBAPProtocol.CLOSED);
+		} catch (IOException e) {
+			inbox.add(new Message(workerID, DistributedBAPProtocol.CLOSED, new byte[0]));
+		}
+	}
+
+	/**
+	 * Hands out nodes to the idle workers, and handles the messages of the workers, until all nodes have been processed, the gap limits have been reached, or the time limit has been exceeded
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 * @throws IOException if the connection to a worker fails
+	 */
+	private void coordinate(long timeLimit) throws IOException {
+		while(true){
+			this.assignNodes();
+			if(pool.isEmpty() && Arrays.stream(workers).noneMatch(worker -> worker.busy || worker.stealPending)){
+				isOptimal=true;
+				return;
+			}
+			if(AbstractBranchAndPrice.gapLimitReached(objectiveIncumbentSolution, this.getBoundOpenNodes(), absoluteGapLimit, relativeGapLimit))
+				return;
+			long remainingTime=timeLimit-System.currentTimeMillis();
+			if(remainingTime <= 0)
+				return;
+			try {
+				Message message=inbox.poll(remainingTime, TimeUnit.MILLISECONDS);
+				if(message != null)
+					this.handle(message);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Hands a node from the pool to every idle worker. When the pool does not contain sufficient nodes, the coordinator asks the busy workers with the largest number of open nodes to give up part of their nodes.
+	 * @throws IOException if the connection to a worker fails
+	 */
+	private void assignNodes() throws IOException {
+		int nrIdleWorkers=0;
+		int nrPendingSteals=0;
+		for(Worker worker : workers){
+			if(!worker.busy && !pool.isEmpty()){
+				DistributedBAPProtocol.send(worker.out, DistributedBAPProtocol.NODES, DistributedBAPProtocol.writeEncodedNodes(Collections.singletonList(pool.peek())));
+				worker.busy=true;
+				worker.bound=pool.poll().bound;
+				worker.nrOpenNodes=0;
+			}
+			if(!worker.busy)
+				nrIdleWorkers++;
+			if(worker.stealPending)
+				nrPendingSteals++;
+		}
+		while(nrPendingSteals < nrIdleWorkers){
+			Worker victim=null;
+			for(Worker worker : workers){
+				if(worker.busy && !worker.stealPending && worker.nrOpenNodes >= 2 && (victim == null || worker.nrOpenNodes > victim.nrOpenNodes))
+					victim=worker;
+			}
+			if(victim == null)
+				return;
+			DistributedBAPProtocol.send(victim.out, DistributedBAPProtocol.STEAL, new byte[0]);
+			victim.stealPending=true;
+			nrPendingSteals++;
+		}
+	}
+
+	/**
+	 * Asks the workers to stop, and waits until all workers have reported their statistics and have exited
+	 * @throws IOException if the connection to a worker fails
+	 */
+	private void stopWorkers() throws IOException {
+		for(Worker worker : workers)
+			DistributedBAPProtocol.send(worker.out, DistributedBAPProtocol.STOP, new byte[0]);
+		boolean interrupted=false;
+		while(Arrays.stream(workers).anyMatch(worker -> !worker.finished)){
+			try {
+				this.handle(inbox.take());
+			} catch (InterruptedException e) {
+				interrupted=true;
+			}
+		}
+		for(Worker worker : workers){
+			try {
+				worker.process.waitFor();
+			} catch (InterruptedException e) {
+				interrupted=true;
+			}
+		}
+		if(interrupted)
+			Thread.currentThread().interrupt();
+
+		//Determine the bound, taking the nodes in the pool and the open nodes of the workers into account
+		if(isOptimal){
+			bound=objectiveIncumbentSolution;
+		}else{
+			bound=this.getBoundOpenNodes();
+			if(Double.isNaN(bound) || !(optimizationSenseMaster == OptimizationSense.MINIMIZE ? bound < objectiveIncumbentSolution : bound > objectiveIncumbentSolution))
+				bound=objectiveIncumbentSolution;
+		}
+	}
+
+	/**
+	 * Handles a message of a worker
+	 * @param message message
+	 * @throws IOException if the connection to a worker fails, or if the message is malformed
+	 */
+	private void handle(Message message) throws IOException {
+		Worker worker=workers[message.sender];
+		DataInputStream in=message.input();
+		switch (message.type){
+			case DistributedBAPProtocol.STATUS:
+				worker.bound=in.readDouble();
+				worker.busy=!Double.isNaN(worker.bound);
+				worker.nrOpenNodes=in.readInt();
+				worker.nodesProcessed=in.readInt();
+				break;
+			case DistributedBAPProtocol.NODES: //Reply to a steal request
+				List<EncodedNode> nodes=DistributedBAPProtocol.readEncodedNodes(message.payload);
+				worker.stealPending=false;
+				worker.nrOpenNodes-=nodes.size();
+				pool.addAll(nodes);
+				nrStolenNodes+=nodes.size();
+				logger.debug("Stole {} nodes from worker {}", nodes.size(), message.sender);
+				break;
+			case DistributedBAPProtocol.INCUMBENT:
+				if(this.updateIncumbent(message.payload)){
+					byte[] objective=Arrays.copyOf(message.payload, Double.BYTES); //The encoded solution starts with its objective
+					for(int i=0; i<workers.length; i++){
+						if(i != message.sender && !workers[i].finished)
+							DistributedBAPProtocol.send(workers[i].out, DistributedBAPProtocol.INCUMBENT, objective);
+					}
+				}
+				break;
+			case DistributedBAPProtocol.FINISHED:
+				worker.finished=true;
+				worker.busy=false;
+				worker.nodesProcessed=in.readInt();
+				worker.timeSolvingMaster=in.readLong();
+				worker.timeSolvingPricing=in.readLong();
+				worker.totalGeneratedColumns=in.readInt();
+				worker.totalNrIterations=in.readInt();
+				worker.bound=in.readDouble();
+				break;
+			case DistributedBAPProtocol.CLOSED:
+				if(!worker.finished)
+					throw new RuntimeException("Worker "+message.sender+" of the distributed Branch-and-Price search terminated unexpectedly");
+				break;
+			default:
+				throw new IOException("Unexpected message of type "+message.type+" from worker "+message.sender);
+		}
+	}
+
+	/**
+	 * Replaces the incumbent solution if the given solution is better
+	 * @param solution encoded solution
+	 * @return true if the incumbent solution has been replaced
+	 * @throws IOException if the solution is malformed
+	 */
+	private boolean updateIncumbent(byte[] solution) throws IOException {
+		double objective=DistributedBAPProtocol.readObjective(solution);
+		if(optimizationSenseMaster == OptimizationSense.MINIMIZE ? objective < objectiveIncumbentSolution : objective > objectiveIncumbentSolution){
+			objectiveIncumbentSolution=objective;
+			incumbentSolution=solution;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the best bound of the nodes in the pool and the nodes of the workers
+	 * @return best rounded bound of the unexplored nodes, or NaN if there are no unexplored nodes
+	 */
+	private double getBoundOpenNodes(){
+		double bound=(pool.isEmpty() ? Double.NaN : pool.peek().bound);
+		for(Worker worker : workers){
+			if(Double.isNaN(worker.bound))
+				continue;
+			if(Double.isNaN(bound))
+				bound=worker.bound;
+			else
+				bound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(bound, worker.bound) : Math.max(bound, worker.bound));
+		}
+		return bound;
+	}
+
+	/**
+	 * Returns the objective value of the best solution found by any of the workers
+	 * @return the objective of the best integer solution found during the Branch-and-Price search
+	 */
+	public double getObjective(){
+		return objectiveIncumbentSolution;
+	}
+
+	/**
+	 * Returns strongest available bound on the objective function, taking the nodes which have not been processed by the workers into account
+	 * @return Returns the best bound on the optimal solution (upper bound if the master is a maximization problem, a lower bound if the master is a minimization problem)
+	 */
+	public double getBound(){
+		return bound;
+	}
+
+	/**
+	 * Return whether a solution has been found
+	 * @return true if a feasible solution has been found
+	 */
+	public boolean hasSolution(){
+		return Math.abs(objectiveIncumbentSolution) != Double.MAX_VALUE;
+	}
+
+	/**
+	 * Returns whether the solution is optimal, that is, whether the entire Branch-and-Price tree has been processed
+	 * @return {@code true} if the problem instance has been solved to optimality. ({@code getBound} and {@code getObjective} methods must yield the same value.
+	 */
+	public boolean isOptimal(){
+		return isOptimal;
+	}
+
+	/**
+	 * Returns the best solution found by any of the workers. The columns are decoded with the codec of the factory.
+	 * @param pricingProblems pricing problems to which the columns of the solution belong, in the same order as the pricing problems of the workers
+	 * @return Returns the columns corresponding with the best solution, or an empty list if no solution has been found
+	 */
+	public List<U> getSolution(List<V> pricingProblems){
+		if(incumbentSolution == null)
+			return Collections.emptyList();
+		try {
+			return new DistributedBAPProtocol<>(codec, pricingProblems).decodeSolution(incumbentSolution);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to decode the solution", e);
+		}
+	}
+
+	/**
+	 * Returns the number of processed nodes
+	 * @return the number of nodes processed, summed over all workers
+	 */
+	public int getNumberOfProcessedNodes(){
+		int nodesProcessed=0;
+		for(Worker worker : workers)
+			nodesProcessed+=(worker == null ? 0 : worker.nodesProcessed);
+		return nodesProcessed;
+	}
+
+	/**
+	 * Total time spent solving the Branch-and-Price problem.
+	 * @return total (wall clock) time spent solving the Branch-and-Price problem, including the time required to start the workers
+	 */
+	public long getSolveTime(){
+		return runtime;
+	}
+
+	/**
+	 * Total time spent on solving master problems
+	 * @return total time spent on solving master problems, summed over all workers
+	 */
+	public long getMasterSolveTime(){
+		long time=0;
+		for(Worker worker : workers)
+			time+=(worker == null ? 0 : worker.timeSolvingMaster);
+		return time;
+	}
+
+	/**
+	 * Total time spent on solving pricing problems
+	 * @return total time spent on solving pricing problems, summed over all workers
+	 */
+	public long getPricingSolveTime(){
+		long time=0;
+		for(Worker worker : workers)
+			time+=(worker == null ? 0 : worker.timeSolvingPricing);
+		return time;
+	}
+
+	/**
+	 * Counts how many columns have been generated over the entire Branch-and-Price tree
+	 * @return returns total number of columns generated, summed over all workers
+	 */
+	public int getTotalGeneratedColumns(){
+		int totalGeneratedColumns=0;
+		for(Worker worker : workers)
+			totalGeneratedColumns+=(worker == null ? 0 : worker.totalGeneratedColumns);
+		return totalGeneratedColumns;
+	}
+
+	/**
+	 * Counts how many column generation iterations have been made over the entire Branch-and-Price tree
+	 * @return returns the total number of column generation iterations, summed over all workers
+	 */
+	public int getTotalNrIterations(){
+		int totalNrIterations=0;
+		for(Worker worker : workers)
+			totalNrIterations+=(worker == null ? 0 : worker.totalNrIterations);
+		return totalNrIterations;
+	}
+
+	/**
+	 * Returns the number of nodes which have been taken from busy workers to be processed by idle workers
+	 * @return number of stolen nodes
+	 */
+	public int getNrStolenNodes(){
+		return nrStolenNodes;
+	}
+
+	/**
+	 * Terminates the search as soon as the absolute gap between the incumbent solution and the bound does not exceed the given limit, see {@link AbstractBranchAndPrice#setAbsoluteGapLimit(double)}
+	 * @param absoluteGapLimit absolute gap limit, or 0 to disable the limit
+	 */
+	public void setAbsoluteGapLimit(double absoluteGapLimit){
+		if(absoluteGapLimit < 0)
+			throw new IllegalArgumentException("Gap limit cannot be negative");
+		this.absoluteGapLimit=absoluteGapLimit;
+	}
+
+	/**
+	 * Terminates the search as soon as the relative gap between the incumbent solution and the bound does not exceed the given limit, see {@link AbstractBranchAndPrice#setRelativeGapLimit(double)}
+	 * @param relativeGapLimit relative gap limit, or 0 to disable the limit
+	 */
+	public void setRelativeGapLimit(double relativeGapLimit){
+		if(relativeGapLimit < 0)
+			throw new IllegalArgumentException("Gap limit cannot be negative");
+		this.relativeGapLimit=relativeGapLimit;
+	}
+}
@@ -0,0 +1,279 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AsyncEventDispatcher.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+import java.util.EventObject;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatcher which publishes events into a bounded ring buffer, and delivers them to the listeners on a background (daemon) thread. The ring buffer consists of preallocated slots,
+ * so publishing an event does not allocate any memory. The background thread delivers all events which are available in the buffer in a single batch, in the order in which
+ * they have been published.
+ * <p>
+ * When events are published faster than the listeners can process them, the buffer fills up, in which case the {@link BackpressurePolicy} determines whether events are
+ * dropped, sampled, or whether the publishing thread waits. Critical events (see {@link EventType#critical}) are never dropped. The number of dropped events is available
+ * through {@link #getNrDroppedEvents()}.
+ * <p>
+ * Exceptions thrown by listeners are logged and do not affect the delivery of other events. Events published by a listener (i.e. on the background thread), or after
+ * the dispatcher has been closed, are delivered synchronously. Note that the events themselves are immutable, but the objects they refer to, e.g. nodes in the Branch-and-Price
+ * tree, may have changed by the time the event is delivered. Similarly, listeners which measure time upon receiving an event, e.g. {@link org.jorlib.frameworks.columnGeneration.io.SimpleCGLogger},
+ * measure the time at which the event is delivered.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class AsyncEventDispatcher extends EventDispatcher {
+
+    /** Logger for this class **/
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+    /** Counter used to name the threads **/
+    private static final AtomicInteger threadCounter=new AtomicInteger();
+
+    /** Event type in every slot of the ring buffer **/
+    private final EventType[] types;
+    /** Event in every slot of the ring buffer **/
+    private final EventObject[] events;
+    /** Listeners in every slot of the ring buffer **/
+    private final ListenerSet<?>[] listeners;
+    /** types.length-1 **/
+    private final int mask;
+    /** Policy applied when the buffer is full **/
+    private final BackpressurePolicy policy;
+    /** When sampling, one out of every sampleInterval events is retained **/
+    private final int sampleInterval;
+
+    /** Guards the head and tail of the ring buffer **/
+    private final ReentrantLock lock=new ReentrantLock();
+    /** Signaled when events have been published **/
+    private final Condition notEmpty=lock.newCondition();
+    /** Signaled when events have been delivered **/
+    private final Condition notFull=lock.newCondition();
+    /** Number of events which have been taken from the buffer by the background thread, i.e. which have been delivered, or are being delivered **/
+    private long head=0;
+    /** Number of events which have been published **/
+    private long tail=0;
+    /** Number of events which have been delivered. The slots of the events in between nrDeliveredEvents and tail are occupied **/
+    private long nrDeliveredEvents=0;
+    /** Number of events which have been dropped **/
+    private long nrDroppedEvents=0;
+    /** Number of events considered for sampling **/
+    private long sampleCounter=0;
+    /** Indicates whether the dispatcher has been closed **/
+    private boolean closed=false;
+
+    /** Thread which delivers the events **/
+    private final Thread consumer;
+
+    /**
+     * Creates a new dispatcher which blocks the publishing thread when the buffer is full
+     * @param capacity capacity of the ring buffer. The capacity is rounded up to a power of 2.
+     */
+    public AsyncEventDispatcher(int capacity){
+        this(capacity, BackpressurePolicy.BLOCK, 1);
+    }
+
+    /**
+     * Creates a new dispatcher
+     * @param capacity capacity of the ring buffer. The capacity is rounded up to a power of 2.
+     * @param policy policy applied when events are published faster than they can be delivered
+     * @param sampleInterval when the policy is {@link BackpressurePolicy#SAMPLE} and the buffer is half full, one out of every sampleInterval events is retained
+     */
+    public AsyncEventDispatcher(int capacity, BackpressurePolicy policy, int sampleInterval){
+        if(capacity < 2)
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        if(sampleInterval < 1)
+            throw new IllegalArgumentException("Sample interval must be at least 1");
+        int size=Integer.highestOneBit(capacity-1) << 1;
+        this.types=new EventType[size];
+        this.events=new EventObject[size];
+        this.listeners=new ListenerSet<?>[size];
+        this.mask=size-1;
+        this.policy=policy;
+        this.sampleInterval=sampleInterval;
+        consumer=new Thread(this::consume, "jorlib-events-"+threadCounter.incrementAndGet());
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Publishes an event into the ring buffer, subject to the backpressure policy
+     * @param type event type
+     * @param event event
+     * @param listeners listeners to which the event is delivered
+     */
+    @Override
+    public void publish(EventType type, EventObject event, ListenerSet<?> listeners) {
+        if(Thread.currentThread() == consumer){ //Event published by a listener. Waiting for room in the buffer would deadlock.
+            listeners.deliver(type, event);
+            return;
+        }
+        boolean deliverNow=false;
+        lock.lock();
+        try{
+            while(!closed && tail-nrDeliveredEvents == types.length){
+                if(!type.critical && policy != BackpressurePolicy.BLOCK){
+                    nrDroppedEvents++;
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+            if(closed){
+                deliverNow=true;
+            }else if(policy == BackpressurePolicy.SAMPLE && !type.critical && 2*(tail-nrDeliveredEvents) >= types.length && (sampleCounter++ % sampleInterval) != 0){
+                nrDroppedEvents++;
+            }else{
+                int slot=(int)tail & mask;
+                types[slot]=type;
+                events[slot]=event;
+                this.listeners[slot]=listeners;
+                if(tail++ == head)
+                    notEmpty.signal(); //The background thread may be waiting for events
+            }
+        }finally{
+            lock.unlock();
+        }
+        if(deliverNow)
+            listeners.deliver(type, event);
+    }
+
+    /**
+     * Waits until all events which have been published have been delivered. Returns immediately when invoked by a listener.
+     */
+    @Override
+    public void flush(){
+        if(Thread.currentThread() == consumer)
+            return;
+        lock.lock();
+        try{
+            long target=tail;
+            while(nrDeliveredEvents < target && consumer.isAlive())
+                notFull.awaitUninterruptibly();
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Delivers the remaining events and stops the background thread. Events published after this dispatcher has been closed are delivered synchronously.
+     */
+    @Override
+    public void close(){
+        lock.lock();
+        try{
+            closed=true;
+            notEmpty.signal();
+            notFull.signalAll();
+        }finally{
+            lock.unlock();
+        }
+        if(Thread.currentThread() != consumer){
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events which have been dropped because of the backpressure policy
+     * @return the number of dropped events
+     */
+    public long getNrDroppedEvents(){
+        lock.lock();
+        try{
+            return nrDroppedEvents;
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events which have been delivered
+     * @return the number of delivered events
+     */
+    public long getNrDeliveredEvents(){
+        lock.lock();
+        try{
+            return nrDeliveredEvents;
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the backpressure policy
+     * @return the backpressure policy
+     */
+    public BackpressurePolicy getPolicy(){
+        return policy;
+    }
+
+    /**
+     * Delivers events until the dispatcher is closed and the buffer is empty. All available events are taken from the buffer at once, and delivered without holding the lock.
+     */
+    private void consume(){
+        while(true){
+            long from, to;
+            lock.lock();
+            try{
+                while(head == tail && !closed)
+                    notEmpty.awaitUninterruptibly();
+                if(head == tail)
+                    return; //Closed and empty
+                from=nrDeliveredEvents;
+                to=tail;
+                head=to; //The slots in between from and to remain occupied until nrDeliveredEvents is updated
+            }finally{
+                lock.unlock();
+            }
+            for(long i=from; i<to; i++){
+                int slot=(int)i & mask;
+                try{
+                    listeners[slot].deliver(types[slot], events[slot]);
+                }catch(RuntimeException e){
+                    logger.error("Listener failed to process event "+types[slot], e);
+                }
+                types[slot]=null;
+                events[slot]=null;
+                listeners[slot]=null;
+            }
+            lock.lock();
+            try{
+                nrDeliveredEvents=to;
+                notFull.signalAll(); //Wakes up publishers waiting for room, and threads waiting for a flush
+            }finally{
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BackpressurePolicy.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+/**
+ * Defines how an {@link AsyncEventDispatcher} handles events which are published faster than the listeners can process them. Critical events (see {@link EventType#critical})
+ * are never dropped: when the buffer is full, the thread publishing a critical event waits regardless of the policy.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public enum BackpressurePolicy {
+    /** Events which are published while the buffer is full are dropped **/
+    DROP,
+    /** The thread publishing an event waits until the buffer has room. No events are lost **/
+    BLOCK,
+    /** Once the buffer is half full, only one out of every {@code sampleInterval} events is retained. Events which are published while the buffer is full are dropped **/
+    SAMPLE
+}
@@ -0,0 +1,68 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * EventDispatcher.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+import java.util.EventObject;
+
+/**
+ * Delivers events to listeners. By default, events are delivered synchronously, on the thread which generates the event (see {@link #SYNCHRONOUS}). Alternatively, an
+ * {@link AsyncEventDispatcher} delivers the events on a background thread, such that slow listeners, e.g. loggers writing to a file, do not delay the solve procedure.
+ * A single dispatcher can be shared by Column Generation, Branch-and-Price and the CutHandler, in which case the events are delivered in the order in which they are generated.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public abstract class EventDispatcher {
+
+    /** Dispatcher which delivers every event immediately, on the thread which generates the event **/
+    public static final EventDispatcher SYNCHRONOUS=new EventDispatcher() {
+        @Override
+        public void publish(EventType type, EventObject event, ListenerSet<?> listeners) {
+            listeners.deliver(type, event);
+        }
+    };
+
+    /**
+     * Publishes an event. The event is delivered to those listeners in the set which are interested in it.
+     * @param type event type
+     * @param event event
+     * @param listeners listeners to which the event is delivered
+     */
+    public abstract void publish(EventType type, EventObject event, ListenerSet<?> listeners);
+
+    /**
+     * Waits until all events which have been published have been delivered
+     */
+    public void flush(){
+    }
+
+    /**
+     * Delivers the remaining events and releases all resources held by this dispatcher
+     */
+    public void close(){
+    }
+}
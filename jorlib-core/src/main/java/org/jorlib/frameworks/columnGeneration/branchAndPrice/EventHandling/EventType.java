@@ -0,0 +1,195 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * EventType.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+import java.util.EventListener;
+import java.util.EventObject;
+
+/**
+ * Types of the events generated by Column Generation ({@link CGListener}), Branch-and-Price ({@link BAPListener}) and the CutHandler ({@link CHListener}).
+ * Every type corresponds to a single bit, such that a listener can declare the events it is interested in through a bit mask, see {@link SelectiveListener}.
+ * <p>
+ * Lifecycle events, i.e. the start and finish of Column Generation and Branch-and-Price and time limit events, are critical: they are never dropped by an
+ * {@link AsyncEventDispatcher}, regardless of its {@link BackpressurePolicy}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public enum EventType {
+
+    //Column Generation events
+    START_CG(true) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).startCG((StartEvent) event);
+        }
+    },
+    FINISH_CG(true) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).finishCG((FinishEvent) event);
+        }
+    },
+    START_MASTER(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).startMaster((StartMasterEvent) event);
+        }
+    },
+    FINISH_MASTER(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).finishMaster((FinishMasterEvent) event);
+        }
+    },
+    START_PRICING(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).startPricing((StartPricingEvent) event);
+        }
+    },
+    FINISH_PRICING(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).finishPricing((FinishPricingEvent) event);
+        }
+    },
+    CG_TIME_LIMIT_EXCEEDED(true) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CGListener) listener).timeLimitExceeded((TimeLimitExceededEvent) event);
+        }
+    },
+
+    //Branch-and-Price events
+    START_BAP(true) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).startBAP((StartEvent) event);
+        }
+    },
+    FINISH_BAP(true) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).finishBAP((FinishEvent) event);
+        }
+    },
+    PRUNE_NODE(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).pruneNode((PruneNodeEvent) event);
+        }
+    },
+    NODE_IS_INFEASIBLE(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).nodeIsInfeasible((NodeIsInfeasibleEvent) event);
+        }
+    },
+    NODE_IS_INTEGER(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).nodeIsInteger((NodeIsIntegerEvent) event);
+        }
+    },
+    NODE_IS_FRACTIONAL(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).nodeIsFractional((NodeIsFractionalEvent) event);
+        }
+    },
+    PROCESSING_NEXT_NODE(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).processNextNode((ProcessingNextNodeEvent) event);
+        }
+    },
+    FINISH_PROCESSING_NODE(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).finishedColumnGenerationForNode((FinishProcessingNodeEvent) event);
+        }
+    },
+    BAP_TIME_LIMIT_EXCEEDED(true) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).timeLimitExceeded((TimeLimitExceededEvent) event);
+        }
+    },
+    BRANCH_CREATED(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((BAPListener) listener).branchCreated((BranchEvent) event);
+        }
+    },
+
+    //CutHandler events
+    START_GENERATING_CUTS(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CHListener) listener).startGeneratingCuts((StartGeneratingCutsEvent) event);
+        }
+    },
+    FINISH_GENERATING_CUTS(false) {
+        @Override
+        void deliver(EventListener listener, EventObject event) {
+            ((CHListener) listener).finishGeneratingCuts((FinishGeneratingCutsEvent) event);
+        }
+    };
+
+    /** Mask which contains all event types **/
+    public static final long ALL=-1L;
+
+    /** Bit representing this event type **/
+    public final long mask;
+    /** Indicates whether this is a lifecycle event which is never dropped **/
+    public final boolean critical;
+
+    EventType(boolean critical){
+        this.mask=1L << this.ordinal();
+        this.critical=critical;
+    }
+
+    /**
+     * Invokes the method of the listener which corresponds to this event type
+     * @param listener listener
+     * @param event event
+     */
+    abstract void deliver(EventListener listener, EventObject event);
+
+    /**
+     * Creates a mask which contains the given event types
+     * @param types event types
+     * @return mask
+     */
+    public static long maskOf(EventType... types){
+        long mask=0;
+        for(EventType type : types)
+            mask|=type.mask;
+        return mask;
+    }
+}
@@ -41,7 +41,7 @@ public class FinishMasterEvent extends EventObject{
     /** Objective value of the master problem **/
     public final double objective;
     /** Cutoff value: Column Generation is terminated when the bound on the Master Objective is worse than the cutoff value **/
-    public final int cutoffValue;
+    public final double cutoffValue;
     /** Best available bound on the master objective **/
     public final double boundOnMasterObjective;
 
@@ -53,7 +53,7 @@ public class FinishMasterEvent extends EventObject{
      * @param cutoffValue best available integer solution
      * @param boundOnMasterObjective best available bound on master problem
      */
-    public FinishMasterEvent(Object source, int columnGenerationIteration, double objective, int cutoffValue, double boundOnMasterObjective){
+    public FinishMasterEvent(Object source, int columnGenerationIteration, double objective, double cutoffValue, double boundOnMasterObjective){
         super(source);
         this.columnGenerationIteration=columnGenerationIteration;
         this.objective=objective;
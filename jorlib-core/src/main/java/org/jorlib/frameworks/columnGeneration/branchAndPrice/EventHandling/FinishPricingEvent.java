@@ -28,6 +28,7 @@ package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
 
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 
+import java.util.Collections;
 import java.util.EventObject;
 import java.util.List;
 
@@ -46,9 +47,21 @@ public class FinishPricingEvent extends EventObject{
     /** Objective value of the master problem **/
     public final double objective;
     /** Cutoff value: Column Generation is terminated when the bound on the Master Objective is worse than the cutoff value **/
-    public final int cutoffValue;
+    public final double cutoffValue;
     /** Best available bound on the master objective **/
     public final double boundOnMasterObjective;
+    /** Number of mis-prices which occurred during this iteration. A mis-price occurs when the pricing problems fail to generate columns using stabilized dual values **/
+    public final int nrMisprices;
+    /** Indicates whether the columns have been generated using stabilized dual values **/
+    public final boolean stabilizedDuals;
+    /** Time (ms) spent on solving the pricing problems during this iteration **/
+    public final long pricingTime;
+    /** List of columns which have been evicted from the master problem during this iteration **/
+    public final List<? extends AbstractColumn<?, ?>> evictedColumns;
+    /** Number of new columns which have been revived from the column pool instead of being generated by the pricing problems **/
+    public final int nrRevivedColumns;
+    /** Number of columns in the master problem after the new columns have been added, or -1 if unknown **/
+    public final int nrColumns;
 
     /**
      * Creates a new FinishMasterEvent
@@ -60,12 +73,55 @@ public class FinishPricingEvent extends EventObject{
      * @param boundOnMasterObjective best available bound on the master objective
      * @param <U> type of column
      */
-    public <U  extends AbstractColumn<?, ?>> FinishPricingEvent(Object source, int columnGenerationIteration, List<U> columns, double objective, int cutoffValue, double boundOnMasterObjective){
+    public <U  extends AbstractColumn<?, ?>> FinishPricingEvent(Object source, int columnGenerationIteration, List<U> columns, double objective, double cutoffValue, double boundOnMasterObjective){
+        this(source, columnGenerationIteration, columns, objective, cutoffValue, boundOnMasterObjective, 0, false, 0);
+    }
+
+    /**
+     * Creates a new FinishMasterEvent
+     * @param source Generator of the event
+     * @param columnGenerationIteration column generation iteration during which this event was fired
+     * @param columns columns generated by the pricing problem
+     * @param objective objective value
+     * @param cutoffValue cutoff value
+     * @param boundOnMasterObjective best available bound on the master objective
+     * @param nrMisprices number of mis-prices during this iteration
+     * @param stabilizedDuals indicates whether the columns have been generated using stabilized dual values
+     * @param pricingTime time (ms) spent on solving the pricing problems during this iteration
+     * @param <U> type of column
+     */
+    public <U  extends AbstractColumn<?, ?>> FinishPricingEvent(Object source, int columnGenerationIteration, List<U> columns, double objective, double cutoffValue, double boundOnMasterObjective, int nrMisprices, boolean stabilizedDuals, long pricingTime){
+        this(source, columnGenerationIteration, columns, objective, cutoffValue, boundOnMasterObjective, nrMisprices, stabilizedDuals, pricingTime, Collections.<U>emptyList(), 0, -1);
+    }
+
+    /**
+     * Creates a new FinishMasterEvent
+     * @param source Generator of the event
+     * @param columnGenerationIteration column generation iteration during which this event was fired
+     * @param columns columns generated by the pricing problem
+     * @param objective objective value
+     * @param cutoffValue cutoff value
+     * @param boundOnMasterObjective best available bound on the master objective
+     * @param nrMisprices number of mis-prices during this iteration
+     * @param stabilizedDuals indicates whether the columns have been generated using stabilized dual values
+     * @param pricingTime time (ms) spent on solving the pricing problems during this iteration
+     * @param evictedColumns columns which have been evicted from the master problem during this iteration
+     * @param nrRevivedColumns number of new columns which have been revived from the column pool
+     * @param nrColumns number of columns in the master problem after the new columns have been added
+     * @param <U> type of column
+     */
+    public <U  extends AbstractColumn<?, ?>> FinishPricingEvent(Object source, int columnGenerationIteration, List<U> columns, double objective, double cutoffValue, double boundOnMasterObjective, int nrMisprices, boolean stabilizedDuals, long pricingTime, List<U> evictedColumns, int nrRevivedColumns, int nrColumns){
         super(source);
         this.columnGenerationIteration=columnGenerationIteration;
         this.columns=columns;
         this.objective=objective;
         this.cutoffValue=cutoffValue;
         this.boundOnMasterObjective=boundOnMasterObjective;
+        this.nrMisprices=nrMisprices;
+        this.stabilizedDuals=stabilizedDuals;
+        this.pricingTime=pricingTime;
+        this.evictedColumns=evictedColumns;
+        this.nrRevivedColumns=nrRevivedColumns;
+        this.nrColumns=nrColumns;
     }
 }
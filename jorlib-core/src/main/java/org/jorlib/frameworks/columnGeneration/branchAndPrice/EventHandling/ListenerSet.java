@@ -0,0 +1,153 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ListenerSet.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+import java.util.Arrays;
+import java.util.EventListener;
+import java.util.EventObject;
+
+/**
+ * Immutable, ordered set of listeners, together with the events each listener is interested in (see {@link SelectiveListener}). Adding or removing a listener creates a new set,
+ * such that an event which has been published, but not yet delivered by an {@link AsyncEventDispatcher}, is delivered to the listeners which were registered at the time the event
+ * was published.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <L> type of listener
+ */
+public final class ListenerSet<L extends EventListener> {
+
+    /** Empty set **/
+    private static final ListenerSet<?> EMPTY=new ListenerSet<>(new EventListener[0], new long[0]);
+
+    /** Listeners, in the order in which they have been registered **/
+    private final EventListener[] listeners;
+    /** Events each listener is interested in **/
+    private final long[] masks;
+    /** Union of the masks of all listeners **/
+    private final long interestMask;
+
+    /**
+     * Creates a new set
+     * @param listeners listeners
+     * @param masks events each listener is interested in
+     */
+    private ListenerSet(EventListener[] listeners, long[] masks){
+        this.listeners=listeners;
+        this.masks=masks;
+        long mask=0;
+        for(long m : masks)
+            mask|=m;
+        this.interestMask=mask;
+    }
+
+    /**
+     * Returns an empty set
+     * @param <L> type of listener
+     * @return empty set
+     */
+    @SuppressWarnings("unchecked")
+    public static <L extends EventListener> ListenerSet<L> empty(){
+        return (ListenerSet<L>) EMPTY;
+    }
+
+    /**
+     * Returns a set which contains the listeners of this set and the given listener
+     * @param listener listener
+     * @return new set, or this set if it already contains the listener
+     */
+    public ListenerSet<L> with(L listener){
+        if(this.indexOf(listener) != -1)
+            return this;
+        EventListener[] newListeners=Arrays.copyOf(listeners, listeners.length+1);
+        long[] newMasks=Arrays.copyOf(masks, masks.length+1);
+        newListeners[listeners.length]=listener;
+        newMasks[masks.length]=(listener instanceof SelectiveListener ? ((SelectiveListener) listener).getEventMask() : EventType.ALL);
+        return new ListenerSet<>(newListeners, newMasks);
+    }
+
+    /**
+     * Returns a set which contains the listeners of this set, except the given listener
+     * @param listener listener
+     * @return new set, or this set if it does not contain the listener
+     */
+    public ListenerSet<L> without(L listener){
+        int index=this.indexOf(listener);
+        if(index == -1)
+            return this;
+        EventListener[] newListeners=new EventListener[listeners.length-1];
+        long[] newMasks=new long[masks.length-1];
+        System.arraycopy(listeners, 0, newListeners, 0, index);
+        System.arraycopy(listeners, index+1, newListeners, index, listeners.length-index-1);
+        System.arraycopy(masks, 0, newMasks, 0, index);
+        System.arraycopy(masks, index+1, newMasks, index, masks.length-index-1);
+        return new ListenerSet<>(newListeners, newMasks);
+    }
+
+    /**
+     * Returns whether any of the listeners is interested in the given event type. Events should only be created when this method returns true.
+     * @param type event type
+     * @return true if at least one listener is interested in the event type
+     */
+    public boolean isInterested(EventType type){
+        return (interestMask & type.mask) != 0;
+    }
+
+    /**
+     * Returns the number of listeners
+     * @return the number of listeners
+     */
+    public int size(){
+        return listeners.length;
+    }
+
+    /**
+     * Delivers an event to all listeners which are interested in it, in the order in which the listeners have been registered
+     * @param type event type
+     * @param event event
+     */
+    void deliver(EventType type, EventObject event){
+        for(int i=0; i<listeners.length; i++){
+            if((masks[i] & type.mask) != 0)
+                type.deliver(listeners[i], event);
+        }
+    }
+
+    /**
+     * Returns the position of the listener in this set
+     * @param listener listener
+     * @return position, or -1 if the set does not contain the listener
+     */
+    private int indexOf(L listener){
+        for(int i=0; i<listeners.length; i++){
+            if(listeners[i].equals(listener))
+                return i;
+        }
+        return -1;
+    }
+}
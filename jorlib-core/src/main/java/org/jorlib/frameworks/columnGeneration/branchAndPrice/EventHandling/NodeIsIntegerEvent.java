@@ -43,7 +43,7 @@ public class NodeIsIntegerEvent extends EventObject{
     /** Bound on this node **/
     public final double nodeBound;
     /** Objective value of this node **/
-    public final int nodeValue;
+    public final double nodeValue;
 
     /**
      * Creates a new NodeIsIntegerEvent
@@ -52,7 +52,7 @@ public class NodeIsIntegerEvent extends EventObject{
      * @param nodeBound Bound on the objective value of the node
      * @param nodeValue Objective value of the node. nodeBound and nodeValue are equal when the node is solved to optimality
      */
-    public NodeIsIntegerEvent(Object source, BAPNode node, double nodeBound, int nodeValue){
+    public NodeIsIntegerEvent(Object source, BAPNode node, double nodeBound, double nodeValue){
         super(source);
         this.node=node;
         this.nodeBound=nodeBound;
@@ -43,7 +43,9 @@ public class ProcessingNextNodeEvent extends EventObject{
     /** Number of nodes currently waiting in the queue **/
     public final int nodesInQueue;
     /** Best integer solution obtained thus far **/
-    public final int objectiveIncumbentSolution;
+    public final double objectiveIncumbentSolution;
+    /** Best bound of the node which will be processed and the nodes in the queue, i.e. a bound on the optimal solution **/
+    public final double globalBound;
 
     /**
      * Creates a new ProcessingNextNodeEvent
@@ -52,10 +54,23 @@ public class ProcessingNextNodeEvent extends EventObject{
      * @param nodesInQueue Number of nodes currently in the queue
      * @param objectiveIncumbentSolution Best integer solution found thus far
      */
-    public ProcessingNextNodeEvent(Object source, BAPNode node, int nodesInQueue, int objectiveIncumbentSolution){
+    public ProcessingNextNodeEvent(Object source, BAPNode node, int nodesInQueue, double objectiveIncumbentSolution){
+        this(source, node, nodesInQueue, objectiveIncumbentSolution, node.getBound());
+    }
+
+    /**
+     * Creates a new ProcessingNextNodeEvent
+     * @param source Generator of the event
+     * @param node Node which will be processed
+     * @param nodesInQueue Number of nodes currently in the queue
+     * @param objectiveIncumbentSolution Best integer solution found thus far
+     * @param globalBound Best bound of the node which will be processed and the nodes in the queue
+     */
+    public ProcessingNextNodeEvent(Object source, BAPNode node, int nodesInQueue, double objectiveIncumbentSolution, double globalBound){
         super(source);
         this.node=node;
         this.nodesInQueue=nodesInQueue;
         this.objectiveIncumbentSolution=objectiveIncumbentSolution;
+        this.globalBound=globalBound;
     }
 }
@@ -43,7 +43,7 @@ public class PruneNodeEvent extends EventObject{
     /** Bound on this node **/
     public final double nodeBound;
     /** Best integer solution discovered so far **/
-    public final int bestIntegerSolution;
+    public final double bestIntegerSolution;
 
     /**
      * Creates a new PruneNodeEvent
@@ -52,7 +52,7 @@ public class PruneNodeEvent extends EventObject{
      * @param nodeBound Bound on the node
      * @param bestIntegerSolution Best integer solution discovered thus far
      */
-    public PruneNodeEvent(Object source, BAPNode node, double nodeBound, int bestIntegerSolution){
+    public PruneNodeEvent(Object source, BAPNode node, double nodeBound, double bestIntegerSolution){
         super(source);
         this.node=node;
         this.nodeBound=nodeBound;
@@ -0,0 +1,44 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SelectiveListener.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+/**
+ * A {@link CGListener}, {@link BAPListener} or {@link CHListener} which implements this interface declares the events it is interested in. The listener is only notified of
+ * these events, and events which none of the listeners are interested in are never created. Listeners which do not implement this interface are interested in all events.
+ * The mask is queried once, when the listener is registered.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public interface SelectiveListener {
+
+    /**
+     * Returns the events this listener is interested in, e.g. {@code EventType.maskOf(EventType.START_BAP, EventType.FINISH_BAP)}
+     * @return bit mask of event types, see {@link EventType#mask}
+     */
+    long getEventMask();
+}
@@ -40,7 +40,7 @@ public class StartEvent extends EventObject{
     public final String instanceName;
 
     /** Best available integer solution at the start of the Branch-and-Price or Column generation procedure **/
-    public final int objectiveIncumbentSolution;
+    public final double objectiveIncumbentSolution;
 
     /**
      * Creates a new StartEvent
@@ -48,7 +48,7 @@ public class StartEvent extends EventObject{
      * @param instanceName Name of the instance being solved
      * @param objectiveIncumbentSolution Best available integer solution at the start of the Branch-and-Price or Column generation procedure
      */
-    public StartEvent(Object source, String instanceName, int objectiveIncumbentSolution){
+    public StartEvent(Object source, String instanceName, double objectiveIncumbentSolution){
         super(source);
         this.instanceName=instanceName;
         this.objectiveIncumbentSolution=objectiveIncumbentSolution;
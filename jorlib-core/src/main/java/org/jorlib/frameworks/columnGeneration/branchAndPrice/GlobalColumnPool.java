@@ -0,0 +1,259 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * GlobalColumnPool.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of columns which is shared among all nodes of the Branch-and-Price tree. Every column generated by the pricing problems is stored in the pool. Before
+ * the pricing problems are solved, the Column Generation procedure scans the pool for columns which (1) are compatible with all branching decisions which lead to the
+ * node that is currently being solved, (2) are not part of the master problem, and (3) have an attractive reduced cost with respect to the current dual values. If such columns
+ * exist, they are added to the master problem and the (expensive) pricing problems are skipped for that iteration. This way, columns generated in one subtree are reused
+ * in the other subtrees, rather than being generated again.
+ * <p>
+ * The pool keeps track of the branching decisions of the current node by listening to the branching decisions performed and reversed while traversing the tree.
+ * Unlike the column pool of a {@link org.jorlib.frameworks.columnGeneration.master.columnManagement.ColumnManager ColumnManager}, columns which are incompatible with a branching decision
+ * are not discarded, since they may be needed again after backtracking.
+ * <p>
+ * Memory consumption is bounded: the pool holds at most {@code maxPoolSize} columns. Whenever the pool is full, the least recently used column is evicted. Furthermore,
+ * columns which have not been used during the last {@code maxAge} lookups are evicted. A column is used when it is added to the pool, or when it is returned by a lookup.
+ * <p>
+ * Computing reduced costs requires the master problem to implement {@link AbstractMaster#getReducedCost(AbstractColumn)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class GlobalColumnPool<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> implements BranchingDecisionListener{
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(GlobalColumnPool.class);
+	/** Configuration file for this class **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Maximum number of columns in the pool **/
+	protected final int maxPoolSize;
+	/** Columns which have not been used during the last maxAge lookups are evicted **/
+	protected final long maxAge;
+
+	/** Columns in the pool, in access order (least recently used column first). The value is the lookup during which the column has last been used **/
+	protected final LinkedHashMap<U, Long> columns=new LinkedHashMap<>(16, 0.75f, true);
+	/** Branching decisions which lead to the node that is currently being solved **/
+	protected final Deque<BranchingDecision> activeBranchingDecisions=new ArrayDeque<>();
+
+	/** Number of lookups **/
+	protected long nrLookups=0;
+	/** Number of lookups which produced at least one column **/
+	protected long nrHits=0;
+	/** Number of columns returned by the lookups **/
+	protected long nrReturnedColumns=0;
+	/** Number of columns evicted from the pool **/
+	protected long nrEvictedColumns=0;
+
+	/**
+	 * Creates a new column pool
+	 * @param maxPoolSize maximum number of columns in the pool
+	 * @param maxAge columns which have not been used during the last maxAge lookups are evicted. Use {@code Long.MAX_VALUE} to disable.
+	 */
+	public GlobalColumnPool(int maxPoolSize, long maxAge){
+		if(maxPoolSize < 0)
+			throw new IllegalArgumentException("Maximum pool size cannot be negative");
+		if(maxAge < 1)
+			throw new IllegalArgumentException("maxAge must be at least 1");
+		this.maxPoolSize=maxPoolSize;
+		this.maxAge=maxAge;
+	}
+
+	/**
+	 * Adds columns to the pool. Artificial columns are ignored.
+	 * @param newColumns columns
+	 */
+	public void addColumns(List<U> newColumns){
+		for(U column : newColumns){
+			if(column.isArtificialColumn)
+				continue;
+			columns.put(column, nrLookups);
+		}
+		//Evict the least recently used columns
+		Iterator<U> it=columns.keySet().iterator();
+		while(columns.size() > maxPoolSize){
+			it.next();
+			it.remove();
+			nrEvictedColumns++;
+		}
+	}
+
+	/**
+	 * Returns the columns in the pool which are compatible with the active branching decisions, which are not part of the master problem, and which have an
+	 * attractive reduced cost with respect to the dual values of the last time the master problem was solved.
+	 * @param master master problem
+	 * @return list of attractive columns, or an empty list if no such columns exist
+	 */
+	@SuppressWarnings("unchecked")
+	public List<U> getAttractiveColumns(AbstractMaster<T, U, V, ?> master){
+		nrLookups++;
+		this.evictOldColumns();
+		if(columns.isEmpty())
+			return Collections.emptyList();
+
+		List<U> attractiveColumns=new ArrayList<>();
+		for(U column : columns.keySet()){ //Iterating over the key set does not change the access order
+			if(master.getColumns(column.associatedPricingProblem).contains(column))
+				continue;
+			double reducedCost=master.getReducedCost(column);
+			if(master.getOptimizationSense() == OptimizationSense.MINIMIZE ? reducedCost >= -config.PRECISION : reducedCost <= config.PRECISION)
+				continue;
+			boolean compatible=true;
+			for(BranchingDecision bd : activeBranchingDecisions){
+				if(!bd.columnIsCompatibleWithBranchingDecision(column)){
+					compatible=false;
+					break;
+				}
+			}
+			if(compatible)
+				attractiveColumns.add(column);
+		}
+
+		//Mark the columns as used
+		for(U column : attractiveColumns)
+			columns.put(column, nrLookups);
+		if(!attractiveColumns.isEmpty())
+			nrHits++;
+		nrReturnedColumns+=attractiveColumns.size();
+		logger.debug("Column pool lookup: {} attractive columns out of {}", attractiveColumns.size(), columns.size());
+		return attractiveColumns;
+	}
+
+	/**
+	 * Evicts all columns which have not been used during the last maxAge lookups. Since the columns are stored in access order, the oldest columns are
+	 * at the head of the map.
+	 */
+	protected void evictOldColumns(){
+		Iterator<Map.Entry<U, Long>> it=columns.entrySet().iterator();
+		while(it.hasNext()){
+			if(nrLookups-it.next().getValue() <= maxAge)
+				break;
+			it.remove();
+			nrEvictedColumns++;
+		}
+	}
+
+	/**
+	 * Returns the number of columns in the pool
+	 * @return the number of columns in the pool
+	 */
+	public int size(){
+		return columns.size();
+	}
+
+	/**
+	 * Removes all columns from the pool. The statistics are retained.
+	 */
+	public void clear(){
+		columns.clear();
+	}
+
+	/**
+	 * Returns the number of lookups, i.e. the number of times the pool has been scanned for attractive columns
+	 * @return the number of lookups
+	 */
+	public long getNrLookups(){
+		return nrLookups;
+	}
+
+	/**
+	 * Returns the number of lookups which produced at least one column
+	 * @return the number of hits
+	 */
+	public long getNrHits(){
+		return nrHits;
+	}
+
+	/**
+	 * Returns the number of lookups which did not produce any columns
+	 * @return the number of misses
+	 */
+	public long getNrMisses(){
+		return nrLookups-nrHits;
+	}
+
+	/**
+	 * Returns the fraction of lookups which produced at least one column
+	 * @return the hit ratio, or 0 if no lookups have been performed
+	 */
+	public double getHitRatio(){
+		return (nrLookups == 0 ? 0 : (double)nrHits/nrLookups);
+	}
+
+	/**
+	 * Returns the total number of columns returned by the lookups
+	 * @return the total number of columns returned by the lookups
+	 */
+	public long getNrReturnedColumns(){
+		return nrReturnedColumns;
+	}
+
+	/**
+	 * Returns the number of columns evicted from the pool
+	 * @return the number of columns evicted from the pool
+	 */
+	public long getNrEvictedColumns(){
+		return nrEvictedColumns;
+	}
+
+	/**
+	 * Registers the branching decision as one of the decisions which lead to the current node
+	 * @param bd branching decision
+	 */
+	@Override
+	public void branchingDecisionPerformed(BranchingDecision bd) {
+		activeBranchingDecisions.addLast(bd);
+	}
+
+	/**
+	 * Removes the branching decision from the decisions which lead to the current node
+	 * @param bd branching decision
+	 */
+	@Override
+	public void branchingDecisionReversed(BranchingDecision bd) {
+		activeBranchingDecisions.removeLastOccurrence(bd);
+	}
+}
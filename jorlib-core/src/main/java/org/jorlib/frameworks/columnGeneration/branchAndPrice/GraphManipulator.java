@@ -26,18 +26,23 @@
  */
 package org.jorlib.frameworks.columnGeneration.branchAndPrice;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.Stack;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.io.jfr.JFREvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class modifies the data structures according to the branching decisions. A branching decision modifies the master problem and or pricing problems. This class
- * performs these changes. Whenever a backtrack occurs in the tree, all changes are reverted.
+ * performs these changes. The fixing decisions carried by the nodes (see {@link NodePath#getFixings()}) are delivered to the listeners in the same way, immediately after the branching decision
+ * of the node. Whenever a backtrack occurs in the tree, all changes are reverted. The changes are reverted as they have been performed: a node which has been copied (see {@link NodePath#copy(java.util.function.UnaryOperator)})
+ * shares the node IDs of the original path, but not its fixings, so the fixings which are reverted are taken from the path which has been performed rather than from the path of the next node.
  *
  * @author Joris Kinable
  * @version 5-5-2015
@@ -47,20 +52,15 @@ public class GraphManipulator {
 	/** Logger for this class **/
 	protected final Logger logger = LoggerFactory.getLogger(GraphManipulator.class);
 
-	/** The previous node that has been solved. **/
-	private BAPNode previousNode;
+	/** Path of the previous node that has been solved, i.e. the branching decisions which are currently active. **/
+	private NodePath currentPath;
+	/** Prefixes of the paths whose branching decisions and fixings are currently performed, ordered by depth; the deepest prefix is on top **/
+	private final Deque<NodePath> performedPaths=new ArrayDeque<>();
 	/** Set of listeners which should be informed about the Branching Decisions which were made **/
 	private final Set<BranchingDecisionListener> listeners;
 
-	/**
-	 * This stack keeps track of all the branching decisions that lead from the root node of the BAP tree to the last node for which
-	 * this.next(BAPNode<?,?> nextNode) has been invoked.
-	 */
-	private Stack<BranchingDecision> changeHistory;
-	
 	public GraphManipulator(BAPNode rootNode){
-		this.previousNode=rootNode;
-		changeHistory=new Stack<>();
+		this.currentPath=rootNode.path;
 		listeners=new LinkedHashSet<>();
 	}
 	
@@ -69,48 +69,56 @@ public class GraphManipulator {
 	 * @param nextNode The next node to be solved
 	 */
 	public void next(BAPNode<?,?> nextNode){
-		logger.trace("Previous node: {}, history: {}", previousNode.nodeID, previousNode.rootPath);
-		logger.trace("Next node: {}, history: {}, nrBranchingDec: {}", nextNode.nodeID, nextNode.rootPath);
+		logger.trace("Previous node: {}, history: {}", currentPath.getNodeID(), currentPath);
+		logger.trace("Next node: {}, history: {}", nextNode.nodeID, nextNode.path);
 		
-		//1. Revert state of the data structures back to the first mutual ancestor of <previousNode> and <nextNode>
-		//1a. Find the number of mutual ancestors.
-		int mutualNodesOnPath=0;
-		for(int i=0; i<Math.min(previousNode.rootPath.size(), nextNode.rootPath.size()); i++){
-			if(previousNode.rootPath.get(i) != nextNode.rootPath.get(i))
-				break;
-			mutualNodesOnPath++;
-		}
-		logger.trace("number of mutualNodesOnPath: {}", mutualNodesOnPath);
-		
-		//1b. revert until the first mutual ancestor
-		while(changeHistory.size() > mutualNodesOnPath-1){
+		//1. Revert state of the data structures back to the first mutual ancestor of the previous node and <nextNode>
+		NodePath mutualAncestor=currentPath.lowestCommonAncestor(nextNode.path);
+		logger.trace("Mutual ancestor: {}", mutualAncestor.getNodeID());
+		while(performedPaths.size() > mutualAncestor.getDepth()){
 			logger.trace("Reverting 1 branch lvl");
-			BranchingDecision bd=changeHistory.pop();
+			NodePath performedPath=performedPaths.pop();
+			BranchingDecision bd=performedPath.getBranchingDecision();
 			//Revert the branching decision!
+			Object jfrEvent=JFREvents.beginBranchingDecision();
+			this.rewindFixings(performedPath);
 			this.rewindBranchingDecision(bd);
+			if(jfrEvent != null)
+				JFREvents.commitBranchingDecision(jfrEvent, nextNode.nodeID, bd, true);
 		}
 		// 2. Modify the data structures by performing the branching decisions which lead from the first mutual ancestor to the nextNode.
-		// The Branching Decisions are stored in the changeHistory
-		logger.trace("Next node nrBranchingDec: {}, changeHist.size: {}", nextNode.branchingDecisions.size(), changeHistory.size());
-		for(int i=changeHistory.size(); i< nextNode.branchingDecisions.size(); i++){
-			//Get the next branching decision and add it to the changeHistory
-			BranchingDecision bd=nextNode.branchingDecisions.get(i);
-			changeHistory.add(bd);
-			//Execute the decision
+		NodePath[] paths=new NodePath[nextNode.path.getDepth()-mutualAncestor.getDepth()];
+		NodePath path=nextNode.path;
+		for(int i=paths.length-1; i>=0; i--){
+			paths[i]=path;
+			path=path.getParent();
+		}
+		logger.trace("Next node nrBranchingDec: {}, new branching decisions: {}", nextNode.path.getDepth(), paths.length);
+		for(NodePath prefix : paths){
+			//Execute the decision, followed by the fixings
+			BranchingDecision bd=prefix.getBranchingDecision();
 			logger.trace("BAP exec branchingDecision: {}", bd);
+			Object jfrEvent=JFREvents.beginBranchingDecision();
 			this.performBranchingDecision(bd);
+			for(BranchingDecision fixing : prefix.getFixings())
+				this.performBranchingDecision(fixing);
+			if(jfrEvent != null)
+				JFREvents.commitBranchingDecision(jfrEvent, nextNode.nodeID, bd, false);
+			performedPaths.push(prefix);
 		}
-		this.previousNode=nextNode;
+		this.currentPath=nextNode.path;
 	}
 	
 	/**
 	 * Revert all currently active branching decisions, thereby restoring all data structures to their original state (i.e the state they were in at the root node)
 	 */
 	public void restore(){
-		while(!changeHistory.isEmpty()){
-			BranchingDecision bd = changeHistory.pop();
-			this.rewindBranchingDecision(bd);
+		while(!performedPaths.isEmpty()){
+			NodePath performedPath=performedPaths.pop();
+			this.rewindFixings(performedPath);
+			this.rewindBranchingDecision(performedPath.getBranchingDecision());
 		}
+		currentPath=currentPath.getAncestor(0);
 	}
 
 	/**
@@ -136,6 +144,16 @@ public class GraphManipulator {
 			listener.branchingDecisionPerformed(bd);
 	}
 
+	/**
+	 * Inform the listeners that the fixing decisions of the last node on the given path have been reversed, in the opposite order in which they have been executed
+	 * @param path path
+	 */
+	private void rewindFixings(NodePath path){
+		List<BranchingDecision> fixings=path.getFixings();
+		for(int i=fixings.size()-1; i>=0; i--)
+			this.rewindBranchingDecision(fixings.get(i));
+	}
+
 	/**
 	 * Inform the listeners that a branching decision has been reversed due to backtracking
 	 * @param bd branching decision
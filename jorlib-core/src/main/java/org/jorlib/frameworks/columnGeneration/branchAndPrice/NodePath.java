@@ -0,0 +1,261 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * NodePath.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Path from the root of the Branch-and-Price tree to a node. The path is persistent: it consists of the ID of the node, the branching decision which lead to the node, and
+ * a pointer to the path of the parent node. Creating the path of a child node therefore takes constant time and memory, while the paths of all nodes in the tree share their
+ * common prefixes. The lowest common ancestor of two paths is found by walking up from both nodes, so the effort is proportional to the distance between the nodes rather than to their depth.
+ * <p>
+ * Paths are immutable. Paths created independently, e.g. by the workers of a {@link ParallelBranchAndPrice} search, are compared by node ID; node IDs must therefore be unique within the tree.
+ * For storage or transmission, a path can be converted to an array of node IDs (see {@link #toArray()}), from which it can be restored through {@link #of(int[], List)}.
+ * <p>
+ * Besides its branching decision, every node on the path may carry fixing decisions, e.g. the elements eliminated through reduced cost fixing in its parent (see {@link AbstractReducedCostFixer}).
+ * The fixing decisions are executed after the branching decision. Fixing decisions merely reduce the size of the problem, so they are not preserved when a path is stored, restored or copied.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class NodePath {
+
+	/** Path of the parent node, or null if this is the path of the root node **/
+	private final NodePath parent;
+	/** ID of the last node on this path **/
+	private final int nodeID;
+	/** Number of branching decisions on this path. The depth of the root node is 0 **/
+	private final int depth;
+	/** Branching decision which lead to the last node on this path, or null if this is the path of the root node **/
+	private final BranchingDecision branchingDecision;
+	/** Fixing decisions which are executed after the branching decision which lead to the last node on this path **/
+	private final List<BranchingDecision> fixings;
+
+	private NodePath(NodePath parent, int nodeID, BranchingDecision branchingDecision, List<BranchingDecision> fixings){
+		this.parent=parent;
+		this.nodeID=nodeID;
+		this.depth=(parent == null ? 0 : parent.depth+1);
+		this.branchingDecision=branchingDecision;
+		this.fixings=fixings;
+	}
+
+	/**
+	 * Creates the path of the root node
+	 * @param nodeID ID of the root node
+	 * @return path consisting of the root node
+	 */
+	public static NodePath root(int nodeID){
+		return new NodePath(null, nodeID, null, Collections.emptyList());
+	}
+
+	/**
+	 * Restores a path from an array of node IDs and the corresponding branching decisions
+	 * @param nodeIDs IDs of the nodes encountered while walking from the root to the last node on the path
+	 * @param branchingDecisions branching decisions which lead from the root to the last node; branchingDecisions.get(i) leads to node nodeIDs[i+1]
+	 * @return the path
+	 */
+	public static NodePath of(int[] nodeIDs, List<? extends BranchingDecision> branchingDecisions){
+		if(nodeIDs.length == 0 || branchingDecisions.size() != nodeIDs.length-1)
+			throw new IllegalArgumentException("A path consists of at least one node, and of exactly one branching decision per node, except for the root node");
+		NodePath path=root(nodeIDs[0]);
+		for(int i=1; i<nodeIDs.length; i++)
+			path=path.createChild(nodeIDs[i], branchingDecisions.get(i-1));
+		return path;
+	}
+
+	/**
+	 * Creates the path of a child of the last node on this path
+	 * @param childNodeID ID of the child node
+	 * @param branchingDecision branching decision which leads to the child node
+	 * @return path of the child node
+	 */
+	public NodePath createChild(int childNodeID, BranchingDecision branchingDecision){
+		return new NodePath(this, childNodeID, branchingDecision, Collections.emptyList());
+	}
+
+	/**
+	 * Creates the path of a child of the last node on this path, which carries the given fixing decisions
+	 * @param childNodeID ID of the child node
+	 * @param branchingDecision branching decision which leads to the child node
+	 * @param fixings fixing decisions which are executed after the branching decision. The list must not be modified afterwards.
+	 * @return path of the child node
+	 */
+	public NodePath createChild(int childNodeID, BranchingDecision branchingDecision, List<BranchingDecision> fixings){
+		return new NodePath(this, childNodeID, branchingDecision, fixings.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(fixings));
+	}
+
+	/**
+	 * Creates a copy of this path in which every branching decision is replaced, e.g. by a copy which refers to the pricing problems of a different Branch-and-Price instance. Fixing decisions are not copied.
+	 * @param mapping maps every branching decision on this path to its replacement
+	 * @return copy of the path
+	 */
+	public NodePath copy(UnaryOperator<BranchingDecision> mapping){
+		NodePath[] paths=this.toPathArray();
+		NodePath copy=root(paths[0].nodeID);
+		for(int i=1; i<paths.length; i++)
+			copy=copy.createChild(paths[i].nodeID, mapping.apply(paths[i].branchingDecision));
+		return copy;
+	}
+
+	/**
+	 * Returns the ID of the last node on this path
+	 * @return the ID of the last node on this path
+	 */
+	public int getNodeID(){
+		return nodeID;
+	}
+
+	/**
+	 * Returns the number of branching decisions on this path, i.e. the depth of the last node in the Branch-and-Price tree. The depth of the root node is 0.
+	 * @return the depth of the last node on this path
+	 */
+	public int getDepth(){
+		return depth;
+	}
+
+	/**
+	 * Returns the path of the parent node
+	 * @return the path of the parent node, or null if this is the path of the root node
+	 */
+	public NodePath getParent(){
+		return parent;
+	}
+
+	/**
+	 * Returns the branching decision which lead to the last node on this path
+	 * @return the branching decision which lead to the last node on this path, or null if this is the path of the root node
+	 */
+	public BranchingDecision getBranchingDecision(){
+		return branchingDecision;
+	}
+
+	/**
+	 * Returns the fixing decisions which are executed after the branching decision which lead to the last node on this path
+	 * @return unmodifiable list of fixing decisions, which is empty if the node does not carry any fixing decisions
+	 */
+	public List<BranchingDecision> getFixings(){
+		return fixings;
+	}
+
+	/**
+	 * Tests whether a column is compatible with the branching decision and the fixing decisions of the last node on this path, see {@link BranchingDecision#columnIsCompatibleWithBranchingDecision(AbstractColumn)}
+	 * @param column column
+	 * @return true if the column complies with the branching decision and the fixing decisions of the last node on this path. The decisions of the ancestors are not tested.
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean columnIsCompatible(AbstractColumn column){
+		if(branchingDecision != null && !branchingDecision.columnIsCompatibleWithBranchingDecision(column))
+			return false;
+		for(BranchingDecision fixing : fixings){
+			if(!fixing.columnIsCompatibleWithBranchingDecision(column))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the prefix of this path which ends at the given depth
+	 * @param depth depth of the ancestor, ranging from 0 (root) to the depth of this path
+	 * @return the path of the ancestor at the given depth
+	 */
+	public NodePath getAncestor(int depth){
+		if(depth < 0 || depth > this.depth)
+			throw new IllegalArgumentException("Depth must be in between 0 and "+this.depth);
+		NodePath path=this;
+		while(path.depth > depth)
+			path=path.parent;
+		return path;
+	}
+
+	/**
+	 * Returns the longest common prefix of this path and the given path, i.e. the path of the lowest common ancestor of both nodes. The prefix is taken from this path.
+	 * @param other path
+	 * @return the path of the lowest common ancestor
+	 */
+	public NodePath lowestCommonAncestor(NodePath other){
+		NodePath path=this;
+		while(path.depth > other.depth)
+			path=path.parent;
+		while(other.depth > path.depth)
+			other=other.parent;
+		while(path != other && path.nodeID != other.nodeID){
+			if(path.parent == null)
+				throw new IllegalArgumentException("Paths do not have a common root");
+			path=path.parent;
+			other=other.parent;
+		}
+		return path;
+	}
+
+	/**
+	 * Returns the branching decisions which lead from the root to the last node on this path
+	 * @return the branching decisions on this path, in the order in which they have been made
+	 */
+	public List<BranchingDecision> getBranchingDecisions(){
+		BranchingDecision[] branchingDecisions=new BranchingDecision[depth];
+		for(NodePath path=this; path.parent != null; path=path.parent)
+			branchingDecisions[path.depth-1]=path.branchingDecision;
+		return Collections.unmodifiableList(Arrays.asList(branchingDecisions));
+	}
+
+	/**
+	 * Returns the IDs of the nodes encountered while walking from the root to the last node on this path
+	 * @return array of node IDs, where array[0] is the ID of the root node and array[depth] the ID of the last node
+	 */
+	public int[] toArray(){
+		int[] nodeIDs=new int[depth+1];
+		for(NodePath path=this; path != null; path=path.parent)
+			nodeIDs[path.depth]=path.nodeID;
+		return nodeIDs;
+	}
+
+	/**
+	 * Returns the prefixes of this path, ordered by depth
+	 * @return array of paths, where array[i] is the prefix ending at depth i
+	 */
+	private NodePath[] toPathArray(){
+		NodePath[] paths=new NodePath[depth+1];
+		for(NodePath path=this; path != null; path=path.parent)
+			paths[path.depth]=path;
+		return paths;
+	}
+
+	/**
+	 * Textual description of the path, i.e. the sequence of node IDs
+	 * @return Textual description of the path
+	 */
+	@Override
+	public String toString(){
+		return Arrays.toString(this.toArray());
+	}
+}
@@ -0,0 +1,237 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * OpenNodeQueue.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Queue containing the unexplored (open) nodes of the Branch-and-Price tree. The nodes are kept in two balanced search trees: one ordered by the comparator which defines the order in which
+ * the nodes are processed, and one ordered by bound. As a result, adding and removing a node, as well as querying the best bound of all open nodes (see {@link #getBound()}), take O(log n) time,
+ * such that the global bound, and hence the optimality gap, can be reported every time a node is processed, even when the tree contains millions of nodes.
+ * <p>
+ * Optionally, the queue dives: the next node is one of the children of the node which has been taken from the queue last, until the dive reaches the maximum dive depth, or until the node taken last
+ * has no children, e.g. because it was pruned. The next node is then selected through the comparator. Combined with the {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestBoundbapNodeComparator},
+ * this yields a dive-then-best-bound strategy, which finds integer solutions early (diving) while keeping the global bound moving (best-bound). Among the children, the comparator determines which child is selected.
+ * <p>
+ * The bound of a node must not be changed while the node is in the queue. All methods except {@link #iterator()} are synchronized.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ */
+public class OpenNodeQueue<T, U extends AbstractColumn<T, ?>> extends AbstractQueue<BAPNode<T, U>> {
+
+	/** Comparator which defines the order in which the nodes are processed **/
+	private final Comparator<BAPNode> comparator;
+	/** Defines whether the master problem is a minimization or a maximization problem **/
+	private final OptimizationSense optimizationSense;
+	/** Maximum number of consecutive nodes taken from the queue while diving; 0 if the queue does not dive **/
+	private final int maxDiveDepth;
+	/** Open nodes, ordered by the comparator **/
+	private final TreeSet<BAPNode<T, U>> selectionOrder;
+	/** Open nodes, ordered by bound: the first node has the best bound **/
+	private final TreeSet<BAPNode<T, U>> boundOrder;
+	/** Children of the node which has been taken from the queue last **/
+	private final List<BAPNode<T, U>> diveCandidates=new ArrayList<>();
+	/** ID of the node which has been taken from the queue last, or -1 **/
+	private int lastNodeID=-1;
+	/** Number of consecutive nodes taken from the queue while diving **/
+	private int diveDepth=0;
+
+	/**
+	 * Creates a new queue which does not dive
+	 * @param comparator comparator which defines the order in which the nodes are processed
+	 * @param optimizationSense optimization sense of the master problem
+	 */
+	public OpenNodeQueue(Comparator<BAPNode> comparator, OptimizationSense optimizationSense){
+		this(comparator, optimizationSense, 0);
+	}
+
+	/**
+	 * Creates a new queue
+	 * @param comparator comparator which defines the order in which the nodes are processed
+	 * @param optimizationSense optimization sense of the master problem
+	 * @param maxDiveDepth maximum number of consecutive nodes which are taken from the queue while diving, or 0 to disable diving
+	 */
+	public OpenNodeQueue(Comparator<BAPNode> comparator, OptimizationSense optimizationSense, int maxDiveDepth){
+		if(maxDiveDepth < 0)
+			throw new IllegalArgumentException("The maximum dive depth cannot be negative");
+		this.comparator=comparator;
+		this.optimizationSense=optimizationSense;
+		this.maxDiveDepth=maxDiveDepth;
+		selectionOrder=new TreeSet<>((o1, o2) -> {
+			int result=comparator.compare(o1, o2);
+			return (result != 0 ? result : Integer.compare(o1.nodeID, o2.nodeID));
+		});
+		boundOrder=new TreeSet<>((o1, o2) -> {
+			int result=(optimizationSense == OptimizationSense.MINIMIZE ? Double.compare(o1.bound, o2.bound) : Double.compare(o2.bound, o1.bound));
+			return (result != 0 ? result : Integer.compare(o1.nodeID, o2.nodeID));
+		});
+	}
+
+	/**
+	 * Adds a node to the queue
+	 * @param bapNode node
+	 * @return true if the node has been added, false if the queue already contains the node
+	 */
+	@Override
+	public synchronized boolean offer(BAPNode<T, U> bapNode) {
+		if(!selectionOrder.add(bapNode))
+			return false;
+		boundOrder.add(bapNode);
+		if(maxDiveDepth > 0 && lastNodeID >= 0 && bapNode.getParentID() == lastNodeID)
+			diveCandidates.add(bapNode);
+		return true;
+	}
+
+	/**
+	 * Takes the next node from the queue
+	 * @return the next node, or null if the queue is empty
+	 */
+	@Override
+	public synchronized BAPNode<T, U> poll() {
+		BAPNode<T, U> bapNode=this.peek();
+		if(bapNode == null)
+			return null;
+		if(diveCandidates.contains(bapNode))
+			diveDepth++;
+		else
+			diveDepth=0;
+		this.removeNode(bapNode);
+		diveCandidates.clear();
+		lastNodeID=bapNode.nodeID;
+		return bapNode;
+	}
+
+	/**
+	 * Returns the next node, without removing it from the queue
+	 * @return the next node, or null if the queue is empty
+	 */
+	@Override
+	public synchronized BAPNode<T, U> peek() {
+		if(selectionOrder.isEmpty())
+			return null;
+		if(!diveCandidates.isEmpty() && diveDepth < maxDiveDepth){
+			BAPNode<T, U> best=diveCandidates.get(0);
+			for(BAPNode<T, U> candidate : diveCandidates){
+				if(selectionOrder.comparator().compare(candidate, best) < 0)
+					best=candidate;
+			}
+			return best;
+		}
+		return selectionOrder.first();
+	}
+
+	/**
+	 * Returns the best bound of all nodes in the queue, i.e. the lowest bound if the master problem is a minimization problem, and the highest bound if it is a maximization problem.
+	 * @return the best bound of the open nodes, or NaN if the queue is empty
+	 */
+	public synchronized double getBound(){
+		return (boundOrder.isEmpty() ? Double.NaN : boundOrder.first().bound);
+	}
+
+	/**
+	 * Returns the comparator which defines the order in which the nodes are processed
+	 * @return the comparator
+	 */
+	public Comparator<BAPNode> getComparator(){
+		return comparator;
+	}
+
+	/**
+	 * Returns the maximum number of consecutive nodes taken from the queue while diving
+	 * @return maximum dive depth, or 0 if the queue does not dive
+	 */
+	public int getMaxDiveDepth(){
+		return maxDiveDepth;
+	}
+
+	@Override
+	public synchronized boolean remove(Object o) {
+		if(!(o instanceof BAPNode) || !selectionOrder.contains(o))
+			return false;
+		this.removeNode((BAPNode<?, ?>) o);
+		diveCandidates.remove(o);
+		return true;
+	}
+
+	@Override
+	public synchronized void clear() {
+		selectionOrder.clear();
+		boundOrder.clear();
+		diveCandidates.clear();
+	}
+
+	@Override
+	public synchronized int size() {
+		return selectionOrder.size();
+	}
+
+	/**
+	 * Returns an iterator over the nodes, in the order defined by the comparator (diving is not taken into account). The iterator is not synchronized.
+	 * @return iterator
+	 */
+	@Override
+	public Iterator<BAPNode<T, U>> iterator() {
+		Iterator<BAPNode<T, U>> iterator=selectionOrder.iterator();
+		return new Iterator<BAPNode<T, U>>() {
+			private BAPNode<T, U> current=null;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public BAPNode<T, U> next() {
+				current=iterator.next();
+				return current;
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				boundOrder.remove(current);
+				diveCandidates.remove(current);
+			}
+		};
+	}
+
+	/**
+	 * Removes a node from both search trees
+	 * @param bapNode node
+	 */
+	private void removeNode(BAPNode<?, ?> bapNode){
+		selectionOrder.remove(bapNode);
+		boundOrder.remove(bapNode);
+	}
+}
@@ -0,0 +1,539 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ParallelBranchAndPrice.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.DFSbapNodeComparator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Searches the Branch-and-Price tree with a number of workers in parallel. Every worker is a complete Branch-and-Price instance, created by a {@link BAPWorkerFactory}, with its
+ * own master problem, pricing problems and {@link GraphManipulator}. The workers take the nodes from a single queue, which is shared by all workers, and add the nodes created by branching
+ * to the same queue. The workers share the incumbent solution: whenever a worker finds a better solution, the other workers use its objective to prune their nodes.
+ * <p>
+ * A node may be processed by a different worker than the worker which created it. Since the columns and branching decisions of a node refer to the pricing problems of the worker which created
+ * the node, the factory copies the columns and branching decisions of the node before it is processed (see {@link BAPWorkerFactory}). Likewise, the columns of the shared incumbent solution are copies:
+ * the values of the columns are not affected by the master problems of the workers. Valid inequalities are not passed between workers; they are separated again by the cut generators of the worker
+ * processing the node.
+ * <p>
+ * Listeners, dual stabilizers, column managers, column pools etc. are configured per worker, in the factory. Each worker delivers its own events; listeners shared by several workers must be thread-safe.
+ * By default, every worker solves its pricing problems with its own thread pool; use {@link AbstractBranchAndPrice#setPricingExecutor(org.jorlib.frameworks.columnGeneration.pricing.execution.PricingExecutor)}
+ * to share a single executor among the workers.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public final class ParallelBranchAndPrice<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Factory which created the workers, and which copies columns and branching decisions **/
+	private final BAPWorkerFactory<T, U, V> factory;
+	/** Workers **/
+	private final List<AbstractBranchAndPrice<T, U, V>> workers;
+	/** Defines whether the master problem is a minimization or a maximization problem **/
+	private final OptimizationSense optimizationSenseMaster;
+
+	/** Guards the queue, the incumbent solution and the state of the workers **/
+	private final ReentrantLock lock=new ReentrantLock();
+	/** Signaled when nodes have been added to the queue, or when a worker has finished processing a node **/
+	private final Condition nodeAvailable=lock.newCondition();
+	/** Queue containing the unexplored nodes in the Branch-and-Price tree, shared by all workers **/
+	private OpenNodeQueue<T, U> queue;
+	/** Worker which created each node in the queue **/
+	private final Map<BAPNode<T,U>, AbstractBranchAndPrice<T, U, V>> owners=new ConcurrentHashMap<>();
+	/** Bound of the node processed by each worker, or NaN if the worker is idle **/
+	private final double[] activeBounds;
+	/** Number of workers processing a node **/
+	private int nrBusyWorkers=0;
+	/** Indicates whether the workers should stop, e.g. because the time limit has been exceeded **/
+	private boolean stopped=false;
+	/** First exception thrown by any of the workers **/
+	private Throwable failure=null;
+	/** Counter used to provide a unique ID for each node **/
+	private final AtomicInteger nodeCounter;
+
+	/** Stores the objective of the best (integer) solution **/
+	private volatile double objectiveIncumbentSolution;
+	/** Copies of the columns corresponding to the best integer solution (empty list when no feasible solution has been found) **/
+	private List<U> incumbentSolution;
+	/** Indicator whether the best solution is optimal **/
+	private volatile boolean isOptimal=false;
+	/** Total runtime **/
+	private long runtime=0;
+	/** The search terminates as soon as the absolute gap between the incumbent solution and the bound does not exceed this limit (0 to disable) **/
+	private double absoluteGapLimit=0;
+	/** The search terminates as soon as the relative gap between the incumbent solution and the bound does not exceed this limit (0 to disable) **/
+	private double relativeGapLimit=0;
+
+	/**
+	 * Creates a new parallel Branch-and-Price search. The root node of the first worker is the root node of the search; the incumbent solution of the first worker (see
+	 * {@link AbstractBranchAndPrice#warmStart(double, List)}) is the initial incumbent solution.
+	 * @param factory factory which creates the workers
+	 * @param nrWorkers number of workers, i.e. the number of nodes which are processed in parallel
+	 */
+	public ParallelBranchAndPrice(BAPWorkerFactory<T, U, V> factory, int nrWorkers){
+		if(nrWorkers < 1)
+			throw new IllegalArgumentException("At least one worker is required");
+		this.factory=factory;
+		List<AbstractBranchAndPrice<T, U, V>> workers=new ArrayList<>(nrWorkers);
+		for(int i=0; i<nrWorkers; i++)
+			workers.add(factory.createWorker(i));
+		this.workers=Collections.unmodifiableList(workers);
+		AbstractBranchAndPrice<T, U, V> first=workers.get(0);
+		this.optimizationSenseMaster=first.optimizationSenseMaster;
+
+		queue=new OpenNodeQueue<>(new DFSbapNodeComparator(), optimizationSenseMaster);
+		int maxNodeID=0;
+		for(AbstractBranchAndPrice<T, U, V> worker : workers){
+			if(worker.parallelBranchAndPrice != null || workers.indexOf(worker) != workers.lastIndexOf(worker))
+				throw new IllegalArgumentException("The factory must create a new Branch-and-Price instance for every worker");
+			if(worker.optimizationSenseMaster != optimizationSenseMaster || worker.pricingProblems.size() != first.pricingProblems.size())
+				throw new IllegalArgumentException("All workers must solve the same problem: the optimization sense and the number of pricing problems of the workers differ");
+			worker.parallelBranchAndPrice=this;
+			worker.queue=queue;
+			maxNodeID=Math.max(maxNodeID, worker.nodeCounter);
+		}
+		nodeCounter=new AtomicInteger(maxNodeID);
+		activeBounds=new double[nrWorkers];
+		Arrays.fill(activeBounds, Double.NaN);
+
+		//The root node of the first worker is the root node of the search
+		owners.put(first.rootNode, first);
+		queue.add(first.rootNode);
+		objectiveIncumbentSolution=first.objectiveIncumbentSolution;
+		incumbentSolution=this.copyColumns(first.incumbentSolution);
+	}
+
+	/**
+	 * Provide an initial solution. This solution will be used as an initial set of columns for the master problem of the root node
+	 * @param objectiveInitialSolution objective value of the initial solution
+	 * @param initialSolution columns constituting the initial solution. The columns must belong to the pricing problems of the first worker.
+	 */
+	public void warmStart(double objectiveInitialSolution, List<U> initialSolution){
+		workers.get(0).warmStart(objectiveInitialSolution, initialSolution);
+		lock.lock();
+		try{
+			objectiveIncumbentSolution=objectiveInitialSolution;
+			incumbentSolution=this.copyColumns(initialSolution);
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts running the parallel Branch-and-Price search. Every worker runs on its own thread; this method returns when all workers have finished. When the thread invoking this
+	 * method is interrupted, or when the gap limits (see {@link #setAbsoluteGapLimit(double)} and {@link #setRelativeGapLimit(double)}) are reached, the workers finish the nodes they are processing, and stop.
+	 * Note: In the current version of the code, one should not invoke this function multiple times on the same instance!
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 */
+	public void runBranchAndPrice(long timeLimit){
+		this.runtime=System.currentTimeMillis();
+
+		//Check whether an warm start is provided, if not, invoke generateInitialFeasibleSolution
+		BAPNode<T, U> rootNode=queue.peek();
+		if(rootNode != null && rootNode.getInitialColumns().isEmpty())
+			rootNode.addInitialColumns(owners.get(rootNode).generateInitialFeasibleSolution(rootNode));
+
+		//Start the workers
+		List<Thread> threads=new ArrayList<>(workers.size());
+		for(int i=0; i<workers.size(); i++){
+			final int workerID=i;
+			Thread thread=new Thread(() -> this.runWorker(workerID, timeLimit), "jorlib-bap-worker-"+workerID);
+			thread.start();
+			threads.add(thread);
+		}
+
+		//Wait until all workers have finished
+		boolean interrupted=false;
+		for(Thread thread : threads){
+			while(thread.isAlive()){
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					interrupted=true;
+					this.stop(null);
+				}
+			}
+		}
+		if(interrupted)
+			Thread.currentThread().interrupt();
+		this.runtime=System.currentTimeMillis()-runtime;
+
+		if(failure != null)
+			throw new RuntimeException("A worker of the parallel Branch-and-Price search failed", failure);
+		this.isOptimal=queue.isEmpty();
+	}
+
+	/**
+	 * Takes nodes from the queue and processes them with the given worker, until the queue is empty and none of the other workers is processing a node, or until the search is stopped
+	 * @param workerID ID of the worker
+	 * @param timeLimit Future point in time by which the algorithm should finish
+	 */
+	private void runWorker(int workerID, long timeLimit){
+		AbstractBranchAndPrice<T, U, V> worker=workers.get(workerID);
+		worker.notifier.fireStartBAPEvent();
+		long start=System.currentTimeMillis();
+		try{
+			for(BAPNode<T, U> bapNode=this.takeNode(workerID); bapNode != null; bapNode=this.takeNode(workerID)){
+				AbstractBranchAndPrice<T, U, V> owner=owners.remove(bapNode);
+				try {
+					if(owner != worker)
+						bapNode=factory.copyNode(bapNode, owner.pricingProblems, worker.pricingProblems);
+					worker.processNode(bapNode, timeLimit);
+				} catch (TimeLimitExceededException e) {
+					this.enqueueNodes(worker, Collections.singletonList(bapNode));
+					this.stop(null);
+				} catch (RuntimeException | Error e) {
+					this.stop(e);
+				} finally {
+					this.finishNode(workerID);
+				}
+			}
+		}finally{
+			worker.notifier.fireStopBAPEvent();
+			worker.runtime=System.currentTimeMillis()-start;
+			worker.notifier.getEventDispatcher().flush();
+		}
+	}
+
+	/**
+	 * Takes the next node from the queue. If the queue is empty while other workers are still processing nodes, this method waits until nodes become available.
+	 * @param workerID ID of the worker taking the node
+	 * @return the next node, or null if all nodes have been processed or if the search has been stopped
+	 */
+	private BAPNode<T, U> takeNode(int workerID){
+		lock.lock();
+		try{
+			while(!stopped && queue.isEmpty() && nrBusyWorkers > 0)
+				nodeAvailable.awaitUninterruptibly();
+			if(!queue.isEmpty() && AbstractBranchAndPrice.gapLimitReached(objectiveIncumbentSolution, workers.get(workerID).roundBound(this.getBound()), absoluteGapLimit, relativeGapLimit))
+				stopped=true;
+			if(stopped || queue.isEmpty()){
+				nodeAvailable.signalAll(); //The other workers terminate as well
+				return null;
+			}
+			BAPNode<T, U> bapNode=queue.poll();
+			nrBusyWorkers++;
+			activeBounds[workerID]=bapNode.bound;
+			return bapNode;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Registers that the given worker has finished processing its node
+	 * @param workerID ID of the worker
+	 */
+	private void finishNode(int workerID){
+		lock.lock();
+		try{
+			nrBusyWorkers--;
+			activeBounds[workerID]=Double.NaN;
+			nodeAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the search: the workers finish the nodes they are processing, but do not take any new nodes from the queue
+	 * @param cause exception which caused the search to stop, or null
+	 */
+	private void stop(Throwable cause){
+		lock.lock();
+		try{
+			stopped=true;
+			if(failure == null)
+				failure=cause;
+			nodeAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Adds nodes to the queue shared by all workers
+	 * @param worker worker which created the nodes
+	 * @param nodes nodes
+	 */
+	void enqueueNodes(AbstractBranchAndPrice<T, U, V> worker, List<BAPNode<T, U>> nodes){
+		lock.lock();
+		try{
+			for(BAPNode<T, U> bapNode : nodes)
+				owners.put(bapNode, worker);
+			queue.addAll(nodes);
+			nodeAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Replaces the shared incumbent solution if the given solution is better
+	 * @param objective objective value of the solution
+	 * @param solution columns constituting the solution
+	 */
+	void updateIncumbent(double objective, List<U> solution){
+		if(!this.isImprovement(objective))
+			return;
+		List<U> copy=this.copyColumns(solution);
+		lock.lock();
+		try{
+			if(this.isImprovement(objective)){
+				objectiveIncumbentSolution=objective;
+				incumbentSolution=copy;
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a unique node ID
+	 * @return a unique node ID, which has not been assigned to any node created by any of the workers
+	 */
+	int getUniqueNodeID(){
+		return nodeCounter.getAndIncrement();
+	}
+
+	/**
+	 * Tests whether a solution with the given objective improves the incumbent solution
+	 * @param objective objective value
+	 * @return true if the objective is better than the objective of the incumbent solution
+	 */
+	private boolean isImprovement(double objective){
+		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? objective < objectiveIncumbentSolution : objective > objectiveIncumbentSolution);
+	}
+
+	/**
+	 * Copies the given columns, such that their values are not affected by the master problems of the workers
+	 * @param columns columns
+	 * @return copies of the columns
+	 */
+	private List<U> copyColumns(List<U> columns){
+		List<U> copy=new ArrayList<>(columns.size());
+		for(U column : columns)
+			copy.add(factory.copyColumn(column, column.associatedPricingProblem));
+		return copy;
+	}
+
+	/**
+	 * Returns the objective value of the best solution found by any of the workers
+	 * @return the objective of the best integer solution found during the Branch-and-Price search
+	 */
+	public double getObjective(){
+		return objectiveIncumbentSolution;
+	}
+
+	/**
+	 * Returns strongest available bound on the objective function, taking the nodes in the queue as well as the nodes which are being processed by the workers into account.
+	 * This method may be invoked while the search is running.
+	 * @return Returns the best bound on the optimal solution (upper bound if the master is a maximization problem, a lower bound if the master is a minimization problem)
+	 */
+	public double getBound(){
+		lock.lock();
+		try{
+			double bound=objectiveIncumbentSolution;
+			if(isOptimal)
+				return bound;
+			if(!queue.isEmpty())
+				bound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(bound, queue.getBound()) : Math.max(bound, queue.getBound()));
+			for(double activeBound : activeBounds){
+				if(!Double.isNaN(activeBound))
+					bound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.min(bound, activeBound) : Math.max(bound, activeBound));
+			}
+			return bound;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Return whether a solution has been found
+	 * @return true if a feasible solution has been found
+	 */
+	public boolean hasSolution(){
+		lock.lock();
+		try{
+			return !incumbentSolution.isEmpty();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns whether the solution is optimal, that is, whether the entire Branch-and-Price tree has been processed
+	 * @return {@code true} if the problem instance has been solved to optimality. ({@code getBound} and {@code getObjective} methods must yield the same value.
+	 */
+	public boolean isOptimal(){
+		return isOptimal;
+	}
+
+	/**
+	 * Returns the best solution found by any of the workers
+	 * @return Returns copies of the columns corresponding with the best solution.
+	 */
+	public List<U> getSolution(){
+		lock.lock();
+		try{
+			return Collections.unmodifiableList(incumbentSolution);
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of processed nodes
+	 * @return the number of nodes processed, summed over all workers
+	 */
+	public int getNumberOfProcessedNodes(){
+		int nodesProcessed=0;
+		for(AbstractBranchAndPrice<T, U, V> worker : workers)
+			nodesProcessed+=worker.getNumberOfProcessedNodes();
+		return nodesProcessed;
+	}
+
+	/**
+	 * Total time spent solving the Branch-and-Price problem.
+	 * @return total (wall clock) time spent solving the Branch-and-Price problem
+	 */
+	public long getSolveTime(){
+		return runtime;
+	}
+
+	/**
+	 * Total time spent on solving master problems
+	 * @return total time spent on solving master problems, summed over all workers
+	 */
+	public long getMasterSolveTime(){
+		long time=0;
+		for(AbstractBranchAndPrice<T, U, V> worker : workers)
+			time+=worker.getMasterSolveTime();
+		return time;
+	}
+
+	/**
+	 * Total time spent on solving pricing problems
+	 * @return total time spent on solving pricing problems, summed over all workers
+	 */
+	public long getPricingSolveTime(){
+		long time=0;
+		for(AbstractBranchAndPrice<T, U, V> worker : workers)
+			time+=worker.getPricingSolveTime();
+		return time;
+	}
+
+	/**
+	 * Counts how many columns have been generated over the entire Branch-and-Price tree
+	 * @return returns total number of columns generated, summed over all workers
+	 */
+	public int getTotalGeneratedColumns(){
+		int totalGeneratedColumns=0;
+		for(AbstractBranchAndPrice<T, U, V> worker : workers)
+			totalGeneratedColumns+=worker.getTotalGeneratedColumns();
+		return totalGeneratedColumns;
+	}
+
+	/**
+	 * Counts how many column generation iterations have been made over the entire Branch-and-Price tree
+	 * @return returns the total number of column generation iterations, summed over all workers
+	 */
+	public int getTotalNrIterations(){
+		int totalNrIterations=0;
+		for(AbstractBranchAndPrice<T, U, V> worker : workers)
+			totalNrIterations+=worker.getTotalNrIterations();
+		return totalNrIterations;
+	}
+
+	/**
+	 * Terminates the search as soon as the absolute gap between the incumbent solution and the bound (see {@link #getBound()}) does not exceed the given limit, see {@link AbstractBranchAndPrice#setAbsoluteGapLimit(double)}
+	 * @param absoluteGapLimit absolute gap limit, or 0 to disable the limit
+	 */
+	public void setAbsoluteGapLimit(double absoluteGapLimit){
+		if(absoluteGapLimit < 0)
+			throw new IllegalArgumentException("Gap limit cannot be negative");
+		this.absoluteGapLimit=absoluteGapLimit;
+	}
+
+	/**
+	 * Terminates the search as soon as the relative gap between the incumbent solution and the bound (see {@link #getBound()}) does not exceed the given limit, see {@link AbstractBranchAndPrice#setRelativeGapLimit(double)}
+	 * @param relativeGapLimit relative gap limit, or 0 to disable the limit
+	 */
+	public void setRelativeGapLimit(double relativeGapLimit){
+		if(relativeGapLimit < 0)
+			throw new IllegalArgumentException("Gap limit cannot be negative");
+		this.relativeGapLimit=relativeGapLimit;
+	}
+
+	/**
+	 * Returns the workers, e.g. to query their statistics
+	 * @return unmodifiable list of workers
+	 */
+	public List<AbstractBranchAndPrice<T, U, V>> getWorkers(){
+		return workers;
+	}
+
+	/**
+	 * Define how the nodes in the Branch-and-Price tree are processed. By default, the tree is processed in a Depth-First-Search manner, see {@link AbstractBranchAndPrice#setNodeOrdering(Comparator)}.
+	 * Note that the workers process several nodes at the same time, so the order in which the nodes are processed is not strictly defined by the comparator.
+	 * @param comparator comparator
+	 */
+	public void setNodeOrdering(Comparator<BAPNode> comparator){
+		lock.lock();
+		try{
+			OpenNodeQueue<T, U> newQueue=new OpenNodeQueue<>(comparator, optimizationSenseMaster);
+			newQueue.addAll(queue);
+			this.queue=newQueue;
+			for(AbstractBranchAndPrice<T, U, V> worker : workers)
+				worker.queue=newQueue;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Destroy the master problems and pricing problems of all workers
+	 */
+	public void close(){
+		for(AbstractBranchAndPrice<T, U, V> worker : workers)
+			worker.close();
+	}
+}
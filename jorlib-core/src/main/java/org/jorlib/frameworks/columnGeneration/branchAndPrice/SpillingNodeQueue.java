@@ -0,0 +1,518 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SpillingNodeQueue.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link OpenNodeQueue} which keeps the memory consumed by the open nodes within a budget. The bulk of the memory of an open node consists of its initial columns. Whenever the total number
+ * of initial columns of the nodes in memory (the resident nodes) exceeds the budget, the initial columns of the resident nodes which come last in the order in which the nodes are processed
+ * are written to a memory-mapped spill file, and released. The nodes themselves remain in the queue, so the order in which the nodes are processed, and the bound of the open nodes, are not
+ * affected. The columns of a spilled node are read back as soon as the node is selected as the next node (see {@link #peek()}).
+ * <p>
+ * The columns are written in a compact binary encoding: the position of the pricing problem of the column, followed by the contents of the column, which are written by a
+ * {@link CheckpointCodec}. Columns which are shared by multiple nodes are written once for every node, and are read back as distinct objects. Columns which a node inherits lazily
+ * (see {@link AbstractBranchAndPrice#setLazyColumnInheritance(boolean)}) are inherited before the node is spilled. The initial inequalities of a node are not spilled; they consist of references
+ * to inequalities which are shared by many nodes. Space in the spill file which is no longer used is reclaimed once it exceeds half of the file. The spill file cannot exceed 2GB.
+ * <p>
+ * The iterator of this queue returns spilled nodes without their initial columns; their columns can be obtained through {@link #readInitialColumns(BAPNode)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ */
+public class SpillingNodeQueue<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends OpenNodeQueue<T, U> {
+
+	/** Logger for this class **/
+	private static final Logger logger = LoggerFactory.getLogger(SpillingNodeQueue.class);
+	/** Initial size of the memory-mapped region (bytes) **/
+	private static final int INITIAL_CAPACITY=1 << 20;
+
+	/** Spill file **/
+	private final File spillFile;
+	/** Writes and reads the columns **/
+	private final CheckpointCodec<T, U, V> codec;
+	/** Pricing problems to which the columns belong **/
+	private final List<V> pricingProblems;
+	/** Maximum number of initial columns of the resident nodes **/
+	private final long maxResidentColumns;
+
+	/** Resident nodes, ordered by the comparator **/
+	private final TreeSet<BAPNode<T, U>> residentOrder;
+	/** Number of columns of every resident node, as counted when the node became resident **/
+	private final Map<BAPNode<T, U>, Integer> residentColumns=new IdentityHashMap<>();
+	/** Location in the spill file of the columns of every spilled node **/
+	private final Map<BAPNode<T, U>, SpillRecord> spilledNodes=new IdentityHashMap<>();
+	/** Total number of initial columns of the resident nodes **/
+	private long nrResidentColumns=0;
+	/** Buffer in which a node is encoded **/
+	private final ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+
+	/** Channel to the spill file, or null if the file has not been opened yet **/
+	private FileChannel channel=null;
+	/** Memory-mapped region of the spill file **/
+	private MappedByteBuffer buffer=null;
+	/** Position in the spill file at which the next node is written **/
+	private int writePosition=0;
+	/** Number of bytes in the spill file which are no longer used **/
+	private int garbage=0;
+	/** Indicates whether spilling has been disabled because of an I/O error **/
+	private boolean disabled=false;
+	/** Number of times a node has been spilled **/
+	private long nrSpills=0;
+	/** Number of times a node has been read back **/
+	private long nrLoads=0;
+
+	/**
+	 * Creates a new queue which does not dive
+	 * @param comparator comparator which defines the order in which the nodes are processed
+	 * @param optimizationSense optimization sense of the master problem
+	 * @param spillFile file to which the columns of the spilled nodes are written. The file is overwritten, and deleted when the queue is closed.
+	 * @param codec writes and reads the columns
+	 * @param pricingProblems pricing problems to which the columns belong
+	 * @param maxResidentColumns maximum number of initial columns of the nodes which are kept in memory
+	 */
+	public SpillingNodeQueue(Comparator<BAPNode> comparator, OptimizationSense optimizationSense, File spillFile, CheckpointCodec<T, U, V> codec, List<V> pricingProblems, long maxResidentColumns){
+		this(comparator, optimizationSense, 0, spillFile, codec, pricingProblems, maxResidentColumns);
+	}
+
+	/**
+	 * Creates a new queue
+	 * @param comparator comparator which defines the order in which the nodes are processed
+	 * @param optimizationSense optimization sense of the master problem
+	 * @param maxDiveDepth maximum number of consecutive nodes which are taken from the queue while diving, or 0 to disable diving
+	 * @param spillFile file to which the columns of the spilled nodes are written. The file is overwritten, and deleted when the queue is closed.
+	 * @param codec writes and reads the columns
+	 * @param pricingProblems pricing problems to which the columns belong
+	 * @param maxResidentColumns maximum number of initial columns of the nodes which are kept in memory
+	 */
+	public SpillingNodeQueue(Comparator<BAPNode> comparator, OptimizationSense optimizationSense, int maxDiveDepth, File spillFile, CheckpointCodec<T, U, V> codec, List<V> pricingProblems, long maxResidentColumns){
+		super(comparator, optimizationSense, maxDiveDepth);
+		if(maxResidentColumns < 0)
+			throw new IllegalArgumentException("The maximum number of resident columns cannot be negative");
+		this.spillFile=spillFile;
+		this.codec=codec;
+		this.pricingProblems=pricingProblems;
+		this.maxResidentColumns=maxResidentColumns;
+		residentOrder=new TreeSet<>((o1, o2) -> {
+			int result=comparator.compare(o1, o2);
+			return (result != 0 ? result : Integer.compare(o1.nodeID, o2.nodeID));
+		});
+	}
+
+	/**
+	 * Adds a node to the queue. If the budget is exceeded, the resident nodes which come last are spilled.
+	 * @param bapNode node
+	 * @return true if the node has been added, false if the queue already contains the node
+	 */
+	@Override
+	public synchronized boolean offer(BAPNode<T, U> bapNode) {
+		if(!super.offer(bapNode))
+			return false;
+		this.makeResident(bapNode);
+		this.enforceBudget(null);
+		return true;
+	}
+
+	/**
+	 * Takes the next node from the queue. The columns of the node are read back if the node has been spilled.
+	 * @return the next node, or null if the queue is empty
+	 */
+	@Override
+	public synchronized BAPNode<T, U> poll() {
+		BAPNode<T, U> bapNode=super.poll(); //Invokes peek(), which reads the columns back
+		if(bapNode != null)
+			this.forget(bapNode);
+		return bapNode;
+	}
+
+	/**
+	 * Returns the next node, without removing it from the queue. The columns of the node are read back if the node has been spilled.
+	 * @return the next node, or null if the queue is empty
+	 */
+	@Override
+	public synchronized BAPNode<T, U> peek() {
+		BAPNode<T, U> bapNode=super.peek();
+		if(bapNode != null && spilledNodes.containsKey(bapNode)){
+			this.load(bapNode);
+			this.enforceBudget(bapNode);
+		}
+		return bapNode;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized boolean remove(Object o) {
+		if(!super.remove(o))
+			return false;
+		this.forget((BAPNode<T, U>) o);
+		return true;
+	}
+
+	@Override
+	public synchronized void clear() {
+		super.clear();
+		residentOrder.clear();
+		residentColumns.clear();
+		spilledNodes.clear();
+		nrResidentColumns=0;
+		writePosition=0;
+		garbage=0;
+	}
+
+	/**
+	 * Returns an iterator over the nodes, in the order defined by the comparator (diving is not taken into account). Spilled nodes are returned without their initial columns.
+	 * The iterator is not synchronized.
+	 * @return iterator
+	 */
+	@Override
+	public Iterator<BAPNode<T, U>> iterator() {
+		Iterator<BAPNode<T, U>> iterator=super.iterator();
+		return new Iterator<BAPNode<T, U>>() {
+			private BAPNode<T, U> current=null;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public BAPNode<T, U> next() {
+				current=iterator.next();
+				return current;
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				forget(current);
+			}
+		};
+	}
+
+	/**
+	 * Returns the initial columns of a node in the queue. The columns of a spilled node are read from the spill file, but the node remains spilled.
+	 * @param bapNode node
+	 * @return the initial columns of the node
+	 */
+	public synchronized List<U> readInitialColumns(BAPNode<T, U> bapNode){
+		SpillRecord record=spilledNodes.get(bapNode);
+		return (record == null ? bapNode.getInitialColumns() : this.decode(record));
+	}
+
+	/**
+	 * Writes the initial columns of a spilled node in the encoding of the spill file, without decoding them: the length of the encoding, followed by the encoding. The columns can be
+	 * read back through {@link #readColumns(DataInput, CheckpointCodec, List)}.
+	 * @param bapNode spilled node
+	 * @param out output
+	 * @throws IOException if an I/O error occurs
+	 */
+	synchronized void writeSpilledColumns(BAPNode<T, U> bapNode, DataOutput out) throws IOException {
+		SpillRecord record=spilledNodes.get(bapNode);
+		byte[] data=new byte[record.length];
+		buffer.position(record.offset);
+		buffer.get(data);
+		out.writeInt(data.length);
+		out.write(data);
+	}
+
+	/**
+	 * Returns true if the initial columns of the node have been spilled
+	 * @param bapNode node
+	 * @return true if the node has been spilled
+	 */
+	public synchronized boolean isSpilled(BAPNode<T, U> bapNode){
+		return spilledNodes.containsKey(bapNode);
+	}
+
+	/**
+	 * Returns the number of nodes in the queue which are kept in memory
+	 * @return the number of resident nodes
+	 */
+	public synchronized int getNrResidentNodes(){
+		return residentOrder.size();
+	}
+
+	/**
+	 * Returns the number of nodes in the queue of which the initial columns have been spilled
+	 * @return the number of spilled nodes
+	 */
+	public synchronized int getNrSpilledNodes(){
+		return spilledNodes.size();
+	}
+
+	/**
+	 * Returns the total number of initial columns of the nodes which are kept in memory
+	 * @return the number of resident columns
+	 */
+	public synchronized long getNrResidentColumns(){
+		return nrResidentColumns;
+	}
+
+	/**
+	 * Returns the number of bytes of the spill file which are in use, including space which has not been reclaimed yet
+	 * @return the size of the spill file (bytes)
+	 */
+	public synchronized int getSpillFileSize(){
+		return writePosition;
+	}
+
+	/**
+	 * Returns the number of times a node has been spilled
+	 * @return the number of spills
+	 */
+	public synchronized long getNrSpills(){
+		return nrSpills;
+	}
+
+	/**
+	 * Returns the number of times the columns of a spilled node have been read back
+	 * @return the number of loads
+	 */
+	public synchronized long getNrLoads(){
+		return nrLoads;
+	}
+
+	/**
+	 * Closes and deletes the spill file. The columns of the nodes which are still spilled are lost.
+	 */
+	public synchronized void close(){
+		if(channel == null)
+			return;
+		try {
+			channel.close();
+			Files.deleteIfExists(spillFile.toPath());
+		} catch (IOException e) {
+			logger.error("Failed to delete spill file "+spillFile, e);
+		}
+		channel=null;
+		buffer=null;
+	}
+
+	/**
+	 * Registers a node as a resident node
+	 * @param bapNode node
+	 */
+	private void makeResident(BAPNode<T, U> bapNode){
+		int size=bapNode.initialColumns.size()+(bapNode.inheritedColumns == null ? 0 : bapNode.inheritedColumns.size());
+		residentOrder.add(bapNode);
+		residentColumns.put(bapNode, size);
+		nrResidentColumns+=size;
+	}
+
+	/**
+	 * Removes a node which is no longer in the queue from the administration
+	 * @param bapNode node
+	 */
+	private void forget(BAPNode<T, U> bapNode){
+		SpillRecord record=spilledNodes.remove(bapNode);
+		if(record != null){
+			this.release(record);
+		}else if(residentOrder.remove(bapNode)){
+			nrResidentColumns-=residentColumns.remove(bapNode);
+		}
+	}
+
+	/**
+	 * Spills the resident nodes which come last in the order defined by the comparator, until the budget is met
+	 * @param keep node which must not be spilled, or null
+	 */
+	private void enforceBudget(BAPNode<T, U> keep){
+		Iterator<BAPNode<T, U>> iterator=residentOrder.descendingIterator();
+		while(nrResidentColumns > maxResidentColumns && !disabled && iterator.hasNext()){
+			BAPNode<T, U> bapNode=iterator.next();
+			if(bapNode == keep || residentColumns.get(bapNode) == 0)
+				continue;
+			if(this.spill(bapNode)){
+				iterator.remove();
+				nrResidentColumns-=residentColumns.remove(bapNode);
+			}
+		}
+	}
+
+	/**
+	 * Writes the initial columns of a node to the spill file, and releases them. If the spill file cannot be written, spilling is disabled.
+	 * @param bapNode node
+	 * @return true if the node has been spilled
+	 */
+	private boolean spill(BAPNode<T, U> bapNode){
+		bapNode.inheritColumns();
+		bytes.reset();
+		try {
+			DataOutputStream out=new DataOutputStream(bytes);
+			out.writeInt(bapNode.initialColumns.size());
+			for(U column : bapNode.initialColumns){
+				out.writeInt(pricingProblems.indexOf(column.associatedPricingProblem));
+				codec.writeColumn(column, out);
+			}
+			out.flush();
+			if(garbage > writePosition/2)
+				this.compact();
+			this.ensureCapacity(bytes.size());
+		} catch (IOException e) {
+			logger.error("Failed to spill node "+bapNode.nodeID+" to "+spillFile+". Spilling has been disabled.", e);
+			disabled=true;
+			return false;
+		}
+		buffer.position(writePosition);
+		buffer.put(bytes.toByteArray());
+		spilledNodes.put(bapNode, new SpillRecord(writePosition, bytes.size()));
+		writePosition+=bytes.size();
+		bapNode.initialColumns.clear();
+		nrSpills++;
+		return true;
+	}
+
+	/**
+	 * Reads the initial columns of a spilled node back, and makes the node resident
+	 * @param bapNode node
+	 */
+	private void load(BAPNode<T, U> bapNode){
+		SpillRecord record=spilledNodes.remove(bapNode);
+		bapNode.addInitialColumns(this.decode(record));
+		this.release(record);
+		this.makeResident(bapNode);
+		nrLoads++;
+	}
+
+	/**
+	 * Reads columns from the spill file
+	 * @param record location of the columns in the spill file
+	 * @return the columns
+	 */
+	private List<U> decode(SpillRecord record){
+		byte[] data=new byte[record.length];
+		buffer.position(record.offset);
+		buffer.get(data);
+		try {
+			return readColumns(new DataInputStream(new ByteArrayInputStream(data)), codec, pricingProblems);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to read columns from spill file "+spillFile, e);
+		}
+	}
+
+	/**
+	 * Reads columns in the encoding of the spill file: the number of columns, followed by the position of the pricing problem and the contents of every column
+	 * @param in input
+	 * @param codec reads the contents of the columns
+	 * @param pricingProblems pricing problems to which the columns belong
+	 * @param <T> Model
+	 * @param <U> Columns
+	 * @param <V> PricingProblem
+	 * @return the columns
+	 * @throws IOException if an I/O error occurs
+	 */
+	static <T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> List<U> readColumns(DataInput in, CheckpointCodec<T, U, V> codec, List<V> pricingProblems) throws IOException {
+		int nrColumns=in.readInt();
+		List<U> columns=new ArrayList<>(nrColumns);
+		for(int i=0; i<nrColumns; i++)
+			columns.add(codec.readColumn(in, pricingProblems.get(in.readInt())));
+		return columns;
+	}
+
+	/**
+	 * Marks the space occupied by a record as unused. Once no node is spilled, the spill file is reused from the start.
+	 * @param record record
+	 */
+	private void release(SpillRecord record){
+		garbage+=record.length;
+		if(spilledNodes.isEmpty()){
+			writePosition=0;
+			garbage=0;
+		}
+	}
+
+	/**
+	 * Moves the records of the spilled nodes to the start of the spill file, thereby reclaiming the unused space
+	 */
+	private void compact(){
+		List<SpillRecord> records=new ArrayList<>(spilledNodes.values());
+		records.sort(Comparator.comparingInt(record -> record.offset));
+		int position=0;
+		for(SpillRecord record : records){
+			if(record.offset != position){
+				byte[] data=new byte[record.length];
+				buffer.position(record.offset);
+				buffer.get(data);
+				buffer.position(position);
+				buffer.put(data);
+				record.offset=position;
+			}
+			position+=record.length;
+		}
+		logger.debug("Compacted spill file from {} to {} bytes", writePosition, position);
+		writePosition=position;
+		garbage=0;
+	}
+
+	/**
+	 * Opens the spill file if necessary, and enlarges the memory-mapped region such that a record of the given length can be written at the write position
+	 * @param length length of the record
+	 * @throws IOException if the spill file cannot be opened or mapped, or if it would exceed 2GB
+	 */
+	private void ensureCapacity(int length) throws IOException {
+		if(channel == null)
+			channel=FileChannel.open(spillFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		long required=(long)writePosition+length;
+		if(required > Integer.MAX_VALUE)
+			throw new IOException("Spill file would exceed 2GB");
+		if(buffer == null || required > buffer.capacity()){
+			long capacity=Math.max(required, Math.min(Integer.MAX_VALUE, (buffer == null ? INITIAL_CAPACITY : 2L*buffer.capacity())));
+			buffer=channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+		}
+	}
+
+	/**
+	 * Location of the columns of a spilled node in the spill file
+	 */
+	private static final class SpillRecord {
+		/** Position of the first byte **/
+		private int offset;
+		/** Number of bytes **/
+		private final int length;
+
+		private SpillRecord(int offset, int length){
+			this.offset=offset;
+			this.length=length;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BestBoundbapNodeComparator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+import java.util.Comparator;
+
+/**
+ * Comparator which processes the BAP tree in a best-bound manner: the node with the lowest bound (minimization problem) or highest bound (maximization problem) is processed first.
+ * Processing the nodes in this order minimizes the number of nodes which have to be processed to prove optimality, but may require many nodes to be kept in memory.
+ * Ties are broken in a DFS manner.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public class BestBoundbapNodeComparator implements Comparator<BAPNode>{
+
+    /** Defines whether the master problem is a minimization or a maximization problem **/
+    private final OptimizationSense optimizationSense;
+
+    /**
+     * Creates a new comparator
+     * @param optimizationSense optimization sense of the master problem
+     */
+    public BestBoundbapNodeComparator(OptimizationSense optimizationSense){
+        this.optimizationSense=optimizationSense;
+    }
+
+    @Override
+    public int compare(BAPNode o1, BAPNode o2) {
+        int result=(optimizationSense == OptimizationSense.MINIMIZE ? Double.compare(o1.getBound(), o2.getBound()) : Double.compare(o2.getBound(), o1.getBound()));
+        return (result != 0 ? result : -Integer.compare(o1.nodeID, o2.nodeID));
+    }
+}
@@ -0,0 +1,59 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BestEstimatebapNodeComparator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+import java.util.Comparator;
+
+/**
+ * Comparator which processes the BAP tree in a best-estimate manner: the node with the best estimate of the objective of the best integer solution in its subtree is processed first
+ * (see {@link BAPNode#getEstimate()}). Unless the branch creators provide an estimate, the estimate of a node equals its bound. Ties are broken in a DFS manner.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public class BestEstimatebapNodeComparator implements Comparator<BAPNode>{
+
+    /** Defines whether the master problem is a minimization or a maximization problem **/
+    private final OptimizationSense optimizationSense;
+
+    /**
+     * Creates a new comparator
+     * @param optimizationSense optimization sense of the master problem
+     */
+    public BestEstimatebapNodeComparator(OptimizationSense optimizationSense){
+        this.optimizationSense=optimizationSense;
+    }
+
+    @Override
+    public int compare(BAPNode o1, BAPNode o2) {
+        int result=(optimizationSense == OptimizationSense.MINIMIZE ? Double.compare(o1.getEstimate(), o2.getEstimate()) : Double.compare(o2.getEstimate(), o1.getEstimate()));
+        return (result != 0 ? result : -Integer.compare(o1.nodeID, o2.nodeID));
+    }
+}
@@ -0,0 +1,93 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * FixingDecision.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractReducedCostFixer;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Record of elements of the original problem, e.g. arcs or items, which have been eliminated from the subtree of a node in the Branch-and-Price tree through reduced cost fixing
+ * (see {@link AbstractReducedCostFixer}). A fixing is delivered to the {@link BranchingDecisionListener}s in the same way as a branching decision: pricing problems and pricing problem
+ * solvers may remove the fixed elements from the graph which is searched when {@link BranchingDecisionListener#branchingDecisionPerformed(BranchingDecision)} is invoked, and restore them when
+ * {@link BranchingDecisionListener#branchingDecisionReversed(BranchingDecision)} is invoked. Columns which use any of the fixed elements are incompatible with the fixing.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Columns
+ * @param <V> PricingProblem
+ * @param <E> Elements of the original problem
+ */
+public final class FixingDecision<T extends ModelInterface,U extends AbstractColumn<T, V>,V extends AbstractPricingProblem<T>,E> implements BranchingDecision<T,U> {
+
+	/** Reduced cost fixer which eliminated the elements **/
+	public final AbstractReducedCostFixer<T,U,V,E> fixer;
+	/** Elements which have been eliminated **/
+	public final Set<E> fixedElements;
+
+	/**
+	 * Creates a new fixing
+	 * @param fixer reduced cost fixer which eliminated the elements
+	 * @param fixedElements elements which have been eliminated
+	 */
+	public FixingDecision(AbstractReducedCostFixer<T,U,V,E> fixer, Set<E> fixedElements){
+		this.fixer=fixer;
+		this.fixedElements=Collections.unmodifiableSet(fixedElements);
+	}
+
+	/**
+	 * Determine whether a column is compatible with this fixing, i.e. whether the column does not use any of the fixed elements
+	 * @param column column
+	 * @return true if the column does not use any of the fixed elements
+	 */
+	@Override
+	public boolean columnIsCompatibleWithBranchingDecision(U column) {
+		return !fixer.usesFixedElement(column, fixedElements);
+	}
+
+	/**
+	 * Fixings do not affect any inequalities
+	 * @param inequality inequality
+	 * @return true
+	 */
+	@Override
+	public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+		return true;
+	}
+
+	@Override
+	public String toString(){
+		return "Fixing: "+fixedElements;
+	}
+}
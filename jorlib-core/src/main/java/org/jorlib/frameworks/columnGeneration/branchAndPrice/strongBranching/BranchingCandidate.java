@@ -0,0 +1,117 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BranchingCandidate.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * A candidate on which the Branch-and-Price algorithm may branch, e.g. an edge with a fractional value. Branching on the candidate results in one child node per branching decision.
+ * The key identifies the candidate across the Branch-and-Price tree (e.g. the edge itself), such that the pseudo-costs learned for a candidate in one node can be applied in other nodes.
+ * The keys must therefore implement equals and hashCode. For every branching decision, the candidate defines a distance, i.e. the change in the fractional value
+ * imposed by the branching decision. For a value f, branching down and up yields distances f-floor(f) and ceil(f)-f respectively.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Model
+ * @param <U> Column
+ */
+public final class BranchingCandidate<T,U extends AbstractColumn<T, ? extends AbstractPricingProblem>> {
+
+	/** Key identifying the candidate **/
+	private final Object key;
+	/** Branching decisions, one for every child node **/
+	private final List<BranchingDecision<T,U>> branchingDecisions;
+	/** Distance of every branching decision **/
+	private final double[] distances;
+
+	/**
+	 * Creates a new candidate which branches on a fractional value, thereby creating a down branch and an up branch
+	 * @param key key identifying the candidate
+	 * @param value fractional value of the candidate
+	 * @param downBranch branching decision which rounds the value down
+	 * @param upBranch branching decision which rounds the value up
+	 */
+	public BranchingCandidate(Object key, double value, BranchingDecision<T,U> downBranch, BranchingDecision<T,U> upBranch){
+		this(key, Arrays.asList(downBranch, upBranch), new double[]{value-Math.floor(value), Math.ceil(value)-value});
+	}
+
+	/**
+	 * Creates a new candidate
+	 * @param key key identifying the candidate
+	 * @param branchingDecisions branching decisions, one for every child node
+	 * @param distances distance of every branching decision. Distances must be positive.
+	 */
+	public BranchingCandidate(Object key, List<? extends BranchingDecision<T,U>> branchingDecisions, double[] distances){
+		if(branchingDecisions.size() < 2 || branchingDecisions.size() != distances.length)
+			throw new IllegalArgumentException("A candidate requires at least 2 branching decisions, and exactly one distance per branching decision");
+		for(double distance : distances){
+			if(distance <= 0)
+				throw new IllegalArgumentException("Distances must be positive");
+		}
+		this.key=key;
+		this.branchingDecisions=Collections.unmodifiableList(new ArrayList<>(branchingDecisions));
+		this.distances=distances.clone();
+	}
+
+	/**
+	 * Returns the key identifying this candidate
+	 * @return the key identifying this candidate
+	 */
+	public Object getKey(){
+		return key;
+	}
+
+	/**
+	 * Returns the branching decisions, one for every child node
+	 * @return the branching decisions
+	 */
+	public List<BranchingDecision<T,U>> getBranchingDecisions(){
+		return branchingDecisions;
+	}
+
+	/**
+	 * Returns the distance of the i-th branching decision
+	 * @param i index of the branching decision
+	 * @return the distance of the i-th branching decision
+	 */
+	public double getDistance(int i){
+		return distances[i];
+	}
+
+	@Override
+	public String toString(){
+		return "Candidate "+key+" "+branchingDecisions;
+	}
+}
@@ -0,0 +1,201 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PseudoCosts.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Pseudo-costs estimate the change in objective caused by a branching decision, per unit of distance (see {@link BranchingCandidate}). The pseudo-costs are maintained per type
+ * of branching decision (i.e. per class), and per candidate key within each type: the gain of branching down on an edge is typically unrelated to the gain of branching up on
+ * that same edge. The pseudo-cost of a candidate is the average unit gain observed for the candidate. Candidates which have not been observed yet are assigned the average unit
+ * gain of their type, or, if no such observations exist, the average over all types.
+ * <p>
+ * Observations originate either from strong branching, where the child nodes are evaluated before the branching decision is made, or from child nodes which are processed
+ * by the Branch-and-Price algorithm: such children are registered when they are created (see {@link #registerChild(int, Class, Object, double, double)}), and the observation
+ * is recorded once the child has been solved (see {@link #childSolved(int, double)}). This class is thread-safe, so a single instance may be shared by the workers of a
+ * {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.ParallelBranchAndPrice ParallelBranchAndPrice} search.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class PseudoCosts {
+
+	/** Optimization sense of the master problem **/
+	private final OptimizationSense optimizationSense;
+	/** Observed unit gains per type of branching decision, and per candidate key **/
+	private final Map<Class<?>, Map<Object, Statistic>> unitGains=new HashMap<>();
+	/** Observed unit gains per type of branching decision **/
+	private final Map<Class<?>, Statistic> typeUnitGains=new HashMap<>();
+	/** All observed unit gains **/
+	private final Statistic overallUnitGain=new Statistic();
+	/** Child nodes which have been created, but which have not been solved yet **/
+	private final Map<Integer, PendingChild> pendingChildren=new HashMap<>();
+
+	/**
+	 * Creates a new, empty, set of pseudo-costs
+	 * @param optimizationSense optimization sense of the master problem
+	 */
+	public PseudoCosts(OptimizationSense optimizationSense){
+		this.optimizationSense=optimizationSense;
+	}
+
+	/**
+	 * Computes the gain of a child node, i.e. the deterioration of the objective of the child node with respect to the objective of its parent. Negative gains, which may
+	 * arise for instance when the master problem of the child has not been solved to optimality, are rounded to 0.
+	 * @param parentObjective objective of the parent node
+	 * @param childObjective objective of the child node
+	 * @return the gain of the child node
+	 */
+	public double computeGain(double parentObjective, double childObjective){
+		double gain=(optimizationSense == OptimizationSense.MINIMIZE ? childObjective-parentObjective : parentObjective-childObjective);
+		return Math.max(0, gain);
+	}
+
+	/**
+	 * Records an observation
+	 * @param type type of the branching decision
+	 * @param key key of the candidate
+	 * @param distance distance of the branching decision
+	 * @param gain observed gain, see {@link #computeGain(double, double)}
+	 */
+	public synchronized void update(Class<?> type, Object key, double distance, double gain){
+		if(distance <= 0)
+			throw new IllegalArgumentException("Distance must be positive");
+		double unitGain=Math.max(0, gain)/distance;
+		unitGains.computeIfAbsent(type, t -> new HashMap<>()).computeIfAbsent(key, k -> new Statistic()).add(unitGain);
+		typeUnitGains.computeIfAbsent(type, t -> new Statistic()).add(unitGain);
+		overallUnitGain.add(unitGain);
+	}
+
+	/**
+	 * Returns the pseudo-cost of a candidate, i.e. the estimated gain per unit of distance. If the candidate has not been observed yet, the average of the type is returned, or, if the
+	 * type has not been observed either, the overall average. If no observations exist at all, 1 is returned.
+	 * @param type type of the branching decision
+	 * @param key key of the candidate
+	 * @return the pseudo-cost
+	 */
+	public synchronized double getPseudoCost(Class<?> type, Object key){
+		Map<Object, Statistic> statistics=unitGains.get(type);
+		if(statistics != null && statistics.containsKey(key))
+			return statistics.get(key).getAverage();
+		else if(typeUnitGains.containsKey(type))
+			return typeUnitGains.get(type).getAverage();
+		else if(overallUnitGain.count > 0)
+			return overallUnitGain.getAverage();
+		else
+			return 1;
+	}
+
+	/**
+	 * Returns the number of observations of a candidate
+	 * @param type type of the branching decision
+	 * @param key key of the candidate
+	 * @return the number of observations
+	 */
+	public synchronized int getNrObservations(Class<?> type, Object key){
+		Map<Object, Statistic> statistics=unitGains.get(type);
+		if(statistics == null || !statistics.containsKey(key))
+			return 0;
+		return statistics.get(key).count;
+	}
+
+	/**
+	 * Registers a child node which has been created by branching. Once the child has been solved, its gain is recorded.
+	 * @param nodeID ID of the child node
+	 * @param type type of the branching decision which lead to the child
+	 * @param key key of the candidate
+	 * @param distance distance of the branching decision
+	 * @param parentObjective objective of the parent node
+	 */
+	public synchronized void registerChild(int nodeID, Class<?> type, Object key, double distance, double parentObjective){
+		pendingChildren.put(nodeID, new PendingChild(type, key, distance, parentObjective));
+	}
+
+	/**
+	 * Records the gain of a registered child node which has been solved. Nodes which have not been registered are ignored.
+	 * @param nodeID ID of the child node
+	 * @param objective objective of the child node
+	 */
+	public synchronized void childSolved(int nodeID, double objective){
+		PendingChild child=pendingChildren.remove(nodeID);
+		if(child != null)
+			this.update(child.type, child.key, child.distance, this.computeGain(child.parentObjective, objective));
+	}
+
+	/**
+	 * Unregisters a child node which has not been solved, e.g. because it has been pruned or because it is infeasible
+	 * @param nodeID ID of the child node
+	 */
+	public synchronized void childDiscarded(int nodeID){
+		pendingChildren.remove(nodeID);
+	}
+
+	/**
+	 * Returns the number of registered child nodes which have not been solved yet
+	 * @return the number of pending child nodes
+	 */
+	public synchronized int getNrPendingChildren(){
+		return pendingChildren.size();
+	}
+
+	/**
+	 * Sum and number of observations
+	 */
+	private static final class Statistic {
+		private double sum=0;
+		private int count=0;
+
+		private void add(double value){
+			sum+=value;
+			count++;
+		}
+
+		private double getAverage(){
+			return sum/count;
+		}
+	}
+
+	/**
+	 * Child node which has been created, but which has not been solved yet
+	 */
+	private static final class PendingChild {
+		private final Class<?> type;
+		private final Object key;
+		private final double distance;
+		private final double parentObjective;
+
+		private PendingChild(Class<?> type, Object key, double distance, double parentObjective){
+			this.type=type;
+			this.key=key;
+			this.distance=distance;
+			this.parentObjective=parentObjective;
+		}
+	}
+}
@@ -27,6 +27,7 @@
 package org.jorlib.frameworks.columnGeneration.colgenMain;
 
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
 
 
 /**
@@ -72,6 +73,17 @@ public abstract class AbstractColumn<T, V extends AbstractPricingProblem<T>>{
 	 */
 	public abstract int hashCode();
 
+	/**
+	 * Returns a 64-bit fingerprint of the column, which is used to detect duplicate columns cheaply (see {@link ColumnFingerprintIndex}). Equal columns must have the same
+	 * fingerprint. The default implementation is derived from {@link #hashCode()}, and hence contains no more than 32 bits of information. Columns which consist of many
+	 * elements should override this method, e.g. through {@link ColumnFingerprintIndex#fingerprint(int[])}, to reduce the number of columns which need to be compared
+	 * through {@link #equals(Object)}.
+	 * @return fingerprint of the column
+	 */
+	public long fingerprint(){
+		return ColumnFingerprintIndex.mix(this.hashCode());
+	}
+
 	/**
 	 * Gives a textual representation of a column
 	 */
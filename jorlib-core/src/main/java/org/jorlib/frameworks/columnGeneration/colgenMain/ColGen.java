@@ -29,17 +29,26 @@ package org.jorlib.frameworks.columnGeneration.colgenMain;
 import java.util.*;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.*;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.GlobalColumnPool;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.io.jfr.JFREvents;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.master.columnManagement.ColumnManager;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.metrics.Histogram;
+import org.jorlib.frameworks.columnGeneration.metrics.MetricsRegistry;
 import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
 import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemBundle;
 import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemManager;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
 import org.jorlib.frameworks.columnGeneration.pricing.DefaultPricingProblemSolverFactory;
+import org.jorlib.frameworks.columnGeneration.pricing.execution.PricingExecutor;
+import org.jorlib.frameworks.columnGeneration.pricing.scheduling.AbstractSolverScheduler;
+import org.jorlib.frameworks.columnGeneration.pricing.stabilization.AbstractDualStabilizer;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +85,18 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected final PricingProblemManager<T,U, V> pricingProblemManager;
 	/** Helper class which notifies {@link CGListener} **/
 	protected final CGNotifier notifier;
+	/** Stabilizes the dual values passed from the master problem to the pricing problems. May be null, in which case the dual values are not stabilized **/
+	protected AbstractDualStabilizer<T, V> dualStabilizer;
+	/** Manages the columns in the master problem, i.e. evicts inactive columns and revives pooled columns. May be null, in which case columns are never removed **/
+	protected ColumnManager<T, U, V> columnManager;
+	/** Pool of columns shared among the nodes of a Branch-and-Price tree, which is scanned before the pricing problems are solved. May be null **/
+	protected GlobalColumnPool<T, U, V> globalColumnPool;
+	/** Decides which pricing problem solvers are invoked, in which order and with which time budget. May be null, in which case the solvers are invoked in the order in which they have been registered **/
+	protected AbstractSolverScheduler<T, U, V> solverScheduler;
+	/** Registry in which the latencies of the master problem, pricing problems and cut generators are recorded. May be null **/
+	protected MetricsRegistry metricsRegistry;
+	/** Histogram of the solve times of the master problem, or null if no metrics registry has been provided **/
+	protected Histogram masterSolveHistogram;
 
 	/** Defines whether the master problem is a minimization or a maximization problem **/
 	protected final OptimizationSense optimizationSenseMaster;
@@ -84,7 +105,9 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	/** The Colgen procedure is terminated if the bound on the best attainable solution to the master problem is worse than the
 	 * cutoffValue. If the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}. If the master is a maximization problem, the Colgen procedure is terminated if {@code floor(boundOnMasterObjective) <= cutoffValue}.
 	 **/
-	protected int cutoffValue;
+	protected double cutoffValue;
+	/** Indicates whether every integer solution to the master problem has an integral objective value. If so, the bound on the master problem is rounded before it is compared against the cutoffValue **/
+	protected boolean integralObjective=true;
 	/** Bound on the best attainable objective value from the master problem. Assuming that the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}.**/
 	protected double boundOnMasterObjective =0;
 	/** Total number of column generation iterations. **/
@@ -97,6 +120,16 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected long pricingSolveTime=0;
 	/** Total number of columns generated and added to the master problem **/
 	protected int nrGeneratedColumns=0;
+	/** Total number of mis-prices, i.e. pricing rounds with stabilized dual values which did not produce any columns **/
+	protected int nrMisprices=0;
+	/** Total number of columns evicted from the master problem **/
+	protected int nrEvictedColumns=0;
+	/** Total number of duplicate columns discarded, i.e. columns which have been generated multiple times, or which already existed in the master problem **/
+	protected int nrDuplicateColumns=0;
+	/** Maximum number of column generation iterations **/
+	protected int maxNrIterations=Integer.MAX_VALUE;
+	/** Indicates whether the procedure has been terminated because the maximum number of iterations has been reached, in which case the master problem has not been solved to optimality **/
+	protected boolean iterationLimitReached=false;
 	
 	/**
 	 * Create a new column generation instance
@@ -113,7 +146,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 					List<V> pricingProblems,
 					List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers,
 					List<U> initSolution,
-					int cutoffValue,
+					double cutoffValue,
 				  	double boundOnMasterObjective){
 		this.dataModel=dataModel;
 		this.master=master;
@@ -153,7 +186,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 			V pricingProblem,
 			List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers,
 			List<U> initSolution,
-			int cutoffValue,
+			double cutoffValue,
 			double boundOnMasterObjective){
 		this(dataModel, master, Collections.singletonList(pricingProblem), solvers, initSolution, cutoffValue, boundOnMasterObjective);
 	}
@@ -175,7 +208,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 			List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers,
 			PricingProblemManager<T,U, V> pricingProblemManager,
 			List<U> initSolution,
-			int cutoffValue,
+			double cutoffValue,
 			double boundOnMasterObjective){
 		this.dataModel=dataModel;
 		this.master=master;
@@ -204,6 +237,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * <li>Time limit exceeded</li>
 	 * <li>The bound on the best attainable solution to the master problem is worse than the cutoff value. Assuming that the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}</li>
 	 * <li>The solution to the master problem is provable optimal, i.e the bound on the best attainable solution to the master problem equals the solution of the master problem.</li>
+	 * <li>The maximum number of iterations has been reached (see {@link #setMaxNrIterations(int)}).</li>
 	 * </ol>
 	 * @param timeLimit Future point in time (ms) by which the procedure should be finished. Should be defined as: {@code System.currentTimeMilis()+<desired runtime>}
 	 * @throws TimeLimitExceededException Exception is thrown when time limit is exceeded
@@ -215,6 +249,10 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		
 		boolean foundNewColumns=false; //Identify whether the pricing problem generated new columns
 		boolean hasNewCuts; //Identify whether the master problem violates any valid inequalities
+		if(dualStabilizer != null)
+			dualStabilizer.reset();
+		if(columnManager != null)
+			columnManager.reset();
 		notifier.fireStartCGEvent();
 		do{
 			nrOfColGenIterations++;
@@ -253,9 +291,15 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 				hasNewCuts=master.hasNewCuts();
 				masterSolveTime+=(System.currentTimeMillis()-time); //Generating inequalities is considered part of the master problem
 			}
-			
+
+			//Check whether the maximum number of iterations has been reached
+			if((foundNewColumns || hasNewCuts) && nrOfColGenIterations >= maxNrIterations){
+				iterationLimitReached=true;
+				break;
+			}
 		}while(foundNewColumns || hasNewCuts);
-		this.boundOnMasterObjective = (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(this.boundOnMasterObjective, this.objectiveMasterProblem) : Math.min(this.boundOnMasterObjective, this.objectiveMasterProblem)); //When solved to optimality, the bound on the master problem objective equals the objective value.
+		if(!iterationLimitReached && !boundOnMasterExceedsCutoffValue()) //When solved to optimality, the bound on the master problem objective equals the objective value.
+			this.boundOnMasterObjective = (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(this.boundOnMasterObjective, this.objectiveMasterProblem) : Math.min(this.boundOnMasterObjective, this.objectiveMasterProblem));
 		colGenSolveTime=System.currentTimeMillis()-colGenSolveTime;
 		notifier.fireFinishCGEvent();
 	}
@@ -268,8 +312,18 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected void invokeMaster(long timeLimit) throws TimeLimitExceededException {
 		notifier.fireStartMasterEvent();
 		long time=System.currentTimeMillis();
+		long start=System.nanoTime();
+		Object jfrEvent=JFREvents.beginMasterSolve();
 		master.solve(timeLimit);
+		if(masterSolveHistogram != null)
+			masterSolveHistogram.record(System.nanoTime()-start);
 		objectiveMasterProblem =master.getObjective();
+		if(jfrEvent != null){
+			int nrColumns=0;
+			for(V pricingProblem : pricingProblems)
+				nrColumns+=master.getColumns(pricingProblem).size();
+			JFREvents.commitMasterSolve(jfrEvent, nrOfColGenIterations, objectiveMasterProblem, nrColumns);
+		}
 		masterSolveTime+=(System.currentTimeMillis()-time);
 		notifier.fireFinishMasterEvent();
 	}
@@ -277,6 +331,15 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	/**
 	 * Invokes the solve methods of the algorithms which solve the Pricing Problem. In addition, after solving the Pricing Problems
 	 * and before any new columns are added to the Master Problem, this method invokes the {@link #calculateBoundOnMasterObjective(Class solver) calculateBoundOnMasterObjective} method.
+	 * If a dual stabilizer has been provided, the dual values stored in the pricing problems are replaced by stabilized dual values. Whenever the pricing problems fail to
+	 * produce columns using stabilized dual values, or only produce columns which already exist in the master problem (mis-price), the pricing problems are resolved with dual values closer to the true dual values, until eventually the true
+	 * dual values are used. The bound on the master objective is only calculated when the pricing problems are solved with the true dual values.<br>
+	 * Columns which are generated multiple times, or which already exist in the master problem, are discarded (see {@link #removeDuplicateColumns(List)}).<br>
+	 * If a column manager has been provided, the pricing problems are only solved when none of the columns in the column pool can be revived. Furthermore, inactive
+	 * columns are evicted from the master problem before the new columns are added. Similarly, if a global column pool has been provided, the pricing problems are only solved
+	 * when the pool does not contain any attractive columns, and every column generated by the pricing problems is added to the pool.<br>
+	 * If a solver scheduler has been provided, the scheduler determines the order in which the solvers are invoked, the pricing problems on which they are invoked,
+	 * and their time budgets. The last solver is always invoked last, on every pricing problem.
 	 * @param timeLimit Future point in time by which the Pricing Problem must be finished
 	 * @return list of new columns which have to be added to the Master Problem, or an empty list if no columns could be identified
 	 * @throws TimeLimitExceededException TimeLimitExceededException
@@ -290,25 +353,61 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		for(V pricingProblem : pricingProblems){
 			master.initializePricingProblem(pricingProblem);
 		}
+		//Columns from the column pool which are attractive with respect to the true dual values are revived first
+		List<U> revivedColumns=(columnManager == null ? Collections.emptyList() : columnManager.reviveColumns(master));
+		if(revivedColumns.isEmpty() && globalColumnPool != null)
+			revivedColumns=globalColumnPool.getAttractiveColumns(master);
+		boolean stabilized=(revivedColumns.isEmpty() && dualStabilizer != null && dualStabilizer.stabilizeDuals(pricingProblems));
+		int nrMispricesCurrentIteration=0;
 
 		//Solve pricing problems in the order of the pricing algorithms
 		notifier.fireStartPricingEvent();
 		pricingProblemManager.setTimeLimit(timeLimit);
-		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solvers){
-			newColumns=pricingProblemManager.solvePricingProblems(solver);
-
-			//Calculate a bound on the optimal solution of the master problem
-			this.boundOnMasterObjective =(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)) : Math.min(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)));
-
-			//Stop when we found new columns
-			if(!newColumns.isEmpty()){
-				break;
+		while(revivedColumns.isEmpty()){
+			List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> schedule=(solverScheduler == null ? solvers : solverScheduler.getSchedule());
+			for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : schedule){
+				newColumns=pricingProblemManager.solvePricingProblems(solver, solverScheduler);
+				//Discard duplicate columns. Note that columns generated with stabilized dual values do not necessarily have negative reduced cost w.r.t. the true dual values, and hence may already exist in the master problem.
+				newColumns=this.removeDuplicateColumns(newColumns);
+
+				//Calculate a bound on the optimal solution of the master problem. This is only possible when the true dual values have been used, and none of the pricing problems have been cancelled.
+				if(!stabilized && pricingProblemManager.isLastInvocationComplete())
+					this.boundOnMasterObjective =(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)) : Math.min(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)));
+
+				//Stop when we found new columns
+				if(!newColumns.isEmpty()){
+					break;
+				}
 			}
+			if(!stabilized || !newColumns.isEmpty())
+				break;
+			//Mis-price: no columns could be found using the stabilized dual values
+			nrMispricesCurrentIteration++;
+			stabilized=dualStabilizer.misprice(pricingProblems);
+		}
+		if(revivedColumns.isEmpty()){
+			if(dualStabilizer != null)
+				dualStabilizer.pricingFinished(!newColumns.isEmpty());
+			if(globalColumnPool != null)
+				globalColumnPool.addColumns(newColumns);
+			nrGeneratedColumns+=newColumns.size();
+		}else
+			newColumns=new ArrayList<>(revivedColumns);
+		nrMisprices+=nrMispricesCurrentIteration;
+
+		//Evict inactive columns from the master problem
+		List<U> evictedColumns=Collections.emptyList();
+		if(columnManager != null){
+			evictedColumns=columnManager.evictColumns(master, pricingProblems, newColumns);
+			columnManager.columnsAdded(newColumns);
+			nrEvictedColumns+=evictedColumns.size();
 		}
-		notifier.fireFinishPricingEvent(newColumns);
+		int nrColumns=newColumns.size();
+		for(V pricingProblem : pricingProblems)
+			nrColumns+=master.getColumns(pricingProblem).size();
+		notifier.fireFinishPricingEvent(newColumns, nrMispricesCurrentIteration, stabilized, System.currentTimeMillis()-time, evictedColumns, revivedColumns.size(), nrColumns);
 
 		pricingSolveTime+=(System.currentTimeMillis()-time);
-		nrGeneratedColumns+=newColumns.size();
 		//Add columns to the master problem
 		if(!newColumns.isEmpty()){
 			for(U column : newColumns){
@@ -318,28 +417,67 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		return newColumns;
 	}
 
+	/**
+	 * Removes duplicate columns, i.e. columns which have been generated by multiple solver instances (e.g. by multiple pricing problems which share the same columns), and columns which
+	 * already exist in the master problem. Duplicates are detected through the fingerprints of the columns, see {@link ColumnFingerprintIndex}. The number of duplicates is recorded,
+	 * see {@link #getNrDuplicateColumns()}.
+	 * @param columns columns generated by the pricing problems
+	 * @return columns without duplicates, in the same order
+	 */
+	protected List<U> removeDuplicateColumns(List<U> columns){
+		ColumnFingerprintIndex<U> columnIndex=new ColumnFingerprintIndex<>();
+		List<U> uniqueColumns=new ArrayList<>(columns.size());
+		for(U column : columns){
+			if(!master.containsColumn(column) && columnIndex.add(column))
+				uniqueColumns.add(column);
+		}
+		int nrDuplicates=columns.size()-uniqueColumns.size();
+		if(nrDuplicates > 0){
+			nrDuplicateColumns+=nrDuplicates;
+			logger.debug("Discarded {} duplicate columns", nrDuplicates);
+		}
+		return uniqueColumns;
+	}
+
 	/**
 	 * Compute bound on the optimal objective value attainable by the the current master problem. The bound may be based on both information from the master,
 	 * as well as information from the pricing problem solutions.<br>
-	 * The parameter specifies which solver was last invoked to solve the pricing problems. This method is invoked immediately after solving the pricing problem.
-	 * This method is not implemented as it is problem dependent. Override this method. The following methods are at your disposal (see documentation):
+	 * The parameter specifies which solver was last invoked to solve the pricing problems. This method is invoked immediately after solving the pricing problem.<br>
+	 * The default implementation computes a Lagrangian bound, provided that the master problem declares a convexity constraint for every pricing problem through
+	 * {@link AbstractMaster#getConvexityConstraintCount(AbstractPricingProblem)}. Let {@code z} be the objective of the master problem, {@code K_k} the convexity constraint count of
+	 * pricing problem k, and {@code p_k} the objective of pricing problem k ({@link AbstractPricingProblemSolver#getObjective()}). By declaring a convexity constraint, the master problem
+	 * guarantees that a column of pricing problem k is attractive (negative reduced cost for a minimization master) iff {@code p_k + dualCost_k > 0}; see
+	 * {@link AbstractMaster#getConvexityConstraintCount(AbstractPricingProblem)} for the sign convention this requires. The Lagrangian bound then equals:
+	 * {@code z - sum_k K_k * max(0, p_k + dualCost_k)} for a minimization master, or {@code z + sum_k K_k * max(0, p_k + dualCost_k)} for a maximization master.<br>
+	 * The pricing problems must have been solved to optimality. Since the solvers are invoked hierarchically, the default implementation assumes that only the last solver
+	 * in the list of solvers is exact, and hence, the bound is only computed when the pricing problems have been solved by the last solver.
+	 * Override this method to provide a problem dependent bound. The following methods are at your disposal (see documentation):
 	 * <ul>
 	 * <li>{@link AbstractMaster#getBoundComponent()} for the master problem</li>
-	 * <li>{@link PricingProblemManager#getBoundsOnPricingProblems(Class)}  method for the pricing problems</li>
+	 * <li>{@link PricingProblemManager#getBoundsOnPricingProblems(Class)} and {@link PricingProblemManager#getObjectivesOfPricingProblems(Class)} methods for the pricing problems</li>
 	 * </ul>
-	 * NOTE: This method is not implemented by default.
-	 * NOTE2: When calling this method, it is guaranteed that the master problem has not been changed (no columns or inequalities are added) since the last time its
+	 * NOTE: When calling this method, it is guaranteed that the master problem has not been changed (no columns or inequalities are added) since the last time its
 	 * {@link #solve(long timeLimit) solve} method was invoked!
 	 * 
 	 * @param solver solver which was used to solve the pricing problem during the last invocation
 	 * @return bound on the optimal master problem solution
 	 */
 	protected double calculateBoundOnMasterObjective(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver){
-		//This method is not implemented as it is problem dependent. Override this method.
-		//The following methods are at your disposal (see documentation):
-		//double master.getLowerboundComponent()
-		//double[] pricingProblemManager.getUpperBound(solver)
-		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? -Double.MAX_VALUE : Double.MAX_VALUE);
+		double noBound=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? -Double.MAX_VALUE : Double.MAX_VALUE);
+		if(solver != solvers.get(solvers.size()-1)) //Only the last solver is assumed to be exact
+			return noBound;
+
+		double[] pricingObjectives=pricingProblemManager.getObjectivesOfPricingProblems(solver);
+		double bound=objectiveMasterProblem;
+		for(int i=0; i<pricingProblems.size(); i++){
+			int convexityConstraintCount=master.getConvexityConstraintCount(pricingProblems.get(i));
+			if(convexityConstraintCount < 0)
+				return noBound;
+			double violation=pricingObjectives[i]+pricingProblems.get(i).dualCost; //Negated reduced cost of the most attractive column
+			if(violation > 0)
+				bound+=(optimizationSenseMaster == OptimizationSense.MINIMIZE ? -1 : 1)*convexityConstraintCount*violation;
+		}
+		return bound;
 	}
 	
 	/**
@@ -401,6 +539,116 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		return nrGeneratedColumns;
 	}
 
+	/**
+	 * Returns the total number of mis-prices, i.e. the number of times the pricing problems failed to generate columns using stabilized dual values
+	 * @return Returns the total number of mis-prices
+	 */
+	public int getNrMisprices(){
+		return nrMisprices;
+	}
+
+	/**
+	 * Limits the number of column generation iterations, e.g. to evaluate branching candidates through strong branching. When the limit is reached, the master problem
+	 * has not been solved to optimality: the objective is not a bound, but {@link #getBound()} remains a valid bound.
+	 * @param maxNrIterations maximum number of column generation iterations
+	 */
+	public void setMaxNrIterations(int maxNrIterations){
+		if(maxNrIterations < 1)
+			throw new IllegalArgumentException("At least one iteration is required");
+		this.maxNrIterations=maxNrIterations;
+	}
+
+	/**
+	 * Declares whether every integer solution to the master problem has an integral objective value (default: true). When the objective is integral, the bound on the master
+	 * problem is rounded up (minimization) or down (maximization) before it is compared against the cutoff value, which terminates the procedure earlier. Models with fractional
+	 * costs must set this to false.
+	 * @param integralObjective true if the objective of every integer solution is integral
+	 */
+	public void setIntegralObjective(boolean integralObjective){
+		this.integralObjective=integralObjective;
+	}
+
+	/**
+	 * Returns whether the procedure has been terminated because the maximum number of iterations has been reached
+	 * @return true if the maximum number of iterations has been reached before the master problem was solved to optimality
+	 */
+	public boolean isIterationLimitReached(){
+		return iterationLimitReached;
+	}
+
+	/**
+	 * Sets a dual stabilizer which stabilizes the dual values passed from the master problem to the pricing problems, e.g. {@link org.jorlib.frameworks.columnGeneration.pricing.stabilization.WentgesSmoothing}.
+	 * @param dualStabilizer dual stabilizer, or null to disable stabilization
+	 */
+	public void setDualStabilizer(AbstractDualStabilizer<T, V> dualStabilizer){
+		this.dualStabilizer=dualStabilizer;
+	}
+
+	/**
+	 * Returns the total number of columns evicted from the master problem by the column manager
+	 * @return Returns the total number of columns evicted from the master problem
+	 */
+	public int getNrEvictedColumns(){
+		return nrEvictedColumns;
+	}
+
+	/**
+	 * Returns the total number of duplicate columns which have been discarded, i.e. columns which have been generated multiple times in the same iteration, or which already
+	 * existed in the master problem
+	 * @return Returns the total number of duplicate columns
+	 */
+	public int getNrDuplicateColumns(){
+		return nrDuplicateColumns;
+	}
+
+	/**
+	 * Sets a column manager which evicts inactive columns from the master problem, see {@link ColumnManager}.
+	 * @param columnManager column manager, or null to disable column management
+	 */
+	public void setColumnManager(ColumnManager<T, U, V> columnManager){
+		this.columnManager=columnManager;
+	}
+
+	/**
+	 * Sets a column pool which is scanned for attractive columns before the pricing problems are solved, see {@link GlobalColumnPool}.
+	 * @param globalColumnPool column pool, or null to disable the pool
+	 */
+	public void setGlobalColumnPool(GlobalColumnPool<T, U, V> globalColumnPool){
+		this.globalColumnPool=globalColumnPool;
+	}
+
+	/**
+	 * Sets a scheduler which decides which pricing problem solvers are invoked, in which order and with which time budget, see {@link AbstractSolverScheduler}.
+	 * The statistics collected by the scheduler are retained when the scheduler is passed to multiple Column Generation instances.
+	 * @param solverScheduler scheduler, or null to invoke the solvers in the order in which they have been registered
+	 */
+	public void setSolverScheduler(AbstractSolverScheduler<T, U, V> solverScheduler){
+		this.solverScheduler=solverScheduler;
+		if(solverScheduler != null)
+			solverScheduler.initialize(solvers, pricingProblems);
+	}
+
+	/**
+	 * Sets the executor which executes the pricing problem solvers, see {@link PricingExecutor}. The executor may be shared among many Column Generation instances,
+	 * and is not shut down when this instance is closed. By default, a fixed thread pool consisting of {@link Configuration#MAXTHREADS} threads is used.
+	 * @param pricingExecutor executor
+	 */
+	public void setPricingExecutor(PricingExecutor pricingExecutor){
+		pricingProblemManager.setPricingExecutor(pricingExecutor);
+	}
+
+	/**
+	 * Sets the registry in which the latencies of the master problem (see {@link MetricsRegistry#MASTER_SOLVE}), the pricing problems (see {@link PricingProblemManager#setMetricsRegistry(MetricsRegistry)})
+	 * and the cut generators (see {@link org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler#setMetricsRegistry(MetricsRegistry)}) are recorded. The registry may be shared among many Column Generation instances.
+	 * @param metricsRegistry registry, or null to disable the metrics
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry){
+		this.metricsRegistry=metricsRegistry;
+		this.masterSolveHistogram=(metricsRegistry == null ? null : metricsRegistry.histogram(MetricsRegistry.MASTER_SOLVE, "master", master.getClass().getSimpleName()));
+		pricingProblemManager.setMetricsRegistry(metricsRegistry);
+		master.setMetricsRegistry(metricsRegistry);
+	}
+
 	/**
 	 * Returns the solution maintained by the master problem
 	 * @return Returns the solution maintained by the master problem
@@ -420,22 +668,29 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	/**
 	 * Returns true if the bound on the master problem is worse than the cutoff value. More precisely, if the master problem is a minimization problem, this method
 	 * returns true if {@code ceil(boundOnMasterObjective) >= cutoffValue}.  Alternatively, if the master problem is a maximization problem, this method returns true if
-	 * {@code floor(boundOnMasterObjective) <= cutoffValue}.
+	 * {@code floor(boundOnMasterObjective) <= cutoffValue}. The bound is only rounded when the objective is integral (see {@link #setIntegralObjective(boolean)}).
 	 * @return true if the lower bound exceeds the upper bound
 	 */
 	protected boolean boundOnMasterExceedsCutoffValue(){
+		if(!integralObjective){
+			if(optimizationSenseMaster == OptimizationSense.MINIMIZE)
+				return boundOnMasterObjective >= cutoffValue-config.PRECISION;
+			else
+				return boundOnMasterObjective <= cutoffValue+config.PRECISION;
+		}
 		if(optimizationSenseMaster == OptimizationSense.MINIMIZE)
-			return Math.ceil(boundOnMasterObjective-config.PRECISION) >= cutoffValue;
+			return Math.ceil(boundOnMasterObjective-config.PRECISION) >= cutoffValue-config.PRECISION;
 		else
-			return Math.floor(boundOnMasterObjective+config.PRECISION) <= cutoffValue;
+			return Math.floor(boundOnMasterObjective+config.PRECISION) <= cutoffValue+config.PRECISION;
 	}
 	
 	/**
-	 * Destroy both the master problem and pricing problems
+	 * Destroy both the master problem and pricing problems, and wait until all events have been delivered to the listeners
 	 */
 	public void close(){
 		master.close();
 		pricingProblemManager.close();
+		notifier.getEventDispatcher().flush();
 	}
 
 	/**
@@ -455,19 +710,33 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	}
 
 	/**
-	 * Inner Class which notifies CGListeners
+	 * Sets the dispatcher which delivers the events to the CGListeners. By default, events are delivered synchronously, see {@link EventDispatcher#SYNCHRONOUS}.
+	 * @param eventDispatcher dispatcher
+	 */
+	public void setEventDispatcher(EventDispatcher eventDispatcher){
+		notifier.setEventDispatcher(eventDispatcher);
+	}
+
+	/**
+	 * Inner Class which notifies CGListeners. Events are only created when at least one listener is interested in them (see {@link SelectiveListener}), and are delivered by an
+	 * {@link EventDispatcher}.
 	 */
 	protected class CGNotifier {
 		/**
 		 * Listeners
 		 */
-		private Set<CGListener> listeners;
+		private volatile ListenerSet<CGListener> listeners;
+		/**
+		 * Dispatcher which delivers the events
+		 */
+		private EventDispatcher eventDispatcher;
 
 		/**
-		 * Creates a new BAPNotifier
+		 * Creates a new CGNotifier
 		 */
 		public CGNotifier() {
-			listeners = new LinkedHashSet<>();
+			listeners = ListenerSet.empty();
+			eventDispatcher = EventDispatcher.SYNCHRONOUS;
 		}
 
 		/**
@@ -475,7 +744,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		 * @param listener listener
 		 */
 		public void addListener(CGListener listener) {
-			this.listeners.add(listener);
+			this.listeners=listeners.with(listener);
 		}
 
 		/**
@@ -483,92 +752,86 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		 * @param listener listener
 		 */
 		public void removeListener(CGListener listener) {
-			this.listeners.remove(listener);
+			this.listeners=listeners.without(listener);
+		}
+
+		/**
+		 * Sets the dispatcher which delivers the events
+		 * @param eventDispatcher dispatcher
+		 */
+		public void setEventDispatcher(EventDispatcher eventDispatcher) {
+			this.eventDispatcher=eventDispatcher;
+		}
+
+		/**
+		 * Returns the dispatcher which delivers the events
+		 * @return dispatcher
+		 */
+		public EventDispatcher getEventDispatcher() {
+			return eventDispatcher;
 		}
 
 		/**
 		 * Fires a StartEvent to indicate the start of the column generation procedure
 		 */
 		public void fireStartCGEvent(){
-			StartEvent startEvent =null;
-			for(CGListener listener : listeners){
-				if(startEvent ==null)
-					startEvent =new StartEvent(ColGen.this, dataModel.getName(), cutoffValue);
-				listener.startCG(startEvent);
-			}
+			if(listeners.isInterested(EventType.START_CG))
+				eventDispatcher.publish(EventType.START_CG, new StartEvent(ColGen.this, dataModel.getName(), cutoffValue), listeners);
 		}
 
 		/**
 		 * Fires a FinishEvent to indicate that the column generation procedure is finished
 		 */
 		public void fireFinishCGEvent(){
-			FinishEvent finishEvent =null;
-			for(CGListener listener : listeners){
-				if(finishEvent ==null)
-					finishEvent =new FinishEvent(ColGen.this);
-				listener.finishCG(finishEvent);
-			}
+			if(listeners.isInterested(EventType.FINISH_CG))
+				eventDispatcher.publish(EventType.FINISH_CG, new FinishEvent(ColGen.this), listeners);
 		}
 
 		/**
 		 * Fires a StartMasterEvent to indicate the start of master solve procedure
 		 */
 		public void fireStartMasterEvent(){
-			StartMasterEvent startMasterEvent =null;
-			for(CGListener listener : listeners){
-				if(startMasterEvent ==null)
-					startMasterEvent =new StartMasterEvent(ColGen.this, nrOfColGenIterations);
-				listener.startMaster(startMasterEvent);
-			}
+			if(listeners.isInterested(EventType.START_MASTER))
+				eventDispatcher.publish(EventType.START_MASTER, new StartMasterEvent(ColGen.this, nrOfColGenIterations), listeners);
 		}
 
 		/**
 		 * Fires a FinishMasterEvent to indicate that the master problem has been solved
 		 */
 		public void fireFinishMasterEvent(){
-			FinishMasterEvent finishMasterEvent =null;
-			for(CGListener listener : listeners){
-				if(finishMasterEvent ==null)
-					finishMasterEvent =new FinishMasterEvent(ColGen.this, nrOfColGenIterations, objectiveMasterProblem, cutoffValue, boundOnMasterObjective);
-				listener.finishMaster(finishMasterEvent);
-			}
+			if(listeners.isInterested(EventType.FINISH_MASTER))
+				eventDispatcher.publish(EventType.FINISH_MASTER, new FinishMasterEvent(ColGen.this, nrOfColGenIterations, objectiveMasterProblem, cutoffValue, boundOnMasterObjective), listeners);
 		}
 
 		/**
 		 * Fires a StartPricingEvent to indicate the start of pricing solve procedure
 		 */
 		public void fireStartPricingEvent(){
-			StartPricingEvent startPricingEvent =null;
-			for(CGListener listener : listeners){
-				if(startPricingEvent ==null)
-					startPricingEvent =new StartPricingEvent(ColGen.this, nrOfColGenIterations);
-				listener.startPricing(startPricingEvent);
-			}
+			if(listeners.isInterested(EventType.START_PRICING))
+				eventDispatcher.publish(EventType.START_PRICING, new StartPricingEvent(ColGen.this, nrOfColGenIterations), listeners);
 		}
 
 		/**
 		 * Fires a FinishPricingEvent to indicate that the pricing problem has been solved
 		 * @param newColumns List of columns which have been generated by the pricing problems
+		 * @param nrMisprices number of mis-prices during this iteration
+		 * @param stabilizedDuals indicates whether the columns have been generated using stabilized dual values
+		 * @param pricingTime time spent on solving the pricing problems during this iteration
+		 * @param evictedColumns columns which have been evicted from the master problem during this iteration
+		 * @param nrRevivedColumns number of new columns which have been revived from the column pool
+		 * @param nrColumns number of columns in the master problem after the new columns have been added
 		 */
-		public void fireFinishPricingEvent(List<U> newColumns){
-			FinishPricingEvent finishPricingEvent =null;
-			for(CGListener listener : listeners){
-				if(finishPricingEvent ==null)
-					finishPricingEvent =new FinishPricingEvent(ColGen.this, nrOfColGenIterations, Collections.unmodifiableList(newColumns), objectiveMasterProblem, cutoffValue, boundOnMasterObjective);
-				listener.finishPricing(finishPricingEvent);
-			}
+		public void fireFinishPricingEvent(List<U> newColumns, int nrMisprices, boolean stabilizedDuals, long pricingTime, List<U> evictedColumns, int nrRevivedColumns, int nrColumns){
+			if(listeners.isInterested(EventType.FINISH_PRICING))
+				eventDispatcher.publish(EventType.FINISH_PRICING, new FinishPricingEvent(ColGen.this, nrOfColGenIterations, Collections.unmodifiableList(newColumns), objectiveMasterProblem, cutoffValue, boundOnMasterObjective, nrMisprices, stabilizedDuals, pricingTime, Collections.unmodifiableList(evictedColumns), nrRevivedColumns, nrColumns), listeners);
 		}
 
 		/**
 		 * Fires a TimeLimitExceededEvent
 		 */
 		public  void fireTimeLimitExceededEvent(){
-			TimeLimitExceededEvent timeLimitExceededEvent =null;
-			for(CGListener listener : listeners){
-				if(timeLimitExceededEvent ==null)
-					timeLimitExceededEvent =new TimeLimitExceededEvent(ColGen.this);
-				listener.timeLimitExceeded(timeLimitExceededEvent);
-			}
+			if(listeners.isInterested(EventType.CG_TIME_LIMIT_EXCEEDED))
+				eventDispatcher.publish(EventType.CG_TIME_LIMIT_EXCEEDED, new TimeLimitExceededEvent(ColGen.this), listeners);
 		}
 	}
 }
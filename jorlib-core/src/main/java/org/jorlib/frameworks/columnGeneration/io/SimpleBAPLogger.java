@@ -42,7 +42,7 @@ import java.text.NumberFormat;
  * @author Joris Kinable
  * @version 5-5-2015
  */
-public class SimpleBAPLogger implements BAPListener{
+public class SimpleBAPLogger implements BAPListener, SelectiveListener{
     protected BufferedWriter writer;
     protected NumberFormat formatter;
 
@@ -51,13 +51,15 @@ public class SimpleBAPLogger implements BAPListener{
     /** Parent node ID, -1 if root node **/
     protected int parentNodeID;
     /** Best integer solution **/
-    protected int objectiveIncumbentSolution;
+    protected double objectiveIncumbentSolution;
     /** Bound on the BAP node **/
     protected double nodeBound;
     /** What to do with the node, i.e prune (based on obj), Infeasible, Integer, Fractional, or Inconclusive if the nodeStatus could not be determined (e.g. due to time limit) **/
     protected NodeResultStatus nodeStatus;
     /** Number of nodes currently in the queue **/
     protected int nodesInQueue;
+    /** Best bound of the node currently being solved and the nodes in the queue **/
+    protected double globalBound;
 
     //Colgen stats
     /** Number of column generation iterations **/
@@ -98,8 +100,7 @@ public class SimpleBAPLogger implements BAPListener{
     protected void writeLine(String line){
         try {
             writer.write(line);
-            writer.newLine();
-            writer.flush();
+            writer.newLine(); //The writer is flushed when it is closed
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -119,18 +120,19 @@ public class SimpleBAPLogger implements BAPListener{
         timeSolvingPricing=0;
         nrGeneratedColumns=0;
         nodesInQueue=-1;
+        globalBound=-1;
     }
 
     /**
      * Construct a single line in the log file, and write it to the output file
      */
     protected void constructAndWriteLine(){
-        this.writeLine(String.valueOf(bapNodeID) + "\t" + parentNodeID + "\t" + objectiveIncumbentSolution + "\t" + nodeBound + "\t" + formatter.format(nodeValue) + "\t" + cgIterations + "\t" + timeSolvingMaster + "\t" + timeSolvingPricing + "\t" + nrGeneratedColumns + "\t" + nodeStatus + "\t" + nodesInQueue);
+        this.writeLine(String.valueOf(bapNodeID) + "\t" + parentNodeID + "\t" + formatter.format(objectiveIncumbentSolution) + "\t" + nodeBound + "\t" + formatter.format(nodeValue) + "\t" + cgIterations + "\t" + timeSolvingMaster + "\t" + timeSolvingPricing + "\t" + nrGeneratedColumns + "\t" + nodeStatus + "\t" + nodesInQueue + "\t" + formatter.format(globalBound));
     }
 
     @Override
     public void startBAP(StartEvent startEvent) {
-        this.writeLine("BAPNodeID \t parentNodeID \t objectiveIncumbentSolution \t nodeBound \t nodeValue \t cgIterations \t t_master \t t_pricing \t nrGenColumns \t solutionStatus \t nodesInQueue");
+        this.writeLine("BAPNodeID \t parentNodeID \t objectiveIncumbentSolution \t nodeBound \t nodeValue \t cgIterations \t t_master \t t_pricing \t nrGenColumns \t solutionStatus \t nodesInQueue \t globalBound");
     }
 
     @Override
@@ -174,6 +176,7 @@ public class SimpleBAPLogger implements BAPListener{
         this.parentNodeID=processingNextNodeEvent.node.getParentID();
         this.objectiveIncumbentSolution =processingNextNodeEvent.objectiveIncumbentSolution;
         this.nodesInQueue=processingNextNodeEvent.nodesInQueue;
+        this.globalBound=processingNextNodeEvent.globalBound;
     }
 
     @Override
@@ -197,6 +200,11 @@ public class SimpleBAPLogger implements BAPListener{
         //Ignore this event, not needed by the logger.
     }
 
+    @Override
+    public long getEventMask() {
+        return EventType.ALL & ~EventType.BRANCH_CREATED.mask; //Branch events are not needed by the logger
+    }
+
     protected enum NodeResultStatus{
         PRUNED, INFEASIBLE, FRACTIONAL, INTEGER, INCONCLUSIVE
     }
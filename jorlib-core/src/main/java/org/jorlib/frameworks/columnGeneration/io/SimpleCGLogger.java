@@ -55,7 +55,7 @@ public class SimpleCGLogger implements CGListener{
     /** Objective of master problem at the end of iteration it **/
     protected double objective;
     /** Cutoff value **/
-    protected int cutoffValue;
+    protected double cutoffValue;
     /** Bound on the objective at the end of iteration it **/
     protected double boundOnMasterObjective;
 
@@ -94,8 +94,7 @@ public class SimpleCGLogger implements CGListener{
     protected void writeLine(String line){
         try {
             writer.write(line);
-            writer.newLine();
-            writer.flush();
+            writer.newLine(); //The writer is flushed when it is closed
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -119,7 +118,7 @@ public class SimpleCGLogger implements CGListener{
      * Construct a single line in the log file, and write it to the output file
      */
     protected void constructAndWriteLine(){
-        this.writeLine(String.valueOf(cgIteration) + "\t" + formatter.format(boundOnMasterObjective) + "\t" + formatter.format(objective) + "\t" + cutoffValue + "\t"  + timeSolvingMaster + "\t" + timeSolvingPricing + "\t"+ nrGeneratedColumns + "\t" + pricingSolver);
+        this.writeLine(String.valueOf(cgIteration) + "\t" + formatter.format(boundOnMasterObjective) + "\t" + formatter.format(objective) + "\t" + formatter.format(cutoffValue) + "\t"  + timeSolvingMaster + "\t" + timeSolvingPricing + "\t"+ nrGeneratedColumns + "\t" + pricingSolver);
     }
 
     @Override
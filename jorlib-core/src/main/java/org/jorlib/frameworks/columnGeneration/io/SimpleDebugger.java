@@ -64,7 +64,7 @@ public class SimpleDebugger implements BAPListener, CGListener, CHListener{
     /** Name of the instance being solved **/
     protected String instanceName;
     /** Best integer solution obtained thus far **/
-    protected int bestIntegerSolution;
+    protected double bestIntegerSolution;
 
     /**
      * Creates a debugger for Column Generation instances
@@ -152,7 +152,7 @@ public class SimpleDebugger implements BAPListener, CGListener, CHListener{
 
     @Override
     public void processNextNode(ProcessingNextNodeEvent processingNextNodeEvent) {
-        logger.debug("Processing node {} - Nodes remaining in queue: {}",processingNextNodeEvent.node.nodeID, processingNextNodeEvent.nodesInQueue);
+        logger.debug("Processing node {} - Nodes remaining in queue: {}, global bound: {}", new Object[]{processingNextNodeEvent.node.nodeID, processingNextNodeEvent.nodesInQueue, processingNextNodeEvent.globalBound});
     }
 
     @Override
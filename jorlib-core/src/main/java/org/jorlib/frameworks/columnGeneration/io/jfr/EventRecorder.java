@@ -0,0 +1,115 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * EventRecorder.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+/**
+ * Creates and commits the Flight Recorder events on behalf of {@link JFREvents}. The implementation, and the event classes it uses, are compiled from a separate source
+ * directory (src/main/jfr), since they depend on the Flight Recorder API, which is not part of Java 8. This interface does not refer to the Flight Recorder API, so
+ * {@link JFREvents} can be loaded on every Java runtime. See {@link JFREvents} for the meaning of the methods.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+interface EventRecorder {
+
+	/**
+	 * Starts a master solve event
+	 * @return event, or null if the event is not recorded
+	 */
+	Object beginMasterSolve();
+
+	/**
+	 * Commits a master solve event
+	 * @param event event returned by {@link #beginMasterSolve()}
+	 * @param iteration column generation iteration
+	 * @param objective objective of the master problem
+	 * @param columns number of columns in the master problem
+	 */
+	void commitMasterSolve(Object event, int iteration, double objective, int columns);
+
+	/**
+	 * Starts a pricing event
+	 * @return event, or null if the event is not recorded
+	 */
+	Object beginPricing();
+
+	/**
+	 * Commits a pricing event
+	 * @param event event returned by {@link #beginPricing()}
+	 * @param solver name of the solver
+	 * @param pricingProblem name of the pricing problem
+	 * @param columns number of columns generated
+	 */
+	void commitPricing(Object event, String solver, String pricingProblem, int columns);
+
+	/**
+	 * Starts a cut generation event
+	 * @return event, or null if the event is not recorded
+	 */
+	Object beginCutGeneration();
+
+	/**
+	 * Commits a cut generation event
+	 * @param event event returned by {@link #beginCutGeneration()}
+	 * @param cutGenerator name of the cut generator
+	 * @param cuts number of inequalities separated
+	 */
+	void commitCutGeneration(Object event, String cutGenerator, int cuts);
+
+	/**
+	 * Starts a node processing event
+	 * @return event, or null if the event is not recorded
+	 */
+	Object beginNodeProcessing();
+
+	/**
+	 * Commits a node processing event
+	 * @param event event returned by {@link #beginNodeProcessing()}
+	 * @param nodeID ID of the node
+	 * @param depth depth of the node
+	 * @param iterations number of column generation iterations
+	 * @param objective objective of the master problem
+	 * @param bound bound on the objective of the master problem
+	 * @param columns number of columns generated
+	 */
+	void commitNodeProcessing(Object event, int nodeID, int depth, int iterations, double objective, double bound, int columns);
+
+	/**
+	 * Starts a branching decision event
+	 * @return event, or null if the event is not recorded
+	 */
+	Object beginBranchingDecision();
+
+	/**
+	 * Commits a branching decision event
+	 * @param event event returned by {@link #beginBranchingDecision()}
+	 * @param nodeID node which is being prepared
+	 * @param decision branching decision
+	 * @param rewind true if the decision is reversed due to backtracking
+	 */
+	void commitBranchingDecision(Object event, int nodeID, Object decision, boolean rewind);
+}
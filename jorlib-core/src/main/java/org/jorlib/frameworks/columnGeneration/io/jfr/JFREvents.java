@@ -0,0 +1,164 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * JFREvents.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+/**
+ * Emits Java Flight Recorder events for the master problem, the pricing problem solvers, the cut generators, the nodes in the Branch-and-Price tree and the branching decisions,
+ * such that a recording of a solve can be correlated with e.g. garbage collection pauses or lock contention. The events are grouped under the jORLib category, and are named
+ * {@code org.jorlib.MasterSolve}, {@code org.jorlib.Pricing}, {@code org.jorlib.CutGeneration}, {@code org.jorlib.NodeProcessing} and {@code org.jorlib.BranchingDecision}.
+ * <p>
+ * Every event is emitted through a pair of methods: a {@code begin} method, invoked at the start of the measured phase, and a {@code commit} method, invoked at its end.
+ * The {@code begin} method returns null when the event is not being recorded, in which case the caller skips the {@code commit} method, as well as the computation
+ * of the fields of the event. No event is allocated when the event is not being recorded.
+ * <p>
+ * The event classes depend on the Flight Recorder API (package {@code jdk.jfr}), which is not part of Java 8. They are therefore compiled from a separate source directory
+ * (src/main/jfr), which is only included by the {@code jfr} build profile, and loaded reflectively. This class does not refer to the Flight Recorder API, so the framework
+ * also runs when the event classes are absent, or when the runtime lacks the Flight Recorder API. In that case, no events are emitted.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class JFREvents {
+
+	/** Recorder which creates the events, or null if the events are not available **/
+	private static final EventRecorder RECORDER=loadRecorder();
+	/** Indicates whether the Flight Recorder events are available **/
+	public static final boolean AVAILABLE=(RECORDER != null);
+
+	private JFREvents(){
+	}
+
+	/**
+	 * Starts a master solve event
+	 * @return event, or null if the event is not recorded
+	 */
+	public static Object beginMasterSolve(){
+		return (RECORDER == null ? null : RECORDER.beginMasterSolve());
+	}
+
+	/**
+	 * Commits a master solve event
+	 * @param event event returned by {@link #beginMasterSolve()}
+	 * @param iteration column generation iteration
+	 * @param objective objective of the master problem
+	 * @param columns number of columns in the master problem
+	 */
+	public static void commitMasterSolve(Object event, int iteration, double objective, int columns){
+		RECORDER.commitMasterSolve(event, iteration, objective, columns);
+	}
+
+	/**
+	 * Starts a pricing event
+	 * @return event, or null if the event is not recorded
+	 */
+	public static Object beginPricing(){
+		return (RECORDER == null ? null : RECORDER.beginPricing());
+	}
+
+	/**
+	 * Commits a pricing event
+	 * @param event event returned by {@link #beginPricing()}
+	 * @param solver name of the solver
+	 * @param pricingProblem name of the pricing problem
+	 * @param columns number of columns generated
+	 */
+	public static void commitPricing(Object event, String solver, String pricingProblem, int columns){
+		RECORDER.commitPricing(event, solver, pricingProblem, columns);
+	}
+
+	/**
+	 * Starts a cut generation event
+	 * @return event, or null if the event is not recorded
+	 */
+	public static Object beginCutGeneration(){
+		return (RECORDER == null ? null : RECORDER.beginCutGeneration());
+	}
+
+	/**
+	 * Commits a cut generation event
+	 * @param event event returned by {@link #beginCutGeneration()}
+	 * @param cutGenerator name of the cut generator
+	 * @param cuts number of inequalities separated
+	 */
+	public static void commitCutGeneration(Object event, String cutGenerator, int cuts){
+		RECORDER.commitCutGeneration(event, cutGenerator, cuts);
+	}
+
+	/**
+	 * Starts a node processing event
+	 * @return event, or null if the event is not recorded
+	 */
+	public static Object beginNodeProcessing(){
+		return (RECORDER == null ? null : RECORDER.beginNodeProcessing());
+	}
+
+	/**
+	 * Commits a node processing event
+	 * @param event event returned by {@link #beginNodeProcessing()}
+	 * @param nodeID ID of the node
+	 * @param depth depth of the node
+	 * @param iterations number of column generation iterations
+	 * @param objective objective of the master problem
+	 * @param bound bound on the objective of the master problem
+	 * @param columns number of columns generated
+	 */
+	public static void commitNodeProcessing(Object event, int nodeID, int depth, int iterations, double objective, double bound, int columns){
+		RECORDER.commitNodeProcessing(event, nodeID, depth, iterations, objective, bound, columns);
+	}
+
+	/**
+	 * Starts a branching decision event
+	 * @return event, or null if the event is not recorded
+	 */
+	public static Object beginBranchingDecision(){
+		return (RECORDER == null ? null : RECORDER.beginBranchingDecision());
+	}
+
+	/**
+	 * Commits a branching decision event
+	 * @param event event returned by {@link #beginBranchingDecision()}
+	 * @param nodeID node which is being prepared
+	 * @param decision branching decision
+	 * @param rewind true if the decision is reversed due to backtracking
+	 */
+	public static void commitBranchingDecision(Object event, int nodeID, Object decision, boolean rewind){
+		RECORDER.commitBranchingDecision(event, nodeID, decision, rewind);
+	}
+
+	/**
+	 * Loads the recorder which creates the Flight Recorder events
+	 * @return the recorder, or null if the event classes or the Flight Recorder API are not available
+	 */
+	private static EventRecorder loadRecorder(){
+		try {
+			Class<?> recorderClass=Class.forName("org.jorlib.frameworks.columnGeneration.io.jfr.FlightRecorderEvents", true, JFREvents.class.getClassLoader());
+			return (EventRecorder) recorderClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+}
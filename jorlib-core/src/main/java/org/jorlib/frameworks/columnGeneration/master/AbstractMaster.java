@@ -37,6 +37,7 @@ import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.metrics.MetricsRegistry;
 import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
@@ -201,6 +202,15 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 		return masterData.optimal;
 	}
 	
+	/**
+	 * Sets the registry in which the separation time of the cut generators is recorded, see {@link CutHandler#setMetricsRegistry(MetricsRegistry)}
+	 * @param metricsRegistry registry, or null to disable the metrics
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry){
+		if(cutHandler != null)
+			cutHandler.setMetricsRegistry(metricsRegistry);
+	}
+
 	/**
 	* Method which can be invoked externally to check whether the current master problem solution violates any inequalities.
 	* A handle to a cutHandler must have been provided when constructing the master problem
@@ -248,6 +258,35 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 		}
 	}
 
+	/**
+	 * Removes a column from the model. Implementations must also remove the column from the {@link MasterData} object, see {@link MasterData#removeColumn(AbstractColumn)}.
+	 * @param column column to remove
+	 */
+	public void removeColumn(U column){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
+	/**
+	 * Removes a number of columns from the model
+	 * @param columns columns to remove
+	 */
+	public void removeColumns(Collection<U> columns){
+		for(U column : columns){
+			this.removeColumn(column);
+		}
+	}
+
+	/**
+	 * Returns the reduced cost of a column with respect to the dual values of the last time the master problem was solved. The column does not necessarily
+	 * have to be part of the master problem. Reduced costs follow the same convention as Cplex: if the master problem is a minimization problem, a column can
+	 * improve the objective iff its reduced cost is negative. If the master is a maximization problem, a column can improve the objective iff its reduced cost is positive.
+	 * @param column column
+	 * @return reduced cost of the column
+	 */
+	public double getReducedCost(U column){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
 	/**
 	 * Returns all columns generated for the given pricing problem.
 	 * @param pricingProblem Pricing problem
@@ -257,6 +296,15 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 		return masterData.getColumnsForPricingProblem(pricingProblem);
 	}
 
+	/**
+	 * Returns whether the master problem contains the column, see {@link MasterData#containsColumn(AbstractColumn)}
+	 * @param column column
+	 * @return true if the column exists in the master problem
+	 */
+	public boolean containsColumn(U column){
+		return masterData.containsColumn(column);
+	}
+
 	/**
 	 * After the master problem has been solved, a solution has to be returned, consisting of a set of columns selected by the master problem, i.e the columns with a
 	 * non-zero value.
@@ -272,6 +320,26 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 	public double getBoundComponent(){
 		throw new UnsupportedOperationException("Not implemented. You should override this function");
 	}
+	/**
+	 * Returns the right hand side of the convexity constraint associated with the given pricing problem, i.e. the maximum number of columns
+	 * originating from this pricing problem which can be selected in an optimal solution of the master problem. For example, if the master problem
+	 * contains a constraint {@code sum_{j in J_k} lambda_j <= 2} for the columns {@code J_k} of pricing problem k, this method should return 2. If the master problem has
+	 * no such constraint, any valid upper bound on the number of columns selected from this pricing problem may be returned.<br>
+	 * This information is used by {@link org.jorlib.frameworks.columnGeneration.colgenMain.ColGen ColGen} to compute a Lagrangian bound on the master objective. By default, this method returns -1,
+	 * indicating that no such information is available.<br>
+	 * By returning a non-negative value, the master problem declares that its pricing problems follow this sign convention: the reduced cost of the most attractive column of pricing
+	 * problem k equals {@code -(p_k + dualCost_k)} for a minimization master, and {@code p_k + dualCost_k} for a maximization master, where {@code p_k} is the objective reported by the exact
+	 * pricing problem solver ({@link org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver#getObjective()}) and {@code dualCost_k} is the {@link AbstractPricingProblem#dualCost}
+	 * stored in the pricing problem by {@link #initializePricingProblem(AbstractPricingProblem)}. Hence, a column is attractive iff {@code p_k + dualCost_k > 0}. The framework cannot verify this
+	 * convention: if the pricing problems use a different sign, the computed bound is invalid, and nodes may be pruned incorrectly. In that case, return -1 and override
+	 * {@link org.jorlib.frameworks.columnGeneration.colgenMain.ColGen#calculateBoundOnMasterObjective(Class) calculateBoundOnMasterObjective} instead.
+	 * @param pricingProblem pricing problem
+	 * @return right hand side of the convexity constraint associated with the pricing problem, or -1 if unknown
+	 */
+	public int getConvexityConstraintCount(V pricingProblem){
+		return -1;
+	}
+
 	/**
 	 * Export the master problem to a file e.g. an .lp file
 	 * @param name Name of the exported file
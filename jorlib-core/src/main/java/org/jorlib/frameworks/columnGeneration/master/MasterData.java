@@ -28,7 +28,8 @@ package org.jorlib.frameworks.columnGeneration.master;
 
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 import java.util.*;
 
@@ -55,27 +56,68 @@ public class MasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPri
 	/** Indicates whether the master problem has been solved to optimality **/
 	public boolean optimal=false;
 
-	/** Storage of the variables representing the columns in the master problem **/
-	protected final Map<V, OrderedBiMap<U, X>> varMap;
+	/** Storage of the variables representing the columns in the master problem. Every column of a pricing problem has a dense index, see {@link IndexedMap} **/
+	protected final Map<V, IndexedMap<U, X>> varMap;
+	/** Fingerprints of all columns in the master problem, used to detect duplicate columns **/
+	protected final ColumnFingerprintIndex<U> columnIndex=new ColumnFingerprintIndex<>();
 
 	/**
 	 * Creates a new MasterData object
 	 * @param varMap A double map which stores the variables. The first key is the pricing problem, the second key is a column and the value is a variable object, e.g. an IloNumVar in cplex.
 	 */
-	public MasterData(Map<V, OrderedBiMap<U, X>> varMap){
+	public MasterData(Map<V, IndexedMap<U, X>> varMap){
 		this.varMap=varMap;
+		for(IndexedMap<U, X> columns : varMap.values())
+			for(U column : columns.keyList())
+				columnIndex.add(column);
 	}
 
 	/**
-	 * Adds a column and corresponding variable
+	 * Adds a column and corresponding variable. Duplicate columns are rejected. The master problem should therefore verify through {@link #containsColumn(AbstractColumn)}
+	 * whether a column is a duplicate before creating its variable.
 	 * @param column column
 	 * @param variable corresponding variable
+	 * @return true if the column has been added, false if the column already exists
 	 */
-	public void addColumn(U column, X variable){
-		if(varMap.get(column.associatedPricingProblem).containsKey(column))
-			throw new RuntimeException("Duplicate column has been generated for pricing problem: "+column.associatedPricingProblem.toString()+"! This column already exists and by definition should not have negative reduced cost: "+column);
-		else
-			varMap.get(column.associatedPricingProblem).put(column, variable);
+	public boolean addColumn(U column, X variable){
+		if(!columnIndex.add(column))
+			return false;
+		varMap.get(column.associatedPricingProblem).put(column, variable);
+		return true;
+	}
+
+	/**
+	 * Returns whether the master problem contains the column (O(1)). Columns are compared through their fingerprint (see {@link AbstractColumn#fingerprint()}), and
+	 * only when the fingerprints match, through their equals method.
+	 * @param column column
+	 * @return true if the column exists in the master problem
+	 */
+	public boolean containsColumn(U column){
+		return columnIndex.contains(column);
+	}
+
+	/**
+	 * Removes a column and returns its corresponding variable (O(1)). The column with the highest index among the columns of the same pricing problem obtains the index of the removed column.
+	 * @param column column
+	 * @return variable corresponding to the column
+	 */
+	public X removeColumn(U column){
+		if(!varMap.get(column.associatedPricingProblem).containsKey(column))
+			throw new RuntimeException("Cannot remove column "+column+": the column does not exist in the master problem");
+		columnIndex.remove(column);
+		return varMap.get(column.associatedPricingProblem).remove(column);
+	}
+
+	/**
+	 * Removes a number of columns
+	 * @param columns columns
+	 * @return variables corresponding to the columns, in the same order as the columns
+	 */
+	public List<X> removeColumns(Collection<U> columns){
+		List<X> variables=new ArrayList<>(columns.size());
+		for(U column : columns)
+			variables.add(this.removeColumn(column));
+		return variables;
 	}
 
 	//============= Single Pricing Problem methods ====================
@@ -92,7 +134,7 @@ public class MasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPri
 	}
 
 	/**
-	 * Returns a list of columns registered with the master problem
+	 * Returns an unmodifiable list view of the columns registered with the master problem. The list is backed by the master data and is not copied.
 	 * @return List of columns
 	 * @throws UnsupportedOperationException if the number of pricing problems does not equal one
 	 */
@@ -118,7 +160,7 @@ public class MasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPri
 	 * @return Mapping of columns to variables
 	 * @throws UnsupportedOperationException if the number of pricing problems does not equal one
 	 */
-	public OrderedBiMap<U, X> getVarMap(){
+	public IndexedMap<U, X> getVarMap(){
 		if(varMap.size() != 1)
 			throw new UnsupportedOperationException("This method can only be used if there's only a single pricing problem! Use getVarMapForPricingProblem(V pricingProblem) instead.");
 		return this.getVarMapForPricingProblem(varMap.keySet().iterator().next());
@@ -148,7 +190,7 @@ public class MasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPri
 	}
 
 	/**
-	 * Returns a list of columns registered with the master problem for the given pricing problem
+	 * Returns an unmodifiable list view of the columns registered with the master problem for the given pricing problem. The list is backed by the master data and is not copied.
 	 * @param pricingProblem pricing problem
 	 * @return List of columns
 	 */
@@ -170,7 +212,7 @@ public class MasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPri
 	 * @param pricingProblem pricing problem
 	 * @return Mapping of columns to variables
 	 */
-	public OrderedBiMap<U, X> getVarMapForPricingProblem(V pricingProblem){
+	public IndexedMap<U, X> getVarMapForPricingProblem(V pricingProblem){
 		return  varMap.get(pricingProblem);
 	}
 
@@ -0,0 +1,264 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnManager.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.columnManagement;
+
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Column management policy which keeps the size of the master problem under control. Every Column Generation iteration, after the master problem has been solved,
+ * the age of every column is updated: the age of a column is the number of consecutive iterations in which the column has not been part of the master solution.
+ * A column is evicted from the master problem if:
+ * <ol>
+ * <li>its age reaches {@code maxAge}, or</li>
+ * <li>its reduced cost is worse than the {@code reducedCostThreshold}, i.e. for a minimization master, its reduced cost exceeds the threshold, for a
+ * maximization master, its reduced cost is smaller than minus the threshold, or</li>
+ * <li>the number of columns of its pricing problem exceeds {@code maxColumnsPerPricingProblem}. In that case, the oldest inactive columns are evicted first.</li>
+ * </ol>
+ * Columns which are part of the current master solution, as well as artificial columns, are never evicted. Evicted columns are moved into a {@link ColumnPool}
+ * (if provided). Before the pricing problems are solved, columns in the pool which have an attractive reduced cost are revived, i.e. added to the master problem again.
+ * <p>
+ * Eviction based on age or the maximum number of columns only requires the master problem to implement {@link AbstractMaster#removeColumn(AbstractColumn)}. The reduced cost threshold
+ * and the column pool additionally require {@link AbstractMaster#getReducedCost(AbstractColumn)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class ColumnManager<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(ColumnManager.class);
+	/** Configuration file for this class **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Columns which have not been part of the master solution for maxAge consecutive iterations are evicted **/
+	protected final int maxAge;
+	/** Columns with a reduced cost worse than this threshold are evicted **/
+	protected final double reducedCostThreshold;
+	/** Maximum number of columns per pricing problem in the master problem **/
+	protected final int maxColumnsPerPricingProblem;
+	/** Pool which stores the evicted columns. May be null, in which case evicted columns are discarded **/
+	protected final ColumnPool<T, U, V> columnPool;
+
+	/** Age of every column in the master problem **/
+	protected final Map<U, Integer> age=new HashMap<>();
+	/** Total number of columns evicted from the master problem **/
+	protected int nrEvictedColumns=0;
+	/** Total number of columns revived from the column pool **/
+	protected int nrRevivedColumns=0;
+
+	/**
+	 * Creates a new column manager which evicts columns based on their age and the maximum number of columns per pricing problem. Evicted columns are discarded.
+	 * @param maxAge columns which have not been part of the master solution for maxAge consecutive iterations are evicted
+	 * @param maxColumnsPerPricingProblem maximum number of columns per pricing problem in the master problem
+	 */
+	public ColumnManager(int maxAge, int maxColumnsPerPricingProblem){
+		this(maxAge, Double.MAX_VALUE, maxColumnsPerPricingProblem, null);
+	}
+
+	/**
+	 * Creates a new column manager
+	 * @param maxAge columns which have not been part of the master solution for maxAge consecutive iterations are evicted. Use {@code Integer.MAX_VALUE} to disable.
+	 * @param reducedCostThreshold columns with a reduced cost worse than this (non-negative) threshold are evicted. Use {@code Double.MAX_VALUE} to disable.
+	 * @param maxColumnsPerPricingProblem maximum number of columns per pricing problem in the master problem. Use {@code Integer.MAX_VALUE} to disable.
+	 * @param columnPool pool which stores the evicted columns, or null if evicted columns should be discarded
+	 */
+	public ColumnManager(int maxAge, double reducedCostThreshold, int maxColumnsPerPricingProblem, ColumnPool<T, U, V> columnPool){
+		if(maxAge < 1)
+			throw new IllegalArgumentException("maxAge must be at least 1");
+		if(reducedCostThreshold < 0)
+			throw new IllegalArgumentException("reducedCostThreshold cannot be negative");
+		if(maxColumnsPerPricingProblem < 0)
+			throw new IllegalArgumentException("maxColumnsPerPricingProblem cannot be negative");
+		this.maxAge=maxAge;
+		this.reducedCostThreshold=reducedCostThreshold;
+		this.maxColumnsPerPricingProblem=maxColumnsPerPricingProblem;
+		this.columnPool=columnPool;
+	}
+
+	/**
+	 * Revives the columns in the pool which have an attractive reduced cost with respect to the dual values of the master problem. The revived columns are removed from the pool;
+	 * it is the responsibility of the caller to add them to the master problem.
+	 * @param master master problem
+	 * @return list of revived columns, or an empty list if no attractive columns are found
+	 */
+	public List<U> reviveColumns(AbstractMaster<T, U, V, ?> master){
+		if(columnPool == null || columnPool.isEmpty())
+			return Collections.emptyList();
+		List<U> revivedColumns=new ArrayList<>();
+		for(V pricingProblem : columnPool.getPricingProblems()){
+			for(U column : columnPool.getColumns(pricingProblem)){
+				if(this.isAttractive(master.getOptimizationSense(), master.getReducedCost(column)))
+					revivedColumns.add(column);
+			}
+		}
+		for(U column : revivedColumns)
+			columnPool.remove(column);
+		nrRevivedColumns+=revivedColumns.size();
+		return revivedColumns;
+	}
+
+	/**
+	 * Updates the age of the columns in the master problem, and evicts columns from the master problem. This method must be invoked after the master
+	 * problem has been solved, and before the new columns are added to the master problem.
+	 * @param master master problem
+	 * @param pricingProblems pricing problems
+	 * @param newColumns columns which are about to be added to the master problem
+	 * @return list of evicted columns
+	 */
+	public List<U> evictColumns(AbstractMaster<T, U, V, ?> master, List<V> pricingProblems, List<U> newColumns){
+		Set<U> solution=new HashSet<>(master.getSolution());
+		Map<V, Integer> nrNewColumns=new HashMap<>();
+		for(U column : newColumns)
+			nrNewColumns.merge(column.associatedPricingProblem, 1, Integer::sum);
+
+		List<U> evictedColumns=new ArrayList<>();
+		for(V pricingProblem : pricingProblems){
+			Set<U> columns=master.getColumns(pricingProblem);
+			int nrRemainingColumns=columns.size()+nrNewColumns.getOrDefault(pricingProblem, 0);
+			List<U> inactiveColumns=new ArrayList<>();
+			for(U column : columns){
+				if(solution.contains(column)){
+					age.put(column, 0);
+				}else{
+					int columnAge=age.merge(column, 1, Integer::sum);
+					if(column.isArtificialColumn)
+						continue;
+					if(columnAge >= maxAge || this.exceedsReducedCostThreshold(master, column)){
+						evictedColumns.add(column);
+						nrRemainingColumns--;
+					}else
+						inactiveColumns.add(column);
+				}
+			}
+			//Enforce the maximum number of columns by evicting the oldest inactive columns
+			if(nrRemainingColumns > maxColumnsPerPricingProblem && !inactiveColumns.isEmpty()){
+				inactiveColumns.sort((c1, c2) -> Integer.compare(age.get(c2), age.get(c1)));
+				for(int i=0; i<inactiveColumns.size() && nrRemainingColumns > maxColumnsPerPricingProblem; i++){
+					evictedColumns.add(inactiveColumns.get(i));
+					nrRemainingColumns--;
+				}
+			}
+		}
+
+		if(!evictedColumns.isEmpty()){
+			master.removeColumns(evictedColumns);
+			for(U column : evictedColumns){
+				age.remove(column);
+				if(columnPool != null)
+					columnPool.add(column);
+			}
+			nrEvictedColumns+=evictedColumns.size();
+			logger.debug("Evicted {} columns from the master problem", evictedColumns.size());
+		}
+		return evictedColumns;
+	}
+
+	/**
+	 * Informs the column manager that the given columns are added to the master problem. These columns are removed from the pool.
+	 * @param columns new columns
+	 */
+	public void columnsAdded(List<U> columns){
+		for(U column : columns){
+			age.put(column, 0);
+			if(columnPool != null)
+				columnPool.remove(column);
+		}
+	}
+
+	/**
+	 * Resets the age of all columns. This method is invoked at the start of the Column Generation procedure. The column pool is retained.
+	 */
+	public void reset(){
+		age.clear();
+	}
+
+	/**
+	 * Returns true if the reduced cost threshold is enabled and the reduced cost of the column is worse than the threshold
+	 * @param master master problem
+	 * @param column column in the master problem
+	 * @return true if the column should be evicted based on its reduced cost
+	 */
+	protected boolean exceedsReducedCostThreshold(AbstractMaster<T, U, V, ?> master, U column){
+		if(reducedCostThreshold == Double.MAX_VALUE)
+			return false;
+		double reducedCost=master.getReducedCost(column);
+		if(master.getOptimizationSense() == OptimizationSense.MINIMIZE)
+			return reducedCost > reducedCostThreshold;
+		else
+			return reducedCost < -reducedCostThreshold;
+	}
+
+	/**
+	 * Returns true if a column with the given reduced cost improves the objective of the master problem
+	 * @param optimizationSense optimization sense of the master problem
+	 * @param reducedCost reduced cost
+	 * @return true if the reduced cost is attractive
+	 */
+	protected boolean isAttractive(OptimizationSense optimizationSense, double reducedCost){
+		if(optimizationSense == OptimizationSense.MINIMIZE)
+			return reducedCost < -config.PRECISION;
+		else
+			return reducedCost > config.PRECISION;
+	}
+
+	/**
+	 * Returns the column pool, or null if evicted columns are discarded
+	 * @return the column pool
+	 */
+	public ColumnPool<T, U, V> getColumnPool(){
+		return columnPool;
+	}
+
+	/**
+	 * Returns the total number of columns evicted from the master problem
+	 * @return the total number of columns evicted from the master problem
+	 */
+	public int getNrEvictedColumns(){
+		return nrEvictedColumns;
+	}
+
+	/**
+	 * Returns the total number of columns revived from the column pool
+	 * @return the total number of columns revived from the column pool
+	 */
+	public int getNrRevivedColumns(){
+		return nrRevivedColumns;
+	}
+}
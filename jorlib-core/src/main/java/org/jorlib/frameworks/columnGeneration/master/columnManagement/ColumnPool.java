@@ -0,0 +1,181 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnPool.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.columnManagement;
+
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Pool of columns which have been removed from the master problem. Columns in the pool can be revived, i.e. added to the master problem again, whenever
+ * they become attractive, which is much cheaper than generating them again through the pricing problems. The pool is bounded: when the number of columns
+ * of a pricing problem exceeds the maximum pool size, the columns which have been stored in the pool the longest are discarded.
+ * <p>
+ * When used in a Branch-and-Price procedure, the pool must be informed about branching decisions: columns which are incompatible with a branching decision
+ * are discarded, see {@link BranchingDecision#columnIsCompatibleWithBranchingDecision(AbstractColumn)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class ColumnPool<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> implements BranchingDecisionListener{
+
+	/** Maximum number of columns stored for every pricing problem **/
+	protected final int maxPoolSize;
+	/** Columns stored in the pool for each pricing problem, in the order in which they have been added **/
+	protected final Map<V, LinkedHashSet<U>> pool=new LinkedHashMap<>();
+	/** Number of columns in the pool **/
+	protected int size=0;
+
+	/**
+	 * Creates a new column pool without a bound on its size
+	 */
+	public ColumnPool(){
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new column pool
+	 * @param maxPoolSize maximum number of columns stored for every pricing problem
+	 */
+	public ColumnPool(int maxPoolSize){
+		if(maxPoolSize < 0)
+			throw new IllegalArgumentException("Maximum pool size cannot be negative");
+		this.maxPoolSize=maxPoolSize;
+	}
+
+	/**
+	 * Adds a column to the pool. If the pool of the associated pricing problem is full, the oldest column in the pool is discarded.
+	 * @param column column
+	 */
+	public void add(U column){
+		LinkedHashSet<U> columns=pool.computeIfAbsent(column.associatedPricingProblem, k -> new LinkedHashSet<>());
+		if(!columns.add(column))
+			return;
+		size++;
+		if(columns.size() > maxPoolSize){
+			Iterator<U> it=columns.iterator();
+			it.next();
+			it.remove();
+			size--;
+		}
+	}
+
+	/**
+	 * Removes a column from the pool
+	 * @param column column
+	 * @return true if the column was contained in the pool
+	 */
+	public boolean remove(U column){
+		LinkedHashSet<U> columns=pool.get(column.associatedPricingProblem);
+		if(columns == null || !columns.remove(column))
+			return false;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns whether the pool contains the given column
+	 * @param column column
+	 * @return true if the pool contains the column
+	 */
+	public boolean contains(U column){
+		LinkedHashSet<U> columns=pool.get(column.associatedPricingProblem);
+		return columns != null && columns.contains(column);
+	}
+
+	/**
+	 * Returns an unmodifiable view of the columns stored in the pool for the given pricing problem
+	 * @param pricingProblem pricing problem
+	 * @return columns in the pool
+	 */
+	public Set<U> getColumns(V pricingProblem){
+		LinkedHashSet<U> columns=pool.get(pricingProblem);
+		return (columns == null ? Collections.<U>emptySet() : Collections.unmodifiableSet(columns));
+	}
+
+	/**
+	 * Returns the pricing problems for which columns are stored in the pool
+	 * @return pricing problems
+	 */
+	public Set<V> getPricingProblems(){
+		return Collections.unmodifiableSet(pool.keySet());
+	}
+
+	/**
+	 * Returns the number of columns in the pool
+	 * @return number of columns in the pool
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Returns true if the pool does not contain any columns
+	 * @return true if the pool does not contain any columns
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	 * Removes all columns from the pool
+	 */
+	public void clear(){
+		pool.clear();
+		size=0;
+	}
+
+	/**
+	 * Discards all columns which are incompatible with the branching decision
+	 * @param bd branching decision
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void branchingDecisionPerformed(BranchingDecision bd) {
+		for(LinkedHashSet<U> columns : pool.values()){
+			int oldSize=columns.size();
+			columns.removeIf(column -> !bd.columnIsCompatibleWithBranchingDecision(column));
+			size-=oldSize-columns.size();
+		}
+	}
+
+	/**
+	 * Columns which have been discarded by a branching decision are not restored during backtracking
+	 * @param bd branching decision
+	 */
+	@Override
+	public void branchingDecisionReversed(BranchingDecision bd) {
+		//No action required
+	}
+}
@@ -29,9 +29,15 @@ package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
 import java.util.*;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.CHListener;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.EventDispatcher;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.EventType;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.FinishGeneratingCutsEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.ListenerSet;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.SelectiveListener;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.StartGeneratingCutsEvent;
+import org.jorlib.frameworks.columnGeneration.io.jfr.JFREvents;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.metrics.MetricsRegistry;
 import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
 import org.slf4j.Logger;
@@ -56,6 +62,8 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 	protected Set<AbstractCutGenerator<T,W>> cutGenerators;
 	/** Helper class which notifies CHListeners **/
 	CHNotifier notifier;
+	/** Registry in which the separation time of every cut generator is recorded. May be null **/
+	protected MetricsRegistry metricsRegistry=null;
 
 	/** Creates a new CutHandler **/
 	public CutHandler(){
@@ -101,7 +109,16 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		List<AbstractInequality> separatedInequalities=new ArrayList<>();
 		notifier.fireStartGeneratingCutsEvent();
 		for(AbstractCutGenerator<T,W> cutGen: cutGenerators){
-			separatedInequalities.addAll(cutGen.generateInqualities());
+			long start=System.nanoTime();
+			Object jfrEvent=JFREvents.beginCutGeneration();
+			List<AbstractInequality> inequalities=cutGen.generateInqualities();
+			if(metricsRegistry != null){
+				metricsRegistry.histogram(MetricsRegistry.CUT_SEPARATION, "cutGenerator", cutGen.name).record(System.nanoTime()-start);
+				metricsRegistry.counter(MetricsRegistry.CUTS_GENERATED, "cutGenerator", cutGen.name).add(inequalities.size());
+			}
+			if(jfrEvent != null)
+				JFREvents.commitCutGeneration(jfrEvent, cutGen.name, inequalities.size());
+			separatedInequalities.addAll(inequalities);
 			if(config.QUICK_RETURN_AFTER_CUTS_FOUND && !separatedInequalities.isEmpty())
 				break;
 		}
@@ -161,19 +178,42 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 	}
 
 	/**
-	 * Inner Class which notifies CHListeners
+	 * Sets the dispatcher which delivers the events to the CHListeners. By default, events are delivered synchronously, see {@link EventDispatcher#SYNCHRONOUS}.
+	 * @param eventDispatcher dispatcher
+	 */
+	public void setEventDispatcher(EventDispatcher eventDispatcher) {
+		notifier.setEventDispatcher(eventDispatcher);
+	}
+
+	/**
+	 * Sets the registry in which the separation time (see {@link MetricsRegistry#CUT_SEPARATION}) and the number of separated inequalities (see {@link MetricsRegistry#CUTS_GENERATED})
+	 * of every cut generator are recorded, tagged by the name of the cut generator.
+	 * @param metricsRegistry registry, or null to disable the metrics
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+		this.metricsRegistry=metricsRegistry;
+	}
+
+	/**
+	 * Inner Class which notifies CHListeners. Events are only created when at least one listener is interested in them (see {@link SelectiveListener}), and are delivered by an
+	 * {@link EventDispatcher}.
 	 */
 	protected class CHNotifier {
 		/**
 		 * Listeners
 		 */
-		private Set<CHListener> listeners;
+		private volatile ListenerSet<CHListener> listeners;
+		/**
+		 * Dispatcher which delivers the events
+		 */
+		private EventDispatcher eventDispatcher;
 
 		/**
-		 * Creates a new BAPNotifier
+		 * Creates a new CHNotifier
 		 */
 		public CHNotifier() {
-			listeners = new LinkedHashSet<>();
+			listeners = ListenerSet.empty();
+			eventDispatcher = EventDispatcher.SYNCHRONOUS;
 		}
 
 		/**
@@ -182,7 +222,7 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		 * @param listener listener
 		 */
 		public void addListener(CHListener listener) {
-			this.listeners.add(listener);
+			this.listeners=listeners.with(listener);
 		}
 
 		/**
@@ -191,19 +231,23 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		 * @param listener listener
 		 */
 		public void removeListener(CHListener listener) {
-			this.listeners.remove(listener);
+			this.listeners=listeners.without(listener);
+		}
+
+		/**
+		 * Sets the dispatcher which delivers the events
+		 * @param eventDispatcher dispatcher
+		 */
+		public void setEventDispatcher(EventDispatcher eventDispatcher) {
+			this.eventDispatcher=eventDispatcher;
 		}
 
 		/**
 		 * Fires a StartGeneratingCutsEvent to indicate that the cut handler starts generating inequalities
 		 */
 		public void fireStartGeneratingCutsEvent() {
-			StartGeneratingCutsEvent startGeneratingCutsEvent = null;
-			for (CHListener listener : listeners) {
-				if (startGeneratingCutsEvent == null)
-					startGeneratingCutsEvent = new StartGeneratingCutsEvent(CutHandler.this);
-				listener.startGeneratingCuts(startGeneratingCutsEvent);
-			}
+			if (listeners.isInterested(EventType.START_GENERATING_CUTS))
+				eventDispatcher.publish(EventType.START_GENERATING_CUTS, new StartGeneratingCutsEvent(CutHandler.this), listeners);
 		}
 
 		/**
@@ -211,12 +255,8 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		 * @param separatedInequalities list of newly separated inequalities which have been generated
 		 */
 		public void fireFinishGeneratingCutsEvent(List<AbstractInequality> separatedInequalities) {
-			FinishGeneratingCutsEvent finishGeneratingCutsEvent = null;
-			for (CHListener listener : listeners) {
-				if (finishGeneratingCutsEvent == null)
-					finishGeneratingCutsEvent = new FinishGeneratingCutsEvent(CutHandler.this, Collections.unmodifiableList(separatedInequalities));
-				listener.finishGeneratingCuts(finishGeneratingCutsEvent);
-			}
+			if (listeners.isInterested(EventType.FINISH_GENERATING_CUTS))
+				eventDispatcher.publish(EventType.FINISH_GENERATING_CUTS, new FinishGeneratingCutsEvent(CutHandler.this, Collections.unmodifiableList(separatedInequalities)), listeners);
 		}
 	}
 }
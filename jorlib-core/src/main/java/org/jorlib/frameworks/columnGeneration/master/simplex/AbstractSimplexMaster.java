@@ -0,0 +1,210 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractSimplexMaster.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.simplex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
+
+/**
+ * Master Problem which is solved with the built-in, pure Java {@link RevisedSimplex} solver, thereby removing the need for an external LP solver.
+ * The LP is stored in the {@link SimplexMasterData} object returned by {@link #buildModel()}. Columns are added to the LP without changing the
+ * current basis, so every solve of the master problem warm-starts from the previous optimal basis. Similarly, inequalities added to the LP
+ * (e.g. by a cut generator) retain the current basis.
+ * <p>
+ * Implementations must:
+ * <ul>
+ * <li>create the LP and its rows in {@link #buildModel()},</li>
+ * <li>describe the coefficients of a column in {@link #describeColumn(AbstractColumn, LPColumn)},</li>
+ * <li>pass the dual values of the rows (available through {@code masterData.lp.getDual(row)}) to the pricing problems in {@link #initializePricingProblem(AbstractPricingProblem)}.</li>
+ * </ul>
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> Type of data model
+ * @param <U> Type of columns
+ * @param <V> Type of pricing problem
+ * @param <W> Type of Master Data
+ */
+public abstract class AbstractSimplexMaster<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>, W extends SimplexMasterData<T,U,V>> extends AbstractMaster<T,U,V,W>{
+
+	/** Reusable container used to describe new columns **/
+	private final LPColumn lpColumn=new LPColumn();
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractSimplexMaster(T dataModel, List<V> pricingProblems, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblems, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractSimplexMaster(T dataModel, V pricingProblem, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblem, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param cutHandler Reference to a cut handler
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractSimplexMaster(T dataModel, List<V> pricingProblems, CutHandler<T,W> cutHandler, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblems, cutHandler, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param cutHandler Reference to a cut handler
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractSimplexMaster(T dataModel, V pricingProblem, CutHandler<T,W> cutHandler, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblem, cutHandler, optimizationSenseMaster);
+	}
+
+	/**
+	 * Describes the objective coefficient, the bounds and the row coefficients of the LP variable corresponding to the given column.
+	 * @param column column which is added to the master problem
+	 * @param lpColumn empty column description which must be completed by this method
+	 */
+	protected abstract void describeColumn(U column, LPColumn lpColumn);
+
+	/**
+	 * Solves the LP, starting from the basis of the previous solve.
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @return Returns true if successfull (and optimal)
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	@Override
+	protected boolean solveMasterProblem(long timeLimit) throws TimeLimitExceededException {
+		RevisedSimplex.Status status=masterData.lp.solve(timeLimit);
+		if(status == RevisedSimplex.Status.TIME_LIMIT)
+			throw new TimeLimitExceededException();
+		else if(status != RevisedSimplex.Status.OPTIMAL)
+			throw new RuntimeException("Master problem solve failed! Status: "+status);
+		masterData.objectiveValue=masterData.lp.getObjectiveValue();
+		logger.debug("Master solved. Objective: {}, simplex iterations: {}", masterData.objectiveValue, masterData.lp.getIterationCount());
+		return true;
+	}
+
+	/**
+	 * Adds a new column to the LP. The column is described through {@link #describeColumn(AbstractColumn, LPColumn)}. Columns which already exist in the LP are ignored.
+	 * @param column column to add
+	 */
+	@Override
+	public void addColumn(U column) {
+		if(masterData.containsColumn(column))
+			return;
+		lpColumn.clear();
+		this.describeColumn(column, lpColumn);
+		int index=lpColumn.addTo(masterData.lp);
+		masterData.addColumn(column, index);
+	}
+
+	/**
+	 * Removes a column from the LP. Removing a nonbasic column retains the current basis.
+	 * @param column column to remove
+	 */
+	@Override
+	public void removeColumn(U column) {
+		int index=masterData.removeColumn(column);
+		masterData.lp.removeColumn(index);
+	}
+
+	/**
+	 * Returns the reduced cost of the given column with respect to the dual values of the last LP solve. Columns which are not part of the
+	 * LP are described through {@link #describeColumn(AbstractColumn, LPColumn)}.
+	 * @param column column
+	 * @return reduced cost of the column
+	 */
+	@Override
+	public double getReducedCost(U column) {
+		Integer index=masterData.getVar(column.associatedPricingProblem, column);
+		if(index != null)
+			return masterData.lp.getReducedCost(index);
+		lpColumn.clear();
+		this.describeColumn(column, lpColumn);
+		return lpColumn.getReducedCost(masterData.lp);
+	}
+
+	/**
+	 * Returns the solution, i.e columns with non-zero values in the LP. The value of every column is stored in its {@code value} field.
+	 * @return solution consisting of non-zero columns
+	 */
+	@Override
+	public List<U> getSolution() {
+		List<U> solution=new ArrayList<>();
+		for(V pricingProblem : pricingProblems){
+			IndexedMap<U, Integer> varMap=masterData.getVarMapForPricingProblem(pricingProblem);
+			for(int i=0; i<varMap.size(); i++){
+				U column=varMap.getKey(i);
+				column.value=masterData.lp.getValue(varMap.getValue(i));
+				if(column.value >= config.PRECISION)
+					solution.add(column);
+			}
+		}
+		return solution;
+	}
+
+	/**
+	 * Print the solution
+	 */
+	@Override
+	public void printSolution() {
+		System.out.println("Master solution:");
+		for(U column : this.getSolution())
+			System.out.println(column.value+": "+column);
+	}
+
+	/**
+	 * Closes the master problem. The built-in solver does not hold any external resources.
+	 */
+	@Override
+	public void close() {
+		//Nothing to close
+	}
+}
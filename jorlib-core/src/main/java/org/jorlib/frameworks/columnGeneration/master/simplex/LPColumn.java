@@ -0,0 +1,130 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * LPColumn.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.simplex;
+
+import java.util.Arrays;
+
+/**
+ * Sparse description of a column which is about to be added to a {@link RevisedSimplex} LP: its objective coefficient, its bounds and its
+ * coefficients in the rows of the LP. A single instance is reused by {@link AbstractSimplexMaster} for every column that is added, so the
+ * description must not be retained after {@link AbstractSimplexMaster#describeColumn(org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn, LPColumn) describeColumn} returns.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class LPColumn {
+
+	/** Objective coefficient **/
+	private double cost=0;
+	/** Lower bound on the column **/
+	private double lb=0;
+	/** Upper bound on the column **/
+	private double ub=Double.MAX_VALUE;
+	/** Row indices **/
+	private int[] rows=new int[16];
+	/** Coefficients **/
+	private double[] coefficients=new double[16];
+	/** Number of non-zero coefficients **/
+	private int size=0;
+
+	/**
+	 * Sets the objective coefficient of the column
+	 * @param cost objective coefficient
+	 * @return this column
+	 */
+	public LPColumn setCost(double cost){
+		this.cost=cost;
+		return this;
+	}
+
+	/**
+	 * Sets the bounds of the column. By default, a column is non-negative and has no upper bound.
+	 * @param lb lower bound
+	 * @param ub upper bound
+	 * @return this column
+	 */
+	public LPColumn setBounds(double lb, double ub){
+		this.lb=lb;
+		this.ub=ub;
+		return this;
+	}
+
+	/**
+	 * Registers a coefficient of the column in the given row. Coefficients for the same row are summed.
+	 * @param row row index
+	 * @param coefficient coefficient
+	 * @return this column
+	 */
+	public LPColumn add(int row, double coefficient){
+		if(coefficient == 0)
+			return this;
+		for(int k=0; k<size; k++){
+			if(rows[k] == row){
+				coefficients[k]+=coefficient;
+				return this;
+			}
+		}
+		if(size == rows.length){
+			rows=Arrays.copyOf(rows, 2*size);
+			coefficients=Arrays.copyOf(coefficients, 2*size);
+		}
+		rows[size]=row;
+		coefficients[size++]=coefficient;
+		return this;
+	}
+
+	/**
+	 * Resets the column to its default state
+	 */
+	void clear(){
+		cost=0;
+		lb=0;
+		ub=Double.MAX_VALUE;
+		size=0;
+	}
+
+	/**
+	 * Adds this column to the given LP
+	 * @param lp LP
+	 * @return index of the column in the LP
+	 */
+	int addTo(RevisedSimplex lp){
+		return lp.addColumn(cost, lb, ub, rows, coefficients, size);
+	}
+
+	/**
+	 * Computes the reduced cost of this column with respect to the dual values of the given LP, without adding the column to the LP
+	 * @param lp LP
+	 * @return reduced cost {@code c_j - y^T A_j}
+	 */
+	double getReducedCost(RevisedSimplex lp){
+		double reducedCost=cost;
+		for(int k=0; k<size; k++)
+			reducedCost-=lp.getDual(rows[k])*coefficients[k];
+		return reducedCost;
+	}
+}
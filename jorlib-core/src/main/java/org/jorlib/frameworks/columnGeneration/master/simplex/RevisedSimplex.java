@@ -0,0 +1,958 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * RevisedSimplex.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.simplex;
+
+import java.util.Arrays;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Sparse, bounded revised simplex LP solver. The solver is tailored towards restricted master problems in Column Generation:
+ * the LP is built incrementally through {@link #addRow(double, double) addRow} and {@link #addColumn(double, double, double, int[], double[], int) addColumn},
+ * and every invocation of {@link #solve(long) solve} warm-starts from the basis of the previous invocation.
+ * <p>
+ * The LP has the form: {@code min/max c^T x, s.t. rowLb <= Ax <= rowUb, colLb <= x <= colUb}. Internally, a slack variable {@code s_i} is
+ * associated with every row i, such that {@code Ax - s = 0} and {@code rowLb <= s <= rowUb}. The inverse of the basis is maintained in product form
+ * (a sequence of eta matrices), which is periodically rebuilt from scratch.
+ * <ul>
+ * <li>Adding a column does not change the basis: the new column is nonbasic at its lower bound, so no refactorization is required and the previous
+ * (optimal) basis remains primal feasible.</li>
+ * <li>Adding a row makes the slack of the new row basic. The basis is refactorized once, but the remaining basic variables are retained. If the new
+ * row is violated by the current solution (e.g. a separated cut), the solver automatically performs a phase 1 to restore feasibility.</li>
+ * <li>Removing a nonbasic column at zero does not change the basis. The indices of the remaining columns do not change; the index of a removed column
+ * is reused by the next column which is added to the LP.</li>
+ * </ul>
+ * The dual values follow the same sign convention as Cplex: the reduced cost of a column equals {@code c_j - y^T A_j}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public class RevisedSimplex {
+
+	/** Status of the LP **/
+	public enum Status {
+		/** The LP has not been solved yet, or has been modified since the last solve **/
+		UNSOLVED,
+		/** Optimal solution found **/
+		OPTIMAL,
+		/** The LP has no feasible solution **/
+		INFEASIBLE,
+		/** The LP is unbounded **/
+		UNBOUNDED,
+		/** The solve procedure was aborted because the time limit was reached **/
+		TIME_LIMIT,
+		/** The solve procedure was aborted because the iteration limit was reached **/
+		ITERATION_LIMIT
+	}
+
+	/** Primal feasibility tolerance **/
+	private static final double PRIMAL_TOLERANCE=1e-9;
+	/** Optimality (reduced cost) tolerance **/
+	private static final double DUAL_TOLERANCE=1e-9;
+	/** Smallest absolute value accepted as a pivot element **/
+	private static final double PIVOT_TOLERANCE=1e-9;
+	/** Entries smaller than this value are dropped from the eta file **/
+	private static final double DROP_TOLERANCE=1e-14;
+	/** Number of basis updates after which the basis inverse is rebuilt from scratch **/
+	private static final int REFACTORIZATION_FREQUENCY=100;
+	/** Number of consecutive degenerate pivots after which Bland's rule is used to prevent cycling **/
+	private static final int DEGENERATE_PIVOT_LIMIT=50;
+
+	/** Nonbasic at lower bound **/
+	private static final byte AT_LOWER=0;
+	/** Nonbasic at upper bound **/
+	private static final byte AT_UPPER=1;
+	/** Nonbasic free variable fixed at zero **/
+	private static final byte FREE=2;
+	/** Basic variable **/
+	private static final byte BASIC=3;
+	/** Column which has been removed from the model **/
+	private static final byte REMOVED=4;
+
+	/** Optimization sense **/
+	private final OptimizationSense optimizationSense;
+
+	/** Number of rows **/
+	private int nrRows=0;
+	/** Number of columns, including removed columns whose index has not been reused yet **/
+	private int nrColumns=0;
+	/** Indices of removed columns which can be reused **/
+	private int[] freeColumns=new int[16];
+	/** Number of removed columns which can be reused **/
+	private int nrFreeColumns=0;
+
+	//Rows (and their slack variables)
+	/** Lower bounds on the rows **/
+	private double[] rowLb=new double[16];
+	/** Upper bounds on the rows **/
+	private double[] rowUb=new double[16];
+	/** Value of the slack variable of each row, i.e. the row activity **/
+	private double[] rowValue=new double[16];
+	/** Status of the slack variable of each row **/
+	private byte[] rowStatus=new byte[16];
+
+	//Columns
+	/** Row indices of the non-zero coefficients of each column **/
+	private int[][] colRows=new int[16][];
+	/** Values of the non-zero coefficients of each column **/
+	private double[][] colValues=new double[16][];
+	/** Objective coefficient of every column, as provided by the user **/
+	private double[] cost=new double[16];
+	/** Lower bounds on the columns **/
+	private double[] colLb=new double[16];
+	/** Upper bounds on the columns **/
+	private double[] colUb=new double[16];
+	/** Value of every column **/
+	private double[] colValue=new double[16];
+	/** Status of every column **/
+	private byte[] colStatus=new byte[16];
+
+	//Basis
+	/** Basis header: variable occupying each position of the basis. Non-negative values are columns, negative values {@code -(i+1)} refer to the slack of row i **/
+	private int[] head=new int[16];
+
+	//Product form of the basis inverse
+	/** Pivot position of each eta matrix **/
+	private int[] etaPivotPosition=new int[REFACTORIZATION_FREQUENCY+1];
+	/** Inverse of the pivot element of each eta matrix **/
+	private double[] etaPivotValue=new double[REFACTORIZATION_FREQUENCY+1];
+	/** Off-pivot positions of each eta matrix **/
+	private int[][] etaIndices=new int[REFACTORIZATION_FREQUENCY+1][];
+	/** Off-pivot values of each eta matrix **/
+	private double[][] etaValues=new double[REFACTORIZATION_FREQUENCY+1][];
+	/** Number of eta matrices **/
+	private int nrEtas=0;
+	/** Number of eta matrices which are not generated during a refactorization **/
+	private int nrUpdates=0;
+	/** Indicates whether the basis inverse must be rebuilt before the next iteration **/
+	private boolean refactorizationRequired=false;
+
+	//Work arrays
+	/** Dual values of the last LP which has been solved to optimality **/
+	private double[] duals=new double[16];
+	/** Indicates whether the last invocation of the solve method produced an optimal solution **/
+	private boolean dualsAvailable=false;
+
+	//Solution information
+	/** Status of the LP **/
+	private Status status=Status.UNSOLVED;
+	/** Total number of simplex iterations performed **/
+	private long iterations=0;
+	/** Maximum number of simplex iterations per invocation of the solve method **/
+	private long iterationLimit=Long.MAX_VALUE;
+
+	/**
+	 * Creates a new, empty LP
+	 * @param optimizationSense Indicates whether the objective is minimized or maximized
+	 */
+	public RevisedSimplex(OptimizationSense optimizationSense){
+		this.optimizationSense=optimizationSense;
+	}
+
+	//================= Model building =================
+
+	/**
+	 * Adds an empty row {@code lb <= Ax <= ub} to the model. Use {@code -Double.MAX_VALUE} or {@code Double.MAX_VALUE} to indicate an absent bound.
+	 * Coefficients can be provided later through {@link #addColumn(double, double, double, int[], double[], int) addColumn}.
+	 * @param lb lower bound on the row
+	 * @param ub upper bound on the row
+	 * @return index of the new row
+	 */
+	public int addRow(double lb, double ub){
+		return this.addRow(lb, ub, new int[0], new double[0], 0);
+	}
+
+	/**
+	 * Adds a row {@code lb <= Ax <= ub} to the model, where the coefficients of the row are specified for the existing columns. This method is typically
+	 * used to add a valid inequality to the model. The current basis is retained; the slack of the new row enters the basis.
+	 * @param lb lower bound on the row
+	 * @param ub upper bound on the row
+	 * @param columns indices of the columns having a non-zero coefficient in this row
+	 * @param coefficients coefficients of these columns
+	 * @param length number of entries in the columns/coefficients arrays which should be considered
+	 * @return index of the new row
+	 */
+	public int addRow(double lb, double ub, int[] columns, double[] coefficients, int length){
+		if(lb > ub)
+			throw new IllegalArgumentException("Lower bound of a row exceeds its upper bound: "+lb+" > "+ub);
+		if(nrRows == rowLb.length)
+			this.growRows(2*nrRows);
+		int row=nrRows++;
+		rowLb[row]=lb;
+		rowUb[row]=ub;
+		double activity=0;
+		for(int k=0; k<length; k++){
+			int j=columns[k];
+			if(coefficients[k] == 0)
+				continue;
+			int nnz=colRows[j].length;
+			colRows[j]=Arrays.copyOf(colRows[j], nnz+1);
+			colValues[j]=Arrays.copyOf(colValues[j], nnz+1);
+			colRows[j][nnz]=row;
+			colValues[j][nnz]=coefficients[k];
+			activity+=coefficients[k]*colValue[j];
+		}
+		//The slack of the new row becomes basic; its value equals the activity of the row
+		rowValue[row]=activity;
+		rowStatus[row]=BASIC;
+		head[row]=-(row+1);
+		refactorizationRequired=true;
+		status=Status.UNSOLVED;
+		return row;
+	}
+
+	/**
+	 * Adds a column to the model. The column is added as a nonbasic variable at its lower bound (or at its upper bound if the lower bound is absent),
+	 * so the current basis remains valid and no refactorization is required.
+	 * @param objCoefficient objective coefficient of the column
+	 * @param lb lower bound on the column, e.g. 0
+	 * @param ub upper bound on the column, e.g. {@code Double.MAX_VALUE}
+	 * @param rows indices of the rows in which the column has a non-zero coefficient
+	 * @param coefficients coefficients of the column in these rows
+	 * @param length number of entries in the rows/coefficients arrays which should be considered
+	 * @return index of the new column
+	 */
+	public int addColumn(double objCoefficient, double lb, double ub, int[] rows, double[] coefficients, int length){
+		if(lb > ub)
+			throw new IllegalArgumentException("Lower bound of a column exceeds its upper bound: "+lb+" > "+ub);
+		if(nrFreeColumns == 0 && nrColumns == cost.length)
+			this.growColumns(2*nrColumns);
+		int nnz=0;
+		for(int k=0; k<length; k++)
+			if(coefficients[k] != 0) nnz++;
+		int[] r=new int[nnz];
+		double[] v=new double[nnz];
+		nnz=0;
+		for(int k=0; k<length; k++){
+			if(coefficients[k] == 0)
+				continue;
+			if(rows[k] < 0 || rows[k] >= nrRows)
+				throw new IllegalArgumentException("Row index out of range: "+rows[k]);
+			r[nnz]=rows[k];
+			v[nnz++]=coefficients[k];
+		}
+		int col=(nrFreeColumns > 0 ? freeColumns[--nrFreeColumns] : nrColumns++);
+		colRows[col]=r;
+		colValues[col]=v;
+		cost[col]=objCoefficient;
+		colLb[col]=lb;
+		colUb[col]=ub;
+		this.makeNonbasic(col, 0);
+		//Columns at a non-zero bound shift the activity of the basic variables
+		if(colValue[col] != 0)
+			refactorizationRequired=true;
+		status=Status.UNSOLVED;
+		return col;
+	}
+
+	/**
+	 * Removes a column from the model. The index of the column may be reused by columns which are added afterwards, whereas the indices of the other
+	 * columns remain unchanged. Removing a nonbasic column with value zero retains the current basis. If the column is basic, it is
+	 * replaced by a slack variable and the basis is refactorized during the next solve.
+	 * @param column column index
+	 */
+	public void removeColumn(int column){
+		if(column < 0 || column >= nrColumns || colStatus[column] == REMOVED)
+			throw new IllegalArgumentException("Column does not exist: "+column);
+		if(colStatus[column] == BASIC){
+			for(int p=0; p<nrRows; p++){
+				if(head[p] == column)
+					head[p]=-(p+1);
+			}
+			refactorizationRequired=true;
+		}else if(colValue[column] != 0){
+			refactorizationRequired=true; //The values of the basic variables change
+		}
+		//The column is fixed to zero, so it is ignored during pricing until its index is reused
+		colRows[column]=new int[0];
+		colValues[column]=new double[0];
+		cost[column]=0;
+		colLb[column]=0;
+		colUb[column]=0;
+		colValue[column]=0;
+		colStatus[column]=REMOVED;
+		if(nrFreeColumns == freeColumns.length)
+			freeColumns=Arrays.copyOf(freeColumns, 2*nrFreeColumns);
+		freeColumns[nrFreeColumns++]=column;
+		status=Status.UNSOLVED;
+	}
+
+	/**
+	 * Changes the bounds of a row.
+	 * @param row row index
+	 * @param lb new lower bound
+	 * @param ub new upper bound
+	 */
+	public void setRowBounds(int row, double lb, double ub){
+		if(lb > ub)
+			throw new IllegalArgumentException("Lower bound of a row exceeds its upper bound: "+lb+" > "+ub);
+		rowLb[row]=lb;
+		rowUb[row]=ub;
+		if(rowStatus[row] != BASIC){
+			rowStatus[row]=this.nonbasicStatus(lb, ub, 0);
+			rowValue[row]=this.nonbasicValue(rowStatus[row], lb, ub);
+			refactorizationRequired=true;
+		}
+		status=Status.UNSOLVED;
+	}
+
+	/**
+	 * Changes the bounds of a column. This can for instance be used to fix a column to zero when a branching decision is made.
+	 * @param column column index
+	 * @param lb new lower bound
+	 * @param ub new upper bound
+	 */
+	public void setColumnBounds(int column, double lb, double ub){
+		if(lb > ub)
+			throw new IllegalArgumentException("Lower bound of a column exceeds its upper bound: "+lb+" > "+ub);
+		colLb[column]=lb;
+		colUb[column]=ub;
+		if(colStatus[column] != BASIC){
+			colStatus[column]=this.nonbasicStatus(lb, ub, 0);
+			colValue[column]=this.nonbasicValue(colStatus[column], lb, ub);
+			refactorizationRequired=true;
+		}
+		status=Status.UNSOLVED;
+	}
+
+	/**
+	 * Changes the objective coefficient of a column
+	 * @param column column index
+	 * @param objCoefficient new objective coefficient
+	 */
+	public void setObjectiveCoefficient(int column, double objCoefficient){
+		cost[column]=objCoefficient;
+		status=Status.UNSOLVED;
+	}
+
+	/**
+	 * Sets the maximum number of simplex iterations performed by a single invocation of the solve method.
+	 * @param iterationLimit iteration limit
+	 */
+	public void setIterationLimit(long iterationLimit){
+		this.iterationLimit=iterationLimit;
+	}
+
+	//================= Solve =================
+
+	/**
+	 * Solves the LP, starting from the basis obtained during the previous invocation of this method.
+	 * @param timeLimit Future point in time (ms) by which this method must be finished
+	 * @return status of the LP
+	 */
+	public Status solve(long timeLimit){
+		dualsAvailable=false;
+		if(refactorizationRequired || nrUpdates >= REFACTORIZATION_FREQUENCY)
+			this.refactorize();
+
+		double[] cB=new double[nrRows];
+		double[] alpha=new double[nrRows];
+		int degeneratePivots=0;
+		long iterationsThisRun=0;
+
+		while(true){
+			if(iterationsThisRun >= iterationLimit)
+				return status=Status.ITERATION_LIMIT;
+			if((iterationsThisRun & 15) == 0 && System.currentTimeMillis() >= timeLimit)
+				return status=Status.TIME_LIMIT;
+
+			//1. Determine the phase and the cost vector of the basic variables
+			boolean phase1=false;
+			for(int p=0; p<nrRows; p++){
+				int var=head[p];
+				double value=this.getVariableValue(var);
+				if(value < this.getLowerBound(var)-PRIMAL_TOLERANCE){
+					cB[p]=-1;
+					phase1=true;
+				}else if(value > this.getUpperBound(var)+PRIMAL_TOLERANCE){
+					cB[p]=1;
+					phase1=true;
+				}else
+					cB[p]=0;
+			}
+			if(!phase1){
+				for(int p=0; p<nrRows; p++)
+					cB[p]=(head[p] >= 0 ? this.internalCost(head[p]) : 0);
+			}
+
+			//2. Compute the duals y^T=c_B^T B^{-1}
+			System.arraycopy(cB, 0, duals, 0, nrRows);
+			this.btran(duals);
+
+			//3. Pricing: select the entering variable
+			boolean bland=degeneratePivots >= DEGENERATE_PIVOT_LIMIT;
+			int entering=Integer.MIN_VALUE;
+			double bestScore=0;
+			double enteringReducedCost=0;
+			for(int j=0; j<nrColumns; j++){
+				byte s=colStatus[j];
+				if(s == BASIC || colLb[j] == colUb[j])
+					continue;
+				double d=(phase1 ? 0 : this.internalCost(j));
+				int[] rows=colRows[j];
+				double[] values=colValues[j];
+				for(int k=0; k<rows.length; k++)
+					d-=duals[rows[k]]*values[k];
+				double score=this.attractiveness(s, d);
+				if(score > bestScore){
+					bestScore=score;
+					entering=j;
+					enteringReducedCost=d;
+					if(bland) break;
+				}
+			}
+			if(!bland || entering == Integer.MIN_VALUE){
+				for(int i=0; i<nrRows; i++){
+					byte s=rowStatus[i];
+					if(s == BASIC || rowLb[i] == rowUb[i])
+						continue;
+					double d=duals[i]; //Slack column equals -e_i with cost 0
+					double score=this.attractiveness(s, d);
+					if(score > bestScore){
+						bestScore=score;
+						entering=-(i+1);
+						enteringReducedCost=d;
+						if(bland) break;
+					}
+				}
+			}
+
+			if(entering == Integer.MIN_VALUE){ //No improving variable
+				if(phase1)
+					return status=Status.INFEASIBLE;
+				if(optimizationSense == OptimizationSense.MAXIMIZE)
+					for(int i=0; i<nrRows; i++) duals[i]=-duals[i];
+				dualsAvailable=true;
+				return status=Status.OPTIMAL;
+			}
+			int direction=(enteringReducedCost < 0 ? 1 : -1);
+
+			//4. FTRAN: compute the entering column in terms of the current basis
+			Arrays.fill(alpha, 0, nrRows, 0);
+			if(entering >= 0){
+				int[] rows=colRows[entering];
+				double[] values=colValues[entering];
+				for(int k=0; k<rows.length; k++)
+					alpha[rows[k]]=values[k];
+			}else
+				alpha[-entering-1]=-1;
+			this.ftran(alpha);
+
+			//5. Ratio test. When the entering variable changes by direction*t, the basic variable at position p changes by -direction*alpha[p]*t.
+			double enteringLb=this.getLowerBound(entering);
+			double enteringUb=this.getUpperBound(entering);
+			double step=(enteringLb > -Double.MAX_VALUE && enteringUb < Double.MAX_VALUE ? enteringUb-enteringLb : Double.MAX_VALUE);
+			int leavingPosition=-1;
+			boolean leavesAtUpper=false;
+			double leavingPivot=0;
+			for(int p=0; p<nrRows; p++){
+				double rate=-direction*alpha[p];
+				if(Math.abs(alpha[p]) < PIVOT_TOLERANCE)
+					continue;
+				int var=head[p];
+				double value=this.getVariableValue(var);
+				double lb=this.getLowerBound(var);
+				double ub=this.getUpperBound(var);
+				double t;
+				boolean atUpper;
+				if(rate < 0){
+					if(value > ub+PRIMAL_TOLERANCE){ //Infeasible variable which becomes feasible at its upper bound
+						t=(value-ub)/(-rate);
+						atUpper=true;
+					}else if(lb > -Double.MAX_VALUE && value >= lb-PRIMAL_TOLERANCE){
+						t=(value-lb)/(-rate);
+						atUpper=false;
+					}else
+						continue;
+				}else{
+					if(value < lb-PRIMAL_TOLERANCE){ //Infeasible variable which becomes feasible at its lower bound
+						t=(lb-value)/rate;
+						atUpper=false;
+					}else if(ub < Double.MAX_VALUE && value <= ub+PRIMAL_TOLERANCE){
+						t=(ub-value)/rate;
+						atUpper=true;
+					}else
+						continue;
+				}
+				if(t < 0) t=0;
+				boolean better;
+				if(bland)
+					better=t < step-PRIMAL_TOLERANCE || (t <= step+PRIMAL_TOLERANCE && leavingPosition != -1 && this.blandIndex(var) < this.blandIndex(head[leavingPosition]));
+				else
+					better=t < step-PRIMAL_TOLERANCE || (t <= step+PRIMAL_TOLERANCE && Math.abs(alpha[p]) > Math.abs(leavingPivot));
+				if(better){
+					step=Math.min(t, step);
+					leavingPosition=p;
+					leavesAtUpper=atUpper;
+					leavingPivot=alpha[p];
+				}
+			}
+			if(leavingPosition == -1 && step == Double.MAX_VALUE)
+				return status=(phase1 ? Status.INFEASIBLE : Status.UNBOUNDED);
+
+			//6. Update the primal values
+			if(leavingPosition != -1){
+				//Recompute the exact step for the selected leaving variable
+				int var=head[leavingPosition];
+				double bound=(leavesAtUpper ? this.getUpperBound(var) : this.getLowerBound(var));
+				step=Math.max(0, (this.getVariableValue(var)-bound)/(direction*alpha[leavingPosition]));
+			}
+			if(step > PRIMAL_TOLERANCE){
+				degeneratePivots=0;
+				this.setVariableValue(entering, this.getVariableValue(entering)+direction*step);
+				for(int p=0; p<nrRows; p++){
+					if(alpha[p] != 0)
+						this.setVariableValue(head[p], this.getVariableValue(head[p])-direction*alpha[p]*step);
+				}
+			}else
+				degeneratePivots++;
+			iterations++;
+			iterationsThisRun++;
+
+			//7. Update the basis
+			if(leavingPosition == -1){ //Bound flip, the basis does not change
+				this.setStatus(entering, (direction > 0 ? AT_UPPER : AT_LOWER));
+				this.setVariableValue(entering, (direction > 0 ? enteringUb : enteringLb));
+			}else{
+				int leaving=head[leavingPosition];
+				this.setStatus(leaving, (leavesAtUpper ? AT_UPPER : AT_LOWER));
+				this.setVariableValue(leaving, (leavesAtUpper ? this.getUpperBound(leaving) : this.getLowerBound(leaving)));
+				this.setStatus(entering, BASIC);
+				head[leavingPosition]=entering;
+				this.addEta(leavingPosition, alpha);
+				nrUpdates++;
+				if(nrUpdates >= REFACTORIZATION_FREQUENCY)
+					this.refactorize();
+			}
+		}
+	}
+
+	//================= Solution queries =================
+
+	/**
+	 * Returns the status of the LP
+	 * @return status of the LP
+	 */
+	public Status getStatus(){
+		return status;
+	}
+
+	/**
+	 * Returns the objective value of the current solution
+	 * @return objective value
+	 */
+	public double getObjectiveValue(){
+		double obj=0;
+		for(int j=0; j<nrColumns; j++)
+			obj+=cost[j]*colValue[j];
+		return obj;
+	}
+
+	/**
+	 * Returns the value of a column in the current solution
+	 * @param column column index
+	 * @return value of the column
+	 */
+	public double getValue(int column){
+		return colValue[column];
+	}
+
+	/**
+	 * Returns the values of the given columns
+	 * @param columns column indices
+	 * @return values of the columns
+	 */
+	public double[] getValues(int[] columns){
+		double[] values=new double[columns.length];
+		for(int k=0; k<columns.length; k++)
+			values[k]=colValue[columns[k]];
+		return values;
+	}
+
+	/**
+	 * Returns the activity {@code A_i x} of a row in the current solution
+	 * @param row row index
+	 * @return activity of the row
+	 */
+	public double getRowActivity(int row){
+		return rowValue[row];
+	}
+
+	/**
+	 * Returns the dual value of a row. Only available if the last invocation of the solve method produced an optimal solution. Columns and rows which
+	 * have been added since do not invalidate the dual values; rows added after the last solve have a dual value of 0.
+	 * @param row row index
+	 * @return dual value
+	 */
+	public double getDual(int row){
+		if(!dualsAvailable)
+			throw new IllegalStateException("Dual values are only available after the LP has been solved to optimality. Status: "+status);
+		return duals[row];
+	}
+
+	/**
+	 * Returns the dual values of the given rows. Only available if the last invocation of the solve method produced an optimal solution.
+	 * @param rows row indices
+	 * @return dual values
+	 */
+	public double[] getDuals(int[] rows){
+		double[] result=new double[rows.length];
+		for(int k=0; k<rows.length; k++)
+			result[k]=this.getDual(rows[k]);
+		return result;
+	}
+
+	/**
+	 * Returns the reduced cost {@code c_j - y^T A_j} of a column, based on the dual values of the last optimal solve.
+	 * @param column column index
+	 * @return reduced cost
+	 */
+	public double getReducedCost(int column){
+		double d=cost[column];
+		int[] rows=colRows[column];
+		double[] values=colValues[column];
+		for(int k=0; k<rows.length; k++)
+			d-=this.getDual(rows[k])*values[k];
+		return d;
+	}
+
+	/**
+	 * Returns whether the column is basic in the current solution
+	 * @param column column index
+	 * @return true if the column is basic
+	 */
+	public boolean isBasic(int column){
+		return colStatus[column] == BASIC;
+	}
+
+	/**
+	 * Returns the number of rows
+	 * @return number of rows
+	 */
+	public int getNrRows(){
+		return nrRows;
+	}
+
+	/**
+	 * Returns the number of columns
+	 * @return number of columns
+	 */
+	public int getNrColumns(){
+		return nrColumns-nrFreeColumns;
+	}
+
+	/**
+	 * Returns the total number of simplex iterations performed on this LP
+	 * @return number of simplex iterations
+	 */
+	public long getIterationCount(){
+		return iterations;
+	}
+
+	/**
+	 * Returns the optimization sense of the LP
+	 * @return optimization sense of the LP
+	 */
+	public OptimizationSense getOptimizationSense(){
+		return optimizationSense;
+	}
+
+	//================= Basis inverse =================
+
+	/**
+	 * Rebuilds the product form of the basis inverse from scratch, starting from the slack basis (which equals -I). Columns which turn out to be
+	 * linearly dependent are replaced by slack variables. Finally, the values of the basic variables are recomputed from the nonbasic variables.
+	 */
+	private void refactorize(){
+		nrEtas=0;
+		nrUpdates=0;
+
+		//Collect the basic columns and reset the basis to the slack basis
+		int nrBasicColumns=0;
+		int[] basicColumns=new int[nrRows];
+		for(int p=0; p<nrRows; p++){
+			if(head[p] >= 0)
+				basicColumns[nrBasicColumns++]=head[p];
+		}
+		boolean[] replaceable=new boolean[nrRows];
+		for(int i=0; i<nrRows; i++){
+			head[i]=-(i+1);
+			replaceable[i]=(rowStatus[i] != BASIC);
+		}
+
+		//Pivot the basic columns into the basis, replacing the nonbasic slacks
+		double[] v=new double[nrRows];
+		for(int k=0; k<nrBasicColumns; k++){
+			int j=basicColumns[k];
+			Arrays.fill(v, 0);
+			int[] rows=colRows[j];
+			double[] values=colValues[j];
+			for(int l=0; l<rows.length; l++)
+				v[rows[l]]=values[l];
+			this.ftran(v);
+			int pivot=-1;
+			double max=PIVOT_TOLERANCE*100;
+			for(int p=0; p<nrRows; p++){
+				if(replaceable[p] && Math.abs(v[p]) > max){
+					max=Math.abs(v[p]);
+					pivot=p;
+				}
+			}
+			if(pivot == -1){ //Column is linearly dependent on the other basic columns. Make it nonbasic.
+				this.makeNonbasic(j, colValue[j]);
+				continue;
+			}
+			this.addEta(pivot, v);
+			head[pivot]=j;
+			replaceable[pivot]=false;
+		}
+		//Slacks which could not be replaced remain basic
+		for(int p=0; p<nrRows; p++){
+			if(replaceable[p])
+				rowStatus[p]=BASIC;
+		}
+		refactorizationRequired=false;
+		this.computeBasicValues();
+	}
+
+	/**
+	 * Computes the values of the basic variables from the values of the nonbasic variables: {@code x_B = B^{-1}(-N x_N)}
+	 */
+	private void computeBasicValues(){
+		double[] rhs=new double[nrRows];
+		for(int j=0; j<nrColumns; j++){
+			if(colStatus[j] == BASIC || colValue[j] == 0)
+				continue;
+			int[] rows=colRows[j];
+			double[] values=colValues[j];
+			for(int k=0; k<rows.length; k++)
+				rhs[rows[k]]-=values[k]*colValue[j];
+		}
+		for(int i=0; i<nrRows; i++){
+			if(rowStatus[i] != BASIC)
+				rhs[i]+=rowValue[i];
+		}
+		this.ftran(rhs);
+		for(int p=0; p<nrRows; p++)
+			this.setVariableValue(head[p], rhs[p]);
+	}
+
+	/**
+	 * Appends an eta matrix to the eta file for a pivot on the given position
+	 * @param position pivot position
+	 * @param column FTRAN-ed entering column
+	 */
+	private void addEta(int position, double[] column){
+		if(nrEtas == etaPivotPosition.length){
+			int newSize=2*nrEtas;
+			etaPivotPosition=Arrays.copyOf(etaPivotPosition, newSize);
+			etaPivotValue=Arrays.copyOf(etaPivotValue, newSize);
+			etaIndices=Arrays.copyOf(etaIndices, newSize);
+			etaValues=Arrays.copyOf(etaValues, newSize);
+		}
+		double pivot=column[position];
+		int nnz=0;
+		for(int p=0; p<nrRows; p++)
+			if(p != position && Math.abs(column[p]) > DROP_TOLERANCE) nnz++;
+		int[] indices=new int[nnz];
+		double[] values=new double[nnz];
+		nnz=0;
+		for(int p=0; p<nrRows; p++){
+			if(p != position && Math.abs(column[p]) > DROP_TOLERANCE){
+				indices[nnz]=p;
+				values[nnz++]=-column[p]/pivot;
+			}
+		}
+		etaPivotPosition[nrEtas]=position;
+		etaPivotValue[nrEtas]=1.0/pivot;
+		etaIndices[nrEtas]=indices;
+		etaValues[nrEtas]=values;
+		nrEtas++;
+	}
+
+	/**
+	 * Computes {@code B^{-1}v} in place
+	 * @param v vector
+	 */
+	private void ftran(double[] v){
+		for(int i=0; i<nrRows; i++)
+			v[i]=-v[i]; //Inverse of the slack basis
+		for(int k=0; k<nrEtas; k++){
+			int r=etaPivotPosition[k];
+			double vr=v[r];
+			if(vr == 0)
+				continue;
+			v[r]=vr*etaPivotValue[k];
+			int[] indices=etaIndices[k];
+			double[] values=etaValues[k];
+			for(int l=0; l<indices.length; l++)
+				v[indices[l]]+=values[l]*vr;
+		}
+	}
+
+	/**
+	 * Computes {@code w^T B^{-1}} in place
+	 * @param w vector
+	 */
+	private void btran(double[] w){
+		for(int k=nrEtas-1; k>=0; k--){
+			int r=etaPivotPosition[k];
+			double sum=w[r]*etaPivotValue[k];
+			int[] indices=etaIndices[k];
+			double[] values=etaValues[k];
+			for(int l=0; l<indices.length; l++)
+				sum+=values[l]*w[indices[l]];
+			w[r]=sum;
+		}
+		for(int i=0; i<nrRows; i++)
+			w[i]=-w[i]; //Inverse of the slack basis
+	}
+
+	//================= Helper methods =================
+
+	/**
+	 * Computes how attractive it is to let a nonbasic variable enter the basis
+	 * @param status status of the nonbasic variable
+	 * @param reducedCost reduced cost of the variable
+	 * @return a positive value if the variable is attractive, 0 otherwise
+	 */
+	private double attractiveness(byte status, double reducedCost){
+		if(status == AT_LOWER && reducedCost < -DUAL_TOLERANCE)
+			return -reducedCost;
+		else if(status == AT_UPPER && reducedCost > DUAL_TOLERANCE)
+			return reducedCost;
+		else if(status == FREE && Math.abs(reducedCost) > DUAL_TOLERANCE)
+			return Math.abs(reducedCost);
+		return 0;
+	}
+
+	/**
+	 * Index used to order variables when Bland's rule is applied
+	 * @param var variable
+	 * @return index of the variable
+	 */
+	private int blandIndex(int var){
+		return (var >= 0 ? var : nrColumns-var-1);
+	}
+
+	/**
+	 * Objective coefficient of a column in the internal minimization problem
+	 * @param column column index
+	 * @return objective coefficient
+	 */
+	private double internalCost(int column){
+		return (optimizationSense == OptimizationSense.MINIMIZE ? cost[column] : -cost[column]);
+	}
+
+	/**
+	 * Makes a column nonbasic at one of its bounds
+	 * @param column column index
+	 * @param value preferred value, used to select a bound
+	 */
+	private void makeNonbasic(int column, double value){
+		colStatus[column]=this.nonbasicStatus(colLb[column], colUb[column], value);
+		colValue[column]=this.nonbasicValue(colStatus[column], colLb[column], colUb[column]);
+	}
+
+	/**
+	 * Determines the status of a nonbasic variable
+	 * @param lb lower bound of the variable
+	 * @param ub upper bound of the variable
+	 * @param value preferred value, used to select a bound
+	 * @return status
+	 */
+	private byte nonbasicStatus(double lb, double ub, double value){
+		if(lb > -Double.MAX_VALUE && (ub >= Double.MAX_VALUE || Math.abs(value-lb) <= Math.abs(value-ub)))
+			return AT_LOWER;
+		else if(ub < Double.MAX_VALUE)
+			return AT_UPPER;
+		else
+			return FREE;
+	}
+
+	/**
+	 * Value of a nonbasic variable
+	 * @param status status of the variable
+	 * @param lb lower bound of the variable
+	 * @param ub upper bound of the variable
+	 * @return value
+	 */
+	private double nonbasicValue(byte status, double lb, double ub){
+		return (status == AT_LOWER ? lb : (status == AT_UPPER ? ub : 0));
+	}
+
+	private double getVariableValue(int var){
+		return (var >= 0 ? colValue[var] : rowValue[-var-1]);
+	}
+
+	private void setVariableValue(int var, double value){
+		if(var >= 0) colValue[var]=value;
+		else rowValue[-var-1]=value;
+	}
+
+	private double getLowerBound(int var){
+		return (var >= 0 ? colLb[var] : rowLb[-var-1]);
+	}
+
+	private double getUpperBound(int var){
+		return (var >= 0 ? colUb[var] : rowUb[-var-1]);
+	}
+
+	private void setStatus(int var, byte s){
+		if(var >= 0) colStatus[var]=s;
+		else rowStatus[-var-1]=s;
+	}
+
+	/**
+	 * Increases the capacity of the row arrays
+	 * @param capacity new capacity
+	 */
+	private void growRows(int capacity){
+		capacity=Math.max(capacity, 16);
+		rowLb=Arrays.copyOf(rowLb, capacity);
+		rowUb=Arrays.copyOf(rowUb, capacity);
+		rowValue=Arrays.copyOf(rowValue, capacity);
+		rowStatus=Arrays.copyOf(rowStatus, capacity);
+		head=Arrays.copyOf(head, capacity);
+		duals=Arrays.copyOf(duals, capacity);
+	}
+
+	/**
+	 * Increases the capacity of the column arrays
+	 * @param capacity new capacity
+	 */
+	private void growColumns(int capacity){
+		capacity=Math.max(capacity, 16);
+		colRows=Arrays.copyOf(colRows, capacity);
+		colValues=Arrays.copyOf(colValues, capacity);
+		cost=Arrays.copyOf(cost, capacity);
+		colLb=Arrays.copyOf(colLb, capacity);
+		colUb=Arrays.copyOf(colUb, capacity);
+		colValue=Arrays.copyOf(colValue, capacity);
+		colStatus=Arrays.copyOf(colStatus, capacity);
+	}
+}
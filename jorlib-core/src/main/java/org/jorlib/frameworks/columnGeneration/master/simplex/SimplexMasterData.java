@@ -0,0 +1,62 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SimplexMasterData.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.simplex;
+
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
+
+/**
+ * Master data object for Master Problems which are solved with the built-in {@link RevisedSimplex} solver. Every column is mapped
+ * to the index of its variable in the LP. Since the LP is accessible through this object, cut generators can add their inequalities
+ * directly to the LP through {@link RevisedSimplex#addRow(double, double, int[], double[], int)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class SimplexMasterData<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends MasterData<T, U, V, Integer>{
+
+	/** LP which models the master problem **/
+	public final RevisedSimplex lp;
+
+	/**
+	 * Creates a new SimplexMasterData object
+	 * @param varMap A double map which stores the variables. The first key is the pricing problem, the second key is a column and the value is the index of the column in the LP.
+	 * @param lp LP which models the master problem
+	 */
+	public SimplexMasterData(Map<V, IndexedMap<U, Integer>> varMap, RevisedSimplex lp){
+		super(varMap);
+		this.lp=lp;
+	}
+}
@@ -0,0 +1,76 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * Counter.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counter. Incrementing the counter is cheap, even when the counter is incremented by many threads concurrently.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class Counter {
+
+	/** Value of the counter **/
+	private final LongAdder value=new LongAdder();
+
+	/**
+	 * Increments the counter by one
+	 */
+	public void increment(){
+		value.increment();
+	}
+
+	/**
+	 * Increments the counter
+	 * @param delta amount by which the counter is incremented
+	 */
+	public void add(long delta){
+		value.add(delta);
+	}
+
+	/**
+	 * Returns the value of the counter
+	 * @return the value of the counter
+	 */
+	public long get(){
+		return value.sum();
+	}
+
+	/**
+	 * Resets the counter to 0
+	 */
+	public void reset(){
+		value.reset();
+	}
+
+	@Override
+	public String toString(){
+		return String.valueOf(get());
+	}
+}
@@ -0,0 +1,196 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * Histogram.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of non-negative values, typically durations in nanoseconds. Values are counted in logarithmic buckets: every power of 2 is divided into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so percentiles are reported with a relative error of at most 12.5%, while the histogram occupies a fixed amount of memory, regardless
+ * of the number of recorded values. The count, sum, minimum and maximum are exact. Recording a value does not allocate memory, nor does it acquire a lock.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class Histogram {
+
+	/** Number of sub-buckets in every power of 2 **/
+	private static final int SUB_BUCKETS=8;
+	/** log2(SUB_BUCKETS) **/
+	private static final int SUB_BUCKET_BITS=3;
+	/** Values smaller than this threshold are counted in a bucket of their own **/
+	private static final int LINEAR_LIMIT=2*SUB_BUCKETS;
+	/** Total number of buckets **/
+	private static final int NR_BUCKETS=LINEAR_LIMIT+(63-SUB_BUCKET_BITS-1)*SUB_BUCKETS;
+
+	/** Number of values in every bucket **/
+	private final AtomicLongArray buckets=new AtomicLongArray(NR_BUCKETS);
+	/** Number of recorded values **/
+	private final AtomicLong count=new AtomicLong();
+	/** Sum of the recorded values **/
+	private final AtomicLong sum=new AtomicLong();
+	/** Smallest recorded value **/
+	private final AtomicLong min=new AtomicLong(Long.MAX_VALUE);
+	/** Largest recorded value **/
+	private final AtomicLong max=new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * Records a value. Negative values are recorded as 0.
+	 * @param value value, e.g. a duration in nanoseconds
+	 */
+	public void record(long value){
+		if(value < 0)
+			value=0;
+		buckets.incrementAndGet(bucketOf(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+		long current;
+		while(value < (current=min.get()) && !min.compareAndSet(current, value));
+		while(value > (current=max.get()) && !max.compareAndSet(current, value));
+	}
+
+	/**
+	 * Returns the number of recorded values
+	 * @return the number of recorded values
+	 */
+	public long getCount(){
+		return count.get();
+	}
+
+	/**
+	 * Returns the sum of the recorded values
+	 * @return the sum of the recorded values
+	 */
+	public long getSum(){
+		return sum.get();
+	}
+
+	/**
+	 * Returns the smallest recorded value
+	 * @return the smallest recorded value, or 0 if no values have been recorded
+	 */
+	public long getMin(){
+		return (count.get() == 0 ? 0 : min.get());
+	}
+
+	/**
+	 * Returns the largest recorded value
+	 * @return the largest recorded value, or 0 if no values have been recorded
+	 */
+	public long getMax(){
+		return (count.get() == 0 ? 0 : max.get());
+	}
+
+	/**
+	 * Returns the mean of the recorded values
+	 * @return the mean of the recorded values, or 0 if no values have been recorded
+	 */
+	public double getMean(){
+		long n=count.get();
+		return (n == 0 ? 0 : (double)sum.get()/n);
+	}
+
+	/**
+	 * Returns an upper bound on the value below which the given percentage of the recorded values fall, e.g. {@code getValueAtPercentile(99)} returns the 99th percentile.
+	 * The bound exceeds the exact percentile by at most 12.5%, and never exceeds the largest recorded value.
+	 * @param percentile percentile, between 0 and 100
+	 * @return the value at the given percentile, or 0 if no values have been recorded
+	 */
+	public long getValueAtPercentile(double percentile){
+		if(percentile < 0 || percentile > 100)
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		long n=0;
+		long[] counts=new long[NR_BUCKETS];
+		for(int i=0; i<NR_BUCKETS; i++){
+			counts[i]=buckets.get(i);
+			n+=counts[i];
+		}
+		if(n == 0)
+			return 0;
+		long rank=Math.max(1, (long)Math.ceil(percentile/100.0*n));
+		long cumulative=0;
+		for(int i=0; i<NR_BUCKETS; i++){
+			cumulative+=counts[i];
+			if(cumulative >= rank)
+				return Math.max(Math.min(upperBoundOf(i), max.get()), min.get());
+		}
+		return max.get();
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of this histogram
+	 * @return snapshot
+	 */
+	public HistogramSnapshot snapshot(){
+		return new HistogramSnapshot(getCount(), getMean(), getMin(), getMax(), getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99), getValueAtPercentile(99.9));
+	}
+
+	/**
+	 * Removes all recorded values. Values which are recorded concurrently may be partially retained.
+	 */
+	public void reset(){
+		for(int i=0; i<NR_BUCKETS; i++)
+			buckets.set(i, 0);
+		count.set(0);
+		sum.set(0);
+		min.set(Long.MAX_VALUE);
+		max.set(Long.MIN_VALUE);
+	}
+
+	/**
+	 * Returns the bucket in which a value is counted
+	 * @param value non-negative value
+	 * @return index of the bucket
+	 */
+	static int bucketOf(long value){
+		if(value < LINEAR_LIMIT)
+			return (int)value;
+		int exponent=63-Long.numberOfLeadingZeros(value); //exponent >= SUB_BUCKET_BITS+1
+		int subBucket=(int)(value >>> (exponent-SUB_BUCKET_BITS)) & (SUB_BUCKETS-1);
+		return LINEAR_LIMIT+(exponent-SUB_BUCKET_BITS-1)*SUB_BUCKETS+subBucket;
+	}
+
+	/**
+	 * Returns the largest value which is counted in the given bucket
+	 * @param bucket index of the bucket
+	 * @return largest value in the bucket
+	 */
+	static long upperBoundOf(int bucket){
+		if(bucket < LINEAR_LIMIT)
+			return bucket;
+		int exponent=(bucket-LINEAR_LIMIT)/SUB_BUCKETS+SUB_BUCKET_BITS+1;
+		int subBucket=(bucket-LINEAR_LIMIT)%SUB_BUCKETS;
+		long lowerBound=((long)(SUB_BUCKETS+subBucket)) << (exponent-SUB_BUCKET_BITS);
+		return lowerBound+(1L << (exponent-SUB_BUCKET_BITS))-1;
+	}
+
+	@Override
+	public String toString(){
+		return "count: "+getCount()+" mean: "+getMean()+" min: "+getMin()+" max: "+getMax();
+	}
+}
@@ -0,0 +1,147 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * HistogramSnapshot.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Immutable summary of a {@link Histogram}. This class is exposed through JMX as composite data, see {@link MetricsMXBean}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class HistogramSnapshot {
+
+	/** Number of recorded values **/
+	private final long count;
+	/** Mean of the recorded values **/
+	private final double mean;
+	/** Smallest recorded value **/
+	private final long min;
+	/** Largest recorded value **/
+	private final long max;
+	/** 50th percentile **/
+	private final long p50;
+	/** 90th percentile **/
+	private final long p90;
+	/** 99th percentile **/
+	private final long p99;
+	/** 99.9th percentile **/
+	private final long p999;
+
+	/**
+	 * Creates a new snapshot
+	 * @param count number of recorded values
+	 * @param mean mean of the recorded values
+	 * @param min smallest recorded value
+	 * @param max largest recorded value
+	 * @param p50 50th percentile
+	 * @param p90 90th percentile
+	 * @param p99 99th percentile
+	 * @param p999 99.9th percentile
+	 */
+	@ConstructorProperties({"count", "mean", "min", "max", "p50", "p90", "p99", "p999"})
+	public HistogramSnapshot(long count, double mean, long min, long max, long p50, long p90, long p99, long p999){
+		this.count=count;
+		this.mean=mean;
+		this.min=min;
+		this.max=max;
+		this.p50=p50;
+		this.p90=p90;
+		this.p99=p99;
+		this.p999=p999;
+	}
+
+	/**
+	 * Returns the number of recorded values
+	 * @return the number of recorded values
+	 */
+	public long getCount(){
+		return count;
+	}
+
+	/**
+	 * Returns the mean of the recorded values
+	 * @return the mean of the recorded values
+	 */
+	public double getMean(){
+		return mean;
+	}
+
+	/**
+	 * Returns the smallest recorded value
+	 * @return the smallest recorded value
+	 */
+	public long getMin(){
+		return min;
+	}
+
+	/**
+	 * Returns the largest recorded value
+	 * @return the largest recorded value
+	 */
+	public long getMax(){
+		return max;
+	}
+
+	/**
+	 * Returns the 50th percentile (median)
+	 * @return the 50th percentile
+	 */
+	public long getP50(){
+		return p50;
+	}
+
+	/**
+	 * Returns the 90th percentile
+	 * @return the 90th percentile
+	 */
+	public long getP90(){
+		return p90;
+	}
+
+	/**
+	 * Returns the 99th percentile
+	 * @return the 99th percentile
+	 */
+	public long getP99(){
+		return p99;
+	}
+
+	/**
+	 * Returns the 99.9th percentile
+	 * @return the 99.9th percentile
+	 */
+	public long getP999(){
+		return p999;
+	}
+
+	@Override
+	public String toString(){
+		return "count: "+count+" mean: "+mean+" min: "+min+" p50: "+p50+" p90: "+p90+" p99: "+p99+" p99.9: "+p999+" max: "+max;
+	}
+}
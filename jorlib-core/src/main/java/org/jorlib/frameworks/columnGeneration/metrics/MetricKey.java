@@ -0,0 +1,109 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MetricKey.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Identifies a metric by its name and tags, e.g. {@code pricing.solve{pricingProblem=pp0,solver=ExactPricingProblemSolver}}. Tags are key-value pairs which identify
+ * the component being measured. Two keys are equal if they have the same name and the same tags, irrespective of the order in which the tags have been provided.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class MetricKey implements Comparable<MetricKey> {
+
+	/** Name of the metric **/
+	public final String name;
+	/** Tags, as alternating keys and values, sorted by key **/
+	private final String[] tags;
+	/** Textual representation of this key **/
+	private final String description;
+
+	/**
+	 * Creates a new key
+	 * @param name name of the metric
+	 * @param tags tags, as alternating keys and values, e.g. {@code "solver", "ExactPricingProblemSolver", "pricingProblem", "pp0"}
+	 */
+	public MetricKey(String name, String... tags){
+		if(tags.length % 2 != 0)
+			throw new IllegalArgumentException("Tags must be provided as key-value pairs");
+		this.name=name;
+		String[][] pairs=new String[tags.length/2][];
+		for(int i=0; i<pairs.length; i++)
+			pairs[i]=new String[]{tags[2*i], tags[2*i+1]};
+		Arrays.sort(pairs, (p1, p2) -> p1[0].compareTo(p2[0]));
+		this.tags=new String[tags.length];
+		StringBuilder builder=new StringBuilder(name);
+		for(int i=0; i<pairs.length; i++){
+			this.tags[2*i]=pairs[i][0];
+			this.tags[2*i+1]=pairs[i][1];
+			builder.append(i == 0 ? "{" : ",").append(pairs[i][0]).append("=").append(pairs[i][1]);
+		}
+		if(pairs.length > 0)
+			builder.append("}");
+		this.description=builder.toString();
+	}
+
+	/**
+	 * Returns the value of a tag
+	 * @param key key of the tag
+	 * @return value of the tag, or null if this key does not have the tag
+	 */
+	public String getTag(String key){
+		for(int i=0; i<tags.length; i+=2){
+			if(tags[i].equals(key))
+				return tags[i+1];
+		}
+		return null;
+	}
+
+	@Override
+	public boolean equals(Object o){
+		if(this==o)
+			return true;
+		else if(!(o instanceof MetricKey))
+			return false;
+		MetricKey other=(MetricKey) o;
+		return this.name.equals(other.name) && Arrays.equals(this.tags, other.tags);
+	}
+
+	@Override
+	public int hashCode(){
+		return 31*name.hashCode()+Arrays.hashCode(tags);
+	}
+
+	@Override
+	public int compareTo(MetricKey other){
+		return this.description.compareTo(other.description);
+	}
+
+	@Override
+	public String toString(){
+		return description;
+	}
+}
@@ -0,0 +1,56 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MetricsMXBean.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface through which the metrics of a {@link MetricsRegistry} are exposed through JMX, see {@link MetricsRegistry#registerMBean(String)}. The metrics
+ * can be inspected with any JMX client, e.g. JConsole or VisualVM, while the Column Generation or Branch-and-Price procedure is running.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public interface MetricsMXBean {
+
+	/**
+	 * Returns the values of all counters, indexed by the textual representation of their keys
+	 * @return the values of all counters
+	 */
+	Map<String, Long> getCounterValues();
+
+	/**
+	 * Returns snapshots of all histograms, indexed by the textual representation of their keys
+	 * @return snapshots of all histograms
+	 */
+	Map<String, HistogramSnapshot> getHistogramSnapshots();
+
+	/**
+	 * Resets all counters and histograms
+	 */
+	void reset();
+}
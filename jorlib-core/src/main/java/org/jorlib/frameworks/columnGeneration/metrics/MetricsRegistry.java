@@ -0,0 +1,179 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MetricsRegistry.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of counters and latency histograms. A registry can be passed to the Column Generation and Branch-and-Price procedures (e.g.
+ * {@link org.jorlib.frameworks.columnGeneration.colgenMain.ColGen#setMetricsRegistry(MetricsRegistry)}), which then record the following metrics. All durations are measured in nanoseconds.
+ * <ul>
+ * <li>{@value #MASTER_SOLVE}: time to solve the master problem, tagged by master</li>
+ * <li>{@value #PRICING_SOLVE}: time to solve a single pricing problem with a single solver, tagged by solver and pricing problem</li>
+ * <li>{@value #PRICING_COLUMNS}: number of columns generated, tagged by solver and pricing problem</li>
+ * <li>{@value #CUT_SEPARATION}: time spent by a cut generator to separate inequalities, tagged by cut generator</li>
+ * <li>{@value #CUTS_GENERATED}: number of inequalities separated, tagged by cut generator</li>
+ * <li>{@value #NODE_SWITCH}: time to prepare the data structures for the next node in the Branch-and-Price tree, tagged by node depth</li>
+ * <li>{@value #NODE_SOLVE}: time to solve a node in the Branch-and-Price tree through column generation, tagged by node depth</li>
+ * <li>{@value #BRANCHING}: time to create the child nodes of a node, tagged by branch creator and node depth</li>
+ * </ul>
+ * Metrics are created on first use, and can be inspected programmatically, or through JMX (see {@link #registerMBean(String)}). A single registry may be shared by many
+ * Column Generation and Branch-and-Price instances, in which case their metrics are aggregated.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class MetricsRegistry implements MetricsMXBean {
+
+	/** Time to solve the master problem **/
+	public static final String MASTER_SOLVE="master.solve";
+	/** Time to solve a pricing problem with a single solver **/
+	public static final String PRICING_SOLVE="pricing.solve";
+	/** Number of columns generated by a solver for a pricing problem **/
+	public static final String PRICING_COLUMNS="pricing.columns";
+	/** Time spent by a cut generator to separate inequalities **/
+	public static final String CUT_SEPARATION="cuts.separate";
+	/** Number of inequalities separated by a cut generator **/
+	public static final String CUTS_GENERATED="cuts.generated";
+	/** Time to prepare the data structures for the next node in the Branch-and-Price tree **/
+	public static final String NODE_SWITCH="bap.nodeSwitch";
+	/** Time to solve a node in the Branch-and-Price tree **/
+	public static final String NODE_SOLVE="bap.nodeSolve";
+	/** Time to create the child nodes of a node in the Branch-and-Price tree **/
+	public static final String BRANCHING="bap.branch";
+
+	/** Histograms **/
+	private final Map<MetricKey, Histogram> histograms=new ConcurrentHashMap<>();
+	/** Counters **/
+	private final Map<MetricKey, Counter> counters=new ConcurrentHashMap<>();
+	/** Name under which this registry has been registered with the platform MBean server, or null **/
+	private ObjectName objectName=null;
+
+	/**
+	 * Returns the histogram with the given name and tags. The histogram is created if it does not exist yet. Callers which record values frequently should
+	 * hold on to the histogram, rather than looking it up every time.
+	 * @param name name of the metric
+	 * @param tags tags, as alternating keys and values
+	 * @return histogram
+	 */
+	public Histogram histogram(String name, String... tags){
+		return histograms.computeIfAbsent(new MetricKey(name, tags), key -> new Histogram());
+	}
+
+	/**
+	 * Returns the counter with the given name and tags. The counter is created if it does not exist yet.
+	 * @param name name of the metric
+	 * @param tags tags, as alternating keys and values
+	 * @return counter
+	 */
+	public Counter counter(String name, String... tags){
+		return counters.computeIfAbsent(new MetricKey(name, tags), key -> new Counter());
+	}
+
+	/**
+	 * Returns all histograms, sorted by key
+	 * @return unmodifiable map of histograms
+	 */
+	public Map<MetricKey, Histogram> getHistograms(){
+		return Collections.unmodifiableMap(new TreeMap<>(histograms));
+	}
+
+	/**
+	 * Returns all counters, sorted by key
+	 * @return unmodifiable map of counters
+	 */
+	public Map<MetricKey, Counter> getCounters(){
+		return Collections.unmodifiableMap(new TreeMap<>(counters));
+	}
+
+	@Override
+	public Map<String, Long> getCounterValues(){
+		Map<String, Long> values=new TreeMap<>();
+		for(Map.Entry<MetricKey, Counter> entry : counters.entrySet())
+			values.put(entry.getKey().toString(), entry.getValue().get());
+		return values;
+	}
+
+	@Override
+	public Map<String, HistogramSnapshot> getHistogramSnapshots(){
+		Map<String, HistogramSnapshot> snapshots=new TreeMap<>();
+		for(Map.Entry<MetricKey, Histogram> entry : histograms.entrySet())
+			snapshots.put(entry.getKey().toString(), entry.getValue().snapshot());
+		return snapshots;
+	}
+
+	@Override
+	public void reset(){
+		for(Histogram histogram : histograms.values())
+			histogram.reset();
+		for(Counter counter : counters.values())
+			counter.reset();
+	}
+
+	/**
+	 * Registers this registry with the platform MBean server, under the name {@code org.jorlib:type=Metrics,name=<name>}. A registry can only be registered once.
+	 * @param name name which distinguishes this registry from other registries
+	 * @return the object name under which the registry has been registered
+	 */
+	public synchronized ObjectName registerMBean(String name){
+		if(objectName != null)
+			throw new IllegalStateException("Registry has already been registered as "+objectName);
+		try {
+			ObjectName objectName=ObjectName.getInstance("org.jorlib:type=Metrics,name="+ObjectName.quote(name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+			this.objectName=objectName;
+			return objectName;
+		} catch (JMException e) {
+			throw new RuntimeException("Failed to register metrics registry "+name, e);
+		}
+	}
+
+	/**
+	 * Unregisters this registry from the platform MBean server. Does nothing if the registry has not been registered.
+	 */
+	public synchronized void unregisterMBean(){
+		if(objectName == null)
+			return;
+		try {
+			MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			if(server.isRegistered(objectName))
+				server.unregisterMBean(objectName);
+		} catch (JMException e) {
+			throw new RuntimeException("Failed to unregister metrics registry "+objectName, e);
+		} finally {
+			objectName=null;
+		}
+	}
+}
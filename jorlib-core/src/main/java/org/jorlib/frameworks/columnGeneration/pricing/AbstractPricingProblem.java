@@ -55,7 +55,11 @@ public abstract class AbstractPricingProblem<T> implements BranchingDecisionList
 	/** Array containing dual information coming from the master problem **/
 	public double[] dualCosts;
 
-	/** Variable containing dual information coming from the master problem **/
+	/**
+	 * Variable containing dual information coming from the master problem. When the master problem declares a convexity constraint for this pricing problem
+	 * (see {@link org.jorlib.frameworks.columnGeneration.master.AbstractMaster#getConvexityConstraintCount(AbstractPricingProblem)}), this field must hold the dual value of that constraint,
+	 * with a sign such that a column of this pricing problem is attractive iff {@code p + dualCost > 0}, where {@code p} is the objective of the pricing problem solver.
+	 **/
 	public double dualCost;
 
 	/**
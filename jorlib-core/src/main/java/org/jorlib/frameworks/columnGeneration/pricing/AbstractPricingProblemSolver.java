@@ -109,6 +109,16 @@ public abstract class AbstractPricingProblemSolver<T,U extends AbstractColumn<T,
 	 */
 	protected abstract List<U> generateNewColumns() throws TimeLimitExceededException;
 	
+	/**
+	 * Returns whether the solver has been cancelled. The {@link PricingProblemManager} cancels the remaining solver instances as soon as sufficient columns have been found
+	 * by interrupting the threads executing them. Long running solvers should invoke this method periodically, and return as soon as it returns true. The columns
+	 * generated by a cancelled solver are discarded.
+	 * @return true if the solver has been cancelled
+	 */
+	protected boolean isCancelled(){
+		return Thread.currentThread().isInterrupted();
+	}
+
 	/**
 	 * Returns the name of the pricing problem
 	 * @return name of the solver
@@ -127,7 +137,9 @@ public abstract class AbstractPricingProblemSolver<T,U extends AbstractColumn<T,
 	
 	/**
 	 * Returns the cost of the most negative reduced cost column. If the pricing problem is an maximization problem, then any feasible solution is
-	 * a lower bound.
+	 * a lower bound. When the master problem declares a convexity constraint for the pricing problem (see
+	 * {@link org.jorlib.frameworks.columnGeneration.master.AbstractMaster#getConvexityConstraintCount(AbstractPricingProblem)}), the objective must be reported such that the most attractive
+	 * column is attractive iff {@code getObjective() + pricingProblem.dualCost > 0}; the default Lagrangian bound of ColGen relies on this sign.
 	 * @return Objective value of the pricing problem.
 	 */
 	public double getObjective(){
@@ -27,22 +27,31 @@
 package org.jorlib.frameworks.columnGeneration.pricing;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.io.jfr.JFREvents;
+import org.jorlib.frameworks.columnGeneration.metrics.Counter;
+import org.jorlib.frameworks.columnGeneration.metrics.Histogram;
+import org.jorlib.frameworks.columnGeneration.metrics.MetricsRegistry;
+import org.jorlib.frameworks.columnGeneration.pricing.execution.PricingExecutor;
+import org.jorlib.frameworks.columnGeneration.pricing.execution.TaskGroup;
+import org.jorlib.frameworks.columnGeneration.pricing.scheduling.AbstractSolverScheduler;
 import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Class which takes care of the parallel execution of the algorithms for the pricing problems.
+ * Class which takes care of the parallel execution of the algorithms for the pricing problems. The solver instances are executed by a {@link PricingExecutor}.
+ * Unless an executor is provided through {@link #setPricingExecutor(PricingExecutor)}, the manager creates a fixed thread pool consisting of {@link Configuration#MAXTHREADS} threads.
+ * When a solver is invoked on a single pricing problem only, the solver is executed on the calling thread instead (see {@link #setInlineSingleInstance(boolean)}).
  * 
  * @author Joris Kinable
  * @version 13-4-2015
@@ -54,6 +63,8 @@ import org.jorlib.frameworks.columnGeneration.util.Configuration;
  */
 public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
 
+	/** Logger for this class **/
+	private static final Logger logger=LoggerFactory.getLogger(PricingProblemManager.class);
 	/** Configuration file **/
 	private static final Configuration config=Configuration.getConfiguration();
 
@@ -70,10 +81,24 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 	 */
 	private final Map<AbstractPricingProblemSolver<T, U, V>, Callable<Double>> ppBoundTasks;
 
-	/** Executors **/
-	private final ExecutorService executor;
-	/** Futures **/
-	private final List<Future<Void>> futures;
+	/** Executes the pricing problem solvers. The executor is created on first use, unless an executor has been provided **/
+	private PricingExecutor pricingExecutor=null;
+	/** Indicates whether the executor has been created by this manager, in which case it is shut down when the manager is closed **/
+	private boolean ownsPricingExecutor=false;
+	/** Future point in time by which the pricing problems must be solved **/
+	private long timeLimit=Long.MAX_VALUE;
+	/** The remaining pricing problems are cancelled once this number of columns has been found **/
+	private int quickReturnColumns=config.PRICING_QUICK_RETURN_COLUMNS;
+	/** The remaining pricing problems are cancelled once this fraction of the pricing problems has been solved, provided that at least one column has been found **/
+	private double quickReturnFraction=config.PRICING_QUICK_RETURN_FRACTION;
+	/** Indicates whether all pricing problems have been solved during the last invocation of solvePricingProblems, i.e. no pricing problems have been cancelled **/
+	private boolean lastInvocationComplete=true;
+	/** Indicates whether a solver which is invoked on a single pricing problem is executed on the calling thread instead of the executor **/
+	private boolean inlineSingleInstance=config.PRICING_INLINE_SINGLE_INSTANCE;
+	/** Histogram of the solve times of every solver instance. Empty when no metrics registry has been provided **/
+	private Map<AbstractPricingProblemSolver<T, U, V>, Histogram> solveTimeHistograms=Collections.emptyMap();
+	/** Counter of the columns generated by every solver instance. Empty when no metrics registry has been provided **/
+	private Map<AbstractPricingProblemSolver<T, U, V>, Counter> columnCounters=Collections.emptyMap();
 	
 	/**
 	 * Creates a new pricing problem manager
@@ -96,10 +121,6 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 				ppBoundTasks.put(solver, task);
 			}
 		}
-		
-		//Define workers
-		executor = Executors.newFixedThreadPool(config.MAXTHREADS); //Creates a threat pool consisting of MAXTHREADS threats
-		futures=new ArrayList<>(pricingProblems.size());
 	}
 	
 	/**
@@ -109,39 +130,155 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 	 * @throws TimeLimitExceededException exception thrown when timelimit is exceeded.
 	 */
 	public List<U> solvePricingProblems(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver) throws TimeLimitExceededException{
+		return this.solvePricingProblems(solver, null);
+	}
+
+	/**
+	 * Solve the pricing problems in parallel. If a scheduler is provided, the solver is only invoked on the pricing problems for which it is scheduled (see {@link AbstractSolverScheduler#isScheduled(Class, AbstractPricingProblem)}),
+	 * within the time budget determined by the scheduler. A solver instance which exceeds its time budget (but not the overall time limit) is aborted, and treated as if it did not
+	 * generate any columns. The outcome of every invocation is reported to the scheduler.<br>
+	 * The results of the solver instances are collected in the order in which the instances finish. As soon as at least one column has been found, and either the number of
+	 * columns reaches {@link #setQuickReturn(int, double) quickReturnColumns}, or the fraction of solved pricing problems reaches {@link #setQuickReturn(int, double) quickReturnFraction},
+	 * the remaining solver instances are cancelled: instances which have not been started yet are never started, and the threads executing the other instances are interrupted
+	 * (see {@link AbstractPricingProblemSolver#isCancelled()}). This method returns once all cancelled instances have stopped. The columns of cancelled instances are discarded.
+	 * Similarly, when a solver instance exceeds the time limit, the remaining solver instances are cancelled before the exception is propagated.<br>
+	 * When the solver is scheduled for a single pricing problem only, the solver instance is executed on the calling thread (see {@link #setInlineSingleInstance(boolean)}).
+	 * @param solver the solver which should be used to solve the pricing problem(s)
+	 * @param scheduler scheduler, may be null
+	 * @return List of columns which have been generated by the solvers. The list is aggregated over each pricing problem..
+	 * @throws TimeLimitExceededException exception thrown when timelimit is exceeded.
+	 */
+	public List<U> solvePricingProblems(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, AbstractSolverScheduler<T, U, V> scheduler) throws TimeLimitExceededException{
 		PricingProblemBundle<T, U, V> bundle=pricingProblemBundles.get(solver);
-		
-		//1. schedule pricing problems
+		List<AbstractPricingProblemSolver<T, U, V>> scheduledInstances=new ArrayList<>(bundle.solverInstances.size());
 		for(AbstractPricingProblemSolver<T, U, V> solverInstance : bundle.solverInstances){
-			Future<Void> f=executor.submit(solverInstance);
-        	futures.add(f);
+			if(scheduler == null || scheduler.isScheduled(solver, solverInstance.pricingProblem))
+				scheduledInstances.add(solverInstance);
 		}
+		long[] solveTimes=new long[scheduledInstances.size()];
+		boolean[] budgetExceeded=new boolean[scheduledInstances.size()];
+		boolean[] completed=new boolean[scheduledInstances.size()];
+		int nrCompleted=0;
+		TaskGroup<Integer> taskGroup=null;
 		
-		//2. Wait for completion and check whether any of the threads has thrown an exception which needs to be handled upstream
-		for(Future<Void> f: futures){
+		if(inlineSingleInstance && scheduledInstances.size() == 1){
+			//Fast path: solve the only scheduled instance on the current thread, thereby avoiding the handoff to the executor
 			try {
-				f.get(); //get() is a blocking procedure
-			} catch (ExecutionException e) {
-				if(e.getCause() instanceof TimeLimitExceededException){
-					this.shutdownAndAwaitTermination(executor); //Shut down the executor.
-					throw (TimeLimitExceededException)e.getCause(); //Propagate the exception
-				}else
-					e.printStackTrace();
-				
-			} catch (InterruptedException e) {
-				e.printStackTrace();
+				this.solveInstance(scheduledInstances.get(0), this.getTimeBudget(solver, scheduledInstances.get(0), scheduler), 0, solveTimes, budgetExceeded);
+				completed[0]=true;
+				nrCompleted++;
+			} catch (TimeLimitExceededException e) {
+				lastInvocationComplete=false;
+				throw e; //Propagate the exception
+			} catch (Exception e) {
+				logger.error("Solver "+solver.getSimpleName()+" failed on pricing problem "+scheduledInstances.get(0).pricingProblem, e);
+			}
+		}else{
+			taskGroup=this.getPricingExecutor().newTaskGroup();
+			
+			//1. schedule pricing problems
+			for(int i=0; i<scheduledInstances.size(); i++){
+				AbstractPricingProblemSolver<T, U, V> solverInstance=scheduledInstances.get(i);
+				long timeBudget=this.getTimeBudget(solver, solverInstance, scheduler);
+				int index=i;
+				taskGroup.submit(() -> this.solveInstance(solverInstance, timeBudget, index, solveTimes, budgetExceeded));
+			}
+			
+			//2. Wait for completion, in the order in which the tasks finish, and check whether any of the threads has thrown an exception which needs to be handled upstream
+			int nrColumns=0;
+			int nrRequired=(int)Math.ceil(quickReturnFraction*scheduledInstances.size());
+			for(int i=0; i<scheduledInstances.size(); i++){
+				try {
+					int index=taskGroup.take().get(); //take() is a blocking procedure
+					completed[index]=true;
+					nrCompleted++;
+					nrColumns+=scheduledInstances.get(index).getColumns().size();
+				} catch (ExecutionException e) {
+					if(e.getCause() instanceof TimeLimitExceededException){
+						taskGroup.cancel(); //Cancel the remaining pricing problems. The executor remains available.
+						lastInvocationComplete=false;
+						throw (TimeLimitExceededException)e.getCause(); //Propagate the exception
+					}else
+						logger.error("Pricing problem solver failed", e.getCause());
+					
+				} catch (InterruptedException e) {
+					logger.error("Interrupted while waiting for the pricing problem solvers", e);
+					Thread.currentThread().interrupt(); //Preserve interrupt status and stop waiting
+					break;
+				}
+				if(nrColumns > 0 && (nrColumns >= quickReturnColumns || nrCompleted >= nrRequired))
+					break;
 			}
 		}
+		lastInvocationComplete=(nrCompleted == scheduledInstances.size());
 		
-		//3. Collect and return results
+		//3. Cancel the remaining tasks and wait until the running tasks have responded to the interrupt
+		if(!lastInvocationComplete && taskGroup != null)
+			taskGroup.cancel();
+		
+		//4. Collect and return results
 		List<U> newColumns=new ArrayList<>();
-		for(AbstractPricingProblemSolver<T, U, V> solverInstance : bundle.solverInstances){
+		for(int i=0; i<scheduledInstances.size(); i++){
+			if(!completed[i])
+				continue;
+			AbstractPricingProblemSolver<T, U, V> solverInstance=scheduledInstances.get(i);
 			newColumns.addAll(solverInstance.getColumns());
+			Counter columnCounter=columnCounters.get(solverInstance);
+			if(columnCounter != null)
+				columnCounter.add(solverInstance.getColumns().size());
+			if(scheduler != null)
+				scheduler.solverInvoked(solver, solverInstance.pricingProblem, solverInstance.getColumns().size(), solveTimes[i], budgetExceeded[i]);
 		}
 		
 		return newColumns;
 	}
 	
+	/**
+	 * Solves a single solver instance within its time budget. A solver instance which exceeds its time budget, but not the overall time limit, is treated as if it did not
+	 * generate any columns.
+	 * @param solverInstance solver instance
+	 * @param timeBudget time budget (ms), or {@code Long.MAX_VALUE} if the instance has no time budget
+	 * @param index index of the instance among the scheduled instances
+	 * @param solveTimes array in which the solve time of the instance is stored
+	 * @param budgetExceeded array in which is stored whether the instance exceeded its time budget
+	 * @return index of the instance
+	 * @throws Exception exception thrown by the solver instance, including a TimeLimitExceededException when the overall time limit is exceeded
+	 */
+	private int solveInstance(AbstractPricingProblemSolver<T, U, V> solverInstance, long timeBudget, int index, long[] solveTimes, boolean[] budgetExceeded) throws Exception{
+		long time=System.currentTimeMillis();
+		long start=System.nanoTime();
+		Object jfrEvent=JFREvents.beginPricing();
+		if(timeBudget != Long.MAX_VALUE)
+			solverInstance.setTimeLimit(Math.min(timeLimit, time+timeBudget));
+		try{
+			solverInstance.call();
+		}catch(TimeLimitExceededException e){
+			if(timeBudget == Long.MAX_VALUE || System.currentTimeMillis() >= timeLimit)
+				throw e;
+			budgetExceeded[index]=true; //Time budget exceeded: no columns have been generated
+		}finally{
+			solverInstance.setTimeLimit(timeLimit);
+			solveTimes[index]=System.currentTimeMillis()-time;
+			Histogram solveTimeHistogram=solveTimeHistograms.get(solverInstance);
+			if(solveTimeHistogram != null)
+				solveTimeHistogram.record(System.nanoTime()-start);
+			if(jfrEvent != null)
+				JFREvents.commitPricing(jfrEvent, solverInstance.getName(), solverInstance.pricingProblem.name, (budgetExceeded[index] ? 0 : solverInstance.getColumns().size()));
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the time budget of a solver instance
+	 * @param solver solver
+	 * @param solverInstance solver instance
+	 * @param scheduler scheduler, may be null
+	 * @return time budget (ms), or {@code Long.MAX_VALUE} if the instance has no time budget
+	 */
+	private long getTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, AbstractPricingProblemSolver<T, U, V> solverInstance, AbstractSolverScheduler<T, U, V> scheduler){
+		return (scheduler == null ? Long.MAX_VALUE : scheduler.getTimeBudget(solver, solverInstance.pricingProblem));
+	}
+	
 	/**
 	 * Invokes {@link AbstractPricingProblemSolver#getBound()}  getUpperBound} in parallel for all pricing problems defined.
 	 * @param solver the solver on which {@link AbstractPricingProblemSolver#getBound()}  getUpperBound} is invoked.
@@ -151,11 +288,21 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 		//Get the bunddle of solverInstances corresponding to the solverID
 		PricingProblemBundle<T, U, V> bunddle=pricingProblemBundles.get(solver);
 		double[] bounds=new double[bunddle.solverInstances.size()];
+		if(inlineSingleInstance && bounds.length == 1){
+			//Fast path: compute the bound on the current thread
+			try {
+				bounds[0]=ppBoundTasks.get(bunddle.solverInstances.get(0)).call();
+			} catch (Exception e) {
+				logger.error("Failed to compute the bound on pricing problem "+bunddle.solverInstances.get(0).pricingProblem, e);
+			}
+			return bounds;
+		}
 		//Submit all the relevant getUpperBound() tasks to the executor
+		TaskGroup<Double> taskGroup=this.getPricingExecutor().newTaskGroup();
 		List<Future<Double>> futureList=new ArrayList<>();
 		for(AbstractPricingProblemSolver<T, U, V> solverInstance : bunddle.solverInstances){
 			Callable<Double> task=ppBoundTasks.get(solverInstance);
-			Future<Double> f=executor.submit(task);
+			Future<Double> f=taskGroup.submit(task);
 			futureList.add(f);
 		}
 		//Query the results of each task one by one
@@ -163,17 +310,69 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 			try {
 				bounds[i]=futureList.get(i).get(); //Get result, note that this is a blocking procedure!
 			} catch (InterruptedException | ExecutionException e) {
-				e.printStackTrace();
+				logger.error("Failed to compute the bound on pricing problem "+bunddle.solverInstances.get(i).pricingProblem, e);
 			}
 		}
 		return bounds;
 	}
 	
+	/**
+	 * Returns the objective values of the pricing problems, as obtained by the given solver during its last invocation (see {@link AbstractPricingProblemSolver#getObjective()}).
+	 * The objectives are returned in the same order as the pricing problems. For pricing problems which are infeasible, {@code -Double.MAX_VALUE} is returned.
+	 * @param solver the solver which has been used to solve the pricing problems
+	 * @return array containing the objective of each pricing problem
+	 */
+	public double[] getObjectivesOfPricingProblems(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver){
+		PricingProblemBundle<T, U, V> bundle=pricingProblemBundles.get(solver);
+		double[] objectives=new double[bundle.solverInstances.size()];
+		for(int i=0; i<objectives.length; i++){
+			AbstractPricingProblemSolver<T, U, V> solverInstance=bundle.solverInstances.get(i);
+			objectives[i]=(solverInstance.pricingProblemIsFeasible() ? solverInstance.getObjective() : -Double.MAX_VALUE);
+		}
+		return objectives;
+	}
+
+	/**
+	 * Defines when the remaining pricing problems are cancelled. Once at least one column has been found, the remaining pricing problems are cancelled as soon as either
+	 * the number of columns found reaches quickReturnColumns, or the fraction of pricing problems which have been solved reaches quickReturnFraction. Use
+	 * {@code Integer.MAX_VALUE} and 1 respectively to always solve all pricing problems. The default values are taken from the {@link Configuration}.
+	 * @param quickReturnColumns number of columns after which the remaining pricing problems are cancelled
+	 * @param quickReturnFraction fraction of pricing problems, in (0,1], after which the remaining pricing problems are cancelled
+	 */
+	public void setQuickReturn(int quickReturnColumns, double quickReturnFraction){
+		if(quickReturnColumns < 1)
+			throw new IllegalArgumentException("quickReturnColumns must be at least 1");
+		if(quickReturnFraction <= 0 || quickReturnFraction > 1)
+			throw new IllegalArgumentException("quickReturnFraction must be in (0,1]");
+		this.quickReturnColumns=quickReturnColumns;
+		this.quickReturnFraction=quickReturnFraction;
+	}
+
+	/**
+	 * Returns whether all pricing problems have been solved during the last invocation of {@link #solvePricingProblems(Class, AbstractSolverScheduler)}, i.e. whether no
+	 * pricing problems have been cancelled. When pricing problems have been cancelled, their objectives are not available, and hence no bound on the master objective can be computed.
+	 * @return true if no pricing problems have been cancelled during the last invocation
+	 */
+	public boolean isLastInvocationComplete(){
+		return lastInvocationComplete;
+	}
+
+	/**
+	 * Defines whether a solver which is invoked on a single pricing problem only is executed on the thread which invokes the pricing problems, rather than being submitted to
+	 * the executor. Executing the solver on the calling thread avoids a thread handoff in every iteration, which dominates the solve time of small pricing problems. The time limit,
+	 * time budgets and exceptions are handled identically on both paths. The default value is taken from the {@link Configuration}.
+	 * @param inlineSingleInstance true if a single solver instance must be executed on the calling thread
+	 */
+	public void setInlineSingleInstance(boolean inlineSingleInstance){
+		this.inlineSingleInstance=inlineSingleInstance;
+	}
+
 	/**
 	 * Future point in time when the pricing problem must be finished
 	 * @param timeLimit set time limit for each solver (future point in time).
 	 */
 	public void setTimeLimit(long timeLimit){
+		this.timeLimit=timeLimit;
 		for(PricingProblemBundle<T, U, V> bunddle : pricingProblemBundles.values()){
 			for(AbstractPricingProblemSolver<T, U, V> solverInstance : bunddle.solverInstances){
 				solverInstance.setTimeLimit(timeLimit);
@@ -182,28 +381,61 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 	}
 	
 	/**
-	 * Shut down the executors
-	 */
-	private void shutdownAndAwaitTermination(ExecutorService pool) {
-		// Prevent new tasks from being submitted
-		pool.shutdownNow(); 
-		try {
-			// Wait a while for tasks to respond to being cancelled
-			if (!pool.awaitTermination(60, TimeUnit.SECONDS))
-				System.err.println("Pool did not terminate");
-		} catch (InterruptedException ie) {
-			// (Re-)Cancel if current thread also interrupted
-			pool.shutdownNow();
-			// Preserve interrupt nodeStatus
-			Thread.currentThread().interrupt();
+	 * Sets the registry in which the solve time (see {@link MetricsRegistry#PRICING_SOLVE}) and the number of generated columns (see {@link MetricsRegistry#PRICING_COLUMNS})
+	 * of every solver instance are recorded, tagged by solver and pricing problem.
+	 * @param metricsRegistry registry, or null to disable the metrics
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry){
+		if(metricsRegistry == null){
+			solveTimeHistograms=Collections.emptyMap();
+			columnCounters=Collections.emptyMap();
+			return;
+		}
+		Map<AbstractPricingProblemSolver<T, U, V>, Histogram> histograms=new HashMap<>();
+		Map<AbstractPricingProblemSolver<T, U, V>, Counter> counters=new HashMap<>();
+		for(PricingProblemBundle<T, U, V> bundle : pricingProblemBundles.values()){
+			for(AbstractPricingProblemSolver<T, U, V> solverInstance : bundle.solverInstances){
+				String[] tags={"solver", bundle.pricingSolver.getSimpleName(), "pricingProblem", solverInstance.pricingProblem.name};
+				histograms.put(solverInstance, metricsRegistry.histogram(MetricsRegistry.PRICING_SOLVE, tags));
+				counters.put(solverInstance, metricsRegistry.counter(MetricsRegistry.PRICING_COLUMNS, tags));
+			}
+		}
+		solveTimeHistograms=histograms;
+		columnCounters=counters;
+	}
+
+	/**
+	 * Sets the executor which executes the pricing problem solvers. The executor may be shared with other managers, and is not shut down when this manager is closed.
+	 * If this manager created its own executor, that executor is shut down.
+	 * @param pricingExecutor executor
+	 */
+	public void setPricingExecutor(PricingExecutor pricingExecutor){
+		if(pricingExecutor == null)
+			throw new IllegalArgumentException("Executor cannot be null");
+		if(ownsPricingExecutor)
+			this.pricingExecutor.shutdown();
+		this.pricingExecutor=pricingExecutor;
+		this.ownsPricingExecutor=false;
+	}
+
+	/**
+	 * Returns the executor which executes the pricing problem solvers. If no executor has been provided, a fixed thread pool consisting of {@link Configuration#MAXTHREADS} threads is created.
+	 * @return executor
+	 */
+	public PricingExecutor getPricingExecutor(){
+		if(pricingExecutor == null){
+			pricingExecutor=PricingExecutor.fixedThreadPool(config.MAXTHREADS);
+			ownsPricingExecutor=true;
 		}
+		return pricingExecutor;
 	}
 	
 	/**
 	 * Close the pricing problems
 	 */
 	public void close(){
-		executor.shutdownNow();
+		if(ownsPricingExecutor)
+			pricingExecutor.shutdown();
 		//Close pricing problems
 		for(PricingProblemBundle<T, U, V> bunddle : pricingProblemBundles.values()){
 			for(AbstractPricingProblemSolver<T, U, V> solverInstance : bunddle.solverInstances){
@@ -211,6 +443,5 @@ public class PricingProblemManager<T, U extends AbstractColumn<T, V>, V extends
 			}
 		}
 	}
-
 }
 
@@ -0,0 +1,184 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingExecutor.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.execution;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the pricing problem solvers. Every invocation of the pricing problems submits its tasks to a separate {@link TaskGroup}, which can be cancelled without affecting
+ * the executor. An executor can therefore be shared among many {@link org.jorlib.frameworks.columnGeneration.colgenMain.ColGen ColGen} and
+ * {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice AbstractBranchAndPrice} instances, and survives a time limit being exceeded.
+ * The following strategies are available:
+ * <ul>
+ * <li>{@link #fixedThreadPool(int)}: a fixed number of threads (default strategy).</li>
+ * <li>{@link #workStealingPool(int)}: a work-stealing {@link ForkJoinPool}, which balances the load between threads when the solve times of the pricing problems vary.</li>
+ * <li>{@link #threadPerTask()}: a new thread for every task. On a Java runtime which supports virtual threads, a virtual thread is used for every task. Otherwise, idle threads are reused.</li>
+ * <li>{@link #callerRuns()}: every task is executed by the thread which submits the task. This avoids any synchronization overhead when there is only a single pricing problem.</li>
+ * </ul>
+ * All threads created by the executors are daemon threads. The owner of an executor must invoke {@link #shutdown()} when the executor is no longer needed.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class PricingExecutor {
+
+	/** Counter used to name the threads **/
+	private static final AtomicInteger threadCounter=new AtomicInteger();
+
+	/** Name of the strategy **/
+	private final String name;
+	/** Executes the tasks **/
+	private final Executor executor;
+	/** Executor service which must be shut down, or null if the executor does not own any threads **/
+	private final ExecutorService executorService;
+
+	/**
+	 * Creates a new executor
+	 * @param name name of the strategy
+	 * @param executor executes the tasks
+	 * @param executorService executor service which must be shut down, or null
+	 */
+	private PricingExecutor(String name, Executor executor, ExecutorService executorService){
+		this.name=name;
+		this.executor=executor;
+		this.executorService=executorService;
+	}
+
+	/**
+	 * Creates an executor which executes the tasks on a fixed number of threads
+	 * @param nrThreads number of threads
+	 * @return executor
+	 */
+	public static PricingExecutor fixedThreadPool(int nrThreads){
+		if(nrThreads < 1)
+			throw new IllegalArgumentException("At least one thread is required");
+		ExecutorService executorService=Executors.newFixedThreadPool(nrThreads, PricingExecutor::newDaemonThread);
+		return new PricingExecutor("fixedThreadPool("+nrThreads+")", executorService, executorService);
+	}
+
+	/**
+	 * Creates an executor which executes the tasks on a work-stealing {@link ForkJoinPool}
+	 * @param parallelism targeted number of threads
+	 * @return executor
+	 */
+	public static PricingExecutor workStealingPool(int parallelism){
+		if(parallelism < 1)
+			throw new IllegalArgumentException("Parallelism must be at least 1");
+		ForkJoinPool.ForkJoinWorkerThreadFactory factory=pool -> {
+			ForkJoinWorkerThread thread=ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("pricing-"+threadCounter.incrementAndGet());
+			return thread; //Worker threads of a ForkJoinPool are daemon threads
+		};
+		ExecutorService executorService=new ForkJoinPool(parallelism, factory, null, true);
+		return new PricingExecutor("workStealingPool("+parallelism+")", executorService, executorService);
+	}
+
+	/**
+	 * Creates an executor which executes every task on a new thread. If the Java runtime supports virtual threads, every task is executed on a new virtual thread.
+	 * Otherwise, a new (daemon) thread is created for every task, unless an idle thread is available.
+	 * @return executor
+	 */
+	public static PricingExecutor threadPerTask(){
+		try {
+			ExecutorService executorService=(ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			return new PricingExecutor("virtualThreadPerTask", executorService, executorService);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			//Virtual threads are not supported by this Java runtime
+			ExecutorService executorService=Executors.newCachedThreadPool(PricingExecutor::newDaemonThread);
+			return new PricingExecutor("threadPerTask", executorService, executorService);
+		}
+	}
+
+	/**
+	 * Creates an executor which executes every task on the thread which submits the task. Since a task has completed by the time it has been submitted,
+	 * tasks cannot be cancelled.
+	 * @return executor
+	 */
+	public static PricingExecutor callerRuns(){
+		return new PricingExecutor("callerRuns", Runnable::run, null);
+	}
+
+	/**
+	 * Creates a new group of tasks, see {@link TaskGroup}
+	 * @param <R> type of the result of the tasks
+	 * @return task group
+	 */
+	public <R> TaskGroup<R> newTaskGroup(){
+		if(this.isShutdown())
+			throw new IllegalStateException("Executor has been shut down");
+		return new TaskGroup<>(executor);
+	}
+
+	/**
+	 * Returns whether the executor executes the tasks on the thread which submits the tasks
+	 * @return true if the tasks are executed by the submitting thread
+	 */
+	public boolean isCallerRuns(){
+		return executorService == null;
+	}
+
+	/**
+	 * Shuts down the executor. Running tasks are interrupted.
+	 */
+	public void shutdown(){
+		if(executorService != null)
+			executorService.shutdownNow();
+	}
+
+	/**
+	 * Returns whether the executor has been shut down
+	 * @return true if the executor has been shut down
+	 */
+	public boolean isShutdown(){
+		return executorService != null && executorService.isShutdown();
+	}
+
+	/**
+	 * Returns the name of the strategy
+	 * @return the name of the strategy
+	 */
+	public String getName(){
+		return name;
+	}
+
+	@Override
+	public String toString(){
+		return name;
+	}
+
+	/**
+	 * Creates a new daemon thread
+	 * @param r runnable
+	 * @return thread
+	 */
+	private static Thread newDaemonThread(Runnable r){
+		Thread thread=new Thread(r, "pricing-"+threadCounter.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -0,0 +1,159 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TaskGroup.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.execution;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Group of tasks which are submitted to a {@link PricingExecutor} during a single invocation of the pricing problems. The results of the tasks can be retrieved
+ * in the order in which the tasks complete. A task group can be cancelled without affecting the executor, nor any other task groups which are executed by the same
+ * executor: tasks in the group which have not been started yet are never started, and the threads executing the other tasks in the group are interrupted.
+ * <p>
+ * A task group is used by a single thread, i.e. the thread which submits the tasks. The tasks themselves are executed by the executor.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <R> type of the result of the tasks
+ */
+public final class TaskGroup<R> {
+
+	/** Collects the completed tasks **/
+	private final CompletionService<R> completionService;
+	/** Futures of the tasks in this group **/
+	private final List<Future<R>> futures=new ArrayList<>();
+	/** Threads which are currently executing a task of this group **/
+	private final Set<Thread> runningThreads=new HashSet<>();
+	/** Threads which have been interrupted by {@link #cancel()} **/
+	private final Set<Thread> interruptedThreads=new HashSet<>();
+	/** Indicates whether the group has been cancelled **/
+	private boolean cancelled=false;
+
+	/**
+	 * Creates a new task group
+	 * @param executor executor which executes the tasks
+	 */
+	TaskGroup(Executor executor){
+		this.completionService=new ExecutorCompletionService<>(executor);
+	}
+
+	/**
+	 * Submits a task
+	 * @param task task
+	 * @return future of the task
+	 */
+	public Future<R> submit(Callable<R> task){
+		Future<R> f=completionService.submit(() -> {
+			if(!this.enter())
+				throw new CancellationException("Task group has been cancelled");
+			try{
+				return task.call();
+			}finally{
+				this.exit();
+			}
+		});
+		futures.add(f);
+		return f;
+	}
+
+	/**
+	 * Retrieves the next completed task, waiting if none are yet present
+	 * @return future of the completed task
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public Future<R> take() throws InterruptedException {
+		return completionService.take();
+	}
+
+	/**
+	 * Returns the number of tasks submitted to this group
+	 * @return number of tasks
+	 */
+	public int size(){
+		return futures.size();
+	}
+
+	/**
+	 * Cancels the tasks in this group. Tasks which have not been started yet are never started, and the threads executing the other tasks are interrupted. This method
+	 * returns once all running tasks have finished. Tasks should therefore check their interrupt status periodically.
+	 */
+	public void cancel(){
+		synchronized(this){
+			cancelled=true;
+			for(Thread thread : runningThreads){
+				interruptedThreads.add(thread);
+				thread.interrupt();
+			}
+		}
+		for(Future<R> f : futures)
+			f.cancel(false);
+		boolean interrupted=false;
+		synchronized(this){
+			while(!runningThreads.isEmpty()){
+				try {
+					this.wait();
+				} catch (InterruptedException e) {
+					interrupted=true;
+				}
+			}
+		}
+		if(interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * Returns whether the group has been cancelled
+	 * @return true if the group has been cancelled
+	 */
+	public synchronized boolean isCancelled(){
+		return cancelled;
+	}
+
+	/**
+	 * Registers the current thread as a thread which executes a task of this group
+	 * @return true if the task may start, false if the group has been cancelled
+	 */
+	private synchronized boolean enter(){
+		if(cancelled)
+			return false;
+		runningThreads.add(Thread.currentThread());
+		return true;
+	}
+
+	/**
+	 * Registers that the current thread finished its task. If the thread has been interrupted by {@link #cancel()}, its interrupt status is cleared, such that
+	 * it does not affect subsequent tasks executed by the same thread.
+	 */
+	private synchronized void exit(){
+		Thread thread=Thread.currentThread();
+		runningThreads.remove(thread);
+		if(interruptedThreads.remove(thread))
+			Thread.interrupted();
+		this.notifyAll();
+	}
+}
@@ -0,0 +1,239 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractSolverScheduler.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.scheduling;
+
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scheduler which decides, in every pricing round, which pricing problem solvers are invoked, in which order, on which pricing problems and with which time budget.
+ * Without a scheduler, the solvers are invoked hierarchically in the order in which they have been registered: the next solver is only invoked when the previous
+ * solver failed to generate columns. The scheduler maintains {@link SolverStatistics} for every solver and every pricing problem, which a scheduling policy can use
+ * to deviate from this fixed order, e.g. to stop invoking heuristic solvers which no longer produce columns.
+ * <p>
+ * The last registered solver is assumed to be exact: it is always invoked last, on every pricing problem, without a time budget. This guarantees that the Column
+ * Generation procedure only terminates when no column with an attractive reduced cost exists, and that a bound on the master objective can be computed. All other
+ * solvers are heuristics, which may be reordered, skipped or given a time budget through the methods {@link #orderHeuristics(List)}, {@link #skipHeuristic(Class, AbstractPricingProblem)}
+ * and {@link #getHeuristicTimeBudget(Class, AbstractPricingProblem)}. A heuristic which exceeds its time budget is aborted and treated as if it did not find any columns.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public abstract class AbstractSolverScheduler<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(AbstractSolverScheduler.class);
+	/** Configuration file for this class **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Weight of the most recent invocation in the smoothed statistics **/
+	protected final double smoothingFactor;
+
+	/** Solvers in the order in which they have been registered. The last solver is exact **/
+	protected List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers=Collections.emptyList();
+	/** Pricing problems **/
+	protected List<V> pricingProblems=Collections.emptyList();
+	/** Statistics of every solver on every pricing problem **/
+	protected final Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, Map<V, SolverStatistics>> statistics=new HashMap<>();
+	/** Number of pricing rounds, i.e. the number of times a schedule has been requested **/
+	protected long nrPricingRounds=0;
+	/** Number of times a heuristic has been skipped for a pricing problem **/
+	protected long nrSkippedInvocations=0;
+
+	/**
+	 * Creates a new scheduler
+	 * @param smoothingFactor weight of the most recent invocation in the smoothed statistics, in (0,1]
+	 */
+	public AbstractSolverScheduler(double smoothingFactor){
+		if(smoothingFactor <= 0 || smoothingFactor > 1)
+			throw new IllegalArgumentException("Smoothing factor must be in (0,1]");
+		this.smoothingFactor=smoothingFactor;
+	}
+
+	/**
+	 * Registers the solvers and pricing problems. This method is invoked when the scheduler is passed to the Column Generation procedure. Statistics collected
+	 * earlier, e.g. in other nodes of a Branch-and-Price tree, are retained.
+	 * @param solvers solvers in the order in which they have been registered. The last solver is assumed to be exact.
+	 * @param pricingProblems pricing problems
+	 */
+	public void initialize(List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers, List<V> pricingProblems){
+		if(solvers.isEmpty())
+			throw new IllegalArgumentException("At least one solver is required");
+		this.solvers=solvers;
+		this.pricingProblems=pricingProblems;
+		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solvers){
+			Map<V, SolverStatistics> solverStatistics=statistics.computeIfAbsent(solver, k -> new HashMap<>());
+			for(V pricingProblem : pricingProblems)
+				solverStatistics.computeIfAbsent(pricingProblem, k -> new SolverStatistics(smoothingFactor));
+		}
+	}
+
+	/**
+	 * Returns the solvers which must be invoked during the next pricing round, in the order in which they must be invoked. The last solver is always the exact solver.
+	 * Heuristics which are skipped for every pricing problem are omitted.
+	 * @return ordered list of solvers
+	 */
+	public final List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> getSchedule(){
+		nrPricingRounds++;
+		List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> schedule=new ArrayList<>(solvers.size());
+		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : this.orderHeuristics(new ArrayList<>(solvers.subList(0, solvers.size()-1)))){
+			boolean skipped=true;
+			for(V pricingProblem : pricingProblems){
+				if(!this.skipHeuristic(solver, pricingProblem)){
+					skipped=false;
+					break;
+				}
+			}
+			if(skipped)
+				nrSkippedInvocations+=pricingProblems.size();
+			else
+				schedule.add(solver);
+		}
+		schedule.add(this.getExactSolver());
+		return schedule;
+	}
+
+	/**
+	 * Returns whether the solver must be invoked on the pricing problem during the current pricing round. The exact solver is invoked on every pricing problem.
+	 * @param solver solver
+	 * @param pricingProblem pricing problem
+	 * @return true if the solver must be invoked on the pricing problem
+	 */
+	public final boolean isScheduled(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, V pricingProblem){
+		if(solver == this.getExactSolver())
+			return true;
+		boolean skip=this.skipHeuristic(solver, pricingProblem);
+		if(skip)
+			nrSkippedInvocations++;
+		return !skip;
+	}
+
+	/**
+	 * Returns the time budget (ms) of the solver on the pricing problem during the current pricing round. The exact solver never has a time budget.
+	 * @param solver solver
+	 * @param pricingProblem pricing problem
+	 * @return time budget (ms), or {@code Long.MAX_VALUE} if the solver has no time budget
+	 */
+	public final long getTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, V pricingProblem){
+		if(solver == this.getExactSolver())
+			return Long.MAX_VALUE;
+		return this.getHeuristicTimeBudget(solver, pricingProblem);
+	}
+
+	/**
+	 * Records the outcome of an invocation of a solver on a pricing problem
+	 * @param solver solver
+	 * @param pricingProblem pricing problem
+	 * @param nrColumns number of columns generated
+	 * @param time time spent (ms)
+	 * @param budgetExceeded true if the solver has been aborted because its time budget was exceeded
+	 */
+	public void solverInvoked(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, V pricingProblem, int nrColumns, long time, boolean budgetExceeded){
+		this.getStatistics(solver, pricingProblem).record(nrPricingRounds, nrColumns, time, budgetExceeded);
+		if(budgetExceeded)
+			logger.debug("Solver {} exceeded its time budget on pricing problem {}", solver.getSimpleName(), pricingProblem);
+	}
+
+	/**
+	 * Determines the order in which the heuristic solvers are invoked during the next pricing round. This method is invoked once per pricing round.
+	 * @param heuristics heuristic solvers in the order in which they have been registered. The list may be modified.
+	 * @return ordered list of heuristic solvers. Solvers which are not part of the returned list are not invoked.
+	 */
+	protected abstract List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> orderHeuristics(List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> heuristics);
+
+	/**
+	 * Determines whether a heuristic solver is skipped for a pricing problem during the current pricing round
+	 * @param heuristic heuristic solver
+	 * @param pricingProblem pricing problem
+	 * @return true if the heuristic must not be invoked on the pricing problem
+	 */
+	protected abstract boolean skipHeuristic(Class<? extends AbstractPricingProblemSolver<T, U, V>> heuristic, V pricingProblem);
+
+	/**
+	 * Determines the time budget of a heuristic solver for a pricing problem during the current pricing round. By default, heuristics do not have a time budget.
+	 * @param heuristic heuristic solver
+	 * @param pricingProblem pricing problem
+	 * @return time budget (ms), or {@code Long.MAX_VALUE} if the heuristic has no time budget
+	 */
+	protected long getHeuristicTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> heuristic, V pricingProblem){
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the exact solver, i.e. the last registered solver
+	 * @return the exact solver
+	 */
+	public Class<? extends AbstractPricingProblemSolver<T, U, V>> getExactSolver(){
+		return solvers.get(solvers.size()-1);
+	}
+
+	/**
+	 * Returns the statistics of a solver on a pricing problem
+	 * @param solver solver
+	 * @param pricingProblem pricing problem
+	 * @return statistics of the solver on the pricing problem
+	 */
+	public SolverStatistics getStatistics(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver, V pricingProblem){
+		return statistics.get(solver).get(pricingProblem);
+	}
+
+	/**
+	 * Returns the number of pricing rounds, i.e. the number of times a schedule has been requested
+	 * @return the number of pricing rounds
+	 */
+	public long getNrPricingRounds(){
+		return nrPricingRounds;
+	}
+
+	/**
+	 * Returns the number of times a heuristic has been skipped for a pricing problem
+	 * @return the number of skipped invocations
+	 */
+	public long getNrSkippedInvocations(){
+		return nrSkippedInvocations;
+	}
+
+	/**
+	 * Discards all statistics
+	 */
+	public void reset(){
+		for(Map<V, SolverStatistics> solverStatistics : statistics.values())
+			solverStatistics.replaceAll((pricingProblem, s) -> new SolverStatistics(smoothingFactor));
+		nrPricingRounds=0;
+		nrSkippedInvocations=0;
+	}
+}
@@ -0,0 +1,195 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AdaptiveSolverScheduler.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.scheduling;
+
+import java.util.*;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+
+/**
+ * Scheduling policy which adapts the invocation of the heuristic pricing problem solvers to their recent performance:
+ * <ol>
+ * <li>Heuristics are ordered by their smoothed success rate divided by their smoothed solve time, summed over all pricing problems. Invoking the heuristic with the
+ * highest success rate per unit of time first minimizes the expected time until columns are found. Heuristics which have not been invoked yet retain
+ * their registration order and precede all other heuristics.</li>
+ * <li>A heuristic is skipped for a pricing problem once it has been invoked at least {@code minInvocations} times on that pricing problem, and its smoothed success rate
+ * dropped below {@code minSuccessRate}. Since the dual values change throughout the Column Generation procedure, a skipped heuristic is invoked again (probed) when
+ * it has not been invoked during the last {@code probeInterval} pricing rounds.</li>
+ * <li>The time budget of a heuristic on a pricing problem equals {@code budgetFactor} times the smoothed solve time of the exact solver on that pricing problem (but at
+ * least {@code minTimeBudget} ms): a heuristic which takes longer than the exact solver is not worth waiting for.</li>
+ * </ol>
+ * Decisions (reordering, skipping and probing) are logged at debug level.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <U> type of column
+ * @param <V> type of pricing problem
+ */
+public class AdaptiveSolverScheduler<T, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>> extends AbstractSolverScheduler<T, U, V> {
+
+	/** Heuristics with a smoothed success rate below this value are skipped **/
+	protected final double minSuccessRate;
+	/** Minimum number of invocations before a heuristic can be skipped **/
+	protected final int minInvocations;
+	/** A skipped heuristic is probed when it has not been invoked during this number of pricing rounds **/
+	protected final long probeInterval;
+	/** The time budget of a heuristic is budgetFactor times the smoothed solve time of the exact solver **/
+	protected final double budgetFactor;
+	/** Minimum time budget (ms) **/
+	protected final long minTimeBudget;
+
+	/** Order of the heuristics during the previous pricing round **/
+	protected List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> previousOrder=Collections.emptyList();
+	/** Heuristic/pricing problem pairs which are currently skipped, used to log changes **/
+	protected final Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, Set<V>> skipped=new HashMap<>();
+
+	/**
+	 * Creates a new adaptive scheduler with default parameters: smoothing factor 0.3, minimum success rate 0.1, 3 invocations before a heuristic may be skipped,
+	 * a probe every 10 pricing rounds, and no time budgets.
+	 */
+	public AdaptiveSolverScheduler(){
+		this(0.3, 0.1, 3, 10, Double.MAX_VALUE, 10);
+	}
+
+	/**
+	 * Creates a new adaptive scheduler
+	 * @param smoothingFactor weight of the most recent invocation in the smoothed statistics, in (0,1]
+	 * @param minSuccessRate heuristics with a smoothed success rate below this value are skipped. Use 0 to never skip heuristics.
+	 * @param minInvocations minimum number of invocations before a heuristic can be skipped
+	 * @param probeInterval a skipped heuristic is probed when it has not been invoked during this number of pricing rounds. Use {@code Long.MAX_VALUE} to never probe.
+	 * @param budgetFactor the time budget of a heuristic is budgetFactor times the smoothed solve time of the exact solver. Use {@code Double.MAX_VALUE} to disable time budgets.
+	 * @param minTimeBudget minimum time budget (ms)
+	 */
+	public AdaptiveSolverScheduler(double smoothingFactor, double minSuccessRate, int minInvocations, long probeInterval, double budgetFactor, long minTimeBudget){
+		super(smoothingFactor);
+		if(minSuccessRate < 0 || minSuccessRate > 1)
+			throw new IllegalArgumentException("minSuccessRate must be in [0,1]");
+		if(minInvocations < 1)
+			throw new IllegalArgumentException("minInvocations must be at least 1");
+		if(probeInterval < 1)
+			throw new IllegalArgumentException("probeInterval must be at least 1");
+		if(budgetFactor <= 0)
+			throw new IllegalArgumentException("budgetFactor must be positive");
+		if(minTimeBudget < 1)
+			throw new IllegalArgumentException("minTimeBudget must be at least 1");
+		this.minSuccessRate=minSuccessRate;
+		this.minInvocations=minInvocations;
+		this.probeInterval=probeInterval;
+		this.budgetFactor=budgetFactor;
+		this.minTimeBudget=minTimeBudget;
+	}
+
+	/**
+	 * Orders the heuristics by decreasing success rate per unit of time. Heuristics which have never been invoked come first.
+	 * @param heuristics heuristic solvers in the order in which they have been registered
+	 * @return ordered list of heuristic solvers
+	 */
+	@Override
+	protected List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> orderHeuristics(List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> heuristics) {
+		Map<Class<? extends AbstractPricingProblemSolver<T, U, V>>, Double> score=new HashMap<>();
+		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> heuristic : heuristics){
+			double s=0;
+			for(SolverStatistics solverStatistics : statistics.get(heuristic).values()){
+				if(solverStatistics.getNrInvocations() == 0){
+					s=Double.MAX_VALUE;
+					break;
+				}
+				s+=solverStatistics.getSuccessRate()/Math.max(1, solverStatistics.getSolveTime());
+			}
+			score.put(heuristic, s);
+		}
+		heuristics.sort((h1, h2) -> Double.compare(score.get(h2), score.get(h1))); //Stable sort: ties retain the registration order
+		if(!heuristics.equals(previousOrder)){
+			if(!previousOrder.isEmpty())
+				logger.debug("Pricing round {}: heuristic order changed to {}", nrPricingRounds, this.getNames(heuristics));
+			previousOrder=new ArrayList<>(heuristics);
+		}
+		return heuristics;
+	}
+
+	/**
+	 * Skips a heuristic when its smoothed success rate on the pricing problem dropped below the minimum success rate, unless the heuristic is due for a probe
+	 * @param heuristic heuristic solver
+	 * @param pricingProblem pricing problem
+	 * @return true if the heuristic must not be invoked on the pricing problem
+	 */
+	@Override
+	protected boolean skipHeuristic(Class<? extends AbstractPricingProblemSolver<T, U, V>> heuristic, V pricingProblem) {
+		SolverStatistics solverStatistics=this.getStatistics(heuristic, pricingProblem);
+		boolean unsuccessful=solverStatistics.getNrInvocations() >= minInvocations && solverStatistics.getSuccessRate() < minSuccessRate;
+		boolean probe=nrPricingRounds-solverStatistics.getLastInvocation() > probeInterval;
+		boolean skip=unsuccessful && !probe;
+
+		Set<V> skippedPricingProblems=skipped.computeIfAbsent(heuristic, k -> new HashSet<>());
+		if(skip && skippedPricingProblems.add(pricingProblem))
+			logger.debug("Pricing round {}: skipping heuristic {} on pricing problem {} (success rate: {})", new Object[]{nrPricingRounds, heuristic.getSimpleName(), pricingProblem, solverStatistics.getSuccessRate()});
+		else if(!skip && skippedPricingProblems.remove(pricingProblem))
+			logger.debug("Pricing round {}: {} heuristic {} on pricing problem {}", new Object[]{nrPricingRounds, (unsuccessful ? "probing" : "resuming"), heuristic.getSimpleName(), pricingProblem});
+		return skip;
+	}
+
+	/**
+	 * Returns budgetFactor times the smoothed solve time of the exact solver on the pricing problem, or {@code Long.MAX_VALUE} if time budgets are disabled or the exact solver
+	 * has not been invoked on the pricing problem yet.
+	 * @param heuristic heuristic solver
+	 * @param pricingProblem pricing problem
+	 * @return time budget (ms)
+	 */
+	@Override
+	protected long getHeuristicTimeBudget(Class<? extends AbstractPricingProblemSolver<T, U, V>> heuristic, V pricingProblem) {
+		SolverStatistics exactStatistics=this.getStatistics(this.getExactSolver(), pricingProblem);
+		if(budgetFactor == Double.MAX_VALUE || exactStatistics.getNrInvocations() == 0)
+			return Long.MAX_VALUE;
+		return Math.max(minTimeBudget, (long)Math.ceil(budgetFactor*exactStatistics.getSolveTime()));
+	}
+
+	/**
+	 * Discards all statistics
+	 */
+	@Override
+	public void reset(){
+		super.reset();
+		previousOrder=Collections.emptyList();
+		skipped.clear();
+	}
+
+	/**
+	 * Returns the simple names of the solvers
+	 * @param solvers solvers
+	 * @return list of names
+	 */
+	private List<String> getNames(List<Class<? extends AbstractPricingProblemSolver<T, U, V>>> solvers){
+		List<String> names=new ArrayList<>(solvers.size());
+		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solvers)
+			names.add(solver.getSimpleName());
+		return names;
+	}
+}
@@ -0,0 +1,188 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SolverStatistics.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.scheduling;
+
+/**
+ * Performance history of a single pricing problem solver on a single pricing problem. Besides totals, the statistics maintain exponentially smoothed
+ * averages of the success rate (fraction of invocations which produced at least one column), the column yield and the solve time, such that recent
+ * invocations weigh more than older ones.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class SolverStatistics {
+
+	/** Weight of the most recent invocation in the smoothed averages **/
+	private final double smoothingFactor;
+
+	/** Number of invocations **/
+	private int nrInvocations=0;
+	/** Number of invocations which produced at least one column **/
+	private int nrSuccessfulInvocations=0;
+	/** Number of invocations which were aborted because the time budget was exceeded **/
+	private int nrBudgetExceeded=0;
+	/** Number of consecutive invocations which did not produce any columns **/
+	private int nrConsecutiveFailures=0;
+	/** Total number of columns generated **/
+	private long nrColumns=0;
+	/** Total time spent (ms) **/
+	private long totalTime=0;
+	/** Smoothed success rate **/
+	private double successRate=0;
+	/** Smoothed number of columns per invocation **/
+	private double columnYield=0;
+	/** Smoothed time per invocation (ms) **/
+	private double solveTime=0;
+	/** Pricing round during which the solver has last been invoked, or -1 if it has never been invoked **/
+	private long lastInvocation=-1;
+
+	/**
+	 * Creates a new, empty statistics record
+	 * @param smoothingFactor weight of the most recent invocation in the smoothed averages, in (0,1]
+	 */
+	public SolverStatistics(double smoothingFactor){
+		if(smoothingFactor <= 0 || smoothingFactor > 1)
+			throw new IllegalArgumentException("Smoothing factor must be in (0,1]");
+		this.smoothingFactor=smoothingFactor;
+	}
+
+	/**
+	 * Records the outcome of an invocation of the solver
+	 * @param pricingRound pricing round during which the solver has been invoked
+	 * @param nrColumns number of columns generated
+	 * @param time time spent (ms)
+	 * @param budgetExceeded true if the solver has been aborted because its time budget was exceeded
+	 */
+	public void record(long pricingRound, int nrColumns, long time, boolean budgetExceeded){
+		boolean success=nrColumns > 0;
+		if(nrInvocations == 0){
+			successRate=(success ? 1 : 0);
+			columnYield=nrColumns;
+			solveTime=time;
+		}else{
+			successRate=smoothingFactor*(success ? 1 : 0)+(1-smoothingFactor)*successRate;
+			columnYield=smoothingFactor*nrColumns+(1-smoothingFactor)*columnYield;
+			solveTime=smoothingFactor*time+(1-smoothingFactor)*solveTime;
+		}
+		nrInvocations++;
+		if(success){
+			nrSuccessfulInvocations++;
+			nrConsecutiveFailures=0;
+		}else
+			nrConsecutiveFailures++;
+		if(budgetExceeded)
+			nrBudgetExceeded++;
+		this.nrColumns+=nrColumns;
+		this.totalTime+=time;
+		this.lastInvocation=pricingRound;
+	}
+
+	/**
+	 * Returns the number of invocations
+	 * @return the number of invocations
+	 */
+	public int getNrInvocations(){
+		return nrInvocations;
+	}
+
+	/**
+	 * Returns the number of invocations which produced at least one column
+	 * @return the number of successful invocations
+	 */
+	public int getNrSuccessfulInvocations(){
+		return nrSuccessfulInvocations;
+	}
+
+	/**
+	 * Returns the number of invocations which were aborted because the time budget was exceeded
+	 * @return the number of invocations which exceeded their time budget
+	 */
+	public int getNrBudgetExceeded(){
+		return nrBudgetExceeded;
+	}
+
+	/**
+	 * Returns the number of consecutive invocations, up to and including the last invocation, which did not produce any columns
+	 * @return the number of consecutive failures
+	 */
+	public int getNrConsecutiveFailures(){
+		return nrConsecutiveFailures;
+	}
+
+	/**
+	 * Returns the total number of columns generated
+	 * @return the total number of columns generated
+	 */
+	public long getNrColumns(){
+		return nrColumns;
+	}
+
+	/**
+	 * Returns the total time spent (ms)
+	 * @return the total time spent
+	 */
+	public long getTotalTime(){
+		return totalTime;
+	}
+
+	/**
+	 * Returns the smoothed success rate, i.e. the smoothed fraction of invocations which produced at least one column
+	 * @return the smoothed success rate, or 0 if the solver has never been invoked
+	 */
+	public double getSuccessRate(){
+		return successRate;
+	}
+
+	/**
+	 * Returns the smoothed number of columns generated per invocation
+	 * @return the smoothed column yield, or 0 if the solver has never been invoked
+	 */
+	public double getColumnYield(){
+		return columnYield;
+	}
+
+	/**
+	 * Returns the smoothed time per invocation (ms)
+	 * @return the smoothed solve time, or 0 if the solver has never been invoked
+	 */
+	public double getSolveTime(){
+		return solveTime;
+	}
+
+	/**
+	 * Returns the pricing round during which the solver has last been invoked
+	 * @return the pricing round of the last invocation, or -1 if the solver has never been invoked
+	 */
+	public long getLastInvocation(){
+		return lastInvocation;
+	}
+
+	@Override
+	public String toString(){
+		return "invocations: "+nrInvocations+" successful: "+nrSuccessfulInvocations+" columns: "+nrColumns+" time: "+totalTime+" successRate: "+successRate+" yield: "+columnYield+" avgTime: "+solveTime;
+	}
+}
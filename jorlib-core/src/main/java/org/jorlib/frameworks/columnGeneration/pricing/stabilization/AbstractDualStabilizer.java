@@ -0,0 +1,251 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractDualStabilizer.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dual stabilization stage which is executed between the master problem and the pricing problems. The dual values of the master problem, stored
+ * in the pricing problems by {@link org.jorlib.frameworks.columnGeneration.master.AbstractMaster#initializePricingProblem(AbstractPricingProblem) initializePricingProblem},
+ * tend to oscillate heavily, especially for degenerate master problems. A stabilizer replaces these dual values by a <i>separation point</i>, which is computed from the
+ * true dual values and a <i>stability center</i>, i.e. a dual point which is believed to be close to the optimal dual solution.
+ * <p>
+ * When the pricing problems fail to produce new columns at the separation point, a <i>mis-price</i> occurs. The separation point is then moved towards the
+ * true dual values and the pricing problems are solved again, until, eventually, the true dual values are used. The Column Generation procedure can therefore
+ * only terminate after the pricing problems have been solved with the true dual values.
+ * <p>
+ * Both the {@code dualCosts} array and the {@code dualCost} value of every pricing problem are stabilized. Dual values are stabilized element-wise through
+ * the {@link #stabilize(double, double, int)} method.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public abstract class AbstractDualStabilizer<T, V extends AbstractPricingProblem<T>> {
+
+	/** Logger for this class **/
+	protected final Logger logger = LoggerFactory.getLogger(AbstractDualStabilizer.class);
+	/** Configuration file for this class **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Stability center of each pricing problem: the last element of every array corresponds to the dualCost field of the pricing problem **/
+	protected final Map<V, double[]> stabilityCenter=new HashMap<>();
+	/** True dual values of each pricing problem, as provided by the master problem **/
+	protected final Map<V, double[]> trueDuals=new HashMap<>();
+	/** Current separation point of each pricing problem **/
+	protected final Map<V, double[]> separationPoint=new HashMap<>();
+
+	/** Number of mis-prices during the current Column Generation iteration **/
+	protected int nrMispricesCurrentIteration=0;
+	/** Total number of mis-prices **/
+	protected int nrMisprices=0;
+	/** Total number of Column Generation iterations in which columns were generated using stabilized dual values **/
+	protected int nrStabilizedIterations=0;
+	/** Indicates whether the pricing problems currently hold stabilized dual values **/
+	protected boolean stabilized=false;
+
+	/**
+	 * Computes a component of the separation point.
+	 * @param centerValue value of the stability center
+	 * @param dualValue true dual value
+	 * @param nrMisprices number of mis-prices which occurred during the current Column Generation iteration
+	 * @return stabilized dual value
+	 */
+	protected abstract double stabilize(double centerValue, double dualValue, int nrMisprices);
+
+	/**
+	 * Method which updates the stability center after the pricing problems have been solved with stabilized dual values. By default, the separation point becomes the new stability center.
+	 * @param misprice true if the pricing problems failed to generate columns at the separation point
+	 */
+	protected void updateStabilityCenter(boolean misprice){
+		for(Map.Entry<V, double[]> entry : separationPoint.entrySet())
+			stabilityCenter.put(entry.getKey(), entry.getValue().clone());
+	}
+
+	/**
+	 * Replaces the dual values stored in the pricing problems by stabilized dual values. This method must be invoked after the dual values have been stored in the
+	 * pricing problems by the master problem.
+	 * @param pricingProblems pricing problems
+	 * @return true if the pricing problems hold stabilized dual values, false if they hold the true dual values (e.g. when no stability center is available yet).
+	 */
+	public boolean stabilizeDuals(List<V> pricingProblems){
+		nrMispricesCurrentIteration=0;
+		trueDuals.clear();
+		boolean centerAvailable=true;
+		for(V pricingProblem : pricingProblems){
+			double[] duals=this.getDuals(pricingProblem);
+			trueDuals.put(pricingProblem, duals);
+			double[] center=stabilityCenter.get(pricingProblem);
+			if(center == null || center.length != duals.length) //Dimensions change when inequalities are added to the master problem
+				centerAvailable=false;
+		}
+		if(!centerAvailable){
+			stabilityCenter.clear();
+			for(V pricingProblem : pricingProblems)
+				stabilityCenter.put(pricingProblem, trueDuals.get(pricingProblem).clone());
+			separationPoint.clear();
+			return stabilized=false;
+		}
+		return stabilized=this.computeSeparationPoint(pricingProblems);
+	}
+
+	/**
+	 * Method which must be invoked when the pricing problems failed to generate new columns while holding stabilized dual values. The stability center is updated
+	 * and a new separation point, which is closer to the true dual values, is stored in the pricing problems.
+	 * @param pricingProblems pricing problems
+	 * @return true if the pricing problems hold stabilized dual values, false if they hold the true dual values.
+	 */
+	public boolean misprice(List<V> pricingProblems){
+		nrMispricesCurrentIteration++;
+		nrMisprices++;
+		this.updateStabilityCenter(true);
+		stabilized=this.computeSeparationPoint(pricingProblems);
+		logger.debug("Mis-price {} in current iteration. Pricing with {} dual values.", nrMispricesCurrentIteration, (stabilized ? "stabilized" : "true"));
+		return stabilized;
+	}
+
+	/**
+	 * Method which must be invoked when the pricing problems generated new columns, or when the pricing problems have been solved with the true dual values.
+	 * @param columnsFound true if new columns have been generated
+	 */
+	public void pricingFinished(boolean columnsFound){
+		if(stabilized && columnsFound){
+			nrStabilizedIterations++;
+			this.updateStabilityCenter(false);
+		}
+	}
+
+	/**
+	 * Resets the stabilizer. This method is invoked at the start of the Column Generation procedure. The statistics are not reset.
+	 */
+	public void reset(){
+		stabilityCenter.clear();
+		trueDuals.clear();
+		separationPoint.clear();
+		stabilized=false;
+	}
+
+	/**
+	 * Computes the separation point and stores it in the pricing problems
+	 * @param pricingProblems pricing problems
+	 * @return true if the separation point differs from the true dual values
+	 */
+	protected boolean computeSeparationPoint(List<V> pricingProblems){
+		boolean differs=false;
+		separationPoint.clear();
+		for(V pricingProblem : pricingProblems){
+			double[] center=stabilityCenter.get(pricingProblem);
+			double[] duals=trueDuals.get(pricingProblem);
+			double[] point=new double[duals.length];
+			for(int i=0; i<duals.length; i++){
+				point[i]=this.stabilize(center[i], duals[i], nrMispricesCurrentIteration);
+				differs |= Math.abs(point[i]-duals[i]) >= config.PRECISION;
+			}
+			separationPoint.put(pricingProblem, point);
+		}
+		for(V pricingProblem : pricingProblems)
+			this.setDuals(pricingProblem, (differs ? separationPoint.get(pricingProblem) : trueDuals.get(pricingProblem)));
+		return differs;
+	}
+
+	/**
+	 * Returns the dual values stored in the pricing problem as a single array. The last element corresponds to the dualCost field.
+	 * @param pricingProblem pricing problem
+	 * @return dual values
+	 */
+	private double[] getDuals(V pricingProblem){
+		int length=(pricingProblem.dualCosts == null ? 0 : pricingProblem.dualCosts.length);
+		double[] duals=new double[length+1];
+		if(length > 0)
+			System.arraycopy(pricingProblem.dualCosts, 0, duals, 0, length);
+		duals[length]=pricingProblem.dualCost;
+		return duals;
+	}
+
+	/**
+	 * Stores the dual values in the pricing problem
+	 * @param pricingProblem pricing problem
+	 * @param duals dual values, where the last element corresponds to the dualCost field
+	 */
+	private void setDuals(V pricingProblem, double[] duals){
+		int length=duals.length-1;
+		double[] dualCosts=(pricingProblem.dualCosts == null && length == 0 ? null : new double[length]);
+		if(dualCosts != null)
+			System.arraycopy(duals, 0, dualCosts, 0, length);
+		pricingProblem.initPricingProblem(dualCosts, duals[length]);
+	}
+
+	/**
+	 * Returns the stability center of the given pricing problem. The last element of the array corresponds to the dualCost field of the pricing problem.
+	 * @param pricingProblem pricing problem
+	 * @return stability center, or null if no stability center is available
+	 */
+	public double[] getStabilityCenter(V pricingProblem){
+		return stabilityCenter.get(pricingProblem);
+	}
+
+	/**
+	 * Returns whether the pricing problems currently hold stabilized dual values
+	 * @return true if the pricing problems hold stabilized dual values
+	 */
+	public boolean isStabilized(){
+		return stabilized;
+	}
+
+	/**
+	 * Returns the number of mis-prices during the current Column Generation iteration
+	 * @return number of mis-prices during the current Column Generation iteration
+	 */
+	public int getNrMispricesCurrentIteration(){
+		return nrMispricesCurrentIteration;
+	}
+
+	/**
+	 * Returns the total number of mis-prices
+	 * @return total number of mis-prices
+	 */
+	public int getNrMisprices(){
+		return nrMisprices;
+	}
+
+	/**
+	 * Returns the number of Column Generation iterations in which columns were generated using stabilized dual values
+	 * @return number of Column Generation iterations in which columns were generated using stabilized dual values
+	 */
+	public int getNrStabilizedIterations(){
+		return nrStabilizedIterations;
+	}
+}
@@ -0,0 +1,74 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BoxStep.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Box-step stabilization (Marsten, du Merle et al.). The dual values are restricted to a box {@code [pi_center-delta, pi_center+delta]} around the stability center.
+ * The separation point is obtained by projecting the true dual values onto this box. After every pricing round, the separation point becomes the new stability center.
+ * Whenever a mis-price occurs, the width of the box is doubled, until the box contains the true dual values.
+ * <p>
+ * The method of du Merle et al. penalizes dual values outside the box through artificial variables in the master problem. This requires
+ * cooperation of the master problem. Implementations of the master problem can do so by querying the stability center through
+ * {@link #getStabilityCenter(AbstractPricingProblem)} and the box width through {@link #getDelta()}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public class BoxStep<T, V extends AbstractPricingProblem<T>> extends AbstractDualStabilizer<T, V> {
+
+	/** Half width of the box **/
+	protected final double delta;
+
+	/**
+	 * Creates a new box-step stabilizer
+	 * @param delta half width of the box, must be positive
+	 */
+	public BoxStep(double delta){
+		if(delta <= 0)
+			throw new IllegalArgumentException("Box width delta must be positive");
+		this.delta=delta;
+	}
+
+	/**
+	 * Returns the half width of the box
+	 * @return half width of the box
+	 */
+	public double getDelta(){
+		return delta;
+	}
+
+	@Override
+	protected double stabilize(double centerValue, double dualValue, int nrMisprices) {
+		double width=delta*Math.pow(2, nrMisprices);
+		return Math.max(centerValue-width, Math.min(centerValue+width, dualValue));
+	}
+}
@@ -0,0 +1,62 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * InOutSeparation.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * In-out separation (Ben Amor, Desrosiers and Frangioni). The separation point lies on the segment between an <i>in</i>-point (the stability center) and an
+ * <i>out</i>-point (the true dual values of the restricted master problem): {@code pi_sep = alpha*pi_in + (1-alpha)*pi_out}. Contrary to
+ * {@link WentgesSmoothing}, the in-point only moves when a mis-price occurs: in that case, the separation point is dual feasible and hence becomes
+ * the new in-point. The separation point is subsequently moved towards the out-point, using the same sequence of weights as {@link WentgesSmoothing}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public class InOutSeparation<T, V extends AbstractPricingProblem<T>> extends WentgesSmoothing<T, V> {
+
+	/**
+	 * Creates a new in-out separation stabilizer
+	 * @param alpha weight of the in-point, in the interval [0,1). A value of 0 disables stabilization.
+	 */
+	public InOutSeparation(double alpha){
+		super(alpha);
+	}
+
+	/**
+	 * The in-point is only replaced by the separation point after a mis-price.
+	 * @param misprice true if the pricing problems failed to generate columns at the separation point
+	 */
+	@Override
+	protected void updateStabilityCenter(boolean misprice){
+		if(misprice)
+			super.updateStabilityCenter(true);
+	}
+}
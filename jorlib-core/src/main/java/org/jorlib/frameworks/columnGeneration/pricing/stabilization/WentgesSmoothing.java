@@ -0,0 +1,79 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * WentgesSmoothing.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Wentges smoothing. The separation point is a convex combination of the stability center and the true dual values:
+ * {@code pi_sep = alpha*pi_center + (1-alpha)*pi}. After every pricing round, the separation point becomes the new stability center.
+ * Whenever a mis-price occurs, the weight of the stability center is reduced to {@code max(0, 1-(k+1)*(1-alpha))}, where k is the number of mis-prices
+ * in the current iteration. Hence, after at most {@code ceil(alpha/(1-alpha))} mis-prices, the pricing problems are solved with the true dual values.
+ * <p>
+ * In the original method, the stability center is only moved to the separation point when the Lagrangian bound at the separation point improves on the
+ * bound at the stability center. Evaluating this bound requires the dual objective at the separation point, which the framework cannot compute: the
+ * pricing problems only hold the dual values, not the right-hand sides of the master problem. This implementation therefore moves the stability center
+ * unconditionally. This does not affect the correctness of the Column Generation procedure, which only terminates after the pricing problems have been solved
+ * with the true dual values, but the separation points may be of lower quality. Override {@link #updateStabilityCenter(boolean)} to restore the bound-driven
+ * update for a master problem whose dual objective is known.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <T> type of model data
+ * @param <V> type of pricing problem
+ */
+public class WentgesSmoothing<T, V extends AbstractPricingProblem<T>> extends AbstractDualStabilizer<T, V> {
+
+	/** Smoothing parameter **/
+	protected final double alpha;
+
+	/**
+	 * Creates a new Wentges smoothing stabilizer
+	 * @param alpha smoothing parameter in the interval [0,1). A value of 0 disables stabilization. Typical values are in the range [0.5, 0.9].
+	 */
+	public WentgesSmoothing(double alpha){
+		if(alpha < 0 || alpha >= 1)
+			throw new IllegalArgumentException("Smoothing parameter alpha must be in the interval [0,1)");
+		this.alpha=alpha;
+	}
+
+	/**
+	 * Returns the weight of the stability center, given the number of mis-prices in the current iteration
+	 * @param nrMisprices number of mis-prices in the current iteration
+	 * @return weight of the stability center
+	 */
+	protected double getCenterWeight(int nrMisprices){
+		return Math.max(0, 1-(nrMisprices+1)*(1-alpha));
+	}
+
+	@Override
+	protected double stabilize(double centerValue, double dualValue, int nrMisprices) {
+		double weight=this.getCenterWeight(nrMisprices);
+		return weight*centerValue+(1-weight)*dualValue;
+	}
+}
@@ -0,0 +1,217 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnFingerprintIndex.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.Arrays;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+
+/**
+ * Set of columns, indexed by their 64-bit fingerprint (see {@link AbstractColumn#fingerprint()}). The fingerprints are stored in an open addressing hash table,
+ * such that a lookup only compares primitive longs. Only when two columns have the same fingerprint, the columns are compared through their {@code equals} method. Two columns
+ * are considered to be duplicates when they belong to the same pricing problem and are equal.
+ * <p>
+ * This index is used to detect duplicate columns cheaply, e.g. columns which are generated by multiple solver instances in the same iteration, or columns which already
+ * exist in the master problem.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <U> type of column
+ */
+public final class ColumnFingerprintIndex<U extends AbstractColumn<?, ?>> {
+
+	/** Initial number of slots of the hash table **/
+	private static final int INITIAL_CAPACITY=32;
+
+	/** Fingerprint of the column in every slot **/
+	private long[] fingerprints;
+	/** Column in every slot, or null if the slot is empty **/
+	private Object[] columns;
+	/** Number of columns **/
+	private int size=0;
+	/** fingerprints.length-1 **/
+	private int mask;
+
+	/**
+	 * Creates a new, empty index
+	 */
+	public ColumnFingerprintIndex(){
+		fingerprints=new long[INITIAL_CAPACITY];
+		columns=new Object[INITIAL_CAPACITY];
+		mask=INITIAL_CAPACITY-1;
+	}
+
+	/**
+	 * Adds a column to the index
+	 * @param column column
+	 * @return true if the column has been added, false if the index already contains a duplicate of the column
+	 */
+	public boolean add(U column){
+		long fingerprint=column.fingerprint();
+		int slot=this.findSlot(column, fingerprint);
+		if(columns[slot] != null)
+			return false;
+		fingerprints[slot]=fingerprint;
+		columns[slot]=column;
+		if(2*(++size) > columns.length)
+			this.rehash(2*columns.length);
+		return true;
+	}
+
+	/**
+	 * Returns whether the index contains a duplicate of the column
+	 * @param column column
+	 * @return true if the index contains a duplicate of the column
+	 */
+	public boolean contains(U column){
+		return columns[this.findSlot(column, column.fingerprint())] != null;
+	}
+
+	/**
+	 * Removes a column from the index
+	 * @param column column
+	 * @return true if the column has been removed, false if the index did not contain the column
+	 */
+	public boolean remove(U column){
+		int slot=this.findSlot(column, column.fingerprint());
+		if(columns[slot] == null)
+			return false;
+		this.deleteSlot(slot);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns the number of columns in the index
+	 * @return the number of columns
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Removes all columns from the index
+	 */
+	public void clear(){
+		Arrays.fill(columns, null);
+		size=0;
+	}
+
+	/**
+	 * Computes a 64-bit fingerprint of an array of integers. Columns which are represented by an array of integers, e.g. a successor array or a yield vector,
+	 * can use this method to implement {@link AbstractColumn#fingerprint()}.
+	 * @param values values
+	 * @return fingerprint
+	 */
+	public static long fingerprint(int[] values){
+		long h=values.length;
+		for(int value : values)
+			h=mix(h+value);
+		return h;
+	}
+
+	/**
+	 * Mixes the bits of a 64-bit value, such that every bit of the input affects every bit of the output (finalizer of the SplitMix64 generator).
+	 * @param h value
+	 * @return mixed value
+	 */
+	public static long mix(long h){
+		h+=0x9E3779B97F4A7C15L;
+		h=(h ^ (h >>> 30))*0xBF58476D1CE4E5B9L;
+		h=(h ^ (h >>> 27))*0x94D049BB133111EBL;
+		return h ^ (h >>> 31);
+	}
+
+	/**
+	 * Returns the slot which contains a duplicate of the column, or the empty slot where the column should be inserted.
+	 * @param column column
+	 * @param fingerprint fingerprint of the column
+	 * @return slot
+	 */
+	private int findSlot(U column, long fingerprint){
+		int slot=(int)fingerprint & mask;
+		while(true){
+			Object other=columns[slot];
+			if(other == null || (fingerprints[slot] == fingerprint && isDuplicate(column, (AbstractColumn<?, ?>) other)))
+				return slot;
+			slot=(slot+1) & mask;
+		}
+	}
+
+	/**
+	 * Returns whether two columns with the same fingerprint are duplicates
+	 * @param column column
+	 * @param other other column
+	 * @return true if both columns belong to the same pricing problem and are equal
+	 */
+	private static boolean isDuplicate(AbstractColumn<?, ?> column, AbstractColumn<?, ?> other){
+		return column == other || (column.associatedPricingProblem == other.associatedPricingProblem && column.equals(other));
+	}
+
+	/**
+	 * Empties a slot of the hash table, while retaining the invariant of linear probing (backward shift deletion)
+	 * @param slot slot
+	 */
+	private void deleteSlot(int slot){
+		int i=slot;
+		int j=slot;
+		while(true){
+			j=(j+1) & mask;
+			if(columns[j] == null)
+				break;
+			int k=(int)fingerprints[j] & mask; //Preferred slot of the column in slot j
+			if(i <= j ? (i < k && k <= j) : (i < k || k <= j))
+				continue;
+			fingerprints[i]=fingerprints[j];
+			columns[i]=columns[j];
+			i=j;
+		}
+		columns[i]=null;
+	}
+
+	/**
+	 * Rebuilds the hash table
+	 * @param capacity new number of slots (power of 2)
+	 */
+	private void rehash(int capacity){
+		long[] oldFingerprints=fingerprints;
+		Object[] oldColumns=columns;
+		fingerprints=new long[capacity];
+		columns=new Object[capacity];
+		mask=capacity-1;
+		for(int i=0; i<oldColumns.length; i++){
+			if(oldColumns[i] == null)
+				continue;
+			int slot=(int)oldFingerprints[i] & mask;
+			while(columns[slot] != null)
+				slot=(slot+1) & mask;
+			fingerprints[slot]=oldFingerprints[i];
+			columns[slot]=oldColumns[i];
+		}
+	}
+}
@@ -55,6 +55,9 @@ public class Configuration {
 		CUTSENABLED = true;
 		EXPORT_MODEL=false;
 		EXPORT_MASTER_DIR="./output/masterLP/";
+		PRICING_QUICK_RETURN_COLUMNS=Integer.MAX_VALUE;
+		PRICING_QUICK_RETURN_FRACTION=1;
+		PRICING_INLINE_SINGLE_INSTANCE=true;
 
 		//Cut handling
 		QUICK_RETURN_AFTER_CUTS_FOUND=true;
@@ -75,6 +78,9 @@ public class Configuration {
 		CUTSENABLED=(properties.containsKey("CUTSENABLED") ? Boolean.valueOf(properties.getProperty("CUTSENABLED")) : true );
 		EXPORT_MODEL=(properties.containsKey("EXPORT_MODEL") ? Boolean.valueOf(properties.getProperty("EXPORT_MODEL")) : false);
 		EXPORT_MASTER_DIR=(properties.containsKey("EXPORT_MODEL_DIR") ? properties.getProperty("EXPORT_MODEL_DIR") : "./output/masterLP/");
+		PRICING_QUICK_RETURN_COLUMNS=(properties.containsKey("PRICING_QUICK_RETURN_COLUMNS") ? Integer.valueOf(properties.getProperty("PRICING_QUICK_RETURN_COLUMNS")) : Integer.MAX_VALUE);
+		PRICING_QUICK_RETURN_FRACTION=(properties.containsKey("PRICING_QUICK_RETURN_FRACTION") ? Double.valueOf(properties.getProperty("PRICING_QUICK_RETURN_FRACTION")) : 1);
+		PRICING_INLINE_SINGLE_INSTANCE=(properties.containsKey("PRICING_INLINE_SINGLE_INSTANCE") ? Boolean.valueOf(properties.getProperty("PRICING_INLINE_SINGLE_INSTANCE")) : true);
 
 		//Cut handling
 		QUICK_RETURN_AFTER_CUTS_FOUND=(properties.containsKey("QUICK_RETURN_AFTER_CUTS_FOUND") ? Boolean.valueOf(properties.getProperty("QUICK_RETURN_AFTER_CUTS_FOUND")) : true);
@@ -124,6 +130,20 @@ public class Configuration {
 	public final  boolean EXPORT_MODEL; 
 	/** Define export directory for master models. Default: ./output/masterLP/ **/
 	public final String EXPORT_MASTER_DIR;
+	/**
+	 * The pricing problems are solved in parallel. Once at least PRICING_QUICK_RETURN_COLUMNS columns have been found, the remaining pricing problems are cancelled. Default: Integer.MAX_VALUE (never cancel)
+	 */
+	public final int PRICING_QUICK_RETURN_COLUMNS;
+	/**
+	 * The pricing problems are solved in parallel. Once a fraction PRICING_QUICK_RETURN_FRACTION of the pricing problems has been solved, and at least one column has been found,
+	 * the remaining pricing problems are cancelled. Default: 1 (never cancel)
+	 */
+	public final double PRICING_QUICK_RETURN_FRACTION;
+	/**
+	 * When a solver is invoked on a single pricing problem only, e.g. because the model has a single pricing problem, the solver is executed on the thread which invokes the
+	 * pricing problems instead of being submitted to the executor. This avoids the overhead of a thread handoff in every iteration. Default: true
+	 */
+	public final boolean PRICING_INLINE_SINGLE_INSTANCE;
 
 
 	/**
@@ -0,0 +1,477 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * IndexedMap.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Map which assigns a dense index {@code 0,...,size()-1} to every key. The keys and values are stored in two parallel arrays, while an open addressing hash table
+ * maps every key to its index. All operations, including removal, run in O(1) time: a key is removed by moving the last key (and its value) into the position of the
+ * removed key. Consequently, the index of a key remains unchanged until a key is removed, in which case only the key which previously had the largest index obtains a new index.
+ * Iteration order is deterministic: keys are iterated in the order of their indices.
+ * <p>
+ * Bulk operations can work directly on the arrays backing this map through {@link #getKeyArray()} and {@link #getValueArray()}, without copying. For example, a
+ * master problem can query all variable values in a single call through {@code cplex.getValues(map.getValueArray(), 0, map.size())}. This requires that the map is created
+ * through {@link #IndexedMap(IntFunction, IntFunction)}, such that the backing arrays have the correct runtime type, e.g. {@code new IndexedMap<>(Matching[]::new, IloNumVar[]::new)}.
+ * <p>
+ * The map cannot hold null keys, and existing keys cannot be overwritten through {@link #put(Object, Object)}.
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ * @param <K> Key
+ * @param <V> Value
+ */
+public class IndexedMap<K,V> extends AbstractMap<K, V>{
+
+	/** Initial capacity of the backing arrays **/
+	private static final int INITIAL_CAPACITY=16;
+
+	/** Creates the key array, or null if the keys are stored in an Object[] **/
+	private final IntFunction<K[]> keyArrayFactory;
+	/** Creates the value array, or null if the values are stored in an Object[] **/
+	private final IntFunction<V[]> valueArrayFactory;
+
+	/** Key at every index **/
+	private K[] keys;
+	/** Value at every index **/
+	private V[] values;
+	/** Hash code of the key at every index **/
+	private int[] hashes;
+	/** Number of keys **/
+	private int size=0;
+	/** Open addressing (linear probing) hash table. Each slot contains 1+index of a key, or 0 if the slot is empty **/
+	private int[] table;
+	/** table.length-1 **/
+	private int mask;
+
+	/** Views **/
+	private transient List<K> keyList;
+	private transient List<V> valueList;
+	private transient Set<K> keySet;
+	private transient Set<Map.Entry<K,V>> entrySet;
+
+	/**
+	 * Creates a new, empty map. The backing arrays of this map are not accessible through {@link #getKeyArray()} and {@link #getValueArray()}.
+	 */
+	public IndexedMap(){
+		this(null, null);
+	}
+
+	/**
+	 * Creates a new, empty map, where the keys and values are stored in arrays created by the given factories, e.g. {@code new IndexedMap<>(Matching[]::new, IloNumVar[]::new)}.
+	 * @param keyArrayFactory creates an array of keys of the given length
+	 * @param valueArrayFactory creates an array of values of the given length
+	 */
+	@SuppressWarnings("unchecked")
+	public IndexedMap(IntFunction<K[]> keyArrayFactory, IntFunction<V[]> valueArrayFactory){
+		this.keyArrayFactory=keyArrayFactory;
+		this.valueArrayFactory=valueArrayFactory;
+		keys=(keyArrayFactory == null ? (K[]) new Object[INITIAL_CAPACITY] : keyArrayFactory.apply(INITIAL_CAPACITY));
+		values=(valueArrayFactory == null ? (V[]) new Object[INITIAL_CAPACITY] : valueArrayFactory.apply(INITIAL_CAPACITY));
+		hashes=new int[INITIAL_CAPACITY];
+		table=new int[2*INITIAL_CAPACITY];
+		mask=table.length-1;
+	}
+
+	/**
+	 * Put a key, value pair in the map. The key cannot be null, nor can you insert duplicate keys. The key obtains index {@code size()-1}.
+	 * @param key key
+	 * @param value value
+	 * @return null
+	 */
+	@Override
+	public V put(K key, V value){
+		if(key==null)
+			throw new IllegalArgumentException("Cannot insert null as a key in an IndexedMap");
+		int hash=hash(key);
+		int slot=this.findSlot(key, hash);
+		if(table[slot] != 0)
+			throw new RuntimeException("Should not override a key");
+		if(size == keys.length){
+			keys=Arrays.copyOf(keys, 2*size);
+			values=Arrays.copyOf(values, 2*size);
+			hashes=Arrays.copyOf(hashes, 2*size);
+		}
+		keys[size]=key;
+		values[size]=value;
+		hashes[size]=hash;
+		table[slot]=++size;
+		if(2*size > table.length)
+			this.rehash(2*table.length);
+		return null;
+	}
+
+	/**
+	 * Get a value from the map (O(1))
+	 * @param key key
+	 * @return value, or null if the key is not contained in the map
+	 */
+	@Override
+	public V get(Object key){
+		int index=this.indexOf(key);
+		return (index == -1 ? null : values[index]);
+	}
+
+	/**
+	 * Returns the index of the key (O(1))
+	 * @param key key
+	 * @return index of the key, or -1 if the key is not contained in the map
+	 */
+	public int indexOf(Object key){
+		if(key == null)
+			return -1;
+		return table[this.findSlot(key, hash(key))]-1;
+	}
+
+	/**
+	 * Returns the key at the given index
+	 * @param index index
+	 * @return key
+	 */
+	public K getKey(int index){
+		this.checkIndex(index);
+		return keys[index];
+	}
+
+	/**
+	 * Returns the value at the given index
+	 * @param index index
+	 * @return value
+	 */
+	public V getValue(int index){
+		this.checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Replaces the value at the given index
+	 * @param index index
+	 * @param value new value
+	 * @return old value
+	 */
+	public V setValue(int index, V value){
+		this.checkIndex(index);
+		V oldValue=values[index];
+		values[index]=value;
+		return oldValue;
+	}
+
+	/**
+	 * Remove a key (O(1)). The last key in the map is moved to the index of the removed key.
+	 * @param key key
+	 * @return the value associated with the key, or null if the key was not contained in the map
+	 */
+	@Override
+	public V remove(Object key){
+		if(key == null)
+			return null;
+		int slot=this.findSlot(key, hash(key));
+		if(table[slot] == 0)
+			return null;
+		int index=table[slot]-1;
+		V value=values[index];
+		this.deleteSlot(slot);
+		int last=--size;
+		if(index != last){
+			//Move the last key into the position of the removed key
+			keys[index]=keys[last];
+			values[index]=values[last];
+			hashes[index]=hashes[last];
+			int s=hashes[index] & mask;
+			while(table[s] != last+1)
+				s=(s+1) & mask;
+			table[s]=index+1;
+		}
+		keys[last]=null;
+		values[last]=null;
+		return value;
+	}
+
+	/**
+	 * Returns whether the key is contained in the map. Runtime: O(1)
+	 * @param key key
+	 * @return whether the key is contained in the map.
+	 */
+	@Override
+	public boolean containsKey(Object key){
+		return this.indexOf(key) != -1;
+	}
+
+	/**
+	 * Returns the size of the map
+	 * @return the size of the map
+	 */
+	@Override
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Removes all keys from the map
+	 */
+	@Override
+	public void clear(){
+		Arrays.fill(keys, 0, size, null);
+		Arrays.fill(values, 0, size, null);
+		Arrays.fill(table, 0);
+		size=0;
+	}
+
+	/**
+	 * Returns the array backing the keys of this map. Only the first {@link #size()} entries are valid; the key at position i has index i. The array must not be modified,
+	 * and is invalidated whenever keys are added to, or removed from the map.
+	 * @return the array backing the keys of this map
+	 * @throws IllegalStateException if the map has not been created through {@link #IndexedMap(IntFunction, IntFunction)}
+	 */
+	public K[] getKeyArray(){
+		if(keyArrayFactory == null)
+			throw new IllegalStateException("The type of the key array is unknown. Create the map through IndexedMap(IntFunction, IntFunction)");
+		return keys;
+	}
+
+	/**
+	 * Returns the array backing the values of this map. Only the first {@link #size()} entries are valid; the value at position i belongs to the key with index i. The array must not be modified,
+	 * and is invalidated whenever keys are added to, or removed from the map.
+	 * @return the array backing the values of this map
+	 * @throws IllegalStateException if the map has not been created through {@link #IndexedMap(IntFunction, IntFunction)}
+	 */
+	public V[] getValueArray(){
+		if(valueArrayFactory == null)
+			throw new IllegalStateException("The type of the value array is unknown. Create the map through IndexedMap(IntFunction, IntFunction)");
+		return values;
+	}
+
+	/**
+	 * Copies the keys of this map into an array
+	 * @param a array which will contain the keys
+	 * @return keys array
+	 */
+	public K[] getKeysAsArray(K[] a){
+		return this.keyList().toArray(a);
+	}
+
+	/**
+	 * Copies the values of this map into an array
+	 * @param a array which will contain the values
+	 * @return value array
+	 */
+	public V[] getValuesAsArray(V[] a){
+		return this.valueList().toArray(a);
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the keys, ordered by their indices. The view is backed by the map and does not copy the keys.
+	 * @return an unmodifiable list view of the keys
+	 */
+	public List<K> keyList(){
+		if(keyList == null)
+			keyList=new ArrayView<>(true);
+		return keyList;
+	}
+
+	/**
+	 * Returns an unmodifiable list view of the values, ordered by the indices of their keys. The view is backed by the map and does not copy the values.
+	 * @return an unmodifiable list view of the values
+	 */
+	public List<V> valueList(){
+		if(valueList == null)
+			valueList=new ArrayView<>(false);
+		return valueList;
+	}
+
+	/**
+	 * Returns an unmodifiable collection view of the values, ordered by the indices of their keys.
+	 * @return an unmodifiable collection view of the values
+	 */
+	@Override
+	public Collection<V> values(){
+		return this.valueList();
+	}
+
+	/**
+	 * Returns an unmodifiable set view of the keys, ordered by their indices. Membership tests run in O(1) time.
+	 * @return an unmodifiable set view of the keys
+	 */
+	@Override
+	public Set<K> keySet(){
+		if(keySet == null){
+			keySet=new AbstractSet<K>() {
+				@Override
+				public Iterator<K> iterator() {
+					return keyList().iterator();
+				}
+				@Override
+				public boolean contains(Object o) {
+					return containsKey(o);
+				}
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return keySet;
+	}
+
+	/**
+	 * Returns an unmodifiable set view of the mappings in this map, ordered by the indices of their keys.
+	 * @return an unmodifiable set view of the mappings in this map
+	 */
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if(entrySet == null){
+			entrySet=new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new Iterator<Map.Entry<K, V>>() {
+						private int index=0;
+						@Override
+						public boolean hasNext() {
+							return index < size;
+						}
+						@Override
+						public Map.Entry<K, V> next() {
+							if(index >= size)
+								throw new NoSuchElementException();
+							Map.Entry<K, V> entry=new AbstractMap.SimpleImmutableEntry<>(keys[index], values[index]);
+							index++;
+							return entry;
+						}
+					};
+				}
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Unmodifiable list view on either the key array or the value array
+	 * @param <E> type of the elements
+	 */
+	private final class ArrayView<E> extends AbstractList<E> implements RandomAccess {
+		/** True if this is a view on the keys, false if it is a view on the values **/
+		private final boolean keyView;
+
+		private ArrayView(boolean keyView){
+			this.keyView=keyView;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E get(int index) {
+			checkIndex(index);
+			return (E) (keyView ? keys[index] : values[index]);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return (keyView ? containsKey(o) : super.contains(o));
+		}
+
+		@Override
+		public int indexOf(Object o) {
+			return (keyView ? IndexedMap.this.indexOf(o) : super.indexOf(o));
+		}
+	}
+
+	/**
+	 * Spreads the hash code of a key
+	 * @param key key
+	 * @return hash
+	 */
+	private static int hash(Object key){
+		int h=key.hashCode()*0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Returns the slot of the hash table which contains the key, or the empty slot where the key should be inserted.
+	 * @param key key
+	 * @param hash hash of the key
+	 * @return slot
+	 */
+	private int findSlot(Object key, int hash){
+		int slot=hash & mask;
+		while(true){
+			int entry=table[slot];
+			if(entry == 0 || (hashes[entry-1] == hash && key.equals(keys[entry-1])))
+				return slot;
+			slot=(slot+1) & mask;
+		}
+	}
+
+	/**
+	 * Empties a slot of the hash table, while retaining the invariant of linear probing (backward shift deletion)
+	 * @param slot slot
+	 */
+	private void deleteSlot(int slot){
+		int i=slot;
+		int j=slot;
+		while(true){
+			j=(j+1) & mask;
+			if(table[j] == 0)
+				break;
+			int k=hashes[table[j]-1] & mask; //Preferred slot of the entry in slot j
+			if(i <= j ? (i < k && k <= j) : (i < k || k <= j))
+				continue;
+			table[i]=table[j];
+			i=j;
+		}
+		table[i]=0;
+	}
+
+	/**
+	 * Rebuilds the hash table
+	 * @param capacity new number of slots
+	 */
+	private void rehash(int capacity){
+		table=new int[capacity];
+		mask=capacity-1;
+		for(int index=0; index<size; index++){
+			int slot=hashes[index] & mask;
+			while(table[slot] != 0)
+				slot=(slot+1) & mask;
+			table[slot]=index+1;
+		}
+	}
+
+	private void checkIndex(int index){
+		if(index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+	}
+}
@@ -0,0 +1,58 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BranchingDecisionEvent.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event which spans the execution, or the reversal, of a branching decision by the {@link org.jorlib.frameworks.columnGeneration.branchAndPrice.GraphManipulator}
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+@Name("org.jorlib.BranchingDecision")
+@Label("Branching Decision")
+@Category({"jORLib", "Branch-and-Price"})
+@Description("Execution or reversal of a branching decision")
+@StackTrace(false)
+final class BranchingDecisionEvent extends jdk.jfr.Event {
+
+	@Label("Node ID")
+	@Description("Node which is being prepared")
+	int nodeID;
+
+	@Label("Decision")
+	String decision;
+
+	@Label("Rewind")
+	@Description("True if the decision is reversed due to backtracking")
+	boolean rewind;
+}
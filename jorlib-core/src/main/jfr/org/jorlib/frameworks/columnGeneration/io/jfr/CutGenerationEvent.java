@@ -0,0 +1,54 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CutGenerationEvent.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event which spans the separation of inequalities by a single cut generator
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+@Name("org.jorlib.CutGeneration")
+@Label("Cut Generation")
+@Category({"jORLib", "Column Generation"})
+@Description("Separation of inequalities by a cut generator")
+@StackTrace(false)
+final class CutGenerationEvent extends jdk.jfr.Event {
+
+	@Label("Cut Generator")
+	String cutGenerator;
+
+	@Label("Cuts")
+	@Description("Number of inequalities separated")
+	int cuts;
+}
@@ -0,0 +1,191 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * FlightRecorderEvents.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+/**
+ * Implementation of the {@link EventRecorder} on top of the Flight Recorder API. This class is instantiated reflectively by {@link JFREvents}.
+ * <p>
+ * Whether an event type is enabled is cached in a flag, which is refreshed whenever a recording changes state (e.g. is started or stopped). When an event type is
+ * disabled, the {@code begin} methods return null without allocating an event. Settings which are changed on a running recording take effect at the next change in
+ * the state of a recording.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+final class FlightRecorderEvents implements EventRecorder, FlightRecorderListener {
+
+	/** Event types **/
+	private final EventType masterSolveType=EventType.getEventType(MasterSolveEvent.class);
+	private final EventType pricingType=EventType.getEventType(PricingEvent.class);
+	private final EventType cutGenerationType=EventType.getEventType(CutGenerationEvent.class);
+	private final EventType nodeProcessingType=EventType.getEventType(NodeProcessingEvent.class);
+	private final EventType branchingDecisionType=EventType.getEventType(BranchingDecisionEvent.class);
+
+	/** Indicates whether the event types are enabled in any of the recordings **/
+	private volatile boolean masterSolveEnabled;
+	private volatile boolean pricingEnabled;
+	private volatile boolean cutGenerationEnabled;
+	private volatile boolean nodeProcessingEnabled;
+	private volatile boolean branchingDecisionEnabled;
+
+	FlightRecorderEvents(){
+		this.updateEnabled();
+		FlightRecorder.addListener(this);
+	}
+
+	/**
+	 * Refreshes the enabled flags when a recording changes state
+	 * @param recording recording which changed state
+	 */
+	@Override
+	public void recordingStateChanged(Recording recording) {
+		this.updateEnabled();
+	}
+
+	/**
+	 * Refreshes the enabled flags of all event types
+	 */
+	private void updateEnabled(){
+		masterSolveEnabled=masterSolveType.isEnabled();
+		pricingEnabled=pricingType.isEnabled();
+		cutGenerationEnabled=cutGenerationType.isEnabled();
+		nodeProcessingEnabled=nodeProcessingType.isEnabled();
+		branchingDecisionEnabled=branchingDecisionType.isEnabled();
+	}
+
+	@Override
+	public Object beginMasterSolve() {
+		if(!masterSolveEnabled)
+			return null;
+		MasterSolveEvent event=new MasterSolveEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitMasterSolve(Object event, int iteration, double objective, int columns) {
+		MasterSolveEvent masterSolveEvent=(MasterSolveEvent) event;
+		masterSolveEvent.end();
+		if(masterSolveEvent.shouldCommit()){
+			masterSolveEvent.iteration=iteration;
+			masterSolveEvent.objective=objective;
+			masterSolveEvent.columns=columns;
+			masterSolveEvent.commit();
+		}
+	}
+
+	@Override
+	public Object beginPricing() {
+		if(!pricingEnabled)
+			return null;
+		PricingEvent event=new PricingEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitPricing(Object event, String solver, String pricingProblem, int columns) {
+		PricingEvent pricingEvent=(PricingEvent) event;
+		pricingEvent.end();
+		if(pricingEvent.shouldCommit()){
+			pricingEvent.solver=solver;
+			pricingEvent.pricingProblem=pricingProblem;
+			pricingEvent.columns=columns;
+			pricingEvent.commit();
+		}
+	}
+
+	@Override
+	public Object beginCutGeneration() {
+		if(!cutGenerationEnabled)
+			return null;
+		CutGenerationEvent event=new CutGenerationEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitCutGeneration(Object event, String cutGenerator, int cuts) {
+		CutGenerationEvent cutGenerationEvent=(CutGenerationEvent) event;
+		cutGenerationEvent.end();
+		if(cutGenerationEvent.shouldCommit()){
+			cutGenerationEvent.cutGenerator=cutGenerator;
+			cutGenerationEvent.cuts=cuts;
+			cutGenerationEvent.commit();
+		}
+	}
+
+	@Override
+	public Object beginNodeProcessing() {
+		if(!nodeProcessingEnabled)
+			return null;
+		NodeProcessingEvent event=new NodeProcessingEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitNodeProcessing(Object event, int nodeID, int depth, int iterations, double objective, double bound, int columns) {
+		NodeProcessingEvent nodeProcessingEvent=(NodeProcessingEvent) event;
+		nodeProcessingEvent.end();
+		if(nodeProcessingEvent.shouldCommit()){
+			nodeProcessingEvent.nodeID=nodeID;
+			nodeProcessingEvent.depth=depth;
+			nodeProcessingEvent.iterations=iterations;
+			nodeProcessingEvent.objective=objective;
+			nodeProcessingEvent.bound=bound;
+			nodeProcessingEvent.columns=columns;
+			nodeProcessingEvent.commit();
+		}
+	}
+
+	@Override
+	public Object beginBranchingDecision() {
+		if(!branchingDecisionEnabled)
+			return null;
+		BranchingDecisionEvent event=new BranchingDecisionEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitBranchingDecision(Object event, int nodeID, Object decision, boolean rewind) {
+		BranchingDecisionEvent branchingDecisionEvent=(BranchingDecisionEvent) event;
+		branchingDecisionEvent.end();
+		if(branchingDecisionEvent.shouldCommit()){
+			branchingDecisionEvent.nodeID=nodeID;
+			branchingDecisionEvent.decision=String.valueOf(decision);
+			branchingDecisionEvent.rewind=rewind;
+			branchingDecisionEvent.commit();
+		}
+	}
+}
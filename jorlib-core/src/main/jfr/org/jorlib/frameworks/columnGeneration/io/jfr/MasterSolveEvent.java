@@ -0,0 +1,59 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MasterSolveEvent.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event which spans the solve of the master problem in a single column generation iteration
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+@Name("org.jorlib.MasterSolve")
+@Label("Master Solve")
+@Category({"jORLib", "Column Generation"})
+@Description("Solve of the master problem")
+@StackTrace(false)
+final class MasterSolveEvent extends jdk.jfr.Event {
+
+	@Label("Iteration")
+	@Description("Column generation iteration")
+	int iteration;
+
+	@Label("Objective")
+	@Description("Objective of the master problem")
+	double objective;
+
+	@Label("Columns")
+	@Description("Number of columns in the master problem")
+	int columns;
+}
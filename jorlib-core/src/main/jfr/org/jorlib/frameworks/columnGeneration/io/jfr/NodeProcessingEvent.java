@@ -0,0 +1,70 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * NodeProcessingEvent.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event which spans the solve of a node in the Branch-and-Price tree through column generation
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+@Name("org.jorlib.NodeProcessing")
+@Label("Node Processing")
+@Category({"jORLib", "Branch-and-Price"})
+@Description("Solve of a node in the Branch-and-Price tree")
+@StackTrace(false)
+final class NodeProcessingEvent extends jdk.jfr.Event {
+
+	@Label("Node ID")
+	int nodeID;
+
+	@Label("Depth")
+	@Description("Depth of the node in the Branch-and-Price tree")
+	int depth;
+
+	@Label("Iterations")
+	@Description("Number of column generation iterations")
+	int iterations;
+
+	@Label("Objective")
+	@Description("Objective of the master problem")
+	double objective;
+
+	@Label("Bound")
+	@Description("Bound on the objective of the master problem")
+	double bound;
+
+	@Label("Columns")
+	@Description("Number of columns generated")
+	int columns;
+}
@@ -0,0 +1,57 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingEvent.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event which spans the invocation of a single pricing problem solver on a single pricing problem. The event is committed on the thread which executes the solver.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+@Name("org.jorlib.Pricing")
+@Label("Pricing")
+@Category({"jORLib", "Column Generation"})
+@Description("Invocation of a pricing problem solver")
+@StackTrace(false)
+final class PricingEvent extends jdk.jfr.Event {
+
+	@Label("Solver")
+	String solver;
+
+	@Label("Pricing Problem")
+	String pricingProblem;
+
+	@Label("Columns")
+	@Description("Number of columns generated")
+	int columns;
+}
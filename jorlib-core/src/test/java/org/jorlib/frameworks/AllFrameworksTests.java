@@ -26,7 +26,26 @@
  */
 package org.jorlib.frameworks;
 
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNodeTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocolTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.GlobalColumnPoolTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.NodePathTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.OpenNodeQueueTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.PrimalHeuristicTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.SpillingNodeQueueTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.AsyncEventDispatcherTest;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching.PseudoCostsTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.io.jfr.JFREventsTest;
+import org.jorlib.frameworks.columnGeneration.master.columnManagement.ColumnManagerTest;
+import org.jorlib.frameworks.columnGeneration.master.simplex.RevisedSimplexTest;
+import org.jorlib.frameworks.columnGeneration.metrics.MetricsRegistryTest;
+import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemManagerTest;
+import org.jorlib.frameworks.columnGeneration.pricing.scheduling.AdaptiveSolverSchedulerTest;
+import org.jorlib.frameworks.columnGeneration.pricing.stabilization.DualStabilizerTest;
 import org.jorlib.frameworks.columnGeneration.tsp.BAPTSPTest;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndexTest;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMapTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -38,7 +57,26 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	BAPTSPTest.class
+	BAPTSPTest.class,
+	RevisedSimplexTest.class,
+	CuttingStockCGTest.class,
+	IndexedMapTest.class,
+	PricingProblemManagerTest.class,
+	ColumnFingerprintIndexTest.class,
+	AsyncEventDispatcherTest.class,
+	MetricsRegistryTest.class,
+	OpenNodeQueueTest.class,
+	PseudoCostsTest.class,
+	NodePathTest.class,
+	BAPNodeTest.class,
+	SpillingNodeQueueTest.class,
+	PrimalHeuristicTest.class,
+	DistributedBAPProtocolTest.class,
+	DualStabilizerTest.class,
+	ColumnManagerTest.class,
+	GlobalColumnPoolTest.class,
+	AdaptiveSolverSchedulerTest.class,
+	JFREventsTest.class
 })
 
 public final class AllFrameworksTests {
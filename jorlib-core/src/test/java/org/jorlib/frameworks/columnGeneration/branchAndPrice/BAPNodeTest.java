@@ -0,0 +1,173 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BAPNodeTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.FixingDecision;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+
+/**
+ * Test class for the BAPNode
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class BAPNodeTest extends TestCase {
+
+	/**
+	 * Branching decision which excludes the patterns which cut the first final
+	 */
+	private static final class ExcludeFirstFinal implements BranchingDecision<CuttingStock, CuttingPattern> {
+		@Override
+		public boolean columnIsCompatibleWithBranchingDecision(CuttingPattern column) {
+			return column.yieldVector[0] == 0;
+		}
+
+		@Override
+		public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+			return true;
+		}
+	}
+
+	/**
+	 * Test whether a node which inherits its columns lazily only inherits the compatible, non-artificial, columns of its parent, and only when it is processed
+	 */
+	public void testLazyColumnInheritance(){
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		CuttingPattern compatible=new CuttingPattern("test", false, new int[]{0, 1, 0, 0}, pricingProblem);
+		CuttingPattern incompatible=new CuttingPattern("test", false, new int[]{1, 1, 0, 0}, pricingProblem);
+		CuttingPattern artificial=new CuttingPattern("test", true, new int[]{0, 0, 0, 0}, pricingProblem);
+		List<CuttingPattern> parentSolution=Arrays.asList(compatible, incompatible, artificial);
+
+		NodePath path=NodePath.root(0).createChild(1, new ExcludeFirstFinal());
+		BAPNode<CuttingStock, CuttingPattern> node=new BAPNode<>(path, new ArrayList<>(), new ArrayList<>(), 0);
+		node.setInheritedColumns(parentSolution);
+		assertTrue(node.getInitialColumns().isEmpty());
+		node.inheritColumns();
+		assertEquals(Arrays.asList(compatible), node.getInitialColumns());
+		assertNull(node.inheritedColumns);
+		//Inheriting twice has no effect
+		node.inheritColumns();
+		assertEquals(1, node.getInitialColumns().size());
+
+		//A node which is discarded never inherits any columns
+		BAPNode<CuttingStock, CuttingPattern> prunedNode=new BAPNode<>(NodePath.root(0).createChild(2, new ExcludeFirstFinal()), new ArrayList<>(), new ArrayList<>(), 0);
+		prunedNode.setInheritedColumns(parentSolution);
+		prunedNode.discardInheritedColumns();
+		prunedNode.inheritColumns();
+		assertTrue(prunedNode.getInitialColumns().isEmpty());
+	}
+
+	/**
+	 * Fixer which eliminates finals: a pattern uses a final if it cuts the final
+	 */
+	private static final class FinalFixer extends AbstractReducedCostFixer<CuttingStock, CuttingPattern, PricingProblem, Integer> {
+		private FinalFixer(CuttingStock dataModel, PricingProblem pricingProblem){
+			super(dataModel, Collections.singletonList(pricingProblem));
+		}
+
+		@Override
+		protected Collection<Integer> getElements(BAPNode<CuttingStock, CuttingPattern> bapNode) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected double getReducedCost(BAPNode<CuttingStock, CuttingPattern> bapNode, Integer element) {
+			return 0;
+		}
+
+		@Override
+		public boolean usesFixedElement(CuttingPattern column, Set<Integer> fixedElements) {
+			for(int finalIndex : fixedElements){
+				if(column.yieldVector[finalIndex] > 0)
+					return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Test whether the fixings of a node are carried by its children: they are delivered to the listeners after the branching decision, reversed before the branching decision, and columns which
+	 * use a fixed element are not inherited
+	 */
+	public void testFixings(){
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		FinalFixer fixer=new FinalFixer(dataModel, pricingProblem);
+		BAPNode<CuttingStock, CuttingPattern> root=new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), 0);
+		FixingDecision<CuttingStock, CuttingPattern, PricingProblem, Integer> fixing=new FixingDecision<>(fixer, new HashSet<>(Arrays.asList(2)));
+		root.addFixing(fixing);
+		assertEquals(Arrays.asList(fixing), root.getFixings());
+
+		BranchingDecision<CuttingStock, CuttingPattern> branchingDecision=new ExcludeFirstFinal();
+		NodePath childPath=root.getPath().createChild(1, branchingDecision, root.getFixings());
+		assertEquals(Arrays.asList(fixing), childPath.getFixings());
+		assertTrue(root.getPath().getFixings().isEmpty());
+		assertEquals(Collections.singleton(2), fixer.getFixedElements(childPath));
+
+		CuttingPattern compatible=new CuttingPattern("test", false, new int[]{0, 1, 0, 0}, pricingProblem);
+		CuttingPattern usesFixedFinal=new CuttingPattern("test", false, new int[]{0, 1, 1, 0}, pricingProblem);
+		BAPNode<CuttingStock, CuttingPattern> child=new BAPNode<>(childPath, new ArrayList<>(), new ArrayList<>(), 0);
+		child.setInheritedColumns(Arrays.asList(compatible, usesFixedFinal));
+		child.inheritColumns();
+		assertEquals(Arrays.asList(compatible), child.getInitialColumns());
+
+		List<String> log=new ArrayList<>();
+		GraphManipulator graphManipulator=new GraphManipulator(root);
+		graphManipulator.addBranchingDecisionListener(new BranchingDecisionListener() {
+			@Override
+			public void branchingDecisionPerformed(BranchingDecision bd) {
+				log.add("perform "+(bd == fixing ? "fixing" : "branch"));
+			}
+
+			@Override
+			public void branchingDecisionReversed(BranchingDecision bd) {
+				log.add("reverse "+(bd == fixing ? "fixing" : "branch"));
+			}
+		});
+		graphManipulator.next(child);
+		graphManipulator.next(root);
+		assertEquals(Arrays.asList("perform branch", "perform fixing", "reverse fixing", "reverse branch"), log);
+
+		//Fixings are not copied
+		assertTrue(childPath.copy(bd -> bd).getFixings().isEmpty());
+	}
+}
@@ -0,0 +1,182 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DistributedBAPProtocolTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocol.EncodedNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPProtocol.Message;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+
+/**
+ * Test class for the messages exchanged by the coordinator and the workers of a distributed Branch-and-Price search
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class DistributedBAPProtocolTest extends TestCase {
+
+	/**
+	 * Branching decision which excludes the patterns which cut a given final
+	 */
+	private static final class ExcludeFinal implements BranchingDecision<CuttingStock, CuttingPattern> {
+		final int finalIndex;
+
+		ExcludeFinal(int finalIndex){
+			this.finalIndex=finalIndex;
+		}
+
+		@Override
+		public boolean columnIsCompatibleWithBranchingDecision(CuttingPattern column) {
+			return column.yieldVector[finalIndex] == 0;
+		}
+
+		@Override
+		public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+			return true;
+		}
+	}
+
+	/**
+	 * Writes cutting patterns and ExcludeFinal decisions
+	 */
+	private static final class CuttingStockCodec implements CheckpointCodec<CuttingStock, CuttingPattern, PricingProblem> {
+		@Override
+		public void writeColumn(CuttingPattern column, DataOutput out) throws IOException {
+			out.writeBoolean(column.isArtificialColumn);
+			out.writeInt(column.yieldVector.length);
+			for(int yield : column.yieldVector)
+				out.writeInt(yield);
+		}
+
+		@Override
+		public CuttingPattern readColumn(DataInput in, PricingProblem pricingProblem) throws IOException {
+			boolean isArtificial=in.readBoolean();
+			int[] yieldVector=new int[in.readInt()];
+			for(int i=0; i<yieldVector.length; i++)
+				yieldVector[i]=in.readInt();
+			return new CuttingPattern("test", isArtificial, yieldVector, pricingProblem);
+		}
+
+		@Override
+		public void writeBranchingDecision(BranchingDecision<CuttingStock, CuttingPattern> branchingDecision, DataOutput out) throws IOException {
+			out.writeInt(((ExcludeFinal) branchingDecision).finalIndex);
+		}
+
+		@Override
+		public BranchingDecision<CuttingStock, CuttingPattern> readBranchingDecision(DataInput in, List<PricingProblem> pricingProblems) throws IOException {
+			return new ExcludeFinal(in.readInt());
+		}
+	}
+
+	/**
+	 * Test whether a node is restored with its path, bound, estimate and columns after it has been encoded, and whether its columns refer to the pricing problems of the receiving side
+	 */
+	public void testNodeTransfer() throws IOException {
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem sender=new PricingProblem(dataModel, "cuttingStockPricing");
+		PricingProblem receiver=new PricingProblem(dataModel, "cuttingStockPricing");
+		DistributedBAPProtocol<CuttingStock, CuttingPattern, PricingProblem> senderProtocol=new DistributedBAPProtocol<>(new CuttingStockCodec(), Collections.singletonList(sender));
+		DistributedBAPProtocol<CuttingStock, CuttingPattern, PricingProblem> receiverProtocol=new DistributedBAPProtocol<>(new CuttingStockCodec(), Collections.singletonList(receiver));
+
+		NodePath path=NodePath.root(0).createChild(3, new ExcludeFinal(0)).createChild(8, new ExcludeFinal(2));
+		List<CuttingPattern> columns=Arrays.asList(new CuttingPattern("test", false, new int[]{0, 1, 0, 0}, sender), new CuttingPattern("test", true, new int[]{0, 0, 0, 1}, sender));
+		BAPNode<CuttingStock, CuttingPattern> node=new BAPNode<>(path, new ArrayList<>(columns), new ArrayList<>(), 12.4);
+		node.setEstimate(14.5);
+
+		//The coordinator only reads the bounds of the nodes; the nodes themselves are passed on unchanged
+		byte[] payload=DistributedBAPProtocol.writeEncodedNodes(Arrays.asList(senderProtocol.encode(node, 13), senderProtocol.encode(new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), 10), 10)));
+		List<EncodedNode> encodedNodes=DistributedBAPProtocol.readEncodedNodes(payload);
+		assertEquals(2, encodedNodes.size());
+		assertEquals(13.0, encodedNodes.get(0).bound);
+		assertEquals(10.0, encodedNodes.get(1).bound);
+
+		BAPNode<CuttingStock, CuttingPattern> copy=receiverProtocol.decode(encodedNodes.get(0));
+		assertEquals(8, copy.nodeID);
+		assertEquals(3, copy.getParentID());
+		assertTrue(Arrays.equals(path.toArray(), copy.getPath().toArray()));
+		assertEquals(0, ((ExcludeFinal) copy.getBranchingDecisions().get(0)).finalIndex);
+		assertEquals(2, ((ExcludeFinal) copy.getBranchingDecisions().get(1)).finalIndex);
+		assertEquals(12.4, copy.getBound());
+		assertEquals(14.5, copy.getEstimate());
+		assertEquals(columns, copy.getInitialColumns());
+		assertTrue(copy.getInitialColumns().get(1).isArtificialColumn);
+		for(CuttingPattern column : copy.getInitialColumns())
+			assertSame(receiver, column.associatedPricingProblem);
+		//The copy shares the path prefix with the nodes of the receiving side through the node IDs
+		assertEquals(3, path.getParent().createChild(9, new ExcludeFinal(1)).lowestCommonAncestor(copy.getPath()).getNodeID());
+
+		BAPNode<CuttingStock, CuttingPattern> root=receiverProtocol.decode(encodedNodes.get(1));
+		assertEquals(0, root.nodeID);
+		assertEquals(0, root.getNodeDepth());
+		assertTrue(root.getInitialColumns().isEmpty());
+	}
+
+	/**
+	 * Test whether the objective of an encoded solution can be read without decoding its columns, and whether the columns are restored
+	 */
+	public void testSolutionTransfer() throws IOException {
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		DistributedBAPProtocol<CuttingStock, CuttingPattern, PricingProblem> protocol=new DistributedBAPProtocol<>(new CuttingStockCodec(), Collections.singletonList(pricingProblem));
+		List<CuttingPattern> solution=Arrays.asList(new CuttingPattern("test", false, new int[]{2, 0, 0, 0}, pricingProblem), new CuttingPattern("test", false, new int[]{0, 1, 1, 0}, pricingProblem));
+
+		byte[] encodedSolution=protocol.encodeSolution(47, solution);
+		assertEquals(47.0, DistributedBAPProtocol.readObjective(encodedSolution));
+		assertEquals(solution, protocol.decodeSolution(encodedSolution));
+		assertTrue(protocol.decodeSolution(protocol.encodeSolution(Double.MAX_VALUE, Collections.emptyList())).isEmpty());
+	}
+
+	/**
+	 * Test whether messages are received in the order in which they have been sent, and whether a closed connection is reported as a CLOSED message
+	 */
+	public void testMessages() throws IOException {
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		DataOutputStream out=new DataOutputStream(bytes);
+		DistributedBAPProtocol.send(out, DistributedBAPProtocol.STEAL, new byte[0]);
+		DistributedBAPProtocol.send(out, DistributedBAPProtocol.INCUMBENT, new byte[]{1, 2, 3});
+
+		DataInputStream in=new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		Message steal=DistributedBAPProtocol.receive(in, 2);
+		assertEquals(DistributedBAPProtocol.STEAL, steal.type);
+		assertEquals(2, steal.sender);
+		assertEquals(0, steal.payload.length);
+		Message incumbent=DistributedBAPProtocol.receive(in, 2);
+		assertEquals(DistributedBAPProtocol.INCUMBENT, incumbent.type);
+		assertTrue(Arrays.equals(new byte[]{1, 2, 3}, incumbent.payload));
+		assertEquals(DistributedBAPProtocol.CLOSED, DistributedBAPProtocol.receive(in, 2).type);
+	}
+}
@@ -0,0 +1,227 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AsyncEventDispatcherTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+
+/**
+ * Test class for the AsyncEventDispatcher and the ListenerSet
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class AsyncEventDispatcherTest extends TestCase {
+
+	/**
+	 * Listener which records the events it receives. Optionally, the listener blocks on the first event it receives until it is released.
+	 */
+	private static final class RecordingListener implements CGListener, SelectiveListener {
+		private final long eventMask;
+		private final CountDownLatch release;
+		private final List<Integer> iterations=Collections.synchronizedList(new ArrayList<>());
+		private volatile int nrStartCG=0;
+		private volatile int nrFinishCG=0;
+		private volatile int nrFinishMaster=0;
+		private volatile int nrFinishPricing=0;
+		private volatile Thread deliveryThread;
+
+		private RecordingListener(long eventMask, CountDownLatch release){
+			this.eventMask=eventMask;
+			this.release=release;
+		}
+
+		@Override
+		public long getEventMask() {
+			return eventMask;
+		}
+
+		@Override
+		public void startCG(StartEvent startEvent) {
+			nrStartCG++;
+		}
+
+		@Override
+		public void finishCG(FinishEvent finishEvent) {
+			nrFinishCG++;
+		}
+
+		@Override
+		public void startMaster(StartMasterEvent startMasterEvent) {
+			deliveryThread=Thread.currentThread();
+			if(iterations.isEmpty() && release != null){
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			iterations.add(startMasterEvent.columnGenerationIteration);
+		}
+
+		@Override
+		public void finishMaster(FinishMasterEvent finishMasterEvent) {
+			nrFinishMaster++;
+		}
+
+		@Override
+		public void startPricing(StartPricingEvent startPricing) {}
+
+		@Override
+		public void finishPricing(FinishPricingEvent finishPricingEvent) {
+			nrFinishPricing++;
+		}
+
+		@Override
+		public void timeLimitExceeded(TimeLimitExceededEvent timeLimitExceededEvent) {}
+	}
+
+	/**
+	 * Test whether events are delivered on the background thread, in the order in which they have been published, while the buffer wraps around many times.
+	 */
+	public void testDeliveryOrder(){
+		RecordingListener listener=new RecordingListener(EventType.ALL, null);
+		ListenerSet<CGListener> listeners=ListenerSet.<CGListener>empty().with(listener);
+		AsyncEventDispatcher dispatcher=new AsyncEventDispatcher(4);
+		int nrEvents=10000;
+		for(int i=0; i<nrEvents; i++)
+			dispatcher.publish(EventType.START_MASTER, new StartMasterEvent(this, i), listeners);
+		dispatcher.flush();
+		assertEquals(nrEvents, listener.iterations.size());
+		for(int i=0; i<nrEvents; i++)
+			assertEquals(i, (int)listener.iterations.get(i));
+		assertEquals(nrEvents, dispatcher.getNrDeliveredEvents());
+		assertEquals(0, dispatcher.getNrDroppedEvents());
+		assertNotSame(Thread.currentThread(), listener.deliveryThread);
+		dispatcher.close();
+
+		//Events published after the dispatcher has been closed are delivered synchronously
+		dispatcher.publish(EventType.START_MASTER, new StartMasterEvent(this, nrEvents), listeners);
+		assertEquals(nrEvents+1, listener.iterations.size());
+		assertSame(Thread.currentThread(), listener.deliveryThread);
+	}
+
+	/**
+	 * Test whether listeners only receive the events they are interested in
+	 */
+	public void testEventMask(){
+		RecordingListener finishListener=new RecordingListener(EventType.maskOf(EventType.FINISH_CG), null);
+		RecordingListener allListener=new RecordingListener(EventType.ALL, null);
+		ListenerSet<CGListener> listeners=ListenerSet.<CGListener>empty().with(finishListener);
+		assertTrue(listeners.isInterested(EventType.FINISH_CG));
+		assertFalse(listeners.isInterested(EventType.START_MASTER));
+
+		listeners=listeners.with(allListener).with(allListener);
+		assertEquals(2, listeners.size());
+		assertTrue(listeners.isInterested(EventType.START_MASTER));
+		EventDispatcher.SYNCHRONOUS.publish(EventType.START_MASTER, new StartMasterEvent(this, 0), listeners);
+		EventDispatcher.SYNCHRONOUS.publish(EventType.FINISH_CG, new FinishEvent(this), listeners);
+		assertTrue(finishListener.iterations.isEmpty());
+		assertEquals(1, finishListener.nrFinishCG);
+		assertEquals(1, allListener.iterations.size());
+		assertEquals(1, allListener.nrFinishCG);
+
+		listeners=listeners.without(allListener);
+		assertEquals(1, listeners.size());
+		assertFalse(listeners.isInterested(EventType.START_MASTER));
+	}
+
+	/**
+	 * Test whether non-critical events are dropped when the buffer is full, while critical events are retained
+	 */
+	public void testBackpressure() throws InterruptedException {
+		CountDownLatch release=new CountDownLatch(1);
+		RecordingListener listener=new RecordingListener(EventType.ALL, release);
+		ListenerSet<CGListener> listeners=ListenerSet.<CGListener>empty().with(listener);
+		AsyncEventDispatcher dispatcher=new AsyncEventDispatcher(2, BackpressurePolicy.DROP, 1);
+		int nrEvents=100;
+		//The listener blocks on the first event, so only the first 2 events fit in the buffer
+		for(int i=0; i<nrEvents; i++)
+			dispatcher.publish(EventType.START_MASTER, new StartMasterEvent(this, i), listeners);
+		assertEquals(nrEvents-2, dispatcher.getNrDroppedEvents());
+
+		//A critical event waits for room in the buffer
+		Thread publisher=new Thread(() -> dispatcher.publish(EventType.FINISH_CG, new FinishEvent(this), listeners));
+		publisher.start();
+		publisher.join(100);
+		assertTrue(publisher.isAlive());
+		release.countDown();
+		publisher.join();
+		dispatcher.close();
+
+		assertEquals(2, listener.iterations.size());
+		assertEquals(1, listener.nrFinishCG);
+		assertEquals(nrEvents-2, dispatcher.getNrDroppedEvents());
+		assertEquals(3, dispatcher.getNrDeliveredEvents());
+	}
+
+	/**
+	 * Test whether a column generation procedure whose events are delivered by an AsyncEventDispatcher delivers the same events as one which dispatches them synchronously
+	 */
+	public void testColumnGeneration() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(dataModel);
+		RecordingListener listener=new RecordingListener(EventType.ALL, null);
+		cg.addCGEventListener(listener);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+
+		//Deliver the events on a background thread. Closing the column generation procedure flushes the dispatcher
+		AsyncEventDispatcher dispatcher=new AsyncEventDispatcher(4, BackpressurePolicy.BLOCK, 1);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgAsync=CuttingStockCGTest.createColGen(dataModel);
+		RecordingListener asyncListener=new RecordingListener(EventType.ALL, null);
+		RecordingListener selectiveListener=new RecordingListener(EventType.maskOf(EventType.START_CG, EventType.FINISH_CG), null);
+		cgAsync.setEventDispatcher(dispatcher);
+		cgAsync.addCGEventListener(asyncListener);
+		cgAsync.addCGEventListener(selectiveListener);
+		cgAsync.solve(System.currentTimeMillis()+10000L);
+		cgAsync.close();
+		assertEquals(cg.getObjective(), cgAsync.getObjective(), 0.000001);
+		assertEquals(1, asyncListener.nrStartCG);
+		assertEquals(1, asyncListener.nrFinishCG);
+		assertEquals(listener.iterations, asyncListener.iterations);
+		assertEquals(listener.nrFinishMaster, asyncListener.nrFinishMaster);
+		assertEquals(listener.nrFinishPricing, asyncListener.nrFinishPricing);
+		assertEquals(1, selectiveListener.nrStartCG);
+		assertEquals(1, selectiveListener.nrFinishCG);
+		assertEquals(0, selectiveListener.iterations.size());
+		assertEquals(0, selectiveListener.nrFinishPricing);
+		assertEquals(0, dispatcher.getNrDroppedEvents());
+		dispatcher.close();
+	}
+}
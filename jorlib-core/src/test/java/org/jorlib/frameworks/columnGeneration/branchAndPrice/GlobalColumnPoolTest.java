@@ -0,0 +1,224 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * GlobalColumnPoolTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.StubMaster;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+
+/**
+ * Test class for the GlobalColumnPool
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class GlobalColumnPoolTest extends TestCase {
+
+	private final CuttingStock dataModel=new CuttingStock();
+	private final PricingProblem pricingProblem=new PricingProblem(dataModel, "pricingProblem");
+
+	/**
+	 * Branching decision which excludes a single column
+	 */
+	private static final class ExcludeColumn implements BranchingDecision<CuttingStock, CuttingPattern> {
+		private final CuttingPattern excludedColumn;
+
+		private ExcludeColumn(CuttingPattern excludedColumn){
+			this.excludedColumn=excludedColumn;
+		}
+
+		@Override
+		public boolean columnIsCompatibleWithBranchingDecision(CuttingPattern column) {
+			return !column.equals(excludedColumn);
+		}
+
+		@Override
+		public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+			return true;
+		}
+	}
+
+	/**
+	 * Creates a column. Columns with different IDs are different columns.
+	 */
+	private CuttingPattern createColumn(int id){
+		return new CuttingPattern("test", false, new int[]{id, 0, 0, 0}, pricingProblem);
+	}
+
+	/**
+	 * Creates a minimization master problem in which the given columns have a reduced cost of -1. All other columns have a reduced cost of 0.
+	 */
+	private StubMaster createMaster(CuttingPattern... attractiveColumns){
+		StubMaster master=new StubMaster(dataModel, Collections.singletonList(pricingProblem), OptimizationSense.MINIMIZE);
+		for(CuttingPattern column : attractiveColumns)
+			master.setReducedCost(column, -1);
+		return master;
+	}
+
+	/**
+	 * A full pool evicts the least recently used column, where a column is used when it is added to the pool or returned by a lookup.
+	 */
+	public void testLeastRecentlyUsedEviction(){
+		CuttingPattern a=this.createColumn(1);
+		CuttingPattern b=this.createColumn(2);
+		CuttingPattern c=this.createColumn(3);
+		CuttingPattern d=this.createColumn(4);
+		CuttingPattern e=this.createColumn(5);
+		GlobalColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new GlobalColumnPool<>(3, Long.MAX_VALUE);
+		pool.addColumns(Arrays.asList(a, b, c));
+		assertEquals(3, pool.size());
+
+		//Returning column a makes column b the least recently used column
+		assertEquals(Collections.singletonList(a), pool.getAttractiveColumns(this.createMaster(a)));
+		pool.addColumns(Collections.singletonList(d));
+		assertEquals(3, pool.size());
+		assertEquals(1, pool.getNrEvictedColumns());
+		assertEquals(new HashSet<>(Arrays.asList(a, c, d)), new HashSet<>(pool.getAttractiveColumns(this.createMaster(a, b, c, d))));
+
+		//Artificial columns are never stored
+		pool.addColumns(Collections.singletonList(new CuttingPattern("artificial", true, new int[]{6, 0, 0, 0}, pricingProblem)));
+		assertEquals(3, pool.size());
+
+		//The last lookup used the columns in pool order c, a, d, so c is the least recently used column when e is added
+		pool.addColumns(Collections.singletonList(e));
+		assertEquals(new HashSet<>(Arrays.asList(a, d, e)), new HashSet<>(pool.getAttractiveColumns(this.createMaster(a, b, c, d, e))));
+		assertEquals(2, pool.getNrEvictedColumns());
+	}
+
+	/**
+	 * Columns which have not been used during the last maxAge lookups are evicted
+	 */
+	public void testAgeBasedEviction(){
+		CuttingPattern a=this.createColumn(1);
+		CuttingPattern b=this.createColumn(2);
+		GlobalColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new GlobalColumnPool<>(10, 2);
+		pool.addColumns(Arrays.asList(a, b));
+		StubMaster master=this.createMaster(a);
+		assertEquals(Collections.singletonList(a), pool.getAttractiveColumns(master));
+		assertEquals(Collections.singletonList(a), pool.getAttractiveColumns(master));
+		assertEquals(2, pool.size());
+		//Column b has not been used during the last 2 lookups
+		assertEquals(Collections.singletonList(a), pool.getAttractiveColumns(master));
+		assertEquals(1, pool.size());
+		assertEquals(1, pool.getNrEvictedColumns());
+	}
+
+	/**
+	 * Only columns with an attractive reduced cost which are not part of the master problem are returned
+	 */
+	public void testSkipColumnsInMaster(){
+		CuttingPattern a=this.createColumn(1);
+		CuttingPattern b=this.createColumn(2);
+		CuttingPattern c=this.createColumn(3);
+		GlobalColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new GlobalColumnPool<>(10, Long.MAX_VALUE);
+		pool.addColumns(Arrays.asList(a, b, c));
+		StubMaster master=this.createMaster(a, b);
+		master.addColumn(a);
+		assertEquals(Collections.singletonList(b), pool.getAttractiveColumns(master));
+
+		master.addColumn(b);
+		assertTrue(pool.getAttractiveColumns(master).isEmpty());
+		assertEquals(3, pool.size());
+		assertEquals(2, pool.getNrLookups());
+		assertEquals(1, pool.getNrHits());
+		assertEquals(1, pool.getNrMisses());
+		assertEquals(1, pool.getNrReturnedColumns());
+	}
+
+	/**
+	 * Columns which are incompatible with the branching decisions leading to the current node are not returned. Once the branching decision is reversed,
+	 * these columns are returned again.
+	 */
+	public void testIncompatibleColumnsAreSkipped(){
+		CuttingPattern a=this.createColumn(1);
+		CuttingPattern b=this.createColumn(2);
+		CuttingPattern c=this.createColumn(3);
+		GlobalColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new GlobalColumnPool<>(10, Long.MAX_VALUE);
+		pool.addColumns(Arrays.asList(a, b, c));
+		StubMaster master=this.createMaster(a, b, c);
+
+		ExcludeColumn excludeA=new ExcludeColumn(a);
+		ExcludeColumn excludeB=new ExcludeColumn(b);
+		pool.branchingDecisionPerformed(excludeA);
+		assertEquals(new HashSet<>(Arrays.asList(b, c)), new HashSet<>(pool.getAttractiveColumns(master)));
+		pool.branchingDecisionPerformed(excludeB);
+		assertEquals(Collections.singletonList(c), pool.getAttractiveColumns(master));
+
+		//Backtracking: the incompatible columns are retained by the pool, and become available again
+		pool.branchingDecisionReversed(excludeB);
+		assertEquals(new HashSet<>(Arrays.asList(b, c)), new HashSet<>(pool.getAttractiveColumns(master)));
+		pool.branchingDecisionReversed(excludeA);
+		assertEquals(new HashSet<>(Arrays.asList(a, b, c)), new HashSet<>(pool.getAttractiveColumns(master)));
+		assertEquals(3, pool.size());
+	}
+
+	/**
+	 * Solving the same problem twice with a shared pool takes columns from the pool rather than from the pricing problem
+	 */
+	public void testColumnGeneration() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		GlobalColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new GlobalColumnPool<>(1000, Long.MAX_VALUE);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(dataModel, pricingProblem, Integer.MAX_VALUE);
+		cg.setGlobalColumnPool(pool);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+		assertEquals(cg.getNrGeneratedColumns(), pool.size());
+
+		//Solving the same problem again: the columns are taken from the pool, rather than being generated by the pricing problem
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgPool=CuttingStockCGTest.createColGen(dataModel, pricingProblem, Integer.MAX_VALUE);
+		cgPool.setGlobalColumnPool(pool);
+		cgPool.solve(System.currentTimeMillis()+10000L);
+		cgPool.close();
+		assertEquals(cg.getObjective(), cgPool.getObjective(), 0.000001);
+		assertTrue(pool.getNrHits() > 0);
+		assertTrue(cgPool.getNrGeneratedColumns() < cg.getNrGeneratedColumns());
+		assertEquals(pool.getNrLookups(), pool.getNrHits()+pool.getNrMisses());
+
+		//A bounded pool evicts the least recently used columns
+		GlobalColumnPool<CuttingStock, CuttingPattern, PricingProblem> smallPool=new GlobalColumnPool<>(5, Long.MAX_VALUE);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgSmallPool=CuttingStockCGTest.createColGen(dataModel);
+		cgSmallPool.setGlobalColumnPool(smallPool);
+		cgSmallPool.solve(System.currentTimeMillis()+10000L);
+		cgSmallPool.close();
+		assertEquals(5, smallPool.size());
+		assertEquals(cgSmallPool.getNrGeneratedColumns()-5, smallPool.getNrEvictedColumns());
+	}
+}
@@ -0,0 +1,180 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * NodePathTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+
+/**
+ * Test class for the NodePath and the GraphManipulator
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class NodePathTest extends TestCase {
+
+	/**
+	 * Branching decision which is identified by the ID of the node it leads to
+	 */
+	private static final class Decision implements BranchingDecision<CuttingStock, CuttingPattern> {
+		private final int nodeID;
+
+		private Decision(int nodeID){
+			this.nodeID=nodeID;
+		}
+
+		@Override
+		public boolean columnIsCompatibleWithBranchingDecision(CuttingPattern column) {
+			return true;
+		}
+
+		@Override
+		public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+			return true;
+		}
+
+		@Override
+		public String toString(){
+			return "d"+nodeID;
+		}
+	}
+
+	/**
+	 * Creates the path of a child node
+	 * @param parent path of the parent node
+	 * @param nodeID ID of the child node
+	 * @return path of the child node
+	 */
+	private static NodePath child(NodePath parent, int nodeID){
+		return parent.createChild(nodeID, new Decision(nodeID));
+	}
+
+	/**
+	 * Test the representation of a path, and the lowest common ancestor of two paths
+	 */
+	public void testPath(){
+		NodePath root=NodePath.root(0);
+		NodePath a=child(child(root, 1), 300);
+		NodePath b=child(child(a, 301), 302);
+		NodePath c=child(a, 303);
+		assertEquals(0, root.getDepth());
+		assertEquals(4, b.getDepth());
+		assertTrue(Arrays.equals(new int[]{0, 1, 300, 301, 302}, b.toArray()));
+		assertEquals("[d1, d300, d301, d302]", b.getBranchingDecisions().toString());
+		assertSame(a, b.getAncestor(2));
+		assertSame(a, b.lowestCommonAncestor(c));
+		assertSame(a, a.lowestCommonAncestor(b));
+		assertSame(root, root.lowestCommonAncestor(c));
+
+		//Paths which are created independently are compared by node ID
+		NodePath copy=b.copy(branchingDecision -> branchingDecision);
+		assertNotSame(b, copy);
+		assertTrue(Arrays.equals(b.toArray(), copy.toArray()));
+		assertEquals(300, c.lowestCommonAncestor(copy).getNodeID());
+		NodePath restored=NodePath.of(c.toArray(), c.getBranchingDecisions());
+		assertEquals(303, restored.lowestCommonAncestor(c).getNodeID());
+		assertEquals(c.getBranchingDecisions(), restored.getBranchingDecisions());
+	}
+
+	/**
+	 * Test whether the GraphManipulator reverts and performs exactly those branching decisions which separate two nodes
+	 */
+	public void testGraphManipulator(){
+		BAPNode<CuttingStock, CuttingPattern> root=new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), 0);
+		List<String> history=new ArrayList<>();
+		GraphManipulator graphManipulator=new GraphManipulator(root);
+		graphManipulator.addBranchingDecisionListener(new BranchingDecisionListener() {
+			@Override
+			public void branchingDecisionPerformed(BranchingDecision bd) {
+				history.add("+"+bd);
+			}
+
+			@Override
+			public void branchingDecisionReversed(BranchingDecision bd) {
+				history.add("-"+bd);
+			}
+		});
+
+		NodePath a=child(child(root.getPath(), 200), 201);
+		NodePath b=child(child(root.getPath(), 200), 202); //Created independently of a
+		NodePath c=child(a, 203);
+		graphManipulator.next(new BAPNode<>(c, new ArrayList<>(), new ArrayList<>(), 0));
+		assertEquals(Arrays.asList("+d200", "+d201", "+d203"), history);
+		history.clear();
+		graphManipulator.next(new BAPNode<>(b, new ArrayList<>(), new ArrayList<>(), 0));
+		assertEquals(Arrays.asList("-d203", "-d201", "+d202"), history);
+		history.clear();
+		graphManipulator.restore();
+		assertEquals(Arrays.asList("-d202", "-d200"), history);
+	}
+
+	/**
+	 * Test whether the GraphManipulator reverts the fixings it has performed when it moves from a path to a copy of that path, which shares its node IDs but does not carry its fixings
+	 */
+	public void testGraphManipulatorWithCopiedPath(){
+		BAPNode<CuttingStock, CuttingPattern> root=new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), 0);
+		List<String> history=new ArrayList<>();
+		GraphManipulator graphManipulator=new GraphManipulator(root);
+		graphManipulator.addBranchingDecisionListener(new BranchingDecisionListener() {
+			@Override
+			public void branchingDecisionPerformed(BranchingDecision bd) {
+				history.add("+"+bd);
+			}
+
+			@Override
+			public void branchingDecisionReversed(BranchingDecision bd) {
+				history.add("-"+bd);
+			}
+		});
+
+		NodePath c=root.getPath().createChild(1, new Decision(1), Arrays.asList(new Decision(999))); //Carries fixing d999
+		NodePath g1=child(c, 2);
+		NodePath g2=child(c, 3);
+		NodePath h=child(g1.copy(branchingDecision -> branchingDecision), 4); //The copy of c does not carry the fixing
+		NodePath y=child(root.getPath(), 5);
+		graphManipulator.next(new BAPNode<>(g2, new ArrayList<>(), new ArrayList<>(), 0));
+		assertEquals(Arrays.asList("+d1", "+d999", "+d3"), history);
+		history.clear();
+		//The fixing of c remains performed, since h is a descendant of c
+		graphManipulator.next(new BAPNode<>(h, new ArrayList<>(), new ArrayList<>(), 0));
+		assertEquals(Arrays.asList("-d3", "+d2", "+d4"), history);
+		history.clear();
+		graphManipulator.next(new BAPNode<>(y, new ArrayList<>(), new ArrayList<>(), 0));
+		assertEquals(Arrays.asList("-d4", "-d2", "-d999", "-d1", "+d5"), history);
+		history.clear();
+		graphManipulator.restore();
+		assertEquals(Arrays.asList("-d5"), history);
+	}
+}
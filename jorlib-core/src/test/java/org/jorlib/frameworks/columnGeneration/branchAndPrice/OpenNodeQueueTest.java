@@ -0,0 +1,145 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * OpenNodeQueueTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestBoundbapNodeComparator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestEstimatebapNodeComparator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.DFSbapNodeComparator;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Test class for the OpenNodeQueue and the node comparators
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class OpenNodeQueueTest extends TestCase {
+
+	/**
+	 * Creates a node
+	 * @param parent parent node, or null to create the root node
+	 * @param nodeID ID of the node
+	 * @param bound bound of the node
+	 * @return node
+	 */
+	private static BAPNode<CuttingStock, CuttingPattern> createNode(BAPNode<CuttingStock, CuttingPattern> parent, int nodeID, double bound){
+		NodePath path=(parent == null ? NodePath.root(nodeID) : parent.getPath().createChild(nodeID, null));
+		return new BAPNode<>(path, new ArrayList<>(), new ArrayList<>(), bound);
+	}
+
+	/**
+	 * Test whether the nodes are processed in best-bound order, and whether the global bound is maintained while nodes are added and removed
+	 */
+	public void testBestBound(){
+		OpenNodeQueue<CuttingStock, CuttingPattern> queue=new OpenNodeQueue<>(new BestBoundbapNodeComparator(OptimizationSense.MINIMIZE), OptimizationSense.MINIMIZE);
+		assertTrue(Double.isNaN(queue.getBound()));
+		BAPNode<CuttingStock, CuttingPattern> root=createNode(null, 0, 1);
+		double[] bounds={5, 3, 8, 3, 1, 9};
+		for(int i=0; i<bounds.length; i++)
+			queue.add(createNode(root, i+1, bounds[i]));
+		assertEquals(6, queue.size());
+		assertEquals(1.0, queue.getBound());
+
+		//Ties are broken in a DFS manner: node 4 precedes node 2
+		List<Integer> order=new ArrayList<>();
+		List<Double> globalBounds=new ArrayList<>();
+		while(!queue.isEmpty()){
+			globalBounds.add(queue.getBound());
+			order.add(queue.poll().nodeID);
+		}
+		assertEquals(Arrays.asList(5, 4, 2, 1, 3, 6), order);
+		assertEquals(Arrays.asList(1.0, 3.0, 3.0, 5.0, 8.0, 9.0), globalBounds);
+		assertNull(queue.poll());
+
+		//Maximization: the highest bound is the best bound
+		queue=new OpenNodeQueue<>(new DFSbapNodeComparator(), OptimizationSense.MAXIMIZE);
+		for(int i=0; i<bounds.length; i++)
+			queue.add(createNode(root, i+1, bounds[i]));
+		assertEquals(9.0, queue.getBound());
+		assertEquals(6, queue.poll().nodeID);
+		assertEquals(8.0, queue.getBound());
+		assertTrue(queue.remove(queue.peek()));
+		assertEquals(4, queue.size());
+		assertEquals(8.0, queue.getBound());
+	}
+
+	/**
+	 * Test whether the nodes are processed in order of their estimates
+	 */
+	public void testBestEstimate(){
+		OpenNodeQueue<CuttingStock, CuttingPattern> queue=new OpenNodeQueue<>(new BestEstimatebapNodeComparator(OptimizationSense.MINIMIZE), OptimizationSense.MINIMIZE);
+		BAPNode<CuttingStock, CuttingPattern> root=createNode(null, 0, 1);
+		BAPNode<CuttingStock, CuttingPattern> node1=createNode(root, 1, 2);
+		BAPNode<CuttingStock, CuttingPattern> node2=createNode(root, 2, 3);
+		BAPNode<CuttingStock, CuttingPattern> node3=createNode(root, 3, 4);
+		assertEquals(2.0, node1.getEstimate());
+		node1.setEstimate(10);
+		node2.setEstimate(6);
+		queue.addAll(Arrays.asList(node1, node2, node3));
+		assertSame(node3, queue.poll());
+		assertSame(node2, queue.poll());
+		assertSame(node1, queue.poll());
+	}
+
+	/**
+	 * Test the dive-then-best-bound strategy: the queue dives into the children of the node taken last, until the maximum dive depth is reached or the node has no children
+	 */
+	public void testDiveThenBestBound(){
+		OpenNodeQueue<CuttingStock, CuttingPattern> queue=new OpenNodeQueue<>(new BestBoundbapNodeComparator(OptimizationSense.MINIMIZE), OptimizationSense.MINIMIZE, 2);
+		BAPNode<CuttingStock, CuttingPattern> root=createNode(null, 0, 0);
+		queue.add(root);
+		assertSame(root, queue.poll());
+		BAPNode<CuttingStock, CuttingPattern> node1=createNode(root, 1, 1);
+		BAPNode<CuttingStock, CuttingPattern> node2=createNode(root, 2, 2);
+		queue.addAll(Arrays.asList(node1, node2));
+		assertSame(node1, queue.poll());
+
+		//Children of node 1 have a worse bound than node 2, but the queue dives
+		BAPNode<CuttingStock, CuttingPattern> node3=createNode(node1, 3, 5);
+		BAPNode<CuttingStock, CuttingPattern> node4=createNode(node1, 4, 4);
+		queue.addAll(Arrays.asList(node3, node4));
+		assertEquals(2.0, queue.getBound());
+		assertSame(node4, queue.poll());
+
+		//Maximum dive depth reached: the best-bound node is selected
+		BAPNode<CuttingStock, CuttingPattern> node5=createNode(node4, 5, 6);
+		queue.add(node5);
+		assertSame(node2, queue.poll());
+
+		//Node 2 has no children: the dive ends, and the best-bound node is selected
+		assertSame(node3, queue.poll());
+		assertSame(node5, queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+}
@@ -0,0 +1,160 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PrimalHeuristicTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+
+/**
+ * Test class for the schedule of the primal heuristics, and for the rounding heuristic
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class PrimalHeuristicTest extends TestCase {
+
+	/**
+	 * Rounding heuristic for the cutting stock problem, which records the solutions it finds instead of submitting them to a Branch-and-Price instance
+	 */
+	private static final class CuttingStockRounding extends AbstractRoundingHeuristic<CuttingStock, CuttingPattern, PricingProblem> {
+		private final List<Double> objectives=new ArrayList<>();
+		private final List<List<CuttingPattern>> solutions=new ArrayList<>();
+
+		private CuttingStockRounding(CuttingStock dataModel, PricingProblem pricingProblem){
+			super(dataModel, Collections.singletonList(pricingProblem));
+		}
+
+		@Override
+		protected boolean isFeasible(List<CuttingPattern> columns, int[] values) {
+			for(int i=0; i<dataModel.nrFinals; i++){
+				int yield=0;
+				for(int j=0; j<columns.size(); j++)
+					yield+=columns.get(j).yieldVector[i]*values[j];
+				if(yield < dataModel.demandForFinals[i])
+					return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected double getObjective(List<CuttingPattern> columns, int[] values) {
+			return Arrays.stream(values).sum();
+		}
+
+		@Override
+		protected List<CuttingPattern> createSolution(List<CuttingPattern> columns, int[] values) {
+			List<CuttingPattern> solution=new ArrayList<>();
+			for(int j=0; j<columns.size(); j++){
+				if(values[j] > 0)
+					solution.add(columns.get(j));
+			}
+			return solution;
+		}
+
+		@Override
+		protected boolean submitSolution(double objective, List<CuttingPattern> solution) {
+			objectives.add(objective);
+			solutions.add(solution);
+			return true;
+		}
+	}
+
+	/**
+	 * Test whether the heuristics are invoked in the root node, every k nodes, and at every d levels of the tree, up to the maximum depth
+	 */
+	public void testSchedule(){
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		CuttingStockRounding heuristic=new CuttingStockRounding(dataModel, pricingProblem);
+		NodePath root=NodePath.root(0);
+		BAPNode<CuttingStock, CuttingPattern> rootNode=new BAPNode<>(root, new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<CuttingStock, CuttingPattern> depth1=new BAPNode<>(root.createChild(1, null), new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<CuttingStock, CuttingPattern> depth2=new BAPNode<>(depth1.getPath().createChild(2, null), new ArrayList<>(), new ArrayList<>(), 0);
+		BAPNode<CuttingStock, CuttingPattern> depth4=new BAPNode<>(depth2.getPath().createChild(3, null).createChild(4, null), new ArrayList<>(), new ArrayList<>(), 0);
+
+		//By default, the heuristic only runs in the root node
+		assertTrue(heuristic.isScheduled(rootNode, 0));
+		assertFalse(heuristic.isScheduled(depth1, 1));
+		assertFalse(heuristic.isScheduled(depth2, 10));
+		heuristic.setRunAtRoot(false);
+		assertFalse(heuristic.isScheduled(rootNode, 0));
+
+		//Every 5 nodes
+		heuristic.setNodeFrequency(5);
+		assertTrue(heuristic.isScheduled(depth1, 5));
+		assertFalse(heuristic.isScheduled(depth1, 6));
+		assertTrue(heuristic.isScheduled(depth2, 10));
+
+		//Every 2 levels, up to depth 3
+		heuristic.setNodeFrequency(0);
+		heuristic.setDepthFrequency(2);
+		heuristic.setMaxDepth(3);
+		assertFalse(heuristic.isScheduled(depth1, 1));
+		assertTrue(heuristic.isScheduled(depth2, 1));
+		assertFalse(heuristic.isScheduled(depth4, 1));
+	}
+
+	/**
+	 * Test whether the rounding heuristic rounds the columns with the largest fractional parts up until the demand is satisfied, without modifying the values of the columns
+	 */
+	public void testRounding() throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock(); //Demand: 97, 610, 395, 211
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		CuttingStockRounding heuristic=new CuttingStockRounding(dataModel, pricingProblem);
+		List<CuttingPattern> solution=new ArrayList<>();
+		double[] values={48.3, 305, 394.7, 105.5, 0.2};
+		solution.add(new CuttingPattern("test", false, new int[]{2, 0, 0, 0}, pricingProblem));
+		solution.add(new CuttingPattern("test", false, new int[]{0, 2, 0, 0}, pricingProblem));
+		solution.add(new CuttingPattern("test", false, new int[]{0, 0, 1, 0}, pricingProblem));
+		solution.add(new CuttingPattern("test", false, new int[]{0, 0, 0, 2}, pricingProblem));
+		solution.add(new CuttingPattern("test", false, new int[]{1, 0, 0, 0}, pricingProblem));
+		for(int i=0; i<values.length; i++)
+			solution.get(i).value=values[i];
+		BAPNode<CuttingStock, CuttingPattern> bapNode=new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), 0);
+		bapNode.storeSolution(853.7, 853.7, solution, new ArrayList<>());
+
+		//The patterns with values 394.7, 105.5 and 48.3 are rounded up, after which the demand is satisfied. The pattern with the smallest fractional part is not needed.
+		heuristic.run(bapNode, Long.MAX_VALUE);
+		assertEquals(Collections.singletonList(49.0+305+395+106), heuristic.objectives);
+		assertEquals(solution.subList(0, 4), heuristic.solutions.get(0));
+		for(int i=0; i<values.length; i++)
+			assertEquals(values[i], solution.get(i).value);
+
+		//No solution is found when the solution contains artificial columns
+		solution.add(new CuttingPattern("test", true, new int[]{0, 0, 0, 0}, pricingProblem));
+		heuristic.run(bapNode, Long.MAX_VALUE);
+		assertEquals(1, heuristic.objectives.size());
+	}
+}
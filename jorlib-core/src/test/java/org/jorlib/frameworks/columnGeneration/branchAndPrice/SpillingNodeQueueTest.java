@@ -0,0 +1,154 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SpillingNodeQueueTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.BestBoundbapNodeComparator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Test class for the SpillingNodeQueue
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class SpillingNodeQueueTest extends TestCase {
+
+	/**
+	 * Writes cutting patterns to a spill file
+	 */
+	private static final class CuttingPatternCodec implements CheckpointCodec<CuttingStock, CuttingPattern, PricingProblem> {
+		@Override
+		public void writeColumn(CuttingPattern column, DataOutput out) throws IOException {
+			out.writeUTF(column.creator);
+			out.writeBoolean(column.isArtificialColumn);
+			out.writeInt(column.yieldVector.length);
+			for(int yield : column.yieldVector)
+				out.writeInt(yield);
+		}
+
+		@Override
+		public CuttingPattern readColumn(DataInput in, PricingProblem pricingProblem) throws IOException {
+			String creator=in.readUTF();
+			boolean isArtificial=in.readBoolean();
+			int[] yieldVector=new int[in.readInt()];
+			for(int i=0; i<yieldVector.length; i++)
+				yieldVector[i]=in.readInt();
+			return new CuttingPattern(creator, isArtificial, yieldVector, pricingProblem);
+		}
+
+		@Override
+		public void writeBranchingDecision(BranchingDecision<CuttingStock, CuttingPattern> branchingDecision, DataOutput out) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public BranchingDecision<CuttingStock, CuttingPattern> readBranchingDecision(DataInput in, List<PricingProblem> pricingProblems) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * Test whether the nodes which come last in best-bound order are spilled once the budget is exceeded, and whether their columns are read back when they are taken from the queue
+	 */
+	public void testSpilling() throws IOException {
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		File spillFile=File.createTempFile("nodes", ".spill");
+		spillFile.deleteOnExit();
+		SpillingNodeQueue<CuttingStock, CuttingPattern, PricingProblem> queue=new SpillingNodeQueue<>(new BestBoundbapNodeComparator(OptimizationSense.MINIMIZE), OptimizationSense.MINIMIZE,
+				spillFile, new CuttingPatternCodec(), Collections.singletonList(pricingProblem), 6);
+
+		//Every node has 2 columns, so 3 nodes fit in the budget
+		NodePath root=NodePath.root(0);
+		int nrNodes=10;
+		List<List<CuttingPattern>> columns=new ArrayList<>();
+		for(int i=0; i<nrNodes; i++){
+			List<CuttingPattern> nodeColumns=new ArrayList<>();
+			nodeColumns.add(new CuttingPattern("test", false, new int[]{i, 0, 1, 0}, pricingProblem));
+			nodeColumns.add(new CuttingPattern("test", i == 0, new int[]{0, i, 0, 2}, pricingProblem));
+			columns.add(nodeColumns);
+			queue.add(new BAPNode<>(root.createChild(i+1, null), new ArrayList<>(nodeColumns), new ArrayList<>(), nrNodes-i));
+			assertTrue(queue.getNrResidentColumns() <= 6);
+		}
+		assertEquals(nrNodes, queue.size());
+		assertEquals(3, queue.getNrResidentNodes());
+		assertEquals(nrNodes-3, queue.getNrSpilledNodes());
+		assertTrue(queue.getSpillFileSize() > 0);
+		assertEquals(1.0, queue.getBound());
+
+		//The nodes with the best bounds, i.e. the nodes added last, are resident. A spilled node retains its columns in the spill file
+		for(BAPNode<CuttingStock, CuttingPattern> bapNode : queue){
+			int index=bapNode.nodeID-1;
+			assertEquals(index < nrNodes-3, queue.isSpilled(bapNode));
+			assertEquals(queue.isSpilled(bapNode), bapNode.getInitialColumns().isEmpty());
+			assertEquals(columns.get(index), queue.readInitialColumns(bapNode));
+			if(queue.isSpilled(bapNode)){
+				//The encoded columns are copied from the spill file, e.g. into a checkpoint, and decoded elsewhere
+				ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+				queue.writeSpilledColumns(bapNode, new DataOutputStream(bytes));
+				DataInputStream in=new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+				assertEquals(bytes.size()-4, in.readInt());
+				assertEquals(columns.get(index), SpillingNodeQueue.readColumns(in, new CuttingPatternCodec(), Collections.singletonList(pricingProblem)));
+				assertTrue(queue.isSpilled(bapNode));
+			}
+		}
+
+		//Nodes are taken from the queue in best-bound order, with their columns
+		for(int i=nrNodes-1; i>=0; i--){
+			BAPNode<CuttingStock, CuttingPattern> bapNode=queue.poll();
+			assertEquals(i+1, bapNode.nodeID);
+			assertEquals(columns.get(i), bapNode.getInitialColumns());
+			assertEquals(i == 0, bapNode.getInitialColumns().get(1).isArtificialColumn);
+			assertSame(pricingProblem, bapNode.getInitialColumns().get(0).associatedPricingProblem);
+		}
+		assertTrue(queue.isEmpty());
+		assertEquals(0, queue.getNrSpilledNodes());
+		assertEquals(0, queue.getNrResidentColumns());
+		assertEquals(0, queue.getSpillFileSize());
+		assertEquals(nrNodes-3, queue.getNrLoads());
+
+		queue.close();
+		assertFalse(spillFile.exists());
+	}
+}
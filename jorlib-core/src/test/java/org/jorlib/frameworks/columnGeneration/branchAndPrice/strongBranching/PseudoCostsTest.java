@@ -0,0 +1,85 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PseudoCostsTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+import junit.framework.TestCase;
+
+/**
+ * Test class for the PseudoCosts
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class PseudoCostsTest extends TestCase {
+
+	/** Branching decision types **/
+	private static final class DownBranch {}
+	private static final class UpBranch {}
+
+	/**
+	 * Test the averaging of the unit gains, and the fallback to the type average and the overall average
+	 */
+	public void testPseudoCosts(){
+		PseudoCosts pseudoCosts=new PseudoCosts(OptimizationSense.MINIMIZE);
+		assertEquals(1, pseudoCosts.getPseudoCost(DownBranch.class, "x"), 0.000001);
+
+		pseudoCosts.update(DownBranch.class, "x", 0.5, 2);
+		pseudoCosts.update(DownBranch.class, "x", 0.25, 3);
+		assertEquals(2, pseudoCosts.getNrObservations(DownBranch.class, "x"));
+		assertEquals(8, pseudoCosts.getPseudoCost(DownBranch.class, "x"), 0.000001);
+		//Unobserved candidate of an observed type
+		assertEquals(0, pseudoCosts.getNrObservations(DownBranch.class, "y"));
+		pseudoCosts.update(DownBranch.class, "z", 1, 2);
+		assertEquals(6, pseudoCosts.getPseudoCost(DownBranch.class, "y"), 0.000001);
+		//Unobserved type
+		assertEquals(6, pseudoCosts.getPseudoCost(UpBranch.class, "x"), 0.000001);
+		pseudoCosts.update(UpBranch.class, "x", 0.5, 0.5);
+		assertEquals(1, pseudoCosts.getPseudoCost(UpBranch.class, "x"), 0.000001);
+	}
+
+	/**
+	 * Test whether the gains of registered child nodes are recorded once they have been solved
+	 */
+	public void testPendingChildren(){
+		PseudoCosts pseudoCosts=new PseudoCosts(OptimizationSense.MAXIMIZE);
+		assertEquals(2, pseudoCosts.computeGain(10, 8), 0.000001);
+		assertEquals(0, pseudoCosts.computeGain(10, 11), 0.000001);
+
+		pseudoCosts.registerChild(1, DownBranch.class, "x", 0.5, 10);
+		pseudoCosts.registerChild(2, UpBranch.class, "x", 0.5, 10);
+		assertEquals(2, pseudoCosts.getNrPendingChildren());
+		pseudoCosts.childSolved(1, 9);
+		pseudoCosts.childDiscarded(2);
+		pseudoCosts.childSolved(3, 0); //Not registered
+		assertEquals(0, pseudoCosts.getNrPendingChildren());
+		assertEquals(1, pseudoCosts.getNrObservations(DownBranch.class, "x"));
+		assertEquals(2, pseudoCosts.getPseudoCost(DownBranch.class, "x"), 0.000001);
+		assertEquals(0, pseudoCosts.getNrObservations(UpBranch.class, "x"));
+	}
+}
@@ -0,0 +1,142 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CuttingStockCGTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.ExactPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.Master;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+
+/**
+ * This class tests the Column Generation framework by solving the LP relaxation of a cutting stock problem with the built-in simplex solver.
+ *
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class CuttingStockCGTest extends TestCase {
+
+	/**
+	 * Creates a new column generation instance for the given data model
+	 * @param dataModel data model
+	 * @return column generation instance
+	 */
+	public static ColGen<CuttingStock, CuttingPattern, PricingProblem> createColGen(CuttingStock dataModel){
+		int upperBound=0;
+		for(int i=0; i< dataModel.nrFinals; i++)
+			upperBound+=dataModel.demandForFinals[i];
+		return createColGen(dataModel, upperBound);
+	}
+
+	/**
+	 * Creates a new column generation instance for the given data model
+	 * @param dataModel data model
+	 * @param cutoffValue cutoff value
+	 * @return column generation instance
+	 */
+	public static ColGen<CuttingStock, CuttingPattern, PricingProblem> createColGen(CuttingStock dataModel, int cutoffValue){
+		return createColGen(dataModel, new PricingProblem(dataModel, "cuttingStockPricing"), cutoffValue);
+	}
+
+	/**
+	 * Creates a new column generation instance for the given data model and pricing problem
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param cutoffValue cutoff value
+	 * @return column generation instance
+	 */
+	public static ColGen<CuttingStock, CuttingPattern, PricingProblem> createColGen(CuttingStock dataModel, PricingProblem pricingProblem, int cutoffValue){
+		return createColGen(dataModel, pricingProblem, Collections.singletonList(ExactPricingProblemSolver.class), cutoffValue);
+	}
+
+	/**
+	 * Creates a new column generation instance for the given data model, pricing problem and solvers
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param solvers pricing problem solvers
+	 * @param cutoffValue cutoff value
+	 * @return column generation instance
+	 */
+	public static ColGen<CuttingStock, CuttingPattern, PricingProblem> createColGen(CuttingStock dataModel, PricingProblem pricingProblem, List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> solvers, int cutoffValue){
+		Master master=new Master(dataModel, pricingProblem);
+		//Initial solution: cut each final from its own raw
+		List<CuttingPattern> initSolution=new ArrayList<>();
+		for(int i=0; i< dataModel.nrFinals; i++){
+			int[] pattern=new int[dataModel.nrFinals];
+			pattern[i]=1;
+			initSolution.add(new CuttingPattern("initSolution", false, pattern, pricingProblem));
+		}
+		return new ColGen<>(dataModel, master, pricingProblem, solvers, initSolution, cutoffValue, 0);
+	}
+
+	public void testLagrangianBound() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=createColGen(dataModel);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+		double lpBound=cg.getObjective();
+		assertEquals(lpBound, cg.getBound(), 0.000001);
+
+		//Column generation terminates as soon as the bound proves that the cutoff value cannot be improved.
+		int cutoffValue=(int)Math.ceil(lpBound);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgCutoff=createColGen(dataModel, cutoffValue);
+		cgCutoff.solve(System.currentTimeMillis()+10000L);
+		cgCutoff.close();
+		assertTrue(cgCutoff.getNumberOfIterations() < cg.getNumberOfIterations());
+		assertTrue(cgCutoff.getBound() <= lpBound+0.000001);
+		assertTrue(Math.ceil(cgCutoff.getBound()-0.000001) >= cutoffValue);
+	}
+
+	public void testIterationLimit() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=createColGen(dataModel);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+		assertFalse(cg.isIterationLimitReached());
+		double lpBound=cg.getObjective();
+
+		//Column generation terminates after the maximum number of iterations, with a valid, but weaker, bound
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgLimited=createColGen(dataModel);
+		cgLimited.setMaxNrIterations(2);
+		cgLimited.solve(System.currentTimeMillis()+10000L);
+		cgLimited.close();
+		assertTrue(cgLimited.isIterationLimitReached());
+		assertEquals(2, cgLimited.getNumberOfIterations());
+		assertTrue(cgLimited.getObjective() >= lpBound-0.000001);
+		assertTrue(cgLimited.getBound() <= lpBound+0.000001);
+	}
+}
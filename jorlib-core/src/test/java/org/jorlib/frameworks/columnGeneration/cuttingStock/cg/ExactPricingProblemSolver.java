@@ -0,0 +1,100 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ExactPricingProblemSolver.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock.cg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+
+/**
+ * This class provides a solver for the cutting stock pricing problem.
+ * The pricing problem is an unbounded knapsack problem, which is solved through dynamic programming.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class ExactPricingProblemSolver extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem> {
+
+	/** Profit of each item **/
+	private double[] profits;
+
+	public ExactPricingProblemSolver(CuttingStock dataModel, PricingProblem pricingProblem) {
+		super(dataModel, pricingProblem);
+		this.name="ExactSolver"; //Set a name for the solver
+	}
+
+	@Override
+	protected List<CuttingPattern> generateNewColumns() throws TimeLimitExceededException {
+		List<CuttingPattern> newPatterns=new ArrayList<>();
+		//best[c]: maximum profit using at most c units of the raw; item[c]: last item added to obtain best[c], or -1
+		double[] best=new double[dataModel.rollWidth+1];
+		int[] item=new int[dataModel.rollWidth+1];
+		for(int c=0; c<=dataModel.rollWidth; c++){
+			item[c]=-1;
+			if(c > 0) best[c]=best[c-1];
+			for(int i=0; i<dataModel.nrFinals; i++){
+				if(profits[i] <= 0 || dataModel.finals[i] > c)
+					continue;
+				double value=best[c-dataModel.finals[i]]+profits[i];
+				if(value > best[c]+config.PRECISION){
+					best[c]=value;
+					item[c]=i;
+				}
+			}
+		}
+		this.objective=best[dataModel.rollWidth];
+		this.pricingProblemInfeasible=false;
+
+		if(objective+pricingProblem.dualCost >= config.PRECISION){ //Generate new column if it has negative reduced cost
+			int[] pattern=new int[dataModel.nrFinals];
+			int c=dataModel.rollWidth;
+			while(c > 0){
+				if(item[c] == -1)
+					c--;
+				else{
+					pattern[item[c]]++;
+					c-=dataModel.finals[item[c]];
+				}
+			}
+			newPatterns.add(new CuttingPattern("exactPricing", false, pattern, pricingProblem));
+		}
+		return newPatterns;
+	}
+
+	@Override
+	protected void setObjective() {
+		profits=pricingProblem.dualCosts;
+	}
+
+	@Override
+	public void close() {
+		//Nothing to close
+	}
+}
@@ -0,0 +1,88 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * GreedyPricingProblemSolver.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock.cg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+
+/**
+ * This class provides a heuristic solver for the cutting stock pricing problem. The finals are cut greedily in order of decreasing profit per unit of width.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class GreedyPricingProblemSolver extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem> {
+
+	/** Profit of each item **/
+	private double[] profits;
+
+	public GreedyPricingProblemSolver(CuttingStock dataModel, PricingProblem pricingProblem) {
+		super(dataModel, pricingProblem);
+		this.name="GreedySolver"; //Set a name for the solver
+	}
+
+	@Override
+	protected List<CuttingPattern> generateNewColumns() throws TimeLimitExceededException {
+		List<CuttingPattern> newPatterns=new ArrayList<>();
+		Integer[] items=new Integer[dataModel.nrFinals];
+		for(int i=0; i<dataModel.nrFinals; i++)
+			items[i]=i;
+		Arrays.sort(items, Comparator.comparingDouble(i -> -profits[i]/dataModel.finals[i]));
+
+		int[] pattern=new int[dataModel.nrFinals];
+		int capacity=dataModel.rollWidth;
+		this.objective=0;
+		for(int i : items){
+			if(profits[i] <= 0)
+				break;
+			pattern[i]=capacity/dataModel.finals[i];
+			capacity-=pattern[i]*dataModel.finals[i];
+			objective+=pattern[i]*profits[i];
+		}
+		this.pricingProblemInfeasible=false;
+
+		if(objective+pricingProblem.dualCost >= config.PRECISION) //Generate new column if it has negative reduced cost
+			newPatterns.add(new CuttingPattern("greedyPricing", false, pattern, pricingProblem));
+		return newPatterns;
+	}
+
+	@Override
+	protected void setObjective() {
+		profits=pricingProblem.dualCosts;
+	}
+
+	@Override
+	public void close() {
+		//Nothing to close
+	}
+}
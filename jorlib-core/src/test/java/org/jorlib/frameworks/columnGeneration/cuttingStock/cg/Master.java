@@ -0,0 +1,86 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * Master.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock.cg;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.master.simplex.AbstractSimplexMaster;
+import org.jorlib.frameworks.columnGeneration.master.simplex.LPColumn;
+import org.jorlib.frameworks.columnGeneration.master.simplex.RevisedSimplex;
+import org.jorlib.frameworks.columnGeneration.master.simplex.SimplexMasterData;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
+
+/**
+ * Defines the master problem of the cutting stock problem, which is solved with the built-in simplex solver. Each final must be
+ * produced exactly as often as requested.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class Master extends AbstractSimplexMaster<CuttingStock, CuttingPattern, PricingProblem, SimplexMasterData<CuttingStock, CuttingPattern, PricingProblem>> {
+
+	public Master(CuttingStock modelData, PricingProblem pricingProblem) {
+		super(modelData, pricingProblem, OptimizationSense.MINIMIZE);
+	}
+
+	@Override
+	protected SimplexMasterData<CuttingStock, CuttingPattern, PricingProblem> buildModel() {
+		RevisedSimplex lp=new RevisedSimplex(optimizationSenseMaster);
+		for(int i=0; i< dataModel.nrFinals; i++)
+			lp.addRow(dataModel.demandForFinals[i], dataModel.demandForFinals[i]);
+
+		Map<PricingProblem,IndexedMap<CuttingPattern, Integer>> varMap=new LinkedHashMap<>();
+		varMap.put(pricingProblems.get(0),new IndexedMap<>());
+		return new SimplexMasterData<>(varMap, lp);
+	}
+
+	@Override
+	protected void describeColumn(CuttingPattern column, LPColumn lpColumn) {
+		lpColumn.setCost(1);
+		for(int i=0; i< dataModel.nrFinals; i++)
+			lpColumn.add(i, column.yieldVector[i]);
+	}
+
+	@Override
+	public void initializePricingProblem(PricingProblem pricingProblem){
+		double[] duals=new double[dataModel.nrFinals];
+		for(int i=0; i< dataModel.nrFinals; i++)
+			duals[i]=masterData.lp.getDual(i);
+		pricingProblem.initPricingProblem(duals, -1); //Every pattern has cost 1
+	}
+
+	/**
+	 * Since every pattern has cost 1, the number of patterns used in an optimal solution is bounded by the objective of the current master problem.
+	 */
+	@Override
+	public int getConvexityConstraintCount(PricingProblem pricingProblem){
+		return (int)Math.ceil(this.getObjective()-config.PRECISION);
+	}
+}
@@ -0,0 +1,44 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingProblem.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock.cg;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+
+/**
+ * Definition of the pricing problem. Since there's only 1 pricing problem in the cutting stock,
+ * we can simply extend the pricing problem included in the framework with no further modifications.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class PricingProblem extends AbstractPricingProblem<CuttingStock> {
+
+	public PricingProblem(CuttingStock modelData, String name) {
+		super(modelData, name);
+	}
+}
@@ -0,0 +1,120 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * StubMaster.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock.cg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
+
+/**
+ * Master problem which does not solve anything: the solution and the reduced costs of the columns are set by the test. This master problem is used to test
+ * the column management policies in isolation.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class StubMaster extends AbstractMaster<CuttingStock, CuttingPattern, PricingProblem, MasterData<CuttingStock, CuttingPattern, PricingProblem, Integer>> {
+
+	/** Reduced cost of every column. Columns without reduced cost have a reduced cost of 0 **/
+	private final Map<CuttingPattern, Double> reducedCosts=new HashMap<>();
+	/** Columns in the solution of the master problem **/
+	private List<CuttingPattern> solution=new ArrayList<>();
+
+	public StubMaster(CuttingStock dataModel, List<PricingProblem> pricingProblems, OptimizationSense optimizationSense) {
+		super(dataModel, pricingProblems, optimizationSense);
+	}
+
+	@Override
+	protected MasterData<CuttingStock, CuttingPattern, PricingProblem, Integer> buildModel() {
+		Map<PricingProblem, IndexedMap<CuttingPattern, Integer>> varMap=new LinkedHashMap<>();
+		for(PricingProblem pricingProblem : pricingProblems)
+			varMap.put(pricingProblem, new IndexedMap<>());
+		return new MasterData<>(varMap);
+	}
+
+	@Override
+	protected boolean solveMasterProblem(long timeLimit) {
+		return true;
+	}
+
+	@Override
+	public void initializePricingProblem(PricingProblem pricingProblem) {
+	}
+
+	@Override
+	public void addColumn(CuttingPattern column) {
+		masterData.addColumn(column, 0); //The master problem has no variables
+	}
+
+	@Override
+	public void removeColumn(CuttingPattern column) {
+		masterData.removeColumn(column);
+	}
+
+	@Override
+	public double getReducedCost(CuttingPattern column) {
+		return reducedCosts.getOrDefault(column, 0.0);
+	}
+
+	/**
+	 * Sets the reduced cost of a column
+	 * @param column column, which does not have to be part of the master problem
+	 * @param reducedCost reduced cost
+	 */
+	public void setReducedCost(CuttingPattern column, double reducedCost){
+		reducedCosts.put(column, reducedCost);
+	}
+
+	@Override
+	public List<CuttingPattern> getSolution() {
+		return solution;
+	}
+
+	/**
+	 * Sets the solution of the master problem
+	 * @param solution columns in the solution
+	 */
+	public void setSolution(List<CuttingPattern> solution){
+		this.solution=solution;
+	}
+
+	@Override
+	public void printSolution() {
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,81 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CuttingStock.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.cuttingStock.model;
+
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+
+/**
+ * Define a Cutting Stock problem
+ *
+ * @author agent
+ * @version 17-10-2026
+ *
+ */
+public final class CuttingStock implements ModelInterface{
+
+	/** Number of different finals **/
+	public final int nrFinals;
+	/** Width of the raws **/
+	public final int rollWidth;
+	/** Size of the finals **/
+	public final int[] finals;
+	/** Requested quantity of each final **/
+	public final int[] demandForFinals;
+
+	/**
+	 * Creates the default cutting stock instance
+	 */
+	public CuttingStock(){
+		this(100, new int[]{45, 36, 31, 14}, new int[]{97, 610, 395, 211});
+	}
+
+	/**
+	 * Creates a new cutting stock instance
+	 * @param rollWidth width of the raws
+	 * @param finals size of the finals
+	 * @param demandForFinals requested quantity of each final
+	 */
+	public CuttingStock(int rollWidth, int[] finals, int[] demandForFinals){
+		this.nrFinals=finals.length;
+		this.rollWidth=rollWidth;
+		this.finals=finals;
+		this.demandForFinals=demandForFinals;
+	}
+
+	/**
+	 * Creates a cutting stock instance with 10 finals. Its LP relaxation requires considerably more column generation iterations than the default instance.
+	 * @return cutting stock instance
+	 */
+	public static CuttingStock createLargeInstance(){
+		return new CuttingStock(1000, new int[]{450, 360, 310, 140, 220, 170, 95, 60, 333, 111}, new int[]{97, 610, 395, 211, 300, 120, 99, 400, 70, 80});
+	}
+
+	@Override
+	public String getName() {
+		return "CuttingStockExample";
+	}
+}
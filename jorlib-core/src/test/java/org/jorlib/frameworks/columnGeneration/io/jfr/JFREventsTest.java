@@ -0,0 +1,251 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * JFREventsTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.io.jfr;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.GraphManipulator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.NodePath;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.ExactPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.GreedyPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.AbstractInequality;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+
+/**
+ * Test class for the Flight Recorder events. The Flight Recorder API is accessed through reflection, such that the tests also compile against Java 8; the tests are skipped
+ * when the events are not available.
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class JFREventsTest extends TestCase {
+
+	/**
+	 * Code which is executed while a recording is running
+	 */
+	private interface RecordedCode {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Branching decision which is identified by the ID of the node it leads to
+	 */
+	private static final class Decision implements BranchingDecision<CuttingStock, CuttingPattern> {
+		private final int nodeID;
+
+		private Decision(int nodeID){
+			this.nodeID=nodeID;
+		}
+
+		@Override
+		public boolean columnIsCompatibleWithBranchingDecision(CuttingPattern column) {
+			return true;
+		}
+
+		@Override
+		public boolean inEqualityIsCompatibleWithBranchingDecision(AbstractInequality inequality) {
+			return true;
+		}
+
+		@Override
+		public String toString(){
+			return "d"+nodeID;
+		}
+	}
+
+	/**
+	 * Executes the code while a recording is running, and returns the recorded events, in the order in which they have been committed per thread
+	 * @param eventNames names of the events which are recorded
+	 * @param code code
+	 * @return list of recorded events (instances of jdk.jfr.consumer.RecordedEvent)
+	 */
+	private static List<?> record(List<String> eventNames, RecordedCode code) throws Exception {
+		Class<?> recordingClass=Class.forName("jdk.jfr.Recording");
+		Method enable=recordingClass.getMethod("enable", String.class);
+		Method withThreshold=Class.forName("jdk.jfr.EventSettings").getMethod("withThreshold", Duration.class);
+		Path file=Files.createTempFile("jorlib", ".jfr");
+		Object recording=recordingClass.getConstructor().newInstance();
+		try {
+			for(String eventName : eventNames)
+				withThreshold.invoke(enable.invoke(recording, eventName), Duration.ZERO);
+			recordingClass.getMethod("start").invoke(recording);
+			code.run();
+			recordingClass.getMethod("stop").invoke(recording);
+			recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+			return (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile").getMethod("readAllEvents", Path.class).invoke(null, file);
+		}finally{
+			recordingClass.getMethod("close").invoke(recording);
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Returns the events of the given type
+	 * @param events recorded events
+	 * @param eventName name of the event type
+	 * @return list of events of the given type
+	 */
+	private static List<Object> getEvents(List<?> events, String eventName) throws Exception {
+		Method getEventType=Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getEventType");
+		Method getName=Class.forName("jdk.jfr.EventType").getMethod("getName");
+		List<Object> eventsOfType=new ArrayList<>();
+		for(Object event : events){
+			if(getName.invoke(getEventType.invoke(event)).equals(eventName))
+				eventsOfType.add(event);
+		}
+		return eventsOfType;
+	}
+
+	/**
+	 * Returns the value of a field of a recorded event
+	 * @param event recorded event
+	 * @param field name of the field
+	 * @return value of the field
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> E getValue(Object event, String field) throws Exception {
+		return (E) Class.forName("jdk.jfr.consumer.RecordedObject").getMethod("getValue", String.class).invoke(event, field);
+	}
+
+	/**
+	 * Test whether events are only created while a recording which enables them is running
+	 */
+	public void testEnabledEvents() throws Exception {
+		if(!JFREvents.AVAILABLE)
+			return;
+		assertNull(JFREvents.beginPricing());
+		Class<?> recordingClass=Class.forName("jdk.jfr.Recording");
+		Object recording=recordingClass.getConstructor().newInstance();
+		try {
+			recordingClass.getMethod("enable", String.class).invoke(recording, "org.jorlib.Pricing");
+			recordingClass.getMethod("disable", String.class).invoke(recording, "org.jorlib.MasterSolve");
+			recordingClass.getMethod("start").invoke(recording);
+			Object event=JFREvents.beginPricing();
+			assertNotNull(event);
+			JFREvents.commitPricing(event, "solver", "pricingProblem", 0);
+			assertNull(JFREvents.beginMasterSolve());
+			recordingClass.getMethod("stop").invoke(recording);
+			assertNull(JFREvents.beginPricing());
+		}finally{
+			recordingClass.getMethod("close").invoke(recording);
+		}
+	}
+
+	/**
+	 * Test the master solve and pricing events of a column generation procedure with a heuristic and an exact pricing problem solver. Every iteration produces one master
+	 * solve event. Every iteration invokes the heuristic solver; the exact solver is only invoked when the heuristic solver fails to find columns.
+	 */
+	public void testColumnGeneration() throws Exception {
+		if(!JFREvents.AVAILABLE)
+			return;
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> solvers=Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(dataModel, new PricingProblem(dataModel, "cuttingStockPricing"), solvers, Integer.MAX_VALUE);
+		int nrInitialColumns=dataModel.nrFinals; //One column per final in the initial solution
+		List<?> events=record(Arrays.asList("org.jorlib.MasterSolve", "org.jorlib.Pricing"), () -> {
+			cg.solve(System.currentTimeMillis()+10000L);
+			cg.close();
+		});
+
+		//Master solve events
+		List<Object> masterEvents=getEvents(events, "org.jorlib.MasterSolve");
+		assertEquals(cg.getNumberOfIterations(), masterEvents.size());
+		int previousColumns=nrInitialColumns;
+		for(int i=0; i<masterEvents.size(); i++){
+			Object event=masterEvents.get(i);
+			assertEquals(i+1, (int) getValue(event, "iteration"));
+			int columns=getValue(event, "columns");
+			assertTrue(columns >= previousColumns);
+			previousColumns=columns;
+		}
+		Object lastMasterEvent=masterEvents.get(masterEvents.size()-1);
+		assertEquals(cg.getObjective(), (double) getValue(lastMasterEvent, "objective"), Configuration.getConfiguration().PRECISION);
+		assertEquals(nrInitialColumns+cg.getNrGeneratedColumns(), (int) getValue(lastMasterEvent, "columns"));
+
+		//Pricing events
+		int nrGreedyEvents=0;
+		int nrUnsuccessfulGreedyEvents=0;
+		int nrExactEvents=0;
+		int nrColumns=0;
+		for(Object event : getEvents(events, "org.jorlib.Pricing")){
+			assertEquals("cuttingStockPricing", getValue(event, "pricingProblem"));
+			int columns=getValue(event, "columns");
+			String solver=getValue(event, "solver");
+			if(solver.equals("GreedySolver")){
+				nrGreedyEvents++;
+				if(columns == 0)
+					nrUnsuccessfulGreedyEvents++;
+			}else{
+				assertEquals("ExactSolver", solver);
+				nrExactEvents++;
+			}
+			nrColumns+=columns;
+		}
+		assertEquals(cg.getNumberOfIterations(), nrGreedyEvents);
+		assertEquals(nrUnsuccessfulGreedyEvents, nrExactEvents);
+		assertTrue(nrExactEvents > 0);
+		assertEquals(cg.getNrGeneratedColumns()+cg.getNrDuplicateColumns(), nrColumns);
+	}
+
+	/**
+	 * Test the branching decision events which are emitted while moving between the nodes of a Branch-and-Price tree
+	 */
+	public void testBranchingDecisions() throws Exception {
+		if(!JFREvents.AVAILABLE)
+			return;
+		BAPNode<CuttingStock, CuttingPattern> root=new BAPNode<>(NodePath.root(0), new ArrayList<>(), new ArrayList<>(), 0);
+		NodePath a=root.getPath().createChild(1, new Decision(1));
+		NodePath b=a.createChild(2, new Decision(2));
+		NodePath c=root.getPath().createChild(3, new Decision(3));
+		GraphManipulator graphManipulator=new GraphManipulator(root);
+		List<?> events=record(Arrays.asList("org.jorlib.BranchingDecision"), () -> {
+			graphManipulator.next(new BAPNode<>(b, new ArrayList<>(), new ArrayList<>(), 0));
+			graphManipulator.next(new BAPNode<>(c, new ArrayList<>(), new ArrayList<>(), 0));
+		});
+
+		List<String> history=new ArrayList<>();
+		for(Object event : getEvents(events, "org.jorlib.BranchingDecision"))
+			history.add(getValue(event, "nodeID")+":"+((boolean) getValue(event, "rewind") ? "-" : "+")+getValue(event, "decision"));
+		assertEquals(Arrays.asList("2:+d1", "2:+d2", "3:-d2", "3:-d1", "3:+d3"), history);
+	}
+}
@@ -0,0 +1,250 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnManagerTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.columnManagement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.StubMaster;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Test class for the ColumnManager and the ColumnPool
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class ColumnManagerTest extends TestCase {
+
+	private final CuttingStock dataModel=new CuttingStock();
+	private final PricingProblem pricingProblem1=new PricingProblem(dataModel, "pricingProblem1");
+	private final PricingProblem pricingProblem2=new PricingProblem(dataModel, "pricingProblem2");
+
+	/**
+	 * Creates a column of the given pricing problem. Columns with different IDs are different columns.
+	 */
+	private CuttingPattern createColumn(int id, PricingProblem pricingProblem){
+		return new CuttingPattern("test", false, new int[]{id, 0, 0, 0}, pricingProblem);
+	}
+
+	/**
+	 * Creates a master problem containing the given columns
+	 */
+	private StubMaster createMaster(OptimizationSense optimizationSense, CuttingPattern... columns){
+		StubMaster master=new StubMaster(dataModel, Arrays.asList(pricingProblem1, pricingProblem2), optimizationSense);
+		for(CuttingPattern column : columns)
+			master.addColumn(column);
+		return master;
+	}
+
+	/**
+	 * Columns are evicted once they have not been part of the master solution for maxAge consecutive iterations. Artificial columns are never evicted.
+	 */
+	public void testAgeBasedEviction(){
+		CuttingPattern a=this.createColumn(1, pricingProblem1);
+		CuttingPattern b=this.createColumn(2, pricingProblem1);
+		CuttingPattern c=this.createColumn(3, pricingProblem1);
+		CuttingPattern artificial=new CuttingPattern("artificial", true, new int[]{4, 0, 0, 0}, pricingProblem1);
+		StubMaster master=this.createMaster(OptimizationSense.MINIMIZE, a, b, c, artificial);
+		ColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new ColumnPool<>();
+		ColumnManager<CuttingStock, CuttingPattern, PricingProblem> columnManager=new ColumnManager<>(2, Double.MAX_VALUE, Integer.MAX_VALUE, pool);
+		List<PricingProblem> pricingProblems=Collections.singletonList(pricingProblem1);
+
+		master.setSolution(Collections.singletonList(a));
+		assertTrue(columnManager.evictColumns(master, pricingProblems, Collections.emptyList()).isEmpty());
+		//Column b becomes active again, which resets its age
+		master.setSolution(Arrays.asList(a, b));
+		assertEquals(Collections.singletonList(c), columnManager.evictColumns(master, pricingProblems, Collections.emptyList()));
+		assertFalse(master.containsColumn(c));
+		assertTrue(pool.contains(c));
+		master.setSolution(Collections.singletonList(a));
+		assertTrue(columnManager.evictColumns(master, pricingProblems, Collections.emptyList()).isEmpty());
+		assertEquals(Collections.singletonList(b), columnManager.evictColumns(master, pricingProblems, Collections.emptyList()));
+		for(int i=0; i<5; i++)
+			assertTrue(columnManager.evictColumns(master, pricingProblems, Collections.emptyList()).isEmpty());
+		assertTrue(master.containsColumn(a));
+		assertTrue(master.containsColumn(artificial));
+		assertEquals(2, columnManager.getNrEvictedColumns());
+		assertEquals(2, pool.size());
+	}
+
+	/**
+	 * Inactive columns whose reduced cost is worse than the threshold are evicted immediately. For a minimization master, the reduced cost must exceed the threshold;
+	 * for a maximization master, the reduced cost must be smaller than minus the threshold.
+	 */
+	public void testReducedCostThreshold(){
+		for(OptimizationSense optimizationSense : OptimizationSense.values()){
+			double sign=(optimizationSense == OptimizationSense.MINIMIZE ? 1 : -1);
+			CuttingPattern active=this.createColumn(1, pricingProblem1);
+			CuttingPattern expensive=this.createColumn(2, pricingProblem1);
+			CuttingPattern cheap=this.createColumn(3, pricingProblem1);
+			StubMaster master=this.createMaster(optimizationSense, active, expensive, cheap);
+			master.setReducedCost(active, sign*10);
+			master.setReducedCost(expensive, sign*6);
+			master.setReducedCost(cheap, sign*4);
+			master.setSolution(Collections.singletonList(active));
+			ColumnManager<CuttingStock, CuttingPattern, PricingProblem> columnManager=new ColumnManager<>(Integer.MAX_VALUE, 5, Integer.MAX_VALUE, null);
+			assertEquals(Collections.singletonList(expensive), columnManager.evictColumns(master, Collections.singletonList(pricingProblem1), Collections.emptyList()));
+			assertTrue(master.containsColumn(active));
+			assertTrue(master.containsColumn(cheap));
+		}
+	}
+
+	/**
+	 * When a pricing problem exceeds its maximum number of columns, taking the columns which are about to be added into account, the oldest inactive columns are
+	 * evicted first. The columns of other pricing problems are not affected.
+	 */
+	public void testMaxColumnsPerPricingProblem(){
+		CuttingPattern a=this.createColumn(1, pricingProblem1);
+		CuttingPattern b=this.createColumn(2, pricingProblem1);
+		CuttingPattern c=this.createColumn(3, pricingProblem1);
+		CuttingPattern d=this.createColumn(4, pricingProblem1);
+		CuttingPattern e=this.createColumn(5, pricingProblem1);
+		CuttingPattern x=this.createColumn(6, pricingProblem2);
+		CuttingPattern y=this.createColumn(7, pricingProblem2);
+		StubMaster master=this.createMaster(OptimizationSense.MINIMIZE, a, b, c, x, y);
+		ColumnManager<CuttingStock, CuttingPattern, PricingProblem> columnManager=new ColumnManager<>(Integer.MAX_VALUE, Double.MAX_VALUE, 3, null);
+		List<PricingProblem> pricingProblems=Arrays.asList(pricingProblem1, pricingProblem2);
+
+		//Ages: a=0, b=0, c=1
+		master.setSolution(Arrays.asList(a, b, x));
+		assertTrue(columnManager.evictColumns(master, pricingProblems, Collections.emptyList()).isEmpty());
+		master.addColumn(d);
+		columnManager.columnsAdded(Collections.singletonList(d));
+
+		//Ages: a=0, b=1, c=2, d=0. Adding e results in 5 columns for pricing problem 1, so the 2 oldest inactive columns are evicted
+		master.setSolution(Arrays.asList(a, d, x));
+		assertEquals(Arrays.asList(c, b), columnManager.evictColumns(master, pricingProblems, Collections.singletonList(e)));
+		assertEquals(new HashSet<>(Arrays.asList(a, d)), master.getColumns(pricingProblem1));
+		assertEquals(new HashSet<>(Arrays.asList(x, y)), master.getColumns(pricingProblem2));
+	}
+
+	/**
+	 * A full pool discards the columns of a pricing problem in the order in which they have been added. Re-adding a column which is already in the pool has no effect.
+	 */
+	public void testPoolDiscardsOldestColumns(){
+		ColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new ColumnPool<>(2);
+		CuttingPattern a=this.createColumn(1, pricingProblem1);
+		CuttingPattern b=this.createColumn(2, pricingProblem1);
+		CuttingPattern c=this.createColumn(3, pricingProblem1);
+		CuttingPattern x=this.createColumn(4, pricingProblem2);
+		pool.add(a);
+		pool.add(b);
+		pool.add(a);
+		assertEquals(2, pool.size());
+		pool.add(c);
+		assertFalse(pool.contains(a));
+		assertEquals(Arrays.asList(b, c), Arrays.asList(pool.getColumns(pricingProblem1).toArray()));
+		//Every pricing problem has its own capacity
+		pool.add(x);
+		assertEquals(3, pool.size());
+		assertTrue(pool.contains(b));
+		assertTrue(pool.contains(x));
+	}
+
+	/**
+	 * A column which is added to the master problem again, e.g. because it has been generated by the pricing problem, is removed from the pool
+	 */
+	public void testReaddedColumnIsRemovedFromPool(){
+		CuttingPattern a=this.createColumn(1, pricingProblem1);
+		CuttingPattern b=this.createColumn(2, pricingProblem1);
+		StubMaster master=this.createMaster(OptimizationSense.MINIMIZE, a, b);
+		ColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new ColumnPool<>();
+		ColumnManager<CuttingStock, CuttingPattern, PricingProblem> columnManager=new ColumnManager<>(1, Double.MAX_VALUE, Integer.MAX_VALUE, pool);
+		master.setSolution(Collections.singletonList(a));
+		assertEquals(Collections.singletonList(b), columnManager.evictColumns(master, Collections.singletonList(pricingProblem1), Collections.emptyList()));
+		assertTrue(pool.contains(b));
+
+		CuttingPattern regenerated=this.createColumn(2, pricingProblem1);
+		master.addColumn(regenerated);
+		columnManager.columnsAdded(Collections.singletonList(regenerated));
+		assertFalse(pool.contains(b));
+		assertTrue(pool.isEmpty());
+		//The age of the column starts from scratch
+		master.setSolution(Collections.singletonList(a));
+		assertEquals(Collections.singletonList(regenerated), columnManager.evictColumns(master, Collections.singletonList(pricingProblem1), Collections.emptyList()));
+	}
+
+	/**
+	 * Only the columns in the pool which have an attractive reduced cost, taking the precision into account, are revived. The revived columns leave the pool.
+	 */
+	public void testReviveOnlyAttractiveColumns(){
+		for(OptimizationSense optimizationSense : OptimizationSense.values()){
+			double sign=(optimizationSense == OptimizationSense.MINIMIZE ? -1 : 1);
+			CuttingPattern attractive1=this.createColumn(1, pricingProblem1);
+			CuttingPattern unattractive=this.createColumn(2, pricingProblem1);
+			CuttingPattern tiny=this.createColumn(3, pricingProblem1);
+			CuttingPattern attractive2=this.createColumn(4, pricingProblem2);
+			StubMaster master=this.createMaster(optimizationSense);
+			master.setReducedCost(attractive1, sign*1);
+			master.setReducedCost(unattractive, -sign*1);
+			master.setReducedCost(tiny, sign*1e-12);
+			master.setReducedCost(attractive2, sign*0.5);
+			ColumnPool<CuttingStock, CuttingPattern, PricingProblem> pool=new ColumnPool<>();
+			for(CuttingPattern column : Arrays.asList(attractive1, unattractive, tiny, attractive2))
+				pool.add(column);
+			ColumnManager<CuttingStock, CuttingPattern, PricingProblem> columnManager=new ColumnManager<>(1, Double.MAX_VALUE, Integer.MAX_VALUE, pool);
+
+			assertEquals(Arrays.asList(attractive1, attractive2), columnManager.reviveColumns(master));
+			assertEquals(2, columnManager.getNrRevivedColumns());
+			assertEquals(new HashSet<>(Arrays.asList(unattractive, tiny)), pool.getColumns(pricingProblem1));
+			assertTrue(pool.getColumns(pricingProblem2).isEmpty());
+			assertTrue(columnManager.reviveColumns(master).isEmpty());
+		}
+	}
+
+	/**
+	 * Column generation with a column manager yields the same objective as without, while columns are evicted from the master problem
+	 */
+	public void testColumnGeneration() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(dataModel);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+
+		//Evict columns which have been inactive for 3 iterations, and never keep more than 15 columns in the master problem
+		ColumnManager<CuttingStock, CuttingPattern, PricingProblem> columnManager=new ColumnManager<>(3, Double.MAX_VALUE, 15, new ColumnPool<>());
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgManaged=CuttingStockCGTest.createColGen(dataModel);
+		cgManaged.setColumnManager(columnManager);
+		cgManaged.solve(System.currentTimeMillis()+10000L);
+		cgManaged.close();
+		assertEquals(cg.getObjective(), cgManaged.getObjective(), 0.000001);
+		assertTrue(cgManaged.getNrEvictedColumns() > 0);
+		assertEquals(columnManager.getNrEvictedColumns(), cgManaged.getNrEvictedColumns());
+		assertEquals(cgManaged.getNrEvictedColumns()-columnManager.getNrRevivedColumns(), columnManager.getColumnPool().size());
+	}
+}
@@ -0,0 +1,237 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * RevisedSimplexTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.simplex;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+
+/**
+ * Test class for the revised simplex implementation
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class RevisedSimplexTest extends TestCase {
+
+	private static final double EPSILON=0.000001;
+
+	/**
+	 * min -x1-x2, s.t. x1+2x2 &lt;= 4, 3x1+x2 &lt;= 6
+	 */
+	private RevisedSimplex createLP(OptimizationSense sense){
+		RevisedSimplex lp=new RevisedSimplex(sense);
+		int r0=lp.addRow(-Double.MAX_VALUE, 4);
+		int r1=lp.addRow(-Double.MAX_VALUE, 6);
+		double c=(sense == OptimizationSense.MINIMIZE ? -1 : 1);
+		lp.addColumn(c, 0, Double.MAX_VALUE, new int[]{r0, r1}, new double[]{1, 3}, 2);
+		lp.addColumn(c, 0, Double.MAX_VALUE, new int[]{r0, r1}, new double[]{2, 1}, 2);
+		return lp;
+	}
+
+	public void testMinimize(){
+		RevisedSimplex lp=this.createLP(OptimizationSense.MINIMIZE);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(-2.8, lp.getObjectiveValue(), EPSILON);
+		assertEquals(1.6, lp.getValue(0), EPSILON);
+		assertEquals(1.2, lp.getValue(1), EPSILON);
+		assertEquals(-0.4, lp.getDual(0), EPSILON);
+		assertEquals(-0.2, lp.getDual(1), EPSILON);
+		assertEquals(0, lp.getReducedCost(0), EPSILON);
+	}
+
+	public void testMaximize(){
+		RevisedSimplex lp=this.createLP(OptimizationSense.MAXIMIZE);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(2.8, lp.getObjectiveValue(), EPSILON);
+		assertEquals(0.4, lp.getDual(0), EPSILON);
+		assertEquals(0.2, lp.getDual(1), EPSILON);
+	}
+
+	public void testAddRow(){
+		RevisedSimplex lp=this.createLP(OptimizationSense.MINIMIZE);
+		lp.solve(Long.MAX_VALUE);
+		//Cut off the current solution: x1 <= 1
+		int row=lp.addRow(-Double.MAX_VALUE, 1, new int[]{0}, new double[]{1}, 1);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(-2.5, lp.getObjectiveValue(), EPSILON);
+		assertEquals(1, lp.getValue(0), EPSILON);
+		assertEquals(1.5, lp.getValue(1), EPSILON);
+		assertEquals(1, lp.getRowActivity(row), EPSILON);
+	}
+
+	public void testAddColumnWarmStart(){
+		//Set covering: min sum x, s.t. every row is covered at least once
+		RevisedSimplex lp=new RevisedSimplex(OptimizationSense.MINIMIZE);
+		for(int i=0; i<3; i++)
+			lp.addRow(1, Double.MAX_VALUE);
+		for(int i=0; i<3; i++)
+			lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{i}, new double[]{1}, 1);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(3, lp.getObjectiveValue(), EPSILON);
+		long iterations=lp.getIterationCount();
+
+		//Column covering rows 0 and 1 has reduced cost 1-y0-y1=-1
+		int col=lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{0, 1}, new double[]{1, 1}, 2);
+		assertEquals(RevisedSimplex.Status.UNSOLVED, lp.getStatus());
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(2, lp.getObjectiveValue(), EPSILON);
+		assertEquals(1, lp.getValue(col), EPSILON);
+		//Warm start: a single pivot suffices
+		assertEquals(1, lp.getIterationCount()-iterations);
+	}
+
+	public void testRemoveColumn(){
+		//Set covering: min sum x, s.t. every row is covered at least once
+		RevisedSimplex lp=new RevisedSimplex(OptimizationSense.MINIMIZE);
+		for(int i=0; i<3; i++)
+			lp.addRow(1, Double.MAX_VALUE);
+		for(int i=0; i<3; i++)
+			lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{i}, new double[]{1}, 1);
+		int pair=lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{0, 1}, new double[]{1, 1}, 2);
+		int expensive=lp.addColumn(5, 0, Double.MAX_VALUE, new int[]{2}, new double[]{1}, 1);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(2, lp.getObjectiveValue(), EPSILON);
+		long iterations=lp.getIterationCount();
+
+		//Removing a nonbasic column retains the optimal basis
+		assertFalse(lp.isBasic(expensive));
+		lp.removeColumn(expensive);
+		assertEquals(4, lp.getNrColumns());
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(2, lp.getObjectiveValue(), EPSILON);
+		assertEquals(iterations, lp.getIterationCount());
+
+		//Removing a basic column
+		assertTrue(lp.isBasic(pair));
+		lp.removeColumn(pair);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(3, lp.getObjectiveValue(), EPSILON);
+
+		//The indices of removed columns are reused
+		int col=lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{1, 2}, new double[]{1, 1}, 2);
+		assertTrue(col == pair || col == expensive);
+		assertEquals(4, lp.getNrColumns());
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(2, lp.getObjectiveValue(), EPSILON);
+		assertEquals(1, lp.getValue(col), EPSILON);
+	}
+
+	public void testBoundsAndRanges(){
+		//min x1, s.t. 2 <= x1+x2 <= 3, 0 <= x2 <= 0.5
+		RevisedSimplex lp=new RevisedSimplex(OptimizationSense.MINIMIZE);
+		int row=lp.addRow(2, 3);
+		lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{row}, new double[]{1}, 1);
+		lp.addColumn(0, 0, 0.5, new int[]{row}, new double[]{1}, 1);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(1.5, lp.getObjectiveValue(), EPSILON);
+
+		//Fix x2 to 0
+		lp.setColumnBounds(1, 0, 0);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+		assertEquals(2, lp.getObjectiveValue(), EPSILON);
+	}
+
+	public void testInfeasible(){
+		RevisedSimplex lp=new RevisedSimplex(OptimizationSense.MINIMIZE);
+		int r0=lp.addRow(2, Double.MAX_VALUE);
+		int r1=lp.addRow(-Double.MAX_VALUE, 1);
+		lp.addColumn(1, 0, Double.MAX_VALUE, new int[]{r0, r1}, new double[]{1, 1}, 2);
+		assertEquals(RevisedSimplex.Status.INFEASIBLE, lp.solve(Long.MAX_VALUE));
+	}
+
+	public void testUnbounded(){
+		RevisedSimplex lp=new RevisedSimplex(OptimizationSense.MINIMIZE);
+		int row=lp.addRow(-Double.MAX_VALUE, 1);
+		lp.addColumn(-1, 0, Double.MAX_VALUE, new int[]{row}, new double[]{1}, 1);
+		lp.addColumn(0, 0, Double.MAX_VALUE, new int[]{row}, new double[]{-1}, 1);
+		assertEquals(RevisedSimplex.Status.UNBOUNDED, lp.solve(Long.MAX_VALUE));
+	}
+
+	/**
+	 * Column generation on a random set covering instance. At the end, the duals must be feasible and satisfy strong duality.
+	 */
+	public void testColumnGenerationLoop(){
+		Random rnd=new Random(0);
+		int nrRows=60;
+		RevisedSimplex lp=new RevisedSimplex(OptimizationSense.MINIMIZE);
+		for(int i=0; i<nrRows; i++)
+			lp.addRow(1, Double.MAX_VALUE);
+		for(int i=0; i<nrRows; i++)
+			lp.addColumn(10, 0, Double.MAX_VALUE, new int[]{i}, new double[]{1}, 1);
+
+		//Pool of candidate columns
+		int poolSize=2000;
+		int[][] rows=new int[poolSize][];
+		double[] costs=new double[poolSize];
+		for(int k=0; k<poolSize; k++){
+			int size=1+rnd.nextInt(6);
+			rows[k]=new int[size];
+			for(int l=0; l<size; l++)
+				rows[k][l]=rnd.nextInt(nrRows);
+			rows[k]=Arrays.stream(rows[k]).distinct().toArray();
+			costs[k]=1+rnd.nextInt(10);
+		}
+
+		double previousObjective=Double.MAX_VALUE;
+		boolean columnsAdded=true;
+		while(columnsAdded){
+			assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve(Long.MAX_VALUE));
+			assertTrue(lp.getObjectiveValue() <= previousObjective+EPSILON);
+			previousObjective=lp.getObjectiveValue();
+			columnsAdded=false;
+			for(int k=0; k<poolSize; k++){
+				if(rows[k] == null)
+					continue;
+				double reducedCost=costs[k];
+				for(int r : rows[k])
+					reducedCost-=lp.getDual(r);
+				if(reducedCost < -EPSILON){
+					double[] coefs=new double[rows[k].length];
+					Arrays.fill(coefs, 1);
+					lp.addColumn(costs[k], 0, Double.MAX_VALUE, rows[k], coefs, rows[k].length);
+					rows[k]=null;
+					columnsAdded=true;
+				}
+			}
+		}
+
+		//Dual feasibility and strong duality
+		double dualObjective=0;
+		for(int i=0; i<nrRows; i++){
+			assertTrue(lp.getDual(i) >= -EPSILON);
+			assertTrue(lp.getRowActivity(i) >= 1-EPSILON);
+			dualObjective+=lp.getDual(i);
+		}
+		for(int j=0; j<lp.getNrColumns(); j++)
+			assertTrue(lp.getReducedCost(j) >= -EPSILON);
+		assertEquals(lp.getObjectiveValue(), dualObjective, EPSILON);
+	}
+}
@@ -0,0 +1,160 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MetricsRegistryTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.ExactPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.Master;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+
+/**
+ * Test class for the MetricsRegistry and Histogram
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class MetricsRegistryTest extends TestCase {
+
+	/**
+	 * Test whether every value is counted in a bucket whose range contains the value, and whether the percentiles are within the guaranteed relative error
+	 */
+	public void testHistogram(){
+		for(long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1000, 123456789L, Long.MAX_VALUE/3, Long.MAX_VALUE}){
+			int bucket=Histogram.bucketOf(value);
+			assertTrue(value <= Histogram.upperBoundOf(bucket));
+			assertTrue(bucket == 0 || value > Histogram.upperBoundOf(bucket-1));
+		}
+
+		Histogram histogram=new Histogram();
+		assertEquals(0, histogram.getValueAtPercentile(99));
+		Random random=new Random(0);
+		long[] values=new long[10000];
+		for(int i=0; i<values.length; i++){
+			values[i]=1000+random.nextInt(1000000);
+			histogram.record(values[i]);
+		}
+		Arrays.sort(values);
+		assertEquals(values.length, histogram.getCount());
+		assertEquals(values[0], histogram.getMin());
+		assertEquals(values[values.length-1], histogram.getMax());
+		for(double percentile : new double[]{50, 90, 99, 99.9, 100}){
+			long exact=values[(int)Math.ceil(percentile/100*values.length)-1];
+			long estimate=histogram.getValueAtPercentile(percentile);
+			assertTrue(estimate >= exact);
+			assertTrue(estimate <= exact*1.125);
+		}
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+	}
+
+	/**
+	 * Test whether metrics are identified by their name and tags, irrespective of the order of the tags
+	 */
+	public void testRegistry(){
+		MetricsRegistry registry=new MetricsRegistry();
+		Histogram histogram=registry.histogram(MetricsRegistry.PRICING_SOLVE, "solver", "exact", "pricingProblem", "pp0");
+		assertSame(histogram, registry.histogram(MetricsRegistry.PRICING_SOLVE, "pricingProblem", "pp0", "solver", "exact"));
+		assertNotSame(histogram, registry.histogram(MetricsRegistry.PRICING_SOLVE, "solver", "exact", "pricingProblem", "pp1"));
+		histogram.record(10);
+		registry.counter(MetricsRegistry.PRICING_COLUMNS, "solver", "exact").add(5);
+		registry.counter(MetricsRegistry.PRICING_COLUMNS, "solver", "exact").increment();
+
+		MetricKey key=new MetricKey(MetricsRegistry.PRICING_SOLVE, "solver", "exact", "pricingProblem", "pp0");
+		assertEquals("pricing.solve{pricingProblem=pp0,solver=exact}", key.toString());
+		assertEquals("exact", key.getTag("solver"));
+		assertEquals(2, registry.getHistograms().size());
+		assertSame(histogram, registry.getHistograms().get(key));
+		assertEquals(6L, (long)registry.getCounterValues().get("pricing.columns{solver=exact}"));
+		assertEquals(1, registry.getHistogramSnapshots().get(key.toString()).getCount());
+
+		registry.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0L, (long)registry.getCounterValues().get("pricing.columns{solver=exact}"));
+	}
+
+	/**
+	 * Test whether the metrics can be inspected through JMX
+	 */
+	public void testJMX() throws Exception {
+		MetricsRegistry registry=new MetricsRegistry();
+		registry.histogram(MetricsRegistry.MASTER_SOLVE, "master", "Master").record(42);
+		registry.counter(MetricsRegistry.CUTS_GENERATED, "cutGenerator", "subtours").add(3);
+		ObjectName objectName=registry.registerMBean("test");
+		try {
+			MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			assertTrue(server.isRegistered(objectName));
+			TabularData histograms=(TabularData) server.getAttribute(objectName, "HistogramSnapshots");
+			CompositeData row=histograms.get(new Object[]{"master.solve{master=Master}"});
+			CompositeData snapshot=(CompositeData) row.get("value");
+			assertEquals(1L, snapshot.get("count"));
+			assertEquals(42L, snapshot.get("p99"));
+			TabularData counters=(TabularData) server.getAttribute(objectName, "CounterValues");
+			assertEquals(3L, counters.get(new Object[]{"cuts.generated{cutGenerator=subtours}"}).get("value"));
+			server.invoke(objectName, "reset", null, null);
+			Map<String, Long> values=registry.getCounterValues();
+			assertEquals(0L, (long)values.get("cuts.generated{cutGenerator=subtours}"));
+		}finally{
+			registry.unregisterMBean();
+		}
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+	}
+
+	/**
+	 * Test whether the column generation procedure records the latencies of the master problem and the pricing problem solvers, and the number of generated columns
+	 */
+	public void testColumnGeneration() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		MetricsRegistry registry=new MetricsRegistry();
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(dataModel);
+		cg.setMetricsRegistry(registry);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+		Histogram masterSolve=registry.histogram(MetricsRegistry.MASTER_SOLVE, "master", Master.class.getSimpleName());
+		assertEquals(cg.getNumberOfIterations(), masterSolve.getCount());
+		assertTrue(masterSolve.getValueAtPercentile(99) <= masterSolve.getMax());
+		Histogram pricingSolve=registry.histogram(MetricsRegistry.PRICING_SOLVE, "solver", ExactPricingProblemSolver.class.getSimpleName(), "pricingProblem", "cuttingStockPricing");
+		assertTrue(pricingSolve.getCount() > 0);
+		assertEquals(cg.getNrGeneratedColumns()+cg.getNrDuplicateColumns(), registry.counter(MetricsRegistry.PRICING_COLUMNS, "solver", ExactPricingProblemSolver.class.getSimpleName(), "pricingProblem", "cuttingStockPricing").get());
+	}
+}
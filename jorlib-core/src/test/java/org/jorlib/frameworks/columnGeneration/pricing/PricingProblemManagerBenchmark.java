@@ -0,0 +1,66 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingProblemManagerBenchmark.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.PricingProblemManagerTest.TestSolver;
+
+/**
+ * Compares the latency of an iteration with a single, fast pricing problem when the solver is executed on the calling thread, and when the solver is submitted
+ * to the executor. The timings depend on the machine and its load, so they are reported rather than asserted; the behaviour of the inline fast path is
+ * covered by {@link PricingProblemManagerTest}.
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class PricingProblemManagerBenchmark {
+
+	/** Number of iterations per measurement **/
+	private static final int NR_ITERATIONS=5000;
+
+	public static void main(String[] args) throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=PricingProblemManagerTest.createManager(dataModel, PricingProblemManagerTest.createPricingProblems(dataModel, "fast", 1));
+		long[] latency=new long[2];
+		for(int run=0; run<2; run++){ //The first run serves as a warm-up
+			for(int inline=0; inline<2; inline++){
+				manager.setInlineSingleInstance(inline == 1);
+				long time=System.nanoTime();
+				for(int i=0; i<NR_ITERATIONS; i++){
+					manager.solvePricingProblems(TestSolver.class);
+					manager.getBoundsOnPricingProblems(TestSolver.class);
+				}
+				latency[inline]=(System.nanoTime()-time)/NR_ITERATIONS;
+			}
+		}
+		manager.close();
+		System.out.println("Inline: "+latency[1]+"ns, executor: "+latency[0]+"ns");
+	}
+}
@@ -0,0 +1,231 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PricingProblemManagerTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.execution.PricingExecutor;
+
+/**
+ * Test class for the PricingProblemManager
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class PricingProblemManagerTest extends TestCase {
+
+	/** Number of slow solvers which have been cancelled **/
+	private static final AtomicInteger nrCancelledSolvers=new AtomicInteger();
+	/** Thread which executed the last solver instance **/
+	private static volatile Thread lastSolverThread;
+
+	/**
+	 * Solver which immediately returns a single column for pricing problems whose name starts with "fast", and which throws a TimeLimitExceededException for
+	 * pricing problems whose name starts with "timeout". For the other pricing problems, the solver does not return until it has been cancelled.
+	 */
+	public static final class TestSolver extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem> {
+
+		public TestSolver(CuttingStock dataModel, PricingProblem pricingProblem) {
+			super(dataModel, pricingProblem);
+			this.name="TestSolver";
+		}
+
+		@Override
+		protected List<CuttingPattern> generateNewColumns() throws TimeLimitExceededException {
+			lastSolverThread=Thread.currentThread();
+			if(pricingProblem.name.startsWith("fast"))
+				return Collections.singletonList(new CuttingPattern("test", false, new int[dataModel.nrFinals], pricingProblem));
+			if(pricingProblem.name.startsWith("timeout"))
+				throw new TimeLimitExceededException();
+			while(!this.isCancelled()){
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					break;
+				}
+			}
+			nrCancelledSolvers.incrementAndGet();
+			return Collections.singletonList(new CuttingPattern("cancelled", false, new int[dataModel.nrFinals], pricingProblem));
+		}
+
+		@Override
+		protected void setObjective() {
+		}
+
+		@Override
+		public double getBound() {
+			return pricingProblem.name.length();
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Creates pricing problems with the given names
+	 */
+	static List<PricingProblem> createPricingProblems(CuttingStock dataModel, String name, int nrPricingProblems){
+		List<PricingProblem> pricingProblems=new ArrayList<>();
+		for(int i=0; i<nrPricingProblems; i++)
+			pricingProblems.add(new PricingProblem(dataModel, name+i));
+		return pricingProblems;
+	}
+
+	/**
+	 * Creates a pricing problem manager for the given pricing problems
+	 */
+	static PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> createManager(CuttingStock dataModel, List<PricingProblem> pricingProblems){
+		PricingProblemBundle<CuttingStock, CuttingPattern, PricingProblem> bundle=new PricingProblemBundle<>(TestSolver.class, pricingProblems, new DefaultPricingProblemSolverFactory<>(TestSolver.class, dataModel));
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=new PricingProblemManager<>(pricingProblems, Collections.singletonMap(TestSolver.class, bundle));
+		manager.setTimeLimit(Long.MAX_VALUE);
+		return manager;
+	}
+
+	public void testQuickReturn() throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock();
+		List<PricingProblem> pricingProblems=new ArrayList<>();
+		for(int i=0; i<3; i++)
+			pricingProblems.add(new PricingProblem(dataModel, "fast"+i));
+		for(int i=0; i<20; i++)
+			pricingProblems.add(new PricingProblem(dataModel, "slow"+i));
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=createManager(dataModel, pricingProblems);
+
+		//Return as soon as 3 columns have been found: the slow solvers are cancelled, and their columns are discarded
+		nrCancelledSolvers.set(0);
+		manager.setQuickReturn(3, 1);
+		List<CuttingPattern> columns=manager.solvePricingProblems(TestSolver.class);
+		assertEquals(3, columns.size());
+		for(CuttingPattern column : columns)
+			assertTrue(column.associatedPricingProblem.name.startsWith("fast"));
+		assertFalse(manager.isLastInvocationComplete());
+		assertTrue(nrCancelledSolvers.get() < 20);
+
+		//The manager remains usable after a cancellation
+		columns=manager.solvePricingProblems(TestSolver.class);
+		assertEquals(3, columns.size());
+		manager.close();
+	}
+
+	public void testCompleteInvocation() throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock();
+		List<PricingProblem> pricingProblems=new ArrayList<>();
+		for(int i=0; i<10; i++)
+			pricingProblems.add(new PricingProblem(dataModel, "fast"+i));
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=createManager(dataModel, pricingProblems);
+
+		//By default, all pricing problems are solved
+		List<CuttingPattern> columns=manager.solvePricingProblems(TestSolver.class);
+		assertEquals(10, columns.size());
+		assertTrue(manager.isLastInvocationComplete());
+
+		//Return once half of the pricing problems has been solved
+		manager.setQuickReturn(Integer.MAX_VALUE, 0.5);
+		columns=manager.solvePricingProblems(TestSolver.class);
+		assertTrue(columns.size() >= 5);
+		manager.close();
+	}
+
+	public void testExecutors() throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock();
+		List<PricingProblem> pricingProblems=createPricingProblems(dataModel, "fast", 10);
+		for(PricingExecutor executor : Arrays.asList(PricingExecutor.fixedThreadPool(3), PricingExecutor.workStealingPool(3), PricingExecutor.threadPerTask(), PricingExecutor.callerRuns())){
+			PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=createManager(dataModel, pricingProblems);
+			manager.setPricingExecutor(executor);
+			assertEquals(10, manager.solvePricingProblems(TestSolver.class).size());
+			assertEquals(10, manager.getObjectivesOfPricingProblems(TestSolver.class).length);
+			manager.close();
+			assertFalse(executor.isShutdown()); //The executor is not owned by the manager
+			executor.shutdown();
+		}
+	}
+
+	public void testSharedExecutorSurvivesTimeLimit() throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock();
+		PricingExecutor executor=PricingExecutor.fixedThreadPool(2);
+		List<PricingProblem> pricingProblems=new ArrayList<>();
+		pricingProblems.add(new PricingProblem(dataModel, "timeout"));
+		pricingProblems.addAll(createPricingProblems(dataModel, "slow", 5));
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> timeoutManager=createManager(dataModel, pricingProblems);
+		timeoutManager.setPricingExecutor(executor);
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=createManager(dataModel, createPricingProblems(dataModel, "fast", 5));
+		manager.setPricingExecutor(executor);
+
+		try{
+			timeoutManager.solvePricingProblems(TestSolver.class);
+			fail("Time limit exceeded exception expected");
+		}catch(TimeLimitExceededException e){
+			//The slow pricing problems have been cancelled
+			assertFalse(timeoutManager.isLastInvocationComplete());
+		}
+		assertFalse(executor.isShutdown());
+		assertEquals(5, manager.solvePricingProblems(TestSolver.class).size());
+		timeoutManager.close();
+		manager.close();
+		executor.shutdown();
+		assertTrue(executor.isShutdown());
+	}
+
+	public void testInlineSingleInstance() throws TimeLimitExceededException {
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> manager=createManager(dataModel, createPricingProblems(dataModel, "fast", 1));
+
+		//A single pricing problem is solved on the calling thread
+		assertEquals(1, manager.solvePricingProblems(TestSolver.class).size());
+		assertSame(Thread.currentThread(), lastSolverThread);
+		assertTrue(manager.isLastInvocationComplete());
+		assertEquals(5.0, manager.getBoundsOnPricingProblems(TestSolver.class)[0]);
+
+		//Unless the fast path is disabled
+		manager.setInlineSingleInstance(false);
+		assertEquals(1, manager.solvePricingProblems(TestSolver.class).size());
+		assertNotSame(Thread.currentThread(), lastSolverThread);
+		assertEquals(5.0, manager.getBoundsOnPricingProblems(TestSolver.class)[0]);
+		manager.close();
+
+		//Time limit exceptions are propagated
+		PricingProblemManager<CuttingStock, CuttingPattern, PricingProblem> timeoutManager=createManager(dataModel, createPricingProblems(dataModel, "timeout", 1));
+		try{
+			timeoutManager.solvePricingProblems(TestSolver.class);
+			fail("Time limit exceeded exception expected");
+		}catch(TimeLimitExceededException e){
+			assertSame(Thread.currentThread(), lastSolverThread);
+			assertFalse(timeoutManager.isLastInvocationComplete());
+		}
+		timeoutManager.close();
+	}
+}
@@ -0,0 +1,212 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AdaptiveSolverSchedulerTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.scheduling;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.ExactPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.GreedyPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+
+/**
+ * Test class for the AdaptiveSolverScheduler
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class AdaptiveSolverSchedulerTest extends TestCase {
+
+	/**
+	 * Second heuristic. The scheduler only uses the class of a solver, so this solver is never instantiated.
+	 */
+	private static abstract class OtherHeuristic extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem> {
+		private OtherHeuristic(CuttingStock dataModel, PricingProblem pricingProblem){
+			super(dataModel, pricingProblem);
+		}
+	}
+
+	private final CuttingStock dataModel=new CuttingStock();
+	private final PricingProblem pricingProblem1=new PricingProblem(dataModel, "pricingProblem1");
+	private final PricingProblem pricingProblem2=new PricingProblem(dataModel, "pricingProblem2");
+
+	/**
+	 * Requests the schedule of the next pricing round and records the outcome of every scheduled solver on every pricing problem on which it is scheduled
+	 * @param scheduler scheduler
+	 * @param expectedSchedule solvers which must be scheduled, in this order
+	 * @param heuristicColumns number of columns generated by every heuristic invocation
+	 */
+	private void pricingRound(AdaptiveSolverScheduler<CuttingStock, CuttingPattern, PricingProblem> scheduler, List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> expectedSchedule, int heuristicColumns){
+		List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> schedule=scheduler.getSchedule();
+		assertEquals("Pricing round "+scheduler.getNrPricingRounds(), expectedSchedule, schedule);
+		for(Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>> solver : schedule){
+			if(solver == scheduler.getExactSolver())
+				scheduler.solverInvoked(solver, pricingProblem1, 1, 10, false);
+			else if(scheduler.isScheduled(solver, pricingProblem1))
+				scheduler.solverInvoked(solver, pricingProblem1, heuristicColumns, 1, false);
+		}
+	}
+
+	/**
+	 * A heuristic which repeatedly fails is skipped once it has been invoked minInvocations times, probed after probeInterval pricing rounds, and
+	 * resumed once the probe succeeds
+	 */
+	public void testSkipAndProbe(){
+		AdaptiveSolverScheduler<CuttingStock, CuttingPattern, PricingProblem> scheduler=new AdaptiveSolverScheduler<>(0.5, 0.5, 2, 3, Double.MAX_VALUE, 10);
+		scheduler.initialize(Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), Collections.singletonList(pricingProblem1));
+		List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> both=Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class);
+		List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> exactOnly=Collections.singletonList(ExactPricingProblemSolver.class);
+
+		//Rounds 1-2: the heuristic fails, but has not been invoked minInvocations times yet
+		this.pricingRound(scheduler, both, 0);
+		this.pricingRound(scheduler, both, 0);
+		//Rounds 3-5: the success rate dropped to 0, the heuristic is skipped
+		this.pricingRound(scheduler, exactOnly, 0);
+		this.pricingRound(scheduler, exactOnly, 0);
+		this.pricingRound(scheduler, exactOnly, 0);
+		assertEquals(3, scheduler.getNrSkippedInvocations());
+		assertEquals(2, scheduler.getStatistics(GreedyPricingProblemSolver.class, pricingProblem1).getNrInvocations());
+		//Round 6: the heuristic has not been invoked during the last 3 rounds and is probed. The probe succeeds, raising the success rate to 0.5
+		this.pricingRound(scheduler, both, 1);
+		assertEquals(0.5, scheduler.getStatistics(GreedyPricingProblemSolver.class, pricingProblem1).getSuccessRate(), 0.000001);
+		//Round 7: the success rate is no longer below the minimum, the heuristic is resumed. It fails again and is skipped from round 8 onwards
+		this.pricingRound(scheduler, both, 0);
+		this.pricingRound(scheduler, exactOnly, 0);
+		assertEquals(4, scheduler.getNrSkippedInvocations());
+		assertEquals(8, scheduler.getStatistics(ExactPricingProblemSolver.class, pricingProblem1).getNrInvocations());
+
+		//Reset discards the statistics, so the heuristic is scheduled again
+		scheduler.reset();
+		this.pricingRound(scheduler, both, 0);
+		assertEquals(0, scheduler.getNrSkippedInvocations());
+	}
+
+	/**
+	 * Heuristics are skipped per pricing problem: a heuristic which only fails on one pricing problem remains scheduled for the other pricing problem
+	 */
+	public void testSkipPerPricingProblem(){
+		//Without smoothing, the success rate equals the outcome of the last invocation
+		AdaptiveSolverScheduler<CuttingStock, CuttingPattern, PricingProblem> scheduler=new AdaptiveSolverScheduler<>(1, 0.5, 1, Long.MAX_VALUE, Double.MAX_VALUE, 10);
+		scheduler.initialize(Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), Arrays.asList(pricingProblem1, pricingProblem2));
+		scheduler.getSchedule();
+		scheduler.solverInvoked(GreedyPricingProblemSolver.class, pricingProblem1, 0, 1, false);
+		scheduler.solverInvoked(GreedyPricingProblemSolver.class, pricingProblem2, 1, 1, false);
+
+		assertEquals(Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), scheduler.getSchedule());
+		assertFalse(scheduler.isScheduled(GreedyPricingProblemSolver.class, pricingProblem1));
+		assertTrue(scheduler.isScheduled(GreedyPricingProblemSolver.class, pricingProblem2));
+		assertTrue(scheduler.isScheduled(ExactPricingProblemSolver.class, pricingProblem1));
+		assertEquals(1, scheduler.getNrSkippedInvocations());
+
+		//Once the heuristic fails on both pricing problems, it is omitted from the schedule
+		scheduler.solverInvoked(GreedyPricingProblemSolver.class, pricingProblem2, 0, 1, false);
+		assertEquals(Collections.singletonList(ExactPricingProblemSolver.class), scheduler.getSchedule());
+		assertEquals(3, scheduler.getNrSkippedInvocations());
+	}
+
+	/**
+	 * Heuristics which have not been invoked precede all other heuristics. Afterwards, the heuristics are ordered by decreasing success rate per unit of time.
+	 */
+	public void testHeuristicOrder(){
+		AdaptiveSolverScheduler<CuttingStock, CuttingPattern, PricingProblem> scheduler=new AdaptiveSolverScheduler<>(0.5, 0, 1, Long.MAX_VALUE, Double.MAX_VALUE, 10);
+		scheduler.initialize(Arrays.asList(GreedyPricingProblemSolver.class, OtherHeuristic.class, ExactPricingProblemSolver.class), Collections.singletonList(pricingProblem1));
+		assertEquals(Arrays.asList(GreedyPricingProblemSolver.class, OtherHeuristic.class, ExactPricingProblemSolver.class), scheduler.getSchedule());
+
+		//Only the greedy heuristic has been invoked, so the other heuristic goes first
+		scheduler.solverInvoked(GreedyPricingProblemSolver.class, pricingProblem1, 1, 10, false);
+		assertEquals(Arrays.asList(OtherHeuristic.class, GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), scheduler.getSchedule());
+
+		//The other heuristic finds columns in a fraction of the time
+		scheduler.solverInvoked(OtherHeuristic.class, pricingProblem1, 1, 2, false);
+		assertEquals(Arrays.asList(OtherHeuristic.class, GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), scheduler.getSchedule());
+
+		//The other heuristic fails twice: a success rate of 0.25 at 2 ms per invocation still beats a success rate of 1 at 10 ms per invocation
+		scheduler.solverInvoked(OtherHeuristic.class, pricingProblem1, 0, 2, false);
+		scheduler.solverInvoked(OtherHeuristic.class, pricingProblem1, 0, 2, false);
+		assertEquals(Arrays.asList(OtherHeuristic.class, GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), scheduler.getSchedule());
+		//After the third failure, its success rate drops to 0.125
+		scheduler.solverInvoked(OtherHeuristic.class, pricingProblem1, 0, 2, false);
+		assertEquals(Arrays.asList(GreedyPricingProblemSolver.class, OtherHeuristic.class, ExactPricingProblemSolver.class), scheduler.getSchedule());
+		assertEquals(0, scheduler.getNrSkippedInvocations());
+	}
+
+	/**
+	 * The time budget of a heuristic is budgetFactor times the smoothed solve time of the exact solver, but at least minTimeBudget
+	 */
+	public void testTimeBudget(){
+		AdaptiveSolverScheduler<CuttingStock, CuttingPattern, PricingProblem> scheduler=new AdaptiveSolverScheduler<>(0.5, 0, 1, Long.MAX_VALUE, 0.5, 10);
+		scheduler.initialize(Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class), Collections.singletonList(pricingProblem1));
+		scheduler.getSchedule();
+		//No budget until the exact solver has been invoked
+		assertEquals(Long.MAX_VALUE, scheduler.getTimeBudget(GreedyPricingProblemSolver.class, pricingProblem1));
+		scheduler.solverInvoked(ExactPricingProblemSolver.class, pricingProblem1, 1, 100, false);
+		assertEquals(50, scheduler.getTimeBudget(GreedyPricingProblemSolver.class, pricingProblem1));
+		scheduler.solverInvoked(ExactPricingProblemSolver.class, pricingProblem1, 1, 0, false);
+		assertEquals(25, scheduler.getTimeBudget(GreedyPricingProblemSolver.class, pricingProblem1));
+		scheduler.solverInvoked(ExactPricingProblemSolver.class, pricingProblem1, 1, 0, false);
+		assertEquals(13, scheduler.getTimeBudget(GreedyPricingProblemSolver.class, pricingProblem1));
+		scheduler.solverInvoked(ExactPricingProblemSolver.class, pricingProblem1, 1, 0, false);
+		assertEquals(10, scheduler.getTimeBudget(GreedyPricingProblemSolver.class, pricingProblem1));
+		//The exact solver never has a time budget
+		assertEquals(Long.MAX_VALUE, scheduler.getTimeBudget(ExactPricingProblemSolver.class, pricingProblem1));
+	}
+
+	/**
+	 * Solves the cutting stock problem with and without the scheduler
+	 */
+	public void testColumnGeneration() throws TimeLimitExceededException {
+		CuttingStock dataModel=CuttingStock.createLargeInstance();
+		PricingProblem pricingProblem=new PricingProblem(dataModel, "cuttingStockPricing");
+		List<Class<? extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem>>> solvers=Arrays.asList(GreedyPricingProblemSolver.class, ExactPricingProblemSolver.class);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(dataModel, pricingProblem, solvers, Integer.MAX_VALUE);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+
+		//Skip the greedy heuristic once it fails to find columns in at least half of its invocations
+		AdaptiveSolverScheduler<CuttingStock, CuttingPattern, PricingProblem> scheduler=new AdaptiveSolverScheduler<>(0.5, 0.5, 2, 5, Double.MAX_VALUE, 10);
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cgScheduled=CuttingStockCGTest.createColGen(dataModel, pricingProblem, solvers, Integer.MAX_VALUE);
+		cgScheduled.setSolverScheduler(scheduler);
+		cgScheduled.solve(System.currentTimeMillis()+10000L);
+		cgScheduled.close();
+		assertEquals(cg.getObjective(), cgScheduled.getObjective(), 0.000001);
+		assertTrue(scheduler.getNrSkippedInvocations() > 0);
+		SolverStatistics greedy=scheduler.getStatistics(GreedyPricingProblemSolver.class, pricingProblem);
+		SolverStatistics exact=scheduler.getStatistics(ExactPricingProblemSolver.class, pricingProblem);
+		assertEquals(scheduler.getNrPricingRounds(), exact.getNrInvocations()+greedy.getNrSuccessfulInvocations());
+		assertEquals(scheduler.getNrPricingRounds(), greedy.getNrInvocations()+scheduler.getNrSkippedInvocations());
+		assertEquals(cgScheduled.getNrGeneratedColumns(), greedy.getNrColumns()+exact.getNrColumns());
+	}
+}
@@ -0,0 +1,160 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DualStabilizerTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.pricing.stabilization;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.CGListener;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.FinishEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.FinishMasterEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.FinishPricingEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.StartEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.StartMasterEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.StartPricingEvent;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.TimeLimitExceededEvent;
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.CuttingStockCGTest;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+
+/**
+ * Test class for the dual stabilizers. Every stabilizer must produce the same LP bound as column generation without stabilization, and must
+ * fall back to the true dual values through mis-prices before column generation terminates.
+ *
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class DualStabilizerTest extends TestCase {
+
+	/** Optimal objective of the LP relaxation of the default cutting stock instance **/
+	private static final double OPTIMAL_OBJECTIVE=452.25;
+
+	/**
+	 * Listener which records the FinishPricingEvents
+	 */
+	private static final class PricingListener implements CGListener {
+		private final List<FinishPricingEvent> events=new ArrayList<>();
+
+		@Override
+		public void startCG(StartEvent startEvent) {}
+
+		@Override
+		public void finishCG(FinishEvent finishEvent) {}
+
+		@Override
+		public void startMaster(StartMasterEvent startMasterEvent) {}
+
+		@Override
+		public void finishMaster(FinishMasterEvent finishMasterEvent) {}
+
+		@Override
+		public void startPricing(StartPricingEvent startPricing) {}
+
+		@Override
+		public void finishPricing(FinishPricingEvent finishPricingEvent) { events.add(finishPricingEvent); }
+
+		@Override
+		public void timeLimitExceeded(TimeLimitExceededEvent timeLimitExceededEvent) {}
+	}
+
+	/**
+	 * Solves the default instance with the given stabilizer, and checks the statistics which are reported through the FinishPricingEvents
+	 * @param stabilizer stabilizer, may be null
+	 * @return column generation instance after solving
+	 */
+	private ColGen<CuttingStock, CuttingPattern, PricingProblem> solve(AbstractDualStabilizer<CuttingStock, PricingProblem> stabilizer) throws TimeLimitExceededException {
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=CuttingStockCGTest.createColGen(new CuttingStock());
+		PricingListener listener=new PricingListener();
+		cg.setDualStabilizer(stabilizer);
+		cg.addCGEventListener(listener);
+		cg.solve(System.currentTimeMillis()+10000L);
+		cg.close();
+		assertEquals(OPTIMAL_OBJECTIVE, cg.getObjective(), 0.000001);
+
+		//Every iteration reports its mis-prices, whether the columns were generated with stabilized dual values, and the time spent on pricing
+		assertEquals(cg.getNumberOfIterations(), listener.events.size());
+		int nrMisprices=0;
+		int nrStabilizedIterations=0;
+		long pricingTime=0;
+		for(FinishPricingEvent event : listener.events){
+			nrMisprices+=event.nrMisprices;
+			if(event.stabilizedDuals){
+				nrStabilizedIterations++;
+				assertFalse(event.columns.isEmpty());
+			}
+			assertTrue(event.pricingTime >= 0);
+			pricingTime+=event.pricingTime;
+		}
+		assertEquals(cg.getNrMisprices(), nrMisprices);
+		assertTrue(pricingTime <= cg.getPricingSolveTime());
+		if(stabilizer != null){
+			assertEquals(stabilizer.getNrMisprices(), nrMisprices);
+			assertEquals(stabilizer.getNrStabilizedIterations(), nrStabilizedIterations);
+		}else
+			assertEquals(0, nrStabilizedIterations);
+
+		//Column generation terminates once the pricing problems fail to generate columns with the true dual values
+		FinishPricingEvent lastEvent=listener.events.get(listener.events.size()-1);
+		assertTrue(lastEvent.columns.isEmpty());
+		assertFalse(lastEvent.stabilizedDuals);
+		return cg;
+	}
+
+	/**
+	 * Checks that the stabilizer generated columns with stabilized dual values, and that it mis-priced at least once
+	 * @param stabilizer stabilizer
+	 */
+	private void testStabilizer(AbstractDualStabilizer<CuttingStock, PricingProblem> stabilizer) throws TimeLimitExceededException {
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=this.solve(stabilizer);
+		assertTrue(stabilizer.getNrStabilizedIterations() > 0);
+		assertTrue(cg.getNrMisprices() > 0);
+		assertFalse(stabilizer.isStabilized());
+	}
+
+	public void testWithoutStabilization() throws TimeLimitExceededException {
+		ColGen<CuttingStock, CuttingPattern, PricingProblem> cg=this.solve(null);
+		assertEquals(0, cg.getNrMisprices());
+	}
+
+	public void testWentgesSmoothing() throws TimeLimitExceededException {
+		this.testStabilizer(new WentgesSmoothing<>(0.8));
+	}
+
+	public void testInOutSeparation() throws TimeLimitExceededException {
+		this.testStabilizer(new InOutSeparation<>(0.8));
+	}
+
+	public void testBoxStep() throws TimeLimitExceededException {
+		this.testStabilizer(new BoxStep<>(0.05));
+	}
+}
@@ -27,11 +27,21 @@
 package org.jorlib.frameworks.columnGeneration.tsp;
 
 import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchCreator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPWorkerFactory;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.CheckpointCodec;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.CheckpointManager;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.ParallelBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
 import org.jorlib.frameworks.columnGeneration.tsp.bap.BranchAndPrice;
 import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.BranchOnEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.ReliabilityBranchOnEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.branchingDecisions.FixEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.branchingDecisions.RemoveEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.heuristics.DiveOnEdge;
 import org.jorlib.frameworks.columnGeneration.tsp.cg.ExactPricingProblemSolver;
 import org.jorlib.frameworks.columnGeneration.tsp.cg.Matching;
 import org.jorlib.frameworks.columnGeneration.tsp.cg.PricingProblemByColor;
@@ -46,10 +56,13 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * This class tests the Branch-and-Price framework by solving a number of TSP instances through column generation.
@@ -103,6 +116,300 @@ public final class BAPTSPTest {
 		}
 	}
 
+	@Test
+	public void testParallelBAPFrameworkThroughTSP() throws IOException {
+		for(String instance : instances.keySet()){
+			InputStream inputStream = getClass().getClassLoader().getResourceAsStream("./tspLib/tsp/"+instance+".tsp");
+			if(inputStream == null)
+				Assert.fail("Cannot find problem instance!");
+			TSP tsp =new TSP(inputStream);
+			TSPWorkerFactory factory=new TSPWorkerFactory(tsp);
+			ParallelBranchAndPrice<TSP, Matching, PricingProblemByColor> bap=new ParallelBranchAndPrice<>(factory, 4);
+			bap.runBranchAndPrice(System.currentTimeMillis()+8000000L);
+			Assert.assertTrue(bap.isOptimal());
+			Assert.assertEquals(instances.get(instance).intValue(), bap.getObjective(), 0);
+			Assert.assertEquals(bap.getObjective(), bap.getBound(), 0.001);
+
+			int cost=0;
+			for(Matching matching : bap.getSolution())
+				cost+=matching.cost;
+			Assert.assertEquals(bap.getObjective(), cost, 0);
+
+			bap.close();
+			factory.close();
+			inputStream.close();
+		}
+	}
+
+	@Test
+	public void testReliabilityBranchingThroughTSP() throws IOException {
+		for(String instance : instances.keySet()){
+			InputStream inputStream = getClass().getClassLoader().getResourceAsStream("./tspLib/tsp/"+instance+".tsp");
+			if(inputStream == null)
+				Assert.fail("Cannot find problem instance!");
+			TSP tsp =new TSP(inputStream);
+			TSPWorkerFactory factory=new TSPWorkerFactory(tsp);
+
+			//Create a worker, and replace its branch creator by a branch creator which evaluates the candidates in parallel
+			CutHandler<TSP, TSPMasterData> cutHandler=new CutHandler<>();
+			cutHandler.addCutGenerator(new SubtourInequalityGenerator(tsp));
+			List<PricingProblemByColor> pricingProblems=new ArrayList<>();
+			pricingProblems.add(new PricingProblemByColor(tsp, "redPricing", MatchingColor.RED));
+			pricingProblems.add(new PricingProblemByColor(tsp, "bluePricing", MatchingColor.BLUE));
+			Master master=new Master(tsp, pricingProblems, cutHandler);
+			List<Class<? extends AbstractPricingProblemSolver<TSP, Matching, PricingProblemByColor>>> solvers= Collections.singletonList(ExactPricingProblemSolver.class);
+			TSPLibTour initTour=TSPLibTour.createCanonicalTour(tsp.N);
+			ReliabilityBranchOnEdge branchCreator=new ReliabilityBranchOnEdge(tsp, pricingProblems);
+			branchCreator.setParallelEvaluation(factory, 2);
+			BranchAndPrice bap=new BranchAndPrice(tsp, master, pricingProblems, solvers, Collections.singletonList(branchCreator), tsp.getTourLength(initTour), convertTourToColumns(tsp, initTour, pricingProblems));
+			bap.setLazyColumnInheritance(true);
+
+			bap.runBranchAndPrice(System.currentTimeMillis()+8000000L);
+			Assert.assertTrue(bap.isOptimal());
+			Assert.assertEquals(instances.get(instance).intValue(), bap.getObjective(), 0);
+			if(bap.getNumberOfProcessedNodes() > 1)
+				Assert.assertTrue(branchCreator.getNrEvaluatedNodes() > 0);
+
+			bap.close(); //Also shuts down the evaluators
+			cutHandler.close();
+			factory.close();
+			inputStream.close();
+		}
+	}
+
+	@Test
+	public void testPrimalHeuristicsThroughTSP() throws IOException {
+		for(String instance : instances.keySet()){
+			InputStream inputStream = getClass().getClassLoader().getResourceAsStream("./tspLib/tsp/"+instance+".tsp");
+			if(inputStream == null)
+				Assert.fail("Cannot find problem instance!");
+			TSP tsp =new TSP(inputStream);
+			CutHandler<TSP, TSPMasterData> cutHandler=new CutHandler<>();
+			cutHandler.addCutGenerator(new SubtourInequalityGenerator(tsp));
+			List<PricingProblemByColor> pricingProblems=new ArrayList<>();
+			pricingProblems.add(new PricingProblemByColor(tsp, "redPricing", MatchingColor.RED));
+			pricingProblems.add(new PricingProblemByColor(tsp, "bluePricing", MatchingColor.BLUE));
+			Master master=new Master(tsp, pricingProblems, cutHandler);
+			List<Class<? extends AbstractPricingProblemSolver<TSP, Matching, PricingProblemByColor>>> solvers= Collections.singletonList(ExactPricingProblemSolver.class);
+			TSPLibTour initTour=TSPLibTour.createCanonicalTour(tsp.N);
+			BranchAndPrice bap=new BranchAndPrice(tsp, master, pricingProblems, solvers, Collections.singletonList(new BranchOnEdge(tsp, pricingProblems)), tsp.getTourLength(initTour), convertTourToColumns(tsp, initTour, pricingProblems));
+
+			//Dive in the root node, and in every 10th node up to depth 10
+			DiveOnEdge divingHeuristic=new DiveOnEdge(tsp, pricingProblems);
+			divingHeuristic.setNodeFrequency(10);
+			divingHeuristic.setMaxDepth(10);
+			divingHeuristic.setTimeBudget(5000);
+			bap.addPrimalHeuristic(divingHeuristic);
+
+			bap.runBranchAndPrice(System.currentTimeMillis()+8000000L);
+			Assert.assertTrue(bap.isOptimal());
+			Assert.assertEquals(instances.get(instance).intValue(), bap.getObjective(), 0);
+			if(bap.getNumberOfProcessedNodes() > 1)
+				Assert.assertTrue(divingHeuristic.getNrCalls() > 0);
+
+			bap.close(); //Also closes the heuristics
+			cutHandler.close();
+			inputStream.close();
+		}
+	}
+
+	@Test
+	public void testGapLimitThroughTSP() throws IOException {
+		for(String instance : instances.keySet()){
+			InputStream inputStream = getClass().getClassLoader().getResourceAsStream("./tspLib/tsp/"+instance+".tsp");
+			if(inputStream == null)
+				Assert.fail("Cannot find problem instance!");
+			TSP tsp =new TSP(inputStream);
+			CutHandler<TSP, TSPMasterData> cutHandler=new CutHandler<>();
+			cutHandler.addCutGenerator(new SubtourInequalityGenerator(tsp));
+			List<PricingProblemByColor> pricingProblems=new ArrayList<>();
+			pricingProblems.add(new PricingProblemByColor(tsp, "redPricing", MatchingColor.RED));
+			pricingProblems.add(new PricingProblemByColor(tsp, "bluePricing", MatchingColor.BLUE));
+			Master master=new Master(tsp, pricingProblems, cutHandler);
+			List<Class<? extends AbstractPricingProblemSolver<TSP, Matching, PricingProblemByColor>>> solvers= Collections.singletonList(ExactPricingProblemSolver.class);
+			TSPLibTour initTour=TSPLibTour.createCanonicalTour(tsp.N);
+			BranchAndPrice bap=new BranchAndPrice(tsp, master, pricingProblems, solvers, Collections.singletonList(new BranchOnEdge(tsp, pricingProblems)), tsp.getTourLength(initTour), convertTourToColumns(tsp, initTour, pricingProblems));
+			bap.setIntegralObjective(false);
+			bap.setRelativeGapLimit(0.05);
+
+			bap.runBranchAndPrice(System.currentTimeMillis()+8000000L);
+			Assert.assertTrue(bap.getObjective() >= instances.get(instance)-0.001);
+			Assert.assertTrue(bap.getBound() <= instances.get(instance)+0.001);
+			if(!bap.isOptimal())
+				Assert.assertTrue(bap.getObjective()-bap.getBound() <= 0.05*bap.getObjective()+0.001);
+
+			bap.close();
+			cutHandler.close();
+			inputStream.close();
+		}
+	}
+
+	@Test
+	public void testCheckpointResume() throws IOException {
+		File checkpointFile=File.createTempFile("bap", ".checkpoint");
+		checkpointFile.deleteOnExit();
+		for(String instance : instances.keySet()){
+			InputStream inputStream = getClass().getClassLoader().getResourceAsStream("./tspLib/tsp/"+instance+".tsp");
+			if(inputStream == null)
+				Assert.fail("Cannot find problem instance!");
+			TSP tsp =new TSP(inputStream);
+			TSPWorkerFactory factory=new TSPWorkerFactory(tsp);
+
+			//Interrupt the search after 3 nodes. The final state of the search is written to the checkpoint when the search terminates
+			CheckpointManager<TSP, Matching, PricingProblemByColor> checkpointManager=new CheckpointManager<>(checkpointFile, new TSPCheckpointCodec(tsp));
+			AbstractBranchAndPrice<TSP, Matching, PricingProblemByColor> bap=factory.createWorker(0);
+			bap.setCheckpointManager(checkpointManager);
+			bap.setNodeLimit(3);
+			bap.runBranchAndPrice(System.currentTimeMillis()+8000000L);
+			int nodesProcessed=bap.getNumberOfProcessedNodes();
+			int openNodes=bap.getNumberOfOpenNodes();
+			bap.close();
+			Assert.assertTrue(checkpointManager.getNrCheckpoints() > 0);
+			if(bap.isOptimal()){ //The instance has been solved within the node limit
+				Assert.assertTrue(nodesProcessed <= 3);
+				Assert.assertEquals(0, openNodes);
+			}else{
+				Assert.assertEquals(3, nodesProcessed);
+				Assert.assertTrue(openNodes > 0);
+			}
+
+			//Resume the search with a new Branch-and-Price instance. Every open node is processed (or pruned), so it is counted as a processed node
+			AbstractBranchAndPrice<TSP, Matching, PricingProblemByColor> resumedBap=factory.createWorker(1);
+			resumedBap.resume(new CheckpointManager<>(checkpointFile, new TSPCheckpointCodec(tsp)), System.currentTimeMillis()+8000000L);
+			Assert.assertTrue(resumedBap.isOptimal());
+			Assert.assertEquals(0, resumedBap.getNumberOfOpenNodes());
+			Assert.assertEquals(instances.get(instance).intValue(), resumedBap.getObjective(), 0);
+			Assert.assertEquals(resumedBap.getObjective(), resumedBap.getBound(), 0.001);
+			Assert.assertTrue(resumedBap.getNumberOfProcessedNodes() >= nodesProcessed+openNodes);
+
+			resumedBap.close();
+			factory.close();
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Writes matchings and edge branching decisions to a checkpoint. Edges are written as a pair of vertices, and pricing problems by their position in the list of pricing problems.
+	 */
+	static final class TSPCheckpointCodec implements CheckpointCodec<TSP, Matching, PricingProblemByColor> {
+		private final TSP tsp;
+
+		TSPCheckpointCodec(TSP tsp){
+			this.tsp=tsp;
+		}
+
+		@Override
+		public void writeColumn(Matching column, DataOutput out) throws IOException {
+			out.writeUTF(column.creator);
+			out.writeBoolean(column.isArtificialColumn);
+			out.writeInt(column.cost);
+			out.writeInt(column.succ.length);
+			for(int vertex : column.succ)
+				out.writeInt(vertex);
+			out.writeInt(column.edges.size());
+			for(DefaultWeightedEdge edge : column.edges)
+				this.writeEdge(edge, out);
+		}
+
+		@Override
+		public Matching readColumn(DataInput in, PricingProblemByColor pricingProblem) throws IOException {
+			String creator=in.readUTF();
+			boolean isArtificial=in.readBoolean();
+			int cost=in.readInt();
+			int[] succ=new int[in.readInt()];
+			for(int i=0; i<succ.length; i++)
+				succ[i]=in.readInt();
+			int nrEdges=in.readInt();
+			Set<DefaultWeightedEdge> edges=new LinkedHashSet<>();
+			for(int i=0; i<nrEdges; i++)
+				edges.add(this.readEdge(in));
+			return new Matching(creator, isArtificial, pricingProblem, edges, succ, cost);
+		}
+
+		@Override
+		public void writeBranchingDecision(BranchingDecision<TSP, Matching> branchingDecision, DataOutput out) throws IOException {
+			if(branchingDecision instanceof FixEdge){
+				FixEdge fixEdge=(FixEdge) branchingDecision;
+				out.writeBoolean(true);
+				out.writeInt(fixEdge.pricingProblem.color.ordinal());
+				this.writeEdge(fixEdge.edge, out);
+			}else{
+				RemoveEdge removeEdge=(RemoveEdge) branchingDecision;
+				out.writeBoolean(false);
+				out.writeInt(removeEdge.pricingProblem.color.ordinal());
+				this.writeEdge(removeEdge.edge, out);
+			}
+		}
+
+		@Override
+		public BranchingDecision<TSP, Matching> readBranchingDecision(DataInput in, List<PricingProblemByColor> pricingProblems) throws IOException {
+			boolean fixEdge=in.readBoolean();
+			PricingProblemByColor pricingProblem=pricingProblems.get(in.readInt()); //The pricing problems are ordered by color
+			DefaultWeightedEdge edge=this.readEdge(in);
+			return (fixEdge ? new FixEdge(pricingProblem, edge) : new RemoveEdge(pricingProblem, edge));
+		}
+
+		private void writeEdge(DefaultWeightedEdge edge, DataOutput out) throws IOException {
+			out.writeInt(tsp.getEdgeSource(edge));
+			out.writeInt(tsp.getEdgeTarget(edge));
+		}
+
+		private DefaultWeightedEdge readEdge(DataInput in) throws IOException {
+			return tsp.getEdge(in.readInt(), in.readInt());
+		}
+	}
+
+	/**
+	 * Factory which creates the workers of a parallel Branch-and-Price search
+	 */
+	static final class TSPWorkerFactory implements BAPWorkerFactory<TSP, Matching, PricingProblemByColor> {
+		private final TSP tsp;
+		private final List<CutHandler<TSP, TSPMasterData>> cutHandlers=new ArrayList<>();
+
+		TSPWorkerFactory(TSP tsp){
+			this.tsp=tsp;
+		}
+
+		@Override
+		public AbstractBranchAndPrice<TSP, Matching, PricingProblemByColor> createWorker(int workerID) {
+			CutHandler<TSP, TSPMasterData> cutHandler=new CutHandler<>();
+			cutHandler.addCutGenerator(new SubtourInequalityGenerator(tsp));
+			cutHandlers.add(cutHandler);
+			List<PricingProblemByColor> pricingProblems=new ArrayList<>();
+			pricingProblems.add(new PricingProblemByColor(tsp, "redPricing", MatchingColor.RED));
+			pricingProblems.add(new PricingProblemByColor(tsp, "bluePricing", MatchingColor.BLUE));
+			Master master=new Master(tsp, pricingProblems, cutHandler);
+			List<Class<? extends AbstractPricingProblemSolver<TSP, Matching, PricingProblemByColor>>> solvers= Collections.singletonList(ExactPricingProblemSolver.class);
+			TSPLibTour initTour=TSPLibTour.createCanonicalTour(tsp.N);
+			List<Matching> initSolution=convertTourToColumns(tsp, initTour, pricingProblems);
+			List<? extends AbstractBranchCreator<TSP, Matching, PricingProblemByColor>> branchCreators= Collections.singletonList(new BranchOnEdge(tsp, pricingProblems));
+			return new BranchAndPrice(tsp, master, pricingProblems, solvers, branchCreators, tsp.getTourLength(initTour), initSolution);
+		}
+
+		@Override
+		public Matching copyColumn(Matching column, PricingProblemByColor pricingProblem) {
+			Matching copy=new Matching(column.creator, column.isArtificialColumn, pricingProblem, column.edges, column.succ, column.cost);
+			copy.value=column.value;
+			return copy;
+		}
+
+		@Override
+		public BranchingDecision<TSP, Matching> copyBranchingDecision(BranchingDecision<TSP, Matching> branchingDecision, Function<PricingProblemByColor, PricingProblemByColor> pricingProblemMap) {
+			if(branchingDecision instanceof FixEdge){
+				FixEdge fixEdge=(FixEdge) branchingDecision;
+				return new FixEdge(pricingProblemMap.apply(fixEdge.pricingProblem), fixEdge.edge);
+			}else{
+				RemoveEdge removeEdge=(RemoveEdge) branchingDecision;
+				return new RemoveEdge(pricingProblemMap.apply(removeEdge.pricingProblem), removeEdge.edge);
+			}
+		}
+
+		void close(){
+			for(CutHandler<TSP, TSPMasterData> cutHandler : cutHandlers)
+				cutHandler.close();
+		}
+	}
+
 	private int solveTSPInstance(TSP tsp){
 		if(tsp.N % 2 == 1)
 			throw new RuntimeException("This solver can only solve TSP instances with an even number of vertices!");
@@ -126,7 +433,7 @@ public final class BAPTSPTest {
 		//Get an initial solution and use it as an upper bound
 		TSPLibTour initTour=TSPLibTour.createCanonicalTour(tsp.N); //Feasible solution
 		int tourLength=tsp.getTourLength(initTour); //Upper bound (Stronger is better)
-		List<Matching> initSolution=this.convertTourToColumns(tsp, initTour, pricingProblems); //Create a set of initial columns.
+		List<Matching> initSolution=convertTourToColumns(tsp, initTour, pricingProblems); //Create a set of initial columns.
 
 		//Define Branch creators
 		List<? extends AbstractBranchCreator<TSP, Matching, PricingProblemByColor>> branchCreators= Collections.singletonList(new BranchOnEdge(tsp, pricingProblems));
@@ -142,7 +449,7 @@ public final class BAPTSPTest {
 		int solution=-1;
 		if(bap.hasSolution()) {
 			assert(bap.isOptimal());
-			solution = bap.getObjective();
+			solution = (int)bap.getObjective();
 		}
 
 		//Clean up:
@@ -162,7 +469,7 @@ public final class BAPTSPTest {
 	 * @param pricingProblems pricing problems
 	 * @return List of columns
 	 */
-	private List<Matching> convertTourToColumns(TSP tsp, TSPLibTour tour, List<PricingProblemByColor> pricingProblems) {
+	private static List<Matching> convertTourToColumns(TSP tsp, TSPLibTour tour, List<PricingProblemByColor> pricingProblems) {
 		List<Set<DefaultWeightedEdge>> matchings=new ArrayList<>();
 		matchings.add(new LinkedHashSet<>());
 		matchings.add(new LinkedHashSet<>());
@@ -177,8 +484,8 @@ public final class BAPTSPTest {
 		}
 
 		List<Matching> initSolution=new ArrayList<>();
-		initSolution.add(this.buildMatching(tsp, pricingProblems.get(0), matchings.get(0)));
-		initSolution.add(this.buildMatching(tsp, pricingProblems.get(1), matchings.get(1)));
+		initSolution.add(buildMatching(tsp, pricingProblems.get(0), matchings.get(0)));
+		initSolution.add(buildMatching(tsp, pricingProblems.get(1), matchings.get(1)));
 		return initSolution;
 	}
 
@@ -188,7 +495,7 @@ public final class BAPTSPTest {
 	 * @param edges List of edges constituting the matching
 	 * @return Matching
 	 */
-	private Matching buildMatching(TSP tsp, PricingProblemByColor pricingProblem, Set<DefaultWeightedEdge> edges) {
+	private static Matching buildMatching(TSP tsp, PricingProblemByColor pricingProblem, Set<DefaultWeightedEdge> edges) {
 		int[] succ=new int[tsp.N];
 
 		int cost=0;
@@ -0,0 +1,123 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DistributedBAPTSPIT.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.tsp;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.CheckpointCodec;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBAPFactory;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.DistributedBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.tsp.BAPTSPTest.TSPCheckpointCodec;
+import org.jorlib.frameworks.columnGeneration.tsp.BAPTSPTest.TSPWorkerFactory;
+import org.jorlib.frameworks.columnGeneration.tsp.cg.Matching;
+import org.jorlib.frameworks.columnGeneration.tsp.cg.PricingProblemByColor;
+import org.jorlib.frameworks.columnGeneration.tsp.model.MatchingColor;
+import org.jorlib.frameworks.columnGeneration.tsp.model.TSP;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Integration test of the distributed Branch-and-Price search, which solves a number of TSP instances with worker processes. Since every worker is a separate JVM, this test
+ * is run by the failsafe plugin (mvn verify), rather than as part of the unit tests.
+ *
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class DistributedBAPTSPIT {
+
+	private static final Map<String, Integer> instances=new LinkedHashMap<>();
+	static {
+		instances.put("burma14", 3323);
+		instances.put("ulysses16", 6859);
+		instances.put("ulysses22", 7013);
+		instances.put("gr24", 1272);
+		instances.put("fri26", 937);
+		instances.put("dantzig42", 699);
+		instances.put("swiss42", 1273);
+	}
+
+	/**
+	 * Reads a TSP instance from the class path
+	 * @param instance name of the instance
+	 * @return TSP instance
+	 * @throws IOException if the instance cannot be read
+	 */
+	private static TSP readInstance(String instance) throws IOException {
+		try(InputStream inputStream=DistributedBAPTSPIT.class.getClassLoader().getResourceAsStream("./tspLib/tsp/"+instance+".tsp")){
+			if(inputStream == null)
+				throw new IOException("Cannot find problem instance "+instance);
+			return new TSP(inputStream);
+		}
+	}
+
+	@Test
+	public void testDistributedBAPFrameworkThroughTSP() throws IOException {
+		for(String instance : instances.keySet()){
+			//The coordinator and the worker processes read the instance named by the factory argument
+			DistributedBranchAndPrice<TSP, Matching, PricingProblemByColor> bap=new DistributedBranchAndPrice<>(TSPDistributedFactory.class, 4, Collections.singletonList(instance));
+			bap.runBranchAndPrice(System.currentTimeMillis()+8000000L);
+			Assert.assertTrue(bap.isOptimal());
+			Assert.assertEquals(instances.get(instance).intValue(), bap.getObjective(), 0);
+			Assert.assertEquals(bap.getObjective(), bap.getBound(), 0.001);
+
+			//Decode the solution with the pricing problems of this JVM
+			TSP tsp=readInstance(instance);
+			List<PricingProblemByColor> pricingProblems=Arrays.asList(new PricingProblemByColor(tsp, "redPricing", MatchingColor.RED), new PricingProblemByColor(tsp, "bluePricing", MatchingColor.BLUE));
+			int cost=0;
+			for(Matching matching : bap.getSolution(pricingProblems)){
+				Assert.assertTrue(pricingProblems.get(matching.associatedPricingProblem.color.ordinal()) == matching.associatedPricingProblem);
+				cost+=matching.cost;
+			}
+			Assert.assertEquals(bap.getObjective(), cost, 0);
+		}
+	}
+
+	/**
+	 * Factory which creates the workers of a distributed Branch-and-Price search. The name of the TSP instance is passed as the only factory argument.
+	 */
+	public static final class TSPDistributedFactory implements DistributedBAPFactory<TSP, Matching, PricingProblemByColor> {
+		private final TSP tsp;
+
+		public TSPDistributedFactory(String[] arguments) throws IOException {
+			tsp=readInstance(arguments[0]);
+		}
+
+		@Override
+		public AbstractBranchAndPrice<TSP, Matching, PricingProblemByColor> createWorker(int workerID) {
+			return new TSPWorkerFactory(tsp).createWorker(workerID);
+		}
+
+		@Override
+		public CheckpointCodec<TSP, Matching, PricingProblemByColor> createCodec() {
+			return new TSPCheckpointCodec(tsp);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ReliabilityBranchOnEdge.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.tsp.bap.branching;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractStrongBranchCreator;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.strongBranching.BranchingCandidate;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.branchingDecisions.FixEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.branchingDecisions.RemoveEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.cg.Matching;
+import org.jorlib.frameworks.columnGeneration.tsp.cg.PricingProblemByColor;
+import org.jorlib.frameworks.columnGeneration.tsp.model.TSP;
+import org.jorlib.frameworks.columnGeneration.util.MathProgrammingUtil;
+
+import java.util.*;
+
+/**
+ * Class which creates new branches in the Branch-and-Price tree through reliability branching. Every edge with a fractional value in the red resp. blue
+ * matchings is a candidate for branching; the candidate is identified by the color of the matching and the edge.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class ReliabilityBranchOnEdge extends AbstractStrongBranchCreator<TSP, Matching, PricingProblemByColor>{
+
+    public ReliabilityBranchOnEdge(TSP modelData, List<PricingProblemByColor> pricingProblems){
+        super(modelData, pricingProblems);
+    }
+
+    /**
+     * Returns every fractional edge in the red resp. blue matchings as a candidate: the down branch removes the edge, the up branch fixes the edge.
+     * @param solution Fractional column generation solution
+     * @return list of candidates
+     */
+    @Override
+    protected List<BranchingCandidate<TSP, Matching>> getCandidates(List<Matching> solution) {
+        //Aggregate edge values
+        Map<PricingProblemByColor,Map<DefaultWeightedEdge, Double>> edgeValueMap=new LinkedHashMap<>();
+        for(PricingProblemByColor pricingProblem : pricingProblems)
+            edgeValueMap.put(pricingProblem, new LinkedHashMap<>());
+        for(Matching matching : solution){
+            for(DefaultWeightedEdge edge : matching.edges)
+                edgeValueMap.get(matching.associatedPricingProblem).merge(edge, matching.value, Double::sum);
+        }
+
+        List<BranchingCandidate<TSP, Matching>> candidates=new ArrayList<>();
+        for(PricingProblemByColor pricingProblem : pricingProblems){
+            for(Map.Entry<DefaultWeightedEdge, Double> entry : edgeValueMap.get(pricingProblem).entrySet()){
+                if(MathProgrammingUtil.isFractional(entry.getValue()))
+                    candidates.add(new BranchingCandidate<>(Arrays.asList(pricingProblem.color, entry.getKey()), entry.getValue(),
+                            new RemoveEdge(pricingProblem, entry.getKey()), new FixEdge(pricingProblem, entry.getKey())));
+            }
+        }
+        return candidates;
+    }
+}
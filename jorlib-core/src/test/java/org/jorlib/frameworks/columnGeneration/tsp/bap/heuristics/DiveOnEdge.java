@@ -0,0 +1,87 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DiveOnEdge.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.tsp.bap.heuristics;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractDivingHeuristic;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecision;
+import org.jorlib.frameworks.columnGeneration.tsp.bap.branching.branchingDecisions.FixEdge;
+import org.jorlib.frameworks.columnGeneration.tsp.cg.Matching;
+import org.jorlib.frameworks.columnGeneration.tsp.cg.PricingProblemByColor;
+import org.jorlib.frameworks.columnGeneration.tsp.model.TSP;
+import org.jorlib.frameworks.columnGeneration.util.MathProgrammingUtil;
+
+import java.util.*;
+
+/**
+ * Diving heuristic which repeatedly fixes the fractional edge with the largest value in the red resp. blue matchings. When fixing an edge fails, the edge with the next largest value is fixed instead.
+ *
+ * @author agent
+ * @version 17-10-2026
+ */
+public final class DiveOnEdge extends AbstractDivingHeuristic<TSP, Matching, PricingProblemByColor>{
+
+    /** Maximum number of decisions returned for a single node **/
+    private static final int MAX_NR_DECISIONS=3;
+
+    public DiveOnEdge(TSP modelData, List<PricingProblemByColor> pricingProblems){
+        super(modelData, pricingProblems);
+    }
+
+    /**
+     * Returns a decision which fixes an edge for every fractional edge in the red resp. blue matchings, ordered by decreasing value
+     * @param bapNode node of the dive which has been solved to a fractional solution
+     * @return the decisions
+     */
+    @Override
+    protected List<BranchingDecision<TSP, Matching>> getDivingDecisions(BAPNode<TSP, Matching> bapNode) {
+        //Aggregate edge values
+        Map<PricingProblemByColor, Map<DefaultWeightedEdge, Double>> edgeValueMap=new LinkedHashMap<>();
+        for(PricingProblemByColor pricingProblem : pricingProblems)
+            edgeValueMap.put(pricingProblem, new LinkedHashMap<>());
+        for(Matching matching : bapNode.getSolution()){
+            for(DefaultWeightedEdge edge : matching.edges)
+                edgeValueMap.get(matching.associatedPricingProblem).merge(edge, matching.value, Double::sum);
+        }
+
+        //Order the fractional edges by decreasing value
+        List<FixEdge> decisions=new ArrayList<>();
+        Map<FixEdge, Double> values=new HashMap<>();
+        for(PricingProblemByColor pricingProblem : pricingProblems){
+            for(Map.Entry<DefaultWeightedEdge, Double> entry : edgeValueMap.get(pricingProblem).entrySet()){
+                if(MathProgrammingUtil.isFractional(entry.getValue())){
+                    FixEdge decision=new FixEdge(pricingProblem, entry.getKey());
+                    decisions.add(decision);
+                    values.put(decision, entry.getValue());
+                }
+            }
+        }
+        decisions.sort(Comparator.comparingDouble(decision -> -values.get(decision)));
+        return new ArrayList<>(decisions.subList(0, Math.min(MAX_NR_DECISIONS, decisions.size())));
+    }
+}
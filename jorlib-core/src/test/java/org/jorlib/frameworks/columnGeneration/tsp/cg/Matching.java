@@ -28,6 +28,7 @@ package org.jorlib.frameworks.columnGeneration.tsp.cg;
 
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
 import org.jorlib.frameworks.columnGeneration.tsp.model.TSP;
 
 import java.util.Arrays;
@@ -84,6 +85,11 @@ public final class Matching extends AbstractColumn<TSP, PricingProblemByColor> {
 		return Arrays.hashCode(succ);
 	}
 
+	@Override
+	public long fingerprint() {
+		return ColumnFingerprintIndex.fingerprint(succ);
+	}
+
 	@Override
 	public String toString() {
 		String s="Value: "+this.value+" cost: "+this.cost+" color: "+associatedPricingProblem.color+" artificial: "+isArtificialColumn+" edges: "+edges+" succ: "+Arrays.toString(succ);
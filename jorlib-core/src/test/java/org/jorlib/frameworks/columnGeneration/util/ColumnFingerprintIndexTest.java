@@ -0,0 +1,141 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnFingerprintIndexTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.CuttingPattern;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.cg.PricingProblem;
+import org.jorlib.frameworks.columnGeneration.cuttingStock.model.CuttingStock;
+
+/**
+ * Test class for the ColumnFingerprintIndex
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class ColumnFingerprintIndexTest extends TestCase {
+
+	/**
+	 * Column whose fingerprint is identical for all columns
+	 */
+	private static final class CollidingColumn extends AbstractColumn<CuttingStock, PricingProblem> {
+		private final int id;
+
+		private CollidingColumn(int id, PricingProblem pricingProblem) {
+			super(pricingProblem, false, "test");
+			this.id=id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingColumn && ((CollidingColumn) o).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return id;
+		}
+
+		@Override
+		public long fingerprint() {
+			return 42;
+		}
+
+		@Override
+		public String toString() {
+			return "CollidingColumn "+id;
+		}
+	}
+
+	public void testDuplicates(){
+		CuttingStock dataModel=new CuttingStock();
+		PricingProblem pricingProblem1=new PricingProblem(dataModel, "pp1");
+		PricingProblem pricingProblem2=new PricingProblem(dataModel, "pp2");
+		ColumnFingerprintIndex<CuttingPattern> index=new ColumnFingerprintIndex<>();
+
+		assertTrue(index.add(new CuttingPattern("solver1", false, new int[]{1, 0, 2}, pricingProblem1)));
+		//Equal column generated by a different solver
+		assertFalse(index.add(new CuttingPattern("solver2", false, new int[]{1, 0, 2}, pricingProblem1)));
+		assertTrue(index.contains(new CuttingPattern("solver3", false, new int[]{1, 0, 2}, pricingProblem1)));
+		//Equal columns of different pricing problems are not duplicates
+		assertTrue(index.add(new CuttingPattern("solver1", false, new int[]{1, 0, 2}, pricingProblem2)));
+		assertTrue(index.add(new CuttingPattern("solver1", false, new int[]{2, 0, 1}, pricingProblem1)));
+		assertEquals(3, index.size());
+
+		assertTrue(index.remove(new CuttingPattern("solver1", false, new int[]{1, 0, 2}, pricingProblem1)));
+		assertFalse(index.contains(new CuttingPattern("solver1", false, new int[]{1, 0, 2}, pricingProblem1)));
+		assertTrue(index.contains(new CuttingPattern("solver1", false, new int[]{1, 0, 2}, pricingProblem2)));
+		assertEquals(2, index.size());
+
+		index.clear();
+		assertEquals(0, index.size());
+		assertFalse(index.contains(new CuttingPattern("solver1", false, new int[]{2, 0, 1}, pricingProblem1)));
+	}
+
+	public void testFingerprintCollisions(){
+		PricingProblem pricingProblem=new PricingProblem(new CuttingStock(), "pp");
+		ColumnFingerprintIndex<CollidingColumn> index=new ColumnFingerprintIndex<>();
+		for(int i=0; i<100; i++)
+			assertTrue(index.add(new CollidingColumn(i, pricingProblem)));
+		for(int i=0; i<100; i++)
+			assertFalse(index.add(new CollidingColumn(i, pricingProblem)));
+		for(int i=0; i<100; i+=2)
+			assertTrue(index.remove(new CollidingColumn(i, pricingProblem)));
+		for(int i=0; i<100; i++)
+			assertEquals(i % 2 == 1, index.contains(new CollidingColumn(i, pricingProblem)));
+		assertEquals(50, index.size());
+	}
+
+	public void testRandomOperations(){
+		Random random=new Random(0);
+		PricingProblem pricingProblem=new PricingProblem(new CuttingStock(), "pp");
+		ColumnFingerprintIndex<CuttingPattern> index=new ColumnFingerprintIndex<>();
+		Set<CuttingPattern> reference=new HashSet<>();
+		List<CuttingPattern> columns=new ArrayList<>();
+		for(int i=0; i<5000; i++){
+			CuttingPattern column=new CuttingPattern("test", false, new int[]{random.nextInt(20), random.nextInt(20), random.nextInt(20)}, pricingProblem);
+			if(random.nextInt(3) == 0 && !columns.isEmpty()){
+				CuttingPattern removed=columns.remove(random.nextInt(columns.size()));
+				assertEquals(reference.remove(removed), index.remove(removed));
+			}else{
+				assertEquals(reference.add(column), index.add(column));
+				columns.add(column);
+			}
+			assertEquals(reference.size(), index.size());
+		}
+		for(CuttingPattern column : columns)
+			assertEquals(reference.contains(column), index.contains(column));
+	}
+}
@@ -0,0 +1,100 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * IndexedMapTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  agent
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Test class for the IndexedMap
+ * @author agent
+ * @since October 17, 2026
+ *
+ */
+public final class IndexedMapTest extends TestCase {
+
+	public void testIndices(){
+		IndexedMap<String, Integer> map=new IndexedMap<>(String[]::new, Integer[]::new);
+		for(int i=0; i<5; i++)
+			map.put("k"+i, i);
+		assertEquals(5, map.size());
+		assertEquals(2, map.indexOf("k2"));
+		assertEquals("k3", map.getKey(3));
+		assertEquals(Integer.valueOf(4), map.getValue(4));
+
+		//Swap-remove: the last key obtains the index of the removed key
+		assertEquals(Integer.valueOf(1), map.remove("k1"));
+		assertEquals(4, map.size());
+		assertEquals(1, map.indexOf("k4"));
+		assertEquals(-1, map.indexOf("k1"));
+		assertNull(map.get("k1"));
+		assertEquals("k4", map.keyList().get(1));
+
+		//Zero-copy views
+		String[] keys=map.getKeyArray();
+		Integer[] values=map.getValueArray();
+		for(int i=0; i<map.size(); i++)
+			assertEquals(map.get(keys[i]), values[i]);
+
+		try{
+			map.put("k0", 0);
+			fail("Duplicate keys should be rejected");
+		}catch(RuntimeException e){
+			//Expected
+		}
+	}
+
+	public void testRandomOperations(){
+		Random random=new Random(0);
+		IndexedMap<Integer, Integer> map=new IndexedMap<>();
+		Map<Integer, Integer> reference=new HashMap<>();
+		List<Integer> keys=new ArrayList<>();
+		for(int it=0; it<100000; it++){
+			//Few distinct hash codes to stress collision handling
+			Integer key=random.nextInt(2000)*1024;
+			if(random.nextInt(3) == 0 || reference.containsKey(key)){
+				assertEquals(reference.remove(key), map.remove(key));
+				keys.remove(key);
+			}else{
+				reference.put(key, it);
+				map.put(key, it);
+				keys.add(key);
+			}
+		}
+		assertEquals(reference.size(), map.size());
+		assertEquals(reference, map);
+		for(int i=0; i<map.size(); i++)
+			assertEquals(i, map.indexOf(map.getKey(i)));
+		for(Integer key : keys)
+			assertTrue(map.keySet().contains(key));
+	}
+}
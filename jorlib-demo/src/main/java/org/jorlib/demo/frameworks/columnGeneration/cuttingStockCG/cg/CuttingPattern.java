@@ -30,6 +30,7 @@ import java.util.Arrays;
 
 import org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.model.CuttingStock;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
 
 /**
  * Implementation of a column in the cutting stock problem.
@@ -63,6 +64,11 @@ public final class CuttingPattern extends AbstractColumn<CuttingStock, PricingPr
 		return Arrays.hashCode(yieldVector);
 	}
 
+	@Override
+	public long fingerprint() {
+		return ColumnFingerprintIndex.fingerprint(yieldVector);
+	}
+
 	@Override
 	public String toString() {
 		return "Value: "+ this.value+" Cutting pattern: "+Arrays.toString(yieldVector)+" creator: "+ this.creator;
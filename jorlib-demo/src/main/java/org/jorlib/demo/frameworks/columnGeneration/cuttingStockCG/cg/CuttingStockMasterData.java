@@ -29,7 +29,7 @@ package org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.cg;
 import ilog.concert.IloNumVar;
 import org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.model.CuttingStock;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 import java.util.Map;
 
@@ -41,7 +41,7 @@ import java.util.Map;
  */
 public final class CuttingStockMasterData extends MasterData<CuttingStock, CuttingPattern, PricingProblem, IloNumVar>{
 
-    public CuttingStockMasterData(Map<PricingProblem, OrderedBiMap<CuttingPattern, IloNumVar>> varMap) {
+    public CuttingStockMasterData(Map<PricingProblem, IndexedMap<CuttingPattern, IloNumVar>> varMap) {
         super(varMap);
     }
 }
@@ -42,7 +42,7 @@ import org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.model.CuttingS
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 /**
  * Implementation of the Master problem for the Cutting Stock problem
@@ -86,8 +86,8 @@ public final class Master extends AbstractMaster<CuttingStock, CuttingPattern, P
 		}
 
 		//Define a container for the variables
-		Map<PricingProblem,OrderedBiMap<CuttingPattern, IloNumVar>> varMap=new LinkedHashMap<>();
-		varMap.put(pricingProblems.get(0),new OrderedBiMap<>());
+		Map<PricingProblem,IndexedMap<CuttingPattern, IloNumVar>> varMap=new LinkedHashMap<>();
+		varMap.put(pricingProblems.get(0),new IndexedMap<>(CuttingPattern[]::new, IloNumVar[]::new));
 
 		//Return a new data object which will hold data from the Master Problem. Since we are not working with inequalities in this example,
 		//we can simply return the default.
@@ -164,12 +164,13 @@ public final class Master extends AbstractMaster<CuttingStock, CuttingPattern, P
 	public List<CuttingPattern> getSolution() {
 		List<CuttingPattern> solution=new ArrayList<>();
 		try {
-			CuttingPattern[] cuttingPatterns=masterData.getVarMap().getKeysAsArray(new CuttingPattern[masterData.getNrColumns()]);
-			IloNumVar[] vars=masterData.getVarMap().getValuesAsArray(new IloNumVar[masterData.getNrColumns()]);
-			double[] values= cplex.getValues(vars);
+			//Query the values of all variables at once, directly from the arrays backing the variable map
+			IndexedMap<CuttingPattern, IloNumVar> varMap=masterData.getVarMap();
+			CuttingPattern[] cuttingPatterns=varMap.getKeyArray();
+			double[] values= cplex.getValues(varMap.getValueArray(), 0, varMap.size());
 			
 			//Iterate over each column and add it to the solution if it has a non-zero value
-			for(int i=0; i<cuttingPatterns.length; i++){
+			for(int i=0; i<values.length; i++){
 				cuttingPatterns[i].value=values[i];
 				if(values[i]>=config.PRECISION){
 					solution.add(cuttingPatterns[i]);
@@ -66,7 +66,7 @@ public final class BranchAndPrice extends AbstractBranchAndPrice<ColoringGraph,
     protected List<IndependentSet> generateInitialFeasibleSolution(BAPNode<ColoringGraph, IndependentSet> node) {
         List<IndependentSet> artificialSolution=new ArrayList<>();
         for(int v=0; v<dataModel.getNrVertices(); v++){
-            artificialSolution.add(new IndependentSet(pricingProblems.get(0), true, "Artificial", new HashSet<>(Collections.singletonList(v)), objectiveIncumbentSolution));
+            artificialSolution.add(new IndependentSet(pricingProblems.get(0), true, "Artificial", new HashSet<>(Collections.singletonList(v)), (int)objectiveIncumbentSolution));
         }
         return artificialSolution;
     }
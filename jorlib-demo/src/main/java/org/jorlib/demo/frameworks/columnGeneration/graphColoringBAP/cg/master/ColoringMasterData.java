@@ -32,7 +32,7 @@ import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.cg.Chromatic
 import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.cg.IndependentSet;
 import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.model.ColoringGraph;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 import java.util.Map;
 
@@ -57,7 +57,7 @@ public final class ColoringMasterData extends MasterData<ColoringGraph, Independ
      * @param varMap A bi-directional map which stores the variables. The first key is the pricing problem, the second key is a column and the value is a variable object, e.g. an IloNumVar in cplex.
      */
     public ColoringMasterData(IloCplex cplex,
-                              Map<ChromaticNumberPricingProblem, OrderedBiMap<IndependentSet, IloNumVar>> varMap) {
+                              Map<ChromaticNumberPricingProblem, IndexedMap<IndependentSet, IloNumVar>> varMap) {
         super(varMap);
         this.cplex=cplex;
     }
@@ -35,7 +35,7 @@ import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -86,9 +86,9 @@ public final class Master extends AbstractMaster<ColoringGraph, IndependentSet,
             e.printStackTrace();
         }
 
-        Map<ChromaticNumberPricingProblem, OrderedBiMap<IndependentSet, IloNumVar>> varMap=new LinkedHashMap<>();
+        Map<ChromaticNumberPricingProblem, IndexedMap<IndependentSet, IloNumVar>> varMap=new LinkedHashMap<>();
         ChromaticNumberPricingProblem pricingProblem=this.pricingProblems.get(0);
-        varMap.put(pricingProblem, new OrderedBiMap<>());
+        varMap.put(pricingProblem, new IndexedMap<>(IndependentSet[]::new, IloNumVar[]::new));
 
         //Create a new data object which will store information from the master.
         return new ColoringMasterData(cplex, varMap);
@@ -168,10 +168,10 @@ public final class Master extends AbstractMaster<ColoringGraph, IndependentSet,
     public List<IndependentSet> getSolution() {
         List<IndependentSet> solution=new ArrayList<>();
         try {
-            IndependentSet[] independentSets=masterData.getColumnsForPricingProblemAsList().toArray(new IndependentSet[masterData.getNrColumns()]);
-            IloNumVar[] vars=masterData.getVarMap().getValuesAsArray(new IloNumVar[masterData.getNrColumns()]);
-            double[] values=masterData.cplex.getValues(vars);
-            for(int i=0; i<independentSets.length; i++){
+            IndexedMap<IndependentSet, IloNumVar> varMap=masterData.getVarMap();
+            IndependentSet[] independentSets=varMap.getKeyArray();
+            double[] values=masterData.cplex.getValues(varMap.getValueArray(), 0, varMap.size());
+            for(int i=0; i<values.length; i++){
                 independentSets[i].value=values[i];
                 if(values[i]>=config.PRECISION)
                     solution.add(independentSets[i]);
@@ -32,6 +32,7 @@ import java.util.Set;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.model.TSP;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
 
 
 /**
@@ -84,6 +85,11 @@ public final class Matching extends AbstractColumn<TSP, PricingProblemByColor> {
 		return Arrays.hashCode(succ);
 	}
 
+	@Override
+	public long fingerprint() {
+		return ColumnFingerprintIndex.fingerprint(succ);
+	}
+
 	@Override
 	public String toString() {
 		String s="Value: "+this.value+" cost: "+this.cost+" color: "+associatedPricingProblem.color+" artificial: "+isArtificialColumn+" edges: "+edges+" succ: "+Arrays.toString(succ);
@@ -48,7 +48,7 @@ import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
 import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
 import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 
 /**
@@ -104,9 +104,9 @@ public final class Master extends AbstractMaster<TSP, Matching, PricingProblemBy
 			e.printStackTrace();
 		}
 
-		Map<PricingProblemByColor, OrderedBiMap<Matching, IloNumVar>> varMap=new LinkedHashMap<>();
+		Map<PricingProblemByColor, IndexedMap<Matching, IloNumVar>> varMap=new LinkedHashMap<>();
 		for(PricingProblemByColor pricingProblem : pricingProblems)
-			varMap.put(pricingProblem, new OrderedBiMap<>());
+			varMap.put(pricingProblem, new IndexedMap<>(Matching[]::new, IloNumVar[]::new));
 
 		//Create a new data object which will store information from the master. This object automatically be passed to the CutHandler class.
 		return new TSPMasterData(cplex, pricingProblems, varMap);
@@ -185,6 +185,16 @@ public final class Master extends AbstractMaster<TSP, Matching, PricingProblemBy
 		}
 	}
 
+	/**
+	 * Exactly one red and one blue matching must be selected. The convexity constraints are used to compute a Lagrangian bound on the master objective.
+	 * @param pricingProblem pricing problem
+	 * @return right hand side of the convexity constraint of the pricing problem
+	 */
+	@Override
+	public int getConvexityConstraintCount(PricingProblemByColor pricingProblem){
+		return 1;
+	}
+
 	/**
 	 * Extracts information from the master problem which is required by the pricing problems, e.g. the reduced costs/dual values
 	 * @param pricingProblem pricing problem
@@ -223,12 +233,13 @@ public final class Master extends AbstractMaster<TSP, Matching, PricingProblemBy
 		List<Matching> solution=new ArrayList<>();
 		try {
 			for(PricingProblemByColor pricingProblem : pricingProblems){
-				Matching[] matchings=masterData.getVarMapForPricingProblem(pricingProblem).getKeysAsArray(new Matching[masterData.getNrColumnsForPricingProblem(pricingProblem)]);
-				IloNumVar[] vars=masterData.getVarMapForPricingProblem(pricingProblem).getValuesAsArray(new IloNumVar[masterData.getNrColumnsForPricingProblem(pricingProblem)]);
-				double[] values=masterData.cplex.getValues(vars);
+				//Query the values of all variables at once, directly from the arrays backing the variable map
+				IndexedMap<Matching, IloNumVar> varMap=masterData.getVarMapForPricingProblem(pricingProblem);
+				Matching[] matchings=varMap.getKeyArray();
+				double[] values=masterData.cplex.getValues(varMap.getValueArray(), 0, varMap.size());
 				
 				//Iterate over each column and add it to the solution if it has a non-zero value
-				for(int i=0; i<matchings.length; i++){
+				for(int i=0; i<values.length; i++){
 					matchings[i].value=values[i];
 					if(values[i]>=config.PRECISION){
 						solution.add(matchings[i]);
@@ -41,7 +41,7 @@ import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.PricingProblemByCol
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.cg.master.cuts.SubtourInequality;
 import org.jorlib.demo.frameworks.columnGeneration.tspBAP.model.TSP;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 /**
  * Container which stores information coming from the master problem. It contains:
@@ -70,7 +70,7 @@ public final class TSPMasterData extends MasterData<TSP, Matching, PricingProble
 	
 	public TSPMasterData(IloCplex cplex,
 						 List<PricingProblemByColor> pricingProblems,
-						 Map<PricingProblemByColor, OrderedBiMap<Matching, IloNumVar>> varMap){
+						 Map<PricingProblemByColor, IndexedMap<Matching, IloNumVar>> varMap){
 		super(varMap);
 		this.cplex=cplex;
 		this.pricingProblems=pricingProblems;
@@ -29,6 +29,7 @@ package org.jorlib.demo.frameworks.columnGeneration.tspCG.cg;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jorlib.demo.frameworks.columnGeneration.tspCG.model.TSP;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.util.ColumnFingerprintIndex;
 
 import java.util.Arrays;
 import java.util.Set;
@@ -84,6 +85,11 @@ public class Matching extends AbstractColumn<TSP, PricingProblemByColor> {
 		return Arrays.hashCode(succ);
 	}
 
+	@Override
+	public long fingerprint() {
+		return ColumnFingerprintIndex.fingerprint(succ);
+	}
+
 	@Override
 	public String toString() {
 		String s="Value: "+this.value+" cost: "+this.cost+" color: "+associatedPricingProblem.color+" artificial: "+isArtificialColumn+" edges: "+edges+" succ: "+Arrays.toString(succ);
@@ -35,7 +35,7 @@ import org.jorlib.demo.frameworks.columnGeneration.tspCG.cg.PricingProblemByColo
 import org.jorlib.demo.frameworks.columnGeneration.tspCG.cg.master.cuts.SubtourInequality;
 import org.jorlib.demo.frameworks.columnGeneration.tspCG.model.TSP;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
-import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+import org.jorlib.frameworks.columnGeneration.util.IndexedMap;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -69,7 +69,7 @@ public final class TSPMasterData extends MasterData<TSP, Matching, PricingProble
 	
 	public TSPMasterData(IloCplex cplex,
 						 List<PricingProblemByColor> pricingProblems,
-						 Map<PricingProblemByColor, OrderedBiMap<Matching, IloNumVar>> varMap){
+						 Map<PricingProblemByColor, IndexedMap<Matching, IloNumVar>> varMap){
 		super(varMap);
 		this.cplex=cplex;
 		this.pricingProblems=pricingProblems;